@@ -0,0 +1,98 @@
+package com.generalgivers.foundation.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.generalgivers.foundation.dto.common.ApiResponse;
+import com.generalgivers.foundation.dto.donation.DonationResponse;
+import com.generalgivers.foundation.dto.project.ProjectResponse;
+import com.generalgivers.foundation.entity.Donation;
+import com.generalgivers.foundation.entity.Project;
+import com.generalgivers.foundation.entity.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Writing ApiResponse bodies with an ObjectMapper configured the way Spring Boot configures it
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ApiResponseSerializationBenchmark {
+
+    @Param({"20", "200"})
+    public int pageSize;
+
+    private ObjectMapper objectMapper;
+    private ApiResponse<ProjectResponse> projectResponse;
+    private ApiResponse<List<DonationResponse>> donationPage;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+
+        User user = BenchmarkFixtures.user();
+        Project project = BenchmarkFixtures.project(user);
+        projectResponse = ApiResponse.success("Project retrieved", ProjectResponse.builder()
+                .id(project.getId())
+                .title(project.getTitle())
+                .description(project.getDescription())
+                .status(project.getStatus())
+                .targetAmount(project.getTargetAmount())
+                .fundsRaised(project.getFundsRaised())
+                .percentFunded(41.63)
+                .startDate(project.getStartDate())
+                .endDate(project.getEndDate())
+                .createdById(user.getId())
+                .createdByName(user.getName())
+                .createdAt(project.getCreatedAt())
+                .poster(project.getPoster())
+                .build());
+        donationPage = ApiResponse.success("Donations retrieved", BenchmarkFixtures.donations(project, pageSize).stream()
+                .map(ApiResponseSerializationBenchmark::toResponse)
+                .toList());
+    }
+
+    @Benchmark
+    public byte[] singleProject() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(projectResponse);
+    }
+
+    @Benchmark
+    public byte[] donationPage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(donationPage);
+    }
+
+    private static DonationResponse toResponse(Donation donation) {
+        return DonationResponse.builder()
+                .id(donation.getId())
+                .donorName(donation.getDonorName())
+                .email(donation.getEmail())
+                .amount(donation.getAmount())
+                .date(donation.getDate())
+                .method(donation.getMethod())
+                .status(donation.getStatus())
+                .projectId(donation.getProject().getId())
+                .projectTitle(donation.getProject().getTitle())
+                .createdAt(donation.getCreatedAt())
+                .build();
+    }
+}
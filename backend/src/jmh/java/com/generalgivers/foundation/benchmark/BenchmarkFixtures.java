@@ -0,0 +1,105 @@
+package com.generalgivers.foundation.benchmark;
+
+import com.generalgivers.foundation.entity.Donation;
+import com.generalgivers.foundation.entity.DonationStatus;
+import com.generalgivers.foundation.entity.Project;
+import com.generalgivers.foundation.entity.ProjectStatus;
+import com.generalgivers.foundation.entity.User;
+import com.generalgivers.foundation.entity.UserRole;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Entities and payloads shaped like production data, shared by the benchmarks
+ */
+public final class BenchmarkFixtures {
+
+    public static final String JWT_SECRET = "benchmark-secret-key-that-is-long-enough-for-hs256-signing";
+    public static final long JWT_EXPIRATION = 86_400_000L;
+    public static final String USER_EMAIL = "treasurer@generousgivers.org";
+
+    /**
+     * A successful STK push callback as sent by Daraja
+     */
+    public static final String STK_CALLBACK_JSON = """
+            {
+              "Body": {
+                "stkCallback": {
+                  "MerchantRequestID": "29115-34620561-1",
+                  "CheckoutRequestID": "ws_CO_191220191020363925",
+                  "ResultCode": 0,
+                  "ResultDesc": "The service request is processed successfully.",
+                  "CallbackMetadata": {
+                    "Item": [
+                      {"Name": "Amount", "Value": 1500.00},
+                      {"Name": "MpesaReceiptNumber", "Value": "NLJ7RT61SV"},
+                      {"Name": "Balance"},
+                      {"Name": "TransactionDate", "Value": 20191219102115},
+                      {"Name": "PhoneNumber", "Value": 254708374149}
+                    ]
+                  }
+                }
+              }
+            }
+            """;
+
+    private BenchmarkFixtures() {
+    }
+
+    public static User user() {
+        return User.builder()
+                .id(UUID.randomUUID())
+                .firstName("Grace")
+                .lastName("Wanjiku")
+                .email(USER_EMAIL)
+                .role(UserRole.TREASURER)
+                .isActive(true)
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+
+    public static Project project(User createdBy) {
+        return Project.builder()
+                .id(UUID.randomUUID())
+                .title("School fees for Kibera children home")
+                .description("Covering a year of school fees, uniforms and books for forty children.")
+                .status(ProjectStatus.ACTIVE)
+                .targetAmount(new BigDecimal("450000.00"))
+                .fundsRaised(new BigDecimal("187350.50"))
+                .startDate(LocalDate.now().minusMonths(2))
+                .endDate(LocalDate.now().plusMonths(4))
+                .createdBy(createdBy)
+                .createdAt(LocalDateTime.now().minusMonths(2))
+                .poster(UUID.randomUUID().toString())
+                .build();
+    }
+
+    public static Donation donation(Project project, int i) {
+        return Donation.builder()
+                .id(UUID.randomUUID())
+                .donorName("Donor " + i)
+                .email("donor" + i + "@example.com")
+                .amount(BigDecimal.valueOf(500 + i * 25L))
+                .date(LocalDateTime.now().minusDays(i))
+                .method("MPESA")
+                .status(DonationStatus.COMPLETED)
+                .project(project)
+                .phoneNumber("2547083741" + String.format("%02d", i % 100))
+                .mpesaReceiptNumber("NLJ7RT" + i)
+                .createdAt(LocalDateTime.now().minusDays(i))
+                .build();
+    }
+
+    public static List<Donation> donations(Project project, int count) {
+        List<Donation> donations = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            donations.add(donation(project, i));
+        }
+        return donations;
+    }
+}
@@ -0,0 +1,62 @@
+package com.generalgivers.foundation.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.generalgivers.foundation.dto.mpesa.StkCallback;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reading an STK push callback: binding the Daraja payload and looking up its metadata items
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MpesaCallbackBenchmark {
+
+    private ObjectMapper objectMapper;
+    private StkCallback.CallbackMetadata metadata;
+
+    @Setup
+    public void setUp() throws IOException {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        metadata = objectMapper.readValue(BenchmarkFixtures.STK_CALLBACK_JSON, StkCallback.class)
+                .getBody().getStkCallback().getCallbackMetadata();
+    }
+
+    @Benchmark
+    public StkCallback parseCallback() throws IOException {
+        return objectMapper.readValue(BenchmarkFixtures.STK_CALLBACK_JSON, StkCallback.class);
+    }
+
+    /**
+     * The lookups the callback handler makes for a completed payment
+     */
+    @Benchmark
+    public void readCompletedPayment(Blackhole blackhole) {
+        blackhole.consume(metadata.getValueByName("Amount"));
+        blackhole.consume(metadata.getValueByName("MpesaReceiptNumber"));
+        blackhole.consume(metadata.getValueByName("TransactionDate"));
+        blackhole.consume(metadata.getValueByName("PhoneNumber"));
+    }
+
+    @Benchmark
+    public String missingItem() {
+        return metadata.getValueByName("AccountReference");
+    }
+}
@@ -0,0 +1,112 @@
+package com.generalgivers.foundation.security;
+
+import com.generalgivers.foundation.benchmark.BenchmarkFixtures;
+import io.jsonwebtoken.JwtException;
+import jakarta.servlet.ServletException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token parsing and validation, and the authentication filter every API request passes through.
+ * The user lookup is stubbed, so the filter figures exclude the database.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtBenchmark {
+
+    private JwtUtil jwtUtil;
+    private JwtAuthenticationFilter filter;
+    private UserDetails userDetails;
+    private String token;
+    private String tamperedToken;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "secret", BenchmarkFixtures.JWT_SECRET);
+        ReflectionTestUtils.setField(jwtUtil, "expiration", BenchmarkFixtures.JWT_EXPIRATION);
+
+        userDetails = User.withUsername(BenchmarkFixtures.USER_EMAIL)
+                .password("{noop}unused")
+                .authorities("ROLE_TREASURER")
+                .build();
+        filter = new JwtAuthenticationFilter(jwtUtil, username -> userDetails);
+
+        token = jwtUtil.generateToken(userDetails, "TREASURER");
+        tamperedToken = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BB" : "AA");
+    }
+
+    @TearDown(Level.Invocation)
+    public void clearSecurityContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtUtil.generateToken(userDetails, "TREASURER");
+    }
+
+    @Benchmark
+    public String extractUsername() {
+        return jwtUtil.extractUsername(token);
+    }
+
+    @Benchmark
+    public Boolean validateToken() {
+        return jwtUtil.validateToken(token, userDetails);
+    }
+
+    @Benchmark
+    public Object rejectTamperedToken() {
+        try {
+            return jwtUtil.extractUsername(tamperedToken);
+        } catch (JwtException ex) {
+            return ex;
+        }
+    }
+
+    @Benchmark
+    public Authentication filterAuthenticatedRequest() throws ServletException, IOException {
+        return filter(token);
+    }
+
+    @Benchmark
+    public Authentication filterAnonymousRequest() throws ServletException, IOException {
+        return filter(null);
+    }
+
+    private Authentication filter(String bearer) throws ServletException, IOException {
+        // A fresh request each time, as the filter marks requests it has already seen
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/projects");
+        if (bearer != null) {
+            request.addHeader("Authorization", "Bearer " + bearer);
+        }
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+}
@@ -0,0 +1,95 @@
+package com.generalgivers.foundation.service;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import com.generalgivers.foundation.config.EmailConfig;
+import com.generalgivers.foundation.dto.contact.ContactRequest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.LoggerFactory;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rendering the transactional emails through EmailService's send methods, with a provider that
+ * keeps the HTML instead of sending it. Includes the per-message counter update.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EmailTemplateBenchmark {
+
+    private CapturingMailer mailer;
+    private EmailService emailService;
+    private ContactRequest contactRequest;
+    private String resetToken;
+
+    /**
+     * Accepts every message and keeps the last body, so the rendering cannot be optimized away
+     */
+    private static class CapturingMailer extends MailerSendService {
+        private String html;
+
+        CapturingMailer() {
+            super(null, null);
+        }
+
+        @Override
+        public boolean sendEmail(String to, String subject, String htmlContent) {
+            html = htmlContent;
+            return true;
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        // Outside Spring, logback logs everything; the services' INFO lines would be measured too
+        ((Logger) LoggerFactory.getLogger(EmailService.class)).setLevel(Level.WARN);
+
+        EmailConfig emailConfig = new EmailConfig();
+        emailConfig.setContactRecipient("info@generousgivers.org");
+        mailer = new CapturingMailer();
+        emailService = new EmailService(null, emailConfig, mailer, new SimpleMeterRegistry());
+        contactRequest = ContactRequest.builder()
+                .name("Peter Otieno")
+                .email("peter@example.com")
+                .phone("+254708374149")
+                .subject("Volunteering at the next visit")
+                .message("Hello, I would like to join the next children home visit with my church group of twelve.")
+                .build();
+        resetToken = UUID.randomUUID().toString();
+    }
+
+    @Benchmark
+    public String passwordReset() {
+        emailService.sendPasswordResetEmailSync("grace@example.com", "Grace", "Wanjiku", resetToken);
+        return mailer.html;
+    }
+
+    @Benchmark
+    public String contactNotification() {
+        emailService.sendContactEmailSync(contactRequest);
+        return mailer.html;
+    }
+
+    @Benchmark
+    public String donationReceipt() {
+        emailService.sendDonationReceipt("grace@example.com", "Grace Wanjiku", new BigDecimal("1500.00"),
+                "NLJ7RT61SV", "School fees for Kibera children home");
+        return mailer.html;
+    }
+}
@@ -0,0 +1,77 @@
+package com.generalgivers.foundation.service;
+
+import com.generalgivers.foundation.benchmark.BenchmarkFixtures;
+import com.generalgivers.foundation.dto.donation.DonationResponse;
+import com.generalgivers.foundation.dto.project.ProjectResponse;
+import com.generalgivers.foundation.entity.Donation;
+import com.generalgivers.foundation.entity.Project;
+import com.generalgivers.foundation.entity.User;
+import com.generalgivers.foundation.repository.DonationRepository;
+import com.generalgivers.foundation.repository.ProjectRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * Entity to response mapping done for every project and donation a list endpoint returns,
+ * measured through the services' list methods. The repositories return prepared pages from
+ * stub-only mocks, which keep no record of their calls; the other collaborators are not used.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ResponseMappingBenchmark {
+
+    @Param({"20", "200"})
+    public int pageSize;
+
+    private ProjectService projectService;
+    private DonationService donationService;
+
+    @Setup
+    public void setUp() {
+        User user = BenchmarkFixtures.user();
+        List<Project> projects = new ArrayList<>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            projects.add(BenchmarkFixtures.project(user));
+        }
+        List<Donation> donations = BenchmarkFixtures.donations(projects.get(0), pageSize);
+
+        ProjectRepository projectRepository = mock(ProjectRepository.class, withSettings().stubOnly());
+        when(projectRepository.findAllOrderByCreatedAtDesc()).thenReturn(projects);
+        DonationRepository donationRepository = mock(DonationRepository.class, withSettings().stubOnly());
+        when(donationRepository.findAllOrderByDateDesc()).thenReturn(donations);
+
+        projectService = new ProjectService(projectRepository, null, null, null);
+        donationService = new DonationService(donationRepository, null, null, null, null, null, null);
+    }
+
+    @Benchmark
+    public List<ProjectResponse> mapProjectPage() {
+        return projectService.getAllProjects();
+    }
+
+    @Benchmark
+    public List<DonationResponse> mapDonationPage() {
+        return donationService.getAllDonations();
+    }
+}
@@ -0,0 +1,104 @@
+package com.generalgivers.foundation.loadtest;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Response times of one scenario, per endpoint. Summarises to throughput and nearest-rank
+ * p50/p95/p99 over the scenario's wall-clock time.
+ */
+public class LatencyRecorder {
+
+    private final String scenario;
+    private final Map<String, Samples> endpoints = new ConcurrentHashMap<>();
+    private final long startedAt = System.nanoTime();
+    private volatile long finishedAt;
+
+    public LatencyRecorder(String scenario) {
+        this.scenario = scenario;
+    }
+
+    public void record(String endpoint, long nanos, boolean failed) {
+        endpoints.computeIfAbsent(endpoint, key -> new Samples()).add(nanos, failed);
+    }
+
+    public void finish() {
+        finishedAt = System.nanoTime();
+    }
+
+    public Map<String, Object> summary() {
+        double seconds = ((finishedAt != 0 ? finishedAt : System.nanoTime()) - startedAt) / 1e9;
+        List<Map<String, Object>> rows = new ArrayList<>();
+        int total = 0;
+        int errors = 0;
+        for (String endpoint : endpoints.keySet().stream().sorted().toList()) {
+            Samples samples = endpoints.get(endpoint);
+            long[] sorted = samples.sorted();
+            total += sorted.length;
+            errors += samples.errors.get();
+
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("endpoint", endpoint);
+            row.put("requests", sorted.length);
+            row.put("errors", samples.errors.get());
+            row.put("throughputPerSecond", round(sorted.length / seconds));
+            row.put("p50Ms", millis(percentile(sorted, 50)));
+            row.put("p95Ms", millis(percentile(sorted, 95)));
+            row.put("p99Ms", millis(percentile(sorted, 99)));
+            row.put("maxMs", millis(sorted.length > 0 ? sorted[sorted.length - 1] : 0));
+            rows.add(row);
+        }
+
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("scenario", scenario);
+        summary.put("durationSeconds", round(seconds));
+        summary.put("requests", total);
+        summary.put("errors", errors);
+        summary.put("throughputPerSecond", round(total / seconds));
+        summary.put("endpoints", rows);
+        return summary;
+    }
+
+    static long percentile(long[] sorted, int percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(percentile / 100.0 * sorted.length);
+        return sorted[Math.max(0, rank - 1)];
+    }
+
+    private static double millis(long nanos) {
+        return round(nanos / 1e6);
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100) / 100.0;
+    }
+
+    private static class Samples {
+        private long[] values = new long[1024];
+        private int size;
+        private final AtomicInteger errors = new AtomicInteger();
+
+        synchronized void add(long nanos, boolean failed) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = nanos;
+            if (failed) {
+                errors.incrementAndGet();
+            }
+        }
+
+        synchronized long[] sorted() {
+            long[] copy = Arrays.copyOf(values, size);
+            Arrays.sort(copy);
+            return copy;
+        }
+    }
+}
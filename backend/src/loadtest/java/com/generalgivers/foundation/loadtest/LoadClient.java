@@ -0,0 +1,110 @@
+package com.generalgivers.foundation.loadtest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * HTTP client for the application under test. Every call is timed into the given recorder under
+ * an endpoint label; transport failures and 4xx/5xx responses count as errors.
+ */
+public class LoadClient {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(60);
+
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper;
+    private final String baseUrl;
+
+    public record Response(int status, String body) {
+
+        public boolean ok() {
+            return status >= 200 && status < 300;
+        }
+    }
+
+    public LoadClient(String baseUrl, ObjectMapper objectMapper) {
+        this.baseUrl = baseUrl;
+        this.objectMapper = objectMapper;
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+    }
+
+    public Response get(LatencyRecorder recorder, String endpoint, String path, String token) {
+        return send(recorder, endpoint, request(path, token).GET().build());
+    }
+
+    public Response post(LatencyRecorder recorder, String endpoint, String path, String token, Object body) {
+        return send(recorder, endpoint, request(path, token)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json(body)))
+                .build());
+    }
+
+    public Response postJson(LatencyRecorder recorder, String endpoint, String url, String json) {
+        return send(recorder, endpoint, HttpRequest.newBuilder(URI.create(url))
+                .timeout(TIMEOUT)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json))
+                .build());
+    }
+
+    public String login(LatencyRecorder recorder, String email, String password) {
+        Response response = post(recorder, "POST /auth/login", "/auth/login", null,
+                Map.of("email", email, "password", password));
+        if (!response.ok()) {
+            throw new IllegalStateException("Login failed for " + email + ": " + response.status() + " " + response.body());
+        }
+        return read(response.body()).path("accessToken").asText();
+    }
+
+    public JsonNode read(String body) {
+        try {
+            return objectMapper.readTree(body);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Unreadable response: " + body, ex);
+        }
+    }
+
+    private Response send(LatencyRecorder recorder, String endpoint, HttpRequest request) {
+        long start = System.nanoTime();
+        try {
+            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            recorder.record(endpoint, System.nanoTime() - start, response.statusCode() >= 400);
+            return new Response(response.statusCode(), response.body());
+        } catch (IOException ex) {
+            recorder.record(endpoint, System.nanoTime() - start, true);
+            return new Response(0, ex.toString());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            recorder.record(endpoint, System.nanoTime() - start, true);
+            return new Response(0, ex.toString());
+        }
+    }
+
+    private HttpRequest.Builder request(String path, String token) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(TIMEOUT);
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder;
+    }
+
+    private String json(Object body) {
+        try {
+            return objectMapper.writeValueAsString(body);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalArgumentException(ex);
+        }
+    }
+}
@@ -0,0 +1,218 @@
+package com.generalgivers.foundation.loadtest;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.function.IntConsumer;
+
+/**
+ * The load scenarios. Each runs its requests on virtual threads with bounded concurrency and
+ * returns the recorder holding its timings.
+ */
+public class LoadScenarios {
+
+    public static final String ADMIN_EMAIL = "scyllaadmin@gmail.com";
+    public static final String ADMIN_PASSWORD = "Admin@123";
+
+    private final LoadClient client;
+    private final MockDaraja daraja;
+    private final LoadTestSettings settings;
+    private final Random random;
+
+    private String adminToken;
+    private final List<String> projectIds = new ArrayList<>();
+    private final List<String> memberTokens = Collections.synchronizedList(new ArrayList<>());
+
+    public LoadScenarios(LoadClient client, MockDaraja daraja, LoadTestSettings settings) {
+        this.client = client;
+        this.daraja = daraja;
+        this.settings = settings;
+        this.random = new Random(settings.getLong("daraja.seed", 42));
+    }
+
+    /**
+     * Projects for donations to go to, created through the API so caches and notifications see them
+     */
+    public void createProjects() {
+        LatencyRecorder setup = new LatencyRecorder("setup");
+        adminToken = client.login(setup, ADMIN_EMAIL, ADMIN_PASSWORD);
+        int count = settings.getInt("projects", 5);
+        for (int i = 1; i <= count; i++) {
+            Map<String, Object> project = new LinkedHashMap<>();
+            project.put("title", "Load test project " + i);
+            project.put("description", "Created by the load test harness");
+            project.put("status", "ACTIVE");
+            project.put("targetAmount", new BigDecimal("1000000"));
+            project.put("startDate", LocalDate.now().toString());
+            project.put("endDate", LocalDate.now().plusMonths(6).toString());
+            LoadClient.Response response = client.post(setup, "POST /projects", "/projects", adminToken, project);
+            if (!response.ok()) {
+                throw new IllegalStateException("Could not create project: " + response.status() + " " + response.body());
+            }
+            projectIds.add(client.read(response.body()).path("data").path("id").asText());
+        }
+    }
+
+    /**
+     * Members signing in; the bcrypt check dominates
+     */
+    public LatencyRecorder signIn(List<String> memberEmails, String password) {
+        LatencyRecorder recorder = new LatencyRecorder("sign-in");
+        run(memberEmails.size(), settings.getInt("sign-in.concurrency", 20),
+                i -> memberTokens.add(client.login(recorder, memberEmails.get(i), password)));
+        recorder.finish();
+        return recorder;
+    }
+
+    /**
+     * New members added by an administrator, each sent their credentials by email, while existing
+     * members request password resets
+     */
+    public LatencyRecorder onboarding(List<String> memberEmails) {
+        LatencyRecorder recorder = new LatencyRecorder("onboarding");
+        int users = settings.getInt("onboarding.users", 20);
+        String run = Long.toString(System.currentTimeMillis(), 36);
+        run(users, settings.getInt("onboarding.concurrency", 5), i -> {
+            Map<String, Object> user = new LinkedHashMap<>();
+            user.put("firstName", "Onboarded");
+            user.put("lastName", "Member " + i);
+            user.put("email", "onboarded-" + run + "-" + i + "@loadtest.example");
+            user.put("role", "COMMITTEE_MEMBER");
+            client.post(recorder, "POST /users", "/users", adminToken, user);
+            client.post(recorder, "POST /auth/request-password-reset", "/auth/request-password-reset", null,
+                    Map.of("email", memberEmails.get(i % memberEmails.size())));
+        });
+        recorder.finish();
+        return recorder;
+    }
+
+    /**
+     * A donation drive: many STK pushes at once, then Daraja's result callbacks as they arrive
+     */
+    public LatencyRecorder stkPushBurst() throws InterruptedException {
+        LatencyRecorder recorder = new LatencyRecorder("stk-push-burst");
+        daraja.recordCallbacksInto(recorder);
+        run(settings.getInt("stk-push.requests", 300), settings.getInt("stk-push.concurrency", 50), i -> {
+            Map<String, Object> payment = new LinkedHashMap<>();
+            synchronized (random) {
+                payment.put("phoneNumber", "2547" + String.format("%08d", random.nextInt(100_000_000)));
+                payment.put("amount", 10 + random.nextInt(4990));
+                payment.put("projectId", projectIds.get(random.nextInt(projectIds.size())));
+            }
+            payment.put("donorName", "Load Donor " + i);
+            payment.put("email", "donor" + i + "@loadtest.example");
+            client.post(recorder, "POST /mpesa/stk-push", "/mpesa/stk-push", null, payment);
+        });
+        if (!daraja.awaitCallbacks(Duration.ofMinutes(5))) {
+            System.out.println("Timed out waiting for STK push callbacks");
+        }
+        daraja.recordCallbacksInto(null);
+        recorder.finish();
+        return recorder;
+    }
+
+    /**
+     * Daraja retrying: every callback seen so far sent again several times, concurrently, while
+     * donors poll their payment status
+     */
+    public LatencyRecorder callbackStorm() {
+        LatencyRecorder recorder = new LatencyRecorder("callback-storm");
+        List<String> checkoutRequestIds = daraja.checkoutRequestIds();
+        int duplicates = settings.getInt("callback-storm.duplicates", 3);
+        List<String> deliveries = new ArrayList<>();
+        for (int i = 0; i < duplicates; i++) {
+            deliveries.addAll(checkoutRequestIds);
+        }
+        Collections.shuffle(deliveries, random);
+        run(deliveries.size(), settings.getInt("callback-storm.concurrency", 100), i -> {
+            String checkoutRequestId = deliveries.get(i);
+            daraja.replayCallback(checkoutRequestId, recorder);
+            if (i % 4 == 0) {
+                client.get(recorder, "GET /mpesa/status/{id}", "/mpesa/status/" + checkoutRequestId, null);
+            }
+        });
+        recorder.finish();
+        return recorder;
+    }
+
+    /**
+     * Members keeping the dashboard open: each refresh loads the stats, activity feed and charts
+     */
+    public LatencyRecorder dashboardRefresh() {
+        LatencyRecorder recorder = new LatencyRecorder("dashboard-refresh");
+        int refreshes = settings.getInt("dashboard.refreshes", 20);
+        List<String> tokens = tokens();
+        run(tokens.size() * refreshes, settings.getInt("dashboard.concurrency", 25), i -> {
+            String token = tokens.get(i % tokens.size());
+            client.get(recorder, "GET /dashboard/stats", "/dashboard/stats", token);
+            client.get(recorder, "GET /dashboard/activities", "/dashboard/activities", token);
+            client.get(recorder, "GET /dashboard/donations-chart", "/dashboard/donations-chart", token);
+            client.get(recorder, "GET /dashboard/projects-chart", "/dashboard/projects-chart", token);
+        });
+        recorder.finish();
+        return recorder;
+    }
+
+    /**
+     * The notification bell: every member polls the unread count on an interval and opens the
+     * unread list every fifth poll
+     */
+    public LatencyRecorder notificationPolling() {
+        LatencyRecorder recorder = new LatencyRecorder("notification-polling");
+        int polls = settings.getInt("notifications.polls", 40);
+        long intervalMillis = settings.getLong("notifications.interval-ms", 250);
+        List<String> tokens = tokens();
+        run(tokens.size(), tokens.size(), i -> {
+            String token = tokens.get(i);
+            for (int poll = 1; poll <= polls; poll++) {
+                client.get(recorder, "GET /notifications/unread/count", "/notifications/unread/count", token);
+                if (poll % 5 == 0) {
+                    client.get(recorder, "GET /notifications/unread", "/notifications/unread", token);
+                }
+                sleep(intervalMillis);
+            }
+        });
+        recorder.finish();
+        return recorder;
+    }
+
+    private List<String> tokens() {
+        return memberTokens.isEmpty() ? List.of(adminToken) : List.copyOf(memberTokens);
+    }
+
+    private static void run(int total, int concurrency, IntConsumer task) {
+        Semaphore permits = new Semaphore(Math.max(1, concurrency));
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < total; i++) {
+                int index = i;
+                permits.acquireUninterruptibly();
+                executor.submit(() -> {
+                    try {
+                        task.accept(index);
+                    } catch (RuntimeException ex) {
+                        System.out.println("Request failed: " + ex.getMessage());
+                    } finally {
+                        permits.release();
+                    }
+                });
+            }
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
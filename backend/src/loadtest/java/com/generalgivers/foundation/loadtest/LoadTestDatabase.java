@@ -0,0 +1,82 @@
+package com.generalgivers.foundation.loadtest;
+
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.output.MigrateResult;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+
+/**
+ * PostgreSQL for a load test run: a throwaway Testcontainers database, or an existing one when
+ * loadtest.jdbc-url is set, migrated by Flyway the way the application migrates a real one.
+ */
+public class LoadTestDatabase implements AutoCloseable {
+
+    private final PostgreSQLContainer<?> container;
+    private final String url;
+    private final String username;
+    private final String password;
+
+    private LoadTestDatabase(PostgreSQLContainer<?> container, String url, String username, String password) {
+        this.container = container;
+        this.url = url;
+        this.username = username;
+        this.password = password;
+    }
+
+    public static LoadTestDatabase start(LoadTestSettings settings) {
+        String url = settings.get("jdbc-url", null);
+        LoadTestDatabase database;
+        if (url != null) {
+            database = new LoadTestDatabase(null, url,
+                    settings.get("jdbc-username", "postgres"), settings.get("jdbc-password", "postgres"));
+        } else {
+            PostgreSQLContainer<?> container = new PostgreSQLContainer<>(settings.get("postgres-image", "postgres:15-alpine"))
+                    .withDatabaseName("general_givers")
+                    .withUsername("postgres")
+                    .withPassword("postgres");
+            container.start();
+            database = new LoadTestDatabase(container, container.getJdbcUrl(), container.getUsername(), container.getPassword());
+        }
+        database.migrate();
+        return database;
+    }
+
+    public String url() {
+        return url;
+    }
+
+    public String username() {
+        return username;
+    }
+
+    public String password() {
+        return password;
+    }
+
+    public Connection connect() throws SQLException {
+        return DriverManager.getConnection(url, username, password);
+    }
+
+    /**
+     * Run the application's Flyway migrations up front, so that members can be seeded before it starts
+     */
+    private void migrate() {
+        MigrateResult result = Flyway.configure()
+                .dataSource(url, username, password)
+                .baselineOnMigrate(true)
+                .baselineVersion("20")
+                .load()
+                .migrate();
+        System.out.printf("Applied %d migrations to %s%n", result.migrationsExecuted, url);
+    }
+
+    @Override
+    public void close() {
+        if (container != null) {
+            container.stop();
+        }
+    }
+}
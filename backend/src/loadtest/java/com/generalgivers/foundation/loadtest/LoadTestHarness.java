@@ -0,0 +1,239 @@
+package com.generalgivers.foundation.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.generalgivers.foundation.FoundationApplication;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Runs the application against PostgreSQL and local stand-ins for Daraja and the email providers,
+ * drives the load scenarios and reports throughput and p50/p95/p99 per endpoint, on the console
+ * and as JSON.
+ *
+ * Settings (-Dloadtest.x=y or --loadtest.x=y, defaults in brackets):
+ * scenarios [sign-in,onboarding,stk-push-burst,callback-storm,dashboard-refresh,notification-polling],
+ * jdbc-url/jdbc-username/jdbc-password [Testcontainers], members [50], projects [5],
+ * sign-in.concurrency [20], onboarding.users [20], onboarding.concurrency [5],
+ * stk-push.requests [300], stk-push.concurrency [50], callback-storm.duplicates [3],
+ * callback-storm.concurrency [100], dashboard.refreshes [20], dashboard.concurrency [25],
+ * notifications.polls [40], notifications.interval-ms [250], daraja.latency-ms [150],
+ * daraja.success-rate [0.85], daraja.callback-delay-min-ms [200], daraja.callback-delay-max-ms [2000],
+ * daraja.seed [42], email.latency-ms [100], report [target/load-test-report.json],
+ * threading [as configured; platform, virtual or a list such as platform,virtual to run the
+ * scenarios once per mode, restarting the application each time, and compare throughput].
+ */
+public class LoadTestHarness {
+
+    private static final String MEMBER_PASSWORD = "LoadTest@123";
+
+    public static void main(String[] args) throws Exception {
+        LoadTestSettings settings = LoadTestSettings.from(args);
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        int port = freePort();
+        LoadClient client = new LoadClient("http://localhost:" + port + "/api/v1", objectMapper);
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("startedAt", LocalDateTime.now().toString());
+
+        try (LoadTestDatabase database = LoadTestDatabase.start(settings);
+             MockEmailProviders email = new MockEmailProviders(settings.getLong("email.latency-ms", 100));
+             MockDaraja daraja = new MockDaraja(objectMapper, client,
+                     settings.getLong("daraja.latency-ms", 150),
+                     settings.getDouble("daraja.success-rate", 0.85),
+                     settings.getLong("daraja.callback-delay-min-ms", 200),
+                     settings.getLong("daraja.callback-delay-max-ms", 2000),
+                     settings.getLong("daraja.seed", 42))) {
+
+            List<String> members = seedMembers(database, settings.getInt("members", 50));
+            String threading = settings.get("threading", null);
+            if (threading == null) {
+                report.putAll(run(settings, null, port, client, database, daraja, email, members));
+            } else {
+                List<Map<String, Object>> runs = new ArrayList<>();
+                for (String mode : threading.split("\\s*,\\s*")) {
+                    runs.add(run(settings, mode, port, client, database, daraja, email, members));
+                }
+                report.put("runs", runs);
+                report.put("comparison", compare(runs));
+            }
+            report.put("email", email.stats());
+        }
+
+        Path reportPath = Path.of(settings.get("report", "target/load-test-report.json"));
+        Files.createDirectories(reportPath.toAbsolutePath().getParent());
+        objectMapper.writer().with(SerializationFeature.INDENT_OUTPUT).writeValue(reportPath.toFile(), report);
+        System.out.println("Report written to " + reportPath.toAbsolutePath());
+        System.exit(0);
+    }
+
+    /**
+     * Start the application, in the given threading mode if any, and run the scenarios against it
+     */
+    private static Map<String, Object> run(LoadTestSettings settings, String threading, int port, LoadClient client,
+                                           LoadTestDatabase database, MockDaraja daraja, MockEmailProviders email,
+                                           List<String> members) throws Exception {
+        if (threading != null && !threading.equals("platform") && !threading.equals("virtual")) {
+            throw new IllegalArgumentException("Unknown threading mode: " + threading);
+        }
+        Map<String, Object> result = new LinkedHashMap<>();
+        if (threading != null) {
+            System.out.println("Starting on " + threading + " threads");
+            result.put("threading", threading);
+        }
+        List<Map<String, Object>> scenarios = new ArrayList<>();
+        result.put("scenarios", scenarios);
+        daraja.reset();
+
+        try (ConfigurableApplicationContext application = SpringApplication.run(FoundationApplication.class,
+                applicationArgs(settings, threading, port, database, daraja, email))) {
+            LoadScenarios load = new LoadScenarios(client, daraja, settings);
+            load.createProjects();
+
+            for (String scenario : settings.getList("scenarios",
+                    "sign-in,onboarding,stk-push-burst,callback-storm,dashboard-refresh,notification-polling")) {
+                System.out.println("Running " + scenario);
+                LatencyRecorder recorder = switch (scenario) {
+                    case "sign-in" -> load.signIn(members, MEMBER_PASSWORD);
+                    case "onboarding" -> load.onboarding(members);
+                    case "stk-push-burst" -> load.stkPushBurst();
+                    case "callback-storm" -> load.callbackStorm();
+                    case "dashboard-refresh" -> load.dashboardRefresh();
+                    case "notification-polling" -> load.notificationPolling();
+                    default -> throw new IllegalArgumentException("Unknown scenario: " + scenario);
+                };
+                Map<String, Object> summary = recorder.summary();
+                print(summary);
+                scenarios.add(summary);
+            }
+        }
+        result.put("daraja", daraja.stats());
+        return result;
+    }
+
+    private static String[] applicationArgs(LoadTestSettings settings, String threading, int port,
+                                            LoadTestDatabase database, MockDaraja daraja, MockEmailProviders email) {
+        Map<String, String> properties = new LinkedHashMap<>();
+        properties.put("server.port", String.valueOf(port));
+        if (threading != null) {
+            properties.put("spring.threads.virtual.enabled", String.valueOf(threading.equals("virtual")));
+        }
+        properties.put("spring.datasource.url", database.url());
+        properties.put("spring.datasource.username", database.username());
+        properties.put("spring.datasource.password", database.password());
+        properties.put("app.daraja.base-url", daraja.baseUrl());
+        properties.put("app.daraja.consumer-key", "load-test");
+        properties.put("app.daraja.consumer-secret", "load-test");
+        properties.put("app.daraja.short-code", "174379");
+        properties.put("app.daraja.passkey", "load-test-passkey");
+        properties.put("app.daraja.callback-url", "http://localhost:" + port + "/api/v1/mpesa/callback");
+        properties.put("app.mailersend.base-url", email.baseUrl());
+        properties.put("app.mailersend.api-key", "load-test");
+        properties.put("app.mailersend.from-email", "noreply@loadtest.example");
+        properties.put("app.resend.base-url", email.baseUrl());
+        properties.put("app.resend.api-key", "load-test");
+        properties.put("app.resend.from-email", "noreply@loadtest.example");
+        // Rate limits would turn the bursts into 429s
+        properties.put("app.security.rate-limiting.enabled", "false");
+
+        List<String> args = new ArrayList<>();
+        properties.forEach((name, value) -> {
+            if (!settings.overridesApplication(name)) {
+                args.add("--" + name + "=" + value);
+            }
+        });
+        args.addAll(settings.applicationArgs());
+        return args.toArray(String[]::new);
+    }
+
+    /**
+     * Members able to sign in with MEMBER_PASSWORD; re-running against the same database reuses them
+     */
+    private static List<String> seedMembers(LoadTestDatabase database, int count) throws SQLException {
+        String passwordHash = new BCryptPasswordEncoder().encode(MEMBER_PASSWORD);
+        List<String> emails = new ArrayList<>();
+        try (Connection connection = database.connect();
+             PreparedStatement insert = connection.prepareStatement("""
+                     INSERT INTO users (first_name, last_name, email, password_hash, role, is_active, must_change_password)
+                     VALUES (?, ?, ?, ?, 'COMMITTEE_MEMBER', true, false)
+                     ON CONFLICT (email) DO UPDATE SET password_hash = EXCLUDED.password_hash, is_active = true
+                     """)) {
+            for (int i = 1; i <= count; i++) {
+                String email = "member" + i + "@loadtest.example";
+                insert.setString(1, "Load");
+                insert.setString(2, "Member " + i);
+                insert.setString(3, email);
+                insert.setString(4, passwordHash);
+                insert.addBatch();
+                emails.add(email);
+            }
+            insert.executeBatch();
+        }
+        return emails;
+    }
+
+    /**
+     * Throughput and errors of each scenario side by side, one column per threading mode
+     */
+    @SuppressWarnings("unchecked")
+    private static List<Map<String, Object>> compare(List<Map<String, Object>> runs) {
+        Map<String, Map<String, Object>> rows = new LinkedHashMap<>();
+        for (Map<String, Object> run : runs) {
+            for (Map<String, Object> summary : (List<Map<String, Object>>) run.get("scenarios")) {
+                Map<String, Object> row = rows.computeIfAbsent((String) summary.get("scenario"), scenario -> {
+                    Map<String, Object> created = new LinkedHashMap<>();
+                    created.put("scenario", scenario);
+                    return created;
+                });
+                row.put(run.get("threading") + "ThroughputPerSecond", summary.get("throughputPerSecond"));
+                row.put(run.get("threading") + "Errors", summary.get("errors"));
+            }
+        }
+
+        System.out.printf("%nThreading comparison, requests/s (errors)%n  %-22s", "scenario");
+        runs.forEach(run -> System.out.printf(" %18s", run.get("threading")));
+        System.out.println();
+        for (Map<String, Object> row : rows.values()) {
+            System.out.printf("  %-22s", row.get("scenario"));
+            for (Map<String, Object> run : runs) {
+                System.out.printf(" %18s", row.get(run.get("threading") + "ThroughputPerSecond")
+                        + " (" + row.get(run.get("threading") + "Errors") + ")");
+            }
+            System.out.println();
+        }
+        return new ArrayList<>(rows.values());
+    }
+
+    private static void print(Map<String, Object> summary) {
+        System.out.printf("%n%s: %s requests in %ss, %s/s, %s errors%n", summary.get("scenario"), summary.get("requests"),
+                summary.get("durationSeconds"), summary.get("throughputPerSecond"), summary.get("errors"));
+        System.out.printf("  %-42s %8s %7s %9s %9s %9s %9s%n", "endpoint", "requests", "errors", "req/s", "p50 ms", "p95 ms", "p99 ms");
+        @SuppressWarnings("unchecked")
+        List<Map<String, Object>> endpoints = (List<Map<String, Object>>) summary.get("endpoints");
+        for (Map<String, Object> row : endpoints) {
+            System.out.printf("  %-42s %8s %7s %9s %9s %9s %9s%n", row.get("endpoint"), row.get("requests"), row.get("errors"),
+                    row.get("throughputPerSecond"), row.get("p50Ms"), row.get("p95Ms"), row.get("p99Ms"));
+        }
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
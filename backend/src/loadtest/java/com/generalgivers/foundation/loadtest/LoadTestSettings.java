@@ -0,0 +1,64 @@
+package com.generalgivers.foundation.loadtest;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Harness settings, read from loadtest.* system properties and --loadtest.*=value arguments.
+ * Any other --name=value argument is passed on to the application, e.g. --logging.level.root=WARN.
+ */
+public class LoadTestSettings {
+
+    private final Map<String, String> values = new LinkedHashMap<>();
+    private final List<String> applicationArgs = new ArrayList<>();
+
+    public static LoadTestSettings from(String[] args) {
+        LoadTestSettings settings = new LoadTestSettings();
+        System.getProperties().forEach((key, value) -> {
+            if (key.toString().startsWith("loadtest.")) {
+                settings.values.put(key.toString(), value.toString());
+            }
+        });
+        for (String arg : args) {
+            int equals = arg.indexOf('=');
+            if (arg.startsWith("--loadtest.") && equals > 0) {
+                settings.values.put(arg.substring(2, equals), arg.substring(equals + 1));
+            } else if (arg.startsWith("--")) {
+                settings.applicationArgs.add(arg);
+            } else if (!arg.isBlank()) {
+                throw new IllegalArgumentException("Expected --name=value, got: " + arg);
+            }
+        }
+        return settings;
+    }
+
+    public List<String> applicationArgs() {
+        return applicationArgs;
+    }
+
+    public boolean overridesApplication(String property) {
+        return applicationArgs.stream().anyMatch(arg -> arg.startsWith("--" + property + "="));
+    }
+
+    public String get(String name, String defaultValue) {
+        return values.getOrDefault("loadtest." + name, defaultValue);
+    }
+
+    public int getInt(String name, int defaultValue) {
+        return Integer.parseInt(get(name, String.valueOf(defaultValue)));
+    }
+
+    public long getLong(String name, long defaultValue) {
+        return Long.parseLong(get(name, String.valueOf(defaultValue)));
+    }
+
+    public double getDouble(String name, double defaultValue) {
+        return Double.parseDouble(get(name, String.valueOf(defaultValue)));
+    }
+
+    public List<String> getList(String name, String defaultValue) {
+        return List.of(get(name, defaultValue).split("\\s*,\\s*"));
+    }
+}
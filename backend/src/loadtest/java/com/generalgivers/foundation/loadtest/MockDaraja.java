@@ -0,0 +1,200 @@
+package com.generalgivers.foundation.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Stand-in for the Daraja OAuth, STK push and STK query endpoints. Each accepted STK push gets a
+ * scripted result callback POSTed to its CallBackURL after a random delay: a payment with metadata
+ * for successRate of the pushes, otherwise a cancellation (ResultCode 1032). The script is seeded,
+ * so a run replays the same outcomes. Every callback sent is kept, so it can be replayed later.
+ */
+public class MockDaraja extends MockHttpServer {
+
+    private static final DateTimeFormatter TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
+    private static final String CALLBACK_ENDPOINT = "POST /mpesa/callback (Daraja)";
+
+    private final ObjectMapper objectMapper;
+    private final LoadClient callbackClient;
+    private final double successRate;
+    private final long callbackDelayMinMillis;
+    private final long callbackDelayMaxMillis;
+    private final Random random;
+    private final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(2);
+
+    private final Map<String, Callback> callbacks = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+    private final AtomicInteger pendingCallbacks = new AtomicInteger();
+    private final AtomicInteger tokenRequests = new AtomicInteger();
+    private final AtomicInteger stkPushes = new AtomicInteger();
+    private final AtomicInteger stkQueries = new AtomicInteger();
+    private volatile LatencyRecorder recorder;
+
+    private record Callback(String url, String payload, int resultCode) {
+    }
+
+    public MockDaraja(ObjectMapper objectMapper, LoadClient callbackClient, long latencyMillis, double successRate,
+                      long callbackDelayMinMillis, long callbackDelayMaxMillis, long seed) throws IOException {
+        super(latencyMillis);
+        this.objectMapper = objectMapper;
+        this.callbackClient = callbackClient;
+        this.successRate = successRate;
+        this.callbackDelayMinMillis = callbackDelayMinMillis;
+        this.callbackDelayMaxMillis = Math.max(callbackDelayMinMillis, callbackDelayMaxMillis);
+        this.random = new Random(seed);
+        server.createContext("/oauth/v1/generate", this::token);
+        server.createContext("/mpesa/stkpush/v1/processrequest", this::stkPush);
+        server.createContext("/mpesa/stkpushquery/v1/query", this::stkQuery);
+        start();
+    }
+
+    /**
+     * Time scheduled callbacks into this recorder from now on
+     */
+    public void recordCallbacksInto(LatencyRecorder recorder) {
+        this.recorder = recorder;
+    }
+
+    public boolean awaitCallbacks(Duration timeout) throws InterruptedException {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (pendingCallbacks.get() > 0) {
+            if (System.nanoTime() > deadline) {
+                return false;
+            }
+            Thread.sleep(50);
+        }
+        return true;
+    }
+
+    public List<String> checkoutRequestIds() {
+        return new ArrayList<>(callbacks.keySet());
+    }
+
+    /**
+     * POST the callback of an earlier STK push again, as Daraja does when it gets no timely answer
+     */
+    public void replayCallback(String checkoutRequestId, LatencyRecorder recorder) {
+        Callback callback = callbacks.get(checkoutRequestId);
+        callbackClient.postJson(recorder, "POST /mpesa/callback (replayed)", callback.url(), callback.payload());
+    }
+
+    /**
+     * Forget earlier STK pushes and zero the counters, so a new run starts from scratch
+     */
+    public void reset() {
+        callbacks.clear();
+        tokenRequests.set(0);
+        stkPushes.set(0);
+        stkQueries.set(0);
+    }
+
+    public Map<String, Object> stats() {
+        long completed = callbacks.values().stream().filter(callback -> callback.resultCode() == 0).count();
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("tokenRequests", tokenRequests.get());
+        stats.put("stkPushes", stkPushes.get());
+        stats.put("stkQueries", stkQueries.get());
+        stats.put("scriptedPayments", completed);
+        stats.put("scriptedCancellations", callbacks.size() - completed);
+        return stats;
+    }
+
+    private void token(HttpExchange exchange) throws IOException {
+        tokenRequests.incrementAndGet();
+        if (exchange.getRequestHeaders().getFirst("Authorization") == null) {
+            respond(exchange, 400, "{\"errorCode\":\"400.008.01\",\"errorMessage\":\"Invalid Authentication passed\"}");
+            return;
+        }
+        respond(exchange, 200, "{\"access_token\":\"mock-access-token\",\"expires_in\":\"3599\"}");
+    }
+
+    private void stkPush(HttpExchange exchange) throws IOException {
+        JsonNode request = objectMapper.readTree(readBody(exchange));
+        stkPushes.incrementAndGet();
+
+        long id = sequence.incrementAndGet();
+        String merchantRequestId = "29115-" + id + "-1";
+        String checkoutRequestId = "ws_CO_" + LocalDateTime.now().format(TIMESTAMP) + String.format("%08d", id);
+        boolean paid;
+        long delay;
+        synchronized (random) {
+            paid = random.nextDouble() < successRate;
+            delay = callbackDelayMinMillis + (long) (random.nextDouble() * (callbackDelayMaxMillis - callbackDelayMinMillis));
+        }
+
+        Map<String, Object> stkCallback = new LinkedHashMap<>();
+        stkCallback.put("MerchantRequestID", merchantRequestId);
+        stkCallback.put("CheckoutRequestID", checkoutRequestId);
+        stkCallback.put("ResultCode", paid ? 0 : 1032);
+        stkCallback.put("ResultDesc", paid ? "The service request is processed successfully." : "Request cancelled by user");
+        if (paid) {
+            stkCallback.put("CallbackMetadata", Map.of("Item", List.of(
+                    Map.of("Name", "Amount", "Value", request.path("Amount").asDouble()),
+                    Map.of("Name", "MpesaReceiptNumber", "Value", "LT" + String.format("%08X", id)),
+                    Map.of("Name", "TransactionDate", "Value", Long.parseLong(LocalDateTime.now().format(TIMESTAMP))),
+                    Map.of("Name", "PhoneNumber", "Value", request.path("PhoneNumber").asLong()))));
+        }
+        Callback callback = new Callback(request.path("CallBackURL").asText(),
+                objectMapper.writeValueAsString(Map.of("Body", Map.of("stkCallback", stkCallback))), paid ? 0 : 1032);
+        callbacks.put(checkoutRequestId, callback);
+
+        pendingCallbacks.incrementAndGet();
+        scheduler.schedule(() -> Thread.ofVirtual().start(() -> deliver(callback)), delay, TimeUnit.MILLISECONDS);
+
+        respond(exchange, 200, objectMapper.writeValueAsString(Map.of(
+                "MerchantRequestID", merchantRequestId,
+                "CheckoutRequestID", checkoutRequestId,
+                "ResponseCode", "0",
+                "ResponseDescription", "Success. Request accepted for processing",
+                "CustomerMessage", "Success. Request accepted for processing")));
+    }
+
+    private void stkQuery(HttpExchange exchange) throws IOException {
+        JsonNode request = objectMapper.readTree(readBody(exchange));
+        stkQueries.incrementAndGet();
+        Callback callback = callbacks.get(request.path("CheckoutRequestID").asText());
+        if (callback == null) {
+            respond(exchange, 500, "{\"errorCode\":\"500.001.1001\",\"errorMessage\":\"The transaction is being processed\"}");
+            return;
+        }
+        respond(exchange, 200, objectMapper.writeValueAsString(Map.of(
+                "ResponseCode", "0",
+                "ResponseDescription", "The service request has been accepted successfully",
+                "CheckoutRequestID", request.path("CheckoutRequestID").asText(),
+                "ResultCode", String.valueOf(callback.resultCode()),
+                "ResultDesc", callback.resultCode() == 0 ? "The service request is processed successfully." : "Request cancelled by user")));
+    }
+
+    private void deliver(Callback callback) {
+        try {
+            LatencyRecorder target = recorder;
+            callbackClient.postJson(target != null ? target : new LatencyRecorder("unrecorded"),
+                    CALLBACK_ENDPOINT, callback.url(), callback.payload());
+        } finally {
+            pendingCallbacks.decrementAndGet();
+        }
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+        super.close();
+    }
+}
@@ -0,0 +1,46 @@
+package com.generalgivers.foundation.loadtest;
+
+import com.sun.net.httpserver.HttpExchange;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Stand-in for the MailerSend (POST /v1/email) and Resend (POST /emails) send APIs. Accepts every
+ * message with the provider's success response and counts them.
+ */
+public class MockEmailProviders extends MockHttpServer {
+
+    private final AtomicInteger mailerSendMessages = new AtomicInteger();
+    private final AtomicInteger resendMessages = new AtomicInteger();
+
+    public MockEmailProviders(long latencyMillis) throws IOException {
+        super(latencyMillis);
+        server.createContext("/v1/email", this::mailerSend);
+        server.createContext("/emails", this::resend);
+        start();
+    }
+
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("mailerSendMessages", mailerSendMessages.get());
+        stats.put("resendMessages", resendMessages.get());
+        return stats;
+    }
+
+    private void mailerSend(HttpExchange exchange) throws IOException {
+        readBody(exchange);
+        mailerSendMessages.incrementAndGet();
+        exchange.getResponseHeaders().set("X-Message-Id", UUID.randomUUID().toString());
+        respond(exchange, 202, null);
+    }
+
+    private void resend(HttpExchange exchange) throws IOException {
+        readBody(exchange);
+        resendMessages.incrementAndGet();
+        respond(exchange, 200, "{\"id\":\"" + UUID.randomUUID() + "\"}");
+    }
+}
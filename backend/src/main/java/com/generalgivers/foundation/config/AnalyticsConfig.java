@@ -0,0 +1,25 @@
+package com.generalgivers.foundation.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "app.analytics")
+public class AnalyticsConfig {
+
+    /**
+     * Milliseconds between checks for donation writes on this node; the donation views are
+     * refreshed on the first check after one, so reports lag writes by about this much
+     */
+    private long refreshInterval = 10000;
+
+    /**
+     * Longest the views go unrefreshed when no write was seen here, for donations written by other
+     * nodes or outside the application. Done by the node holding the lease.
+     */
+    private Duration maxStaleness = Duration.ofMinutes(5);
+}
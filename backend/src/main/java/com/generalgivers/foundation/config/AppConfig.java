@@ -1,5 +1,7 @@
 package com.generalgivers.foundation.config;
 
+import com.generalgivers.foundation.service.storage.StorageBackend;
+import com.generalgivers.foundation.service.storage.StorageBackendFactory;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -17,4 +19,9 @@ public class AppConfig {
                 .setReadTimeout(Duration.ofSeconds(30))
                 .build();
     }
+
+    @Bean
+    public StorageBackend storageBackend(StorageBackendFactory storageBackendFactory, StorageConfig storageConfig) {
+        return storageBackendFactory.create(storageConfig.getBackend());
+    }
 }
@@ -0,0 +1,177 @@
+package com.generalgivers.foundation.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.time.Duration;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bounded executors for @Async work, one per workload so that a slow email provider cannot hold up
+ * notifications or file clean-up, and none of them can grow without limit. Each pool has a queue
+ * limit and a policy for work arriving when the queue is full, and drains its queue on shutdown.
+ * Spring Boot publishes executor.* metrics for every pool, tagged with the bean name; rejected
+ * tasks are counted as app.executor.rejected.
+ *
+ * On virtual threads the pools keep their bounds but run their tasks on virtual threads.
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "app.executors")
+@Slf4j
+public class AsyncConfig {
+
+    public static final String EMAIL_EXECUTOR = "emailExecutor";
+    public static final String NOTIFICATION_EXECUTOR = "notificationExecutor";
+    public static final String MEDIA_EXECUTOR = "mediaExecutor";
+
+    public enum Rejection {
+        /**
+         * The submitting thread runs the task itself, slowing the caller down instead of losing work
+         */
+        CALLER_RUNS,
+        /**
+         * The submitting thread gets a RejectedExecutionException
+         */
+        ABORT,
+        /**
+         * The task is dropped with a warning
+         */
+        DISCARD,
+        /**
+         * The submitting thread waits up to callerWait for room in the queue, then drops the task
+         * with a warning. Keeps short bursts without letting a stalled pool hold request threads.
+         */
+        WAIT
+    }
+
+    /**
+     * @Async methods that do not name an executor. Spring picks the bean named taskExecutor for them;
+     * without it they would get a new thread per call once there are several executors.
+     */
+    private Pool general = new Pool(2, 4, 100, Rejection.CALLER_RUNS);
+
+    /**
+     * Emails to a single recipient: receipts, confirmations, credentials. Never caller-runs: the
+     * provider call would then block request threads whenever the provider is slow.
+     */
+    private Pool email = new Pool(2, 4, 500, Rejection.WAIT);
+
+    /**
+     * Notification emails fanned out to committee members
+     */
+    private Pool notifications = new Pool(1, 2, 200, Rejection.DISCARD);
+
+    /**
+     * Removing stored files, which may be remote objects
+     */
+    private Pool media = new Pool(1, 2, 1000, Rejection.CALLER_RUNS);
+
+    /**
+     * Longest a submitting thread waits for queue room under the WAIT policy
+     */
+    private Duration callerWait = Duration.ofMillis(500);
+
+    /**
+     * Longest each pool waits on shutdown for queued and running tasks
+     */
+    private Duration shutdownTimeout = Duration.ofSeconds(30);
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Pool {
+        private int coreSize;
+        /**
+         * Threads are added beyond coreSize only while the queue is full
+         */
+        private int maxSize;
+        private int queueCapacity;
+        private Rejection rejection;
+    }
+
+    @Bean
+    public ThreadPoolTaskExecutor taskExecutor(ObjectProvider<MeterRegistry> meterRegistry, Environment environment) {
+        return executor("taskExecutor", "async-", general, meterRegistry, environment);
+    }
+
+    @Bean(EMAIL_EXECUTOR)
+    public ThreadPoolTaskExecutor emailExecutor(ObjectProvider<MeterRegistry> meterRegistry, Environment environment) {
+        return executor(EMAIL_EXECUTOR, "email-", email, meterRegistry, environment);
+    }
+
+    @Bean(NOTIFICATION_EXECUTOR)
+    public ThreadPoolTaskExecutor notificationExecutor(ObjectProvider<MeterRegistry> meterRegistry, Environment environment) {
+        return executor(NOTIFICATION_EXECUTOR, "notification-", notifications, meterRegistry, environment);
+    }
+
+    @Bean(MEDIA_EXECUTOR)
+    public ThreadPoolTaskExecutor mediaExecutor(ObjectProvider<MeterRegistry> meterRegistry, Environment environment) {
+        return executor(MEDIA_EXECUTOR, "media-", media, meterRegistry, environment);
+    }
+
+    private ThreadPoolTaskExecutor executor(String name, String threadNamePrefix, Pool pool,
+                                            ObjectProvider<MeterRegistry> meterRegistry, Environment environment) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix(threadNamePrefix);
+        if (Threading.VIRTUAL.isActive(environment)) {
+            executor.setThreadFactory(Thread.ofVirtual().name(threadNamePrefix, 1).factory());
+        }
+        executor.setCorePoolSize(pool.getCoreSize());
+        executor.setMaxPoolSize(Math.max(pool.getCoreSize(), pool.getMaxSize()));
+        executor.setQueueCapacity(pool.getQueueCapacity());
+        executor.setRejectedExecutionHandler(rejectionHandler(name, pool.getRejection(), callerWait, meterRegistry));
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationMillis(shutdownTimeout.toMillis());
+        return executor;
+    }
+
+    private static RejectedExecutionHandler rejectionHandler(String name, Rejection rejection, Duration callerWait,
+                                                             ObjectProvider<MeterRegistry> meterRegistry) {
+        RejectedExecutionHandler policy = switch (rejection) {
+            case CALLER_RUNS -> new ThreadPoolExecutor.CallerRunsPolicy();
+            case ABORT -> new ThreadPoolExecutor.AbortPolicy();
+            case DISCARD -> (task, executor) ->
+                    log.warn("{} is full ({} queued); dropping a task", name, executor.getQueue().size());
+            case WAIT -> (task, executor) -> {
+                try {
+                    if (!executor.getQueue().offer(task, callerWait.toMillis(), TimeUnit.MILLISECONDS)) {
+                        log.warn("{} is still full after {} ms; dropping a task", name, callerWait.toMillis());
+                    }
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    log.warn("Interrupted waiting for room in {}; dropping a task", name);
+                }
+            };
+        };
+        return (task, executor) -> {
+            MeterRegistry registry = meterRegistry.getIfAvailable();
+            if (registry != null) {
+                Counter.builder("app.executor.rejected")
+                        .description("Tasks submitted while an executor's queue was full, by what happened to them")
+                        .tag("executor", name)
+                        .tag("policy", rejection.name().toLowerCase())
+                        .register(registry)
+                        .increment();
+            }
+            if (executor.isShutdown()) {
+                throw new RejectedExecutionException(name + " is shut down");
+            }
+            policy.rejectedExecution(task, executor);
+        };
+    }
+}
@@ -0,0 +1,30 @@
+package com.generalgivers.foundation.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "app.audit")
+public class AuditConfig {
+
+    private boolean enabled = true;
+
+    /**
+     * Entries waiting to be written; further entries are dropped (and counted) while it is full
+     */
+    private int bufferSize = 8192;
+
+    /**
+     * Rows per JDBC batch insert
+     */
+    private int batchSize = 200;
+
+    /**
+     * Longest an entry waits in the buffer when traffic is too low to fill a batch
+     */
+    private Duration flushInterval = Duration.ofSeconds(1);
+}
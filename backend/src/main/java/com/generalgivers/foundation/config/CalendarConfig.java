@@ -0,0 +1,40 @@
+package com.generalgivers.foundation.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.StringUtils;
+
+import java.time.Duration;
+import java.time.ZoneId;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "app.calendar")
+public class CalendarConfig {
+
+    /**
+     * Zone that event date-times are entered in. Defaults to the server's zone, which is what
+     * reminders are scheduled against.
+     */
+    private String timeZone;
+
+    /**
+     * How long calendar clients may use a feed before revalidating it
+     */
+    private Duration feedMaxAge = Duration.ofMinutes(5);
+
+    /**
+     * Rendered VEVENT blocks kept in memory, one per event version
+     */
+    private long fragmentCacheSize = 5000;
+
+    /**
+     * Assembled feeds kept in memory, one per feed and version
+     */
+    private long feedCacheSize = 256;
+
+    public ZoneId getZoneId() {
+        return StringUtils.hasText(timeZone) ? ZoneId.of(timeZone) : ZoneId.systemDefault();
+    }
+}
@@ -0,0 +1,41 @@
+package com.generalgivers.foundation.config;
+
+import com.generalgivers.foundation.service.sql.ReadReplicaRoutingDataSource;
+import com.generalgivers.foundation.service.sql.SqlStatementListener;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * Wraps the application DataSource so every JDBC statement, from Hibernate and JdbcTemplate alike,
+ * passes through {@link SqlStatementListener}
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.sql-stats", name = "enabled", matchIfMissing = true)
+public class DataSourceProxyConfig {
+
+    // Static so that registering the post-processor does not initialize this configuration early
+    @Bean
+    public static BeanPostProcessor dataSourceProxyPostProcessor(ObjectProvider<SqlStatementListener> listener) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                // The read replica router is left alone: its pools are wrapped, so each statement counts once
+                if (bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)
+                        && !(bean instanceof ReadReplicaRoutingDataSource)) {
+                    return ProxyDataSourceBuilder.create(dataSource)
+                            .name(beanName)
+                            .listener(listener.getObject())
+                            .build();
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,31 @@
+package com.generalgivers.foundation.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "app.geo")
+public class GeoConfig {
+
+    /**
+     * Grid cell size of the in-memory proximity index; about 11 km at 0.1
+     */
+    private double cellDegrees = 0.1;
+
+    private int maxResults = 100;
+
+    private double maxRadiusKm = 1000;
+
+    /**
+     * Offline gazetteer used by the geocoding backfill: a GeoNames dump (tab separated, e.g. KE.txt)
+     * or a CSV with a name,latitude,longitude[,population] header
+     */
+    private String gazetteerPath;
+
+    /**
+     * ISO country code to restrict GeoNames entries to; empty keeps every country
+     */
+    private String countryCode = "KE";
+}
@@ -0,0 +1,92 @@
+package com.generalgivers.foundation.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import lombok.Data;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.OptionalLong;
+
+/**
+ * Caffeine-backed JCache regions for the Hibernate second-level cache. Regions are created up front
+ * with explicit bounds instead of letting Hibernate create unbounded defaults on first use.
+ *
+ * Regions are per instance, so only reference data that may be briefly stale after a write on
+ * another node is cached. Users are not: authentication must see a deactivation or role change
+ * at once, and CurrentUserResolver already limits their lookups to one per request.
+ */
+@Data
+@Slf4j
+@Configuration
+@ConfigurationProperties(prefix = "app.entity-cache")
+public class HibernateCacheConfig {
+
+    public static final String PROJECTS = "projects";
+    public static final String CHILDREN_HOMES = "children-homes";
+    public static final String EVENTS = "events";
+
+    private static final String QUERY_RESULTS_REGION = "default-query-results-region";
+    private static final String UPDATE_TIMESTAMPS_REGION = "default-update-timestamps-region";
+
+    private long defaultMaxSize = 1000;
+
+    private Duration defaultTtl = Duration.ofMinutes(10);
+
+    /**
+     * Per-region overrides keyed by region name
+     */
+    private Map<String, Region> regions = new HashMap<>();
+
+    @Data
+    public static class Region {
+        private Long maxSize;
+        private Duration ttl;
+    }
+
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager() {
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName()).getCacheManager();
+
+        for (String region : new String[]{PROJECTS, CHILDREN_HOMES, EVENTS, QUERY_RESULTS_REGION}) {
+            Region overrides = regions.getOrDefault(region, new Region());
+            long maxSize = overrides.getMaxSize() != null ? overrides.getMaxSize() : defaultMaxSize;
+            Duration ttl = overrides.getTtl() != null ? overrides.getTtl() : defaultTtl;
+            createRegion(cacheManager, region, maxSize, ttl);
+        }
+        // Timestamps must outlive every cached query result or stale results can be served
+        createRegion(cacheManager, UPDATE_TIMESTAMPS_REGION, 0, null);
+
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer hibernateSecondLevelCacheCustomizer(CacheManager hibernateCacheManager) {
+        return properties -> properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+    }
+
+    private void createRegion(CacheManager cacheManager, String name, long maxSize, Duration ttl) {
+        if (cacheManager.getCache(name) != null) {
+            return;
+        }
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        if (maxSize > 0) {
+            configuration.setMaximumSize(OptionalLong.of(maxSize));
+        }
+        if (ttl != null && !ttl.isZero()) {
+            configuration.setExpireAfterWrite(OptionalLong.of(ttl.toNanos()));
+        }
+        configuration.setStatisticsEnabled(true);
+        cacheManager.createCache(name, configuration);
+        log.info("Second-level cache region {} created (maxSize={}, ttl={})", name, maxSize > 0 ? maxSize : "unbounded", ttl);
+    }
+}
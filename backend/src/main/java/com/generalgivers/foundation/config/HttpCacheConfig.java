@@ -0,0 +1,32 @@
+package com.generalgivers.foundation.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "app.http-cache")
+public class HttpCacheConfig {
+
+    private boolean enabled = true;
+
+    /**
+     * Freshness lifetime for responses that any shared cache may store
+     */
+    private Duration publicMaxAge = Duration.ofSeconds(30);
+
+    /**
+     * Freshness lifetime for responses tied to an authenticated user
+     */
+    private Duration privateMaxAge = Duration.ZERO;
+
+    private Duration staleWhileRevalidate = Duration.ofMinutes(5);
+
+    /**
+     * Upper bound on serialized responses kept in memory
+     */
+    private int maxEntries = 512;
+}
@@ -0,0 +1,53 @@
+package com.generalgivers.foundation.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Idempotency-Key handling for the public payment endpoints, so that a client retrying after a
+ * timeout gets the original response instead of a second donation or STK push.
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "app.idempotency")
+public class IdempotencyConfig {
+
+    public enum Store {
+        /**
+         * Responses in this instance's memory; a retry reaching another node runs again
+         */
+        LOCAL,
+        /**
+         * Responses also in the idempotency_keys table, shared by all nodes
+         */
+        SHARED
+    }
+
+    private boolean enabled = true;
+
+    private Store store = Store.LOCAL;
+
+    /**
+     * How long a key and its response are kept
+     */
+    private Duration ttl = Duration.ofHours(24);
+
+    /**
+     * Upper bound on responses kept in memory; the oldest are evicted first
+     */
+    private long maxEntries = 10_000;
+
+    /**
+     * Longest a retry waits for the original request to finish before getting 409 Conflict
+     */
+    private Duration waitTimeout = Duration.ofSeconds(30);
+
+    /**
+     * With the shared store, a key whose request has not finished after this long, because the
+     * node handling it died, may be taken over by a retry
+     */
+    private Duration abandonAfter = Duration.ofMinutes(2);
+}
@@ -10,4 +10,5 @@ import org.springframework.context.annotation.Configuration;
 public class MailerSendConfig {
     private String apiKey;
     private String fromEmail;
+    private String baseUrl;
 }
\ No newline at end of file
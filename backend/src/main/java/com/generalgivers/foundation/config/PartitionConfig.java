@@ -0,0 +1,31 @@
+package com.generalgivers.foundation.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "app.partitions")
+public class PartitionConfig {
+
+    /**
+     * Monthly partitions kept created ahead of the current month
+     */
+    private int monthsAhead = 3;
+
+    /**
+     * Months of notifications kept, counting the current one; 0 keeps them forever
+     */
+    private int notificationsRetentionMonths = 6;
+
+    /**
+     * Months of audit log entries kept, counting the current one; 0 keeps them forever
+     */
+    private int auditLogsRetentionMonths = 24;
+
+    /**
+     * When partitions are created and expired ones dropped; also done at startup
+     */
+    private String maintenanceCron = "0 30 2 * * *";
+}
@@ -0,0 +1,89 @@
+package com.generalgivers.foundation.config;
+
+import com.generalgivers.foundation.security.RateLimitingFilter;
+import lombok.Data;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Token-bucket API rate limits, per authenticated user or, for anonymous callers, per client IP.
+ * Routes listed under routes get their own limits and buckets; everything else shares the default.
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "app.security.rate-limiting")
+public class RateLimitingConfig {
+
+    public enum Store {
+        /**
+         * Buckets in this instance's memory; each node enforces the limit separately
+         */
+        LOCAL,
+        /**
+         * Buckets in the rate_limit_buckets table, shared by all nodes
+         */
+        SHARED
+    }
+
+    private boolean enabled = false;
+
+    /**
+     * Default sustained rate per client
+     */
+    private int requestsPerMinute = 100;
+
+    /**
+     * Requests a client may make at once after being idle; 0 means requestsPerMinute
+     */
+    private int burst = 0;
+
+    private Store store = Store.LOCAL;
+
+    /**
+     * Upper bound on clients tracked in memory; idle buckets are evicted first
+     */
+    private long maxTrackedClients = 100_000;
+
+    /**
+     * Reverse proxies in front of the application. The client IP is taken from X-Forwarded-For
+     * this many entries from the right, which is the address the outermost proxy saw; with 0 the
+     * header is ignored, since clients could forge it.
+     */
+    private int forwardedHops = 0;
+
+    private List<Route> routes = new ArrayList<>();
+
+    @Data
+    public static class Route {
+
+        /**
+         * HTTP method to match; empty matches any
+         */
+        private String method;
+
+        /**
+         * Path pattern below the context path, e.g. /mpesa/stk-push or /contact/**
+         */
+        private String pattern;
+
+        private int requestsPerMinute;
+
+        private int burst = 0;
+    }
+
+    /**
+     * Runs after the Spring Security chain so authenticated callers are limited per user
+     */
+    @Bean
+    public FilterRegistrationBean<RateLimitingFilter> rateLimitingFilterRegistration(RateLimitingFilter filter) {
+        FilterRegistrationBean<RateLimitingFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER + 1);
+        return registration;
+    }
+}
@@ -0,0 +1,110 @@
+package com.generalgivers.foundation.config;
+
+import com.generalgivers.foundation.service.sql.ReadReplicaRoutingDataSource;
+import com.generalgivers.foundation.service.sql.ReplicaRead;
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.Data;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Read replica for {@link ReplicaRead} transactions, so report and dashboard reads do not take the primary
+ * pool's connections from writes such as M-Pesa callbacks. Replaces Spring Boot's single pool with
+ * a "primary" pool configured as usual under spring.datasource, a separately sized "replica" pool,
+ * and a routing DataSource in front of both. Both pools report hikaricp.* metrics by pool name.
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "app.datasource.replica")
+@ConditionalOnProperty(prefix = "app.datasource.replica", name = "enabled")
+public class ReadReplicaConfig {
+
+    private boolean enabled = false;
+
+    private String url;
+
+    /**
+     * Defaults to spring.datasource.username and password
+     */
+    private String username;
+    private String password;
+
+    private int maximumPoolSize = 5;
+    private int minimumIdle = 1;
+
+    /**
+     * Kept short, as a read that cannot get a replica connection falls back to the primary
+     */
+    private Duration connectionTimeout = Duration.ofSeconds(2);
+
+    /**
+     * Reads go to the primary while the replica is further behind than this
+     */
+    private Duration maxLag = Duration.ofSeconds(5);
+
+    /**
+     * Milliseconds between lag checks
+     */
+    private long lagCheckInterval = 10000;
+
+    @Bean
+    @ConfigurationProperties(prefix = "spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    public HikariDataSource replicaDataSource(DataSourceProperties properties) {
+        if (url == null || url.isBlank()) {
+            throw new IllegalStateException("app.datasource.replica.url must be set when the read replica is enabled");
+        }
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName("replica");
+        dataSource.setJdbcUrl(url);
+        dataSource.setUsername(username != null && !username.isBlank() ? username : properties.determineUsername());
+        dataSource.setPassword(password != null && !password.isBlank() ? password : properties.determinePassword());
+        dataSource.setDriverClassName(properties.determineDriverClassName());
+        dataSource.setMaximumPoolSize(maximumPoolSize);
+        dataSource.setMinimumIdle(minimumIdle);
+        dataSource.setConnectionTimeout(connectionTimeout.toMillis());
+        dataSource.setReadOnly(true);
+        // Start without the replica rather than fail; reads use the primary until it answers
+        dataSource.setInitializationFailTimeout(-1);
+        return dataSource;
+    }
+
+    @Bean
+    @Primary
+    public ReadReplicaRoutingDataSource dataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                                   @Qualifier("replicaDataSource") DataSource replicaDataSource) {
+        return new ReadReplicaRoutingDataSource(primaryDataSource, replicaDataSource, maxLag);
+    }
+
+    @Bean
+    public ReplicaLagCheck replicaLagCheck(ReadReplicaRoutingDataSource dataSource) {
+        return new ReplicaLagCheck(dataSource);
+    }
+
+    @RequiredArgsConstructor
+    static class ReplicaLagCheck {
+
+        private final ReadReplicaRoutingDataSource dataSource;
+
+        @Scheduled(fixedDelayString = "${app.datasource.replica.lag-check-interval:10000}")
+        public void run() {
+            dataSource.checkReplica();
+        }
+    }
+}
@@ -10,4 +10,5 @@ import org.springframework.context.annotation.Configuration;
 public class ResendConfig {
     private String apiKey;
     private String fromEmail;
+    private String baseUrl;
 }
@@ -2,6 +2,7 @@ package com.generalgivers.foundation.config;
 
 import com.generalgivers.foundation.security.JwtAuthenticationFilter;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -21,16 +22,23 @@ import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.cors.CorsConfigurationSource;
 
+import java.util.Set;
+
 @Configuration
 @EnableWebSecurity
 @EnableMethodSecurity
 @RequiredArgsConstructor
 public class SecurityConfig {
 
+    private static final Set<String> ACTUATOR_PATHS = Set.of("/actuator/health", "/actuator/prometheus");
+
     private final JwtAuthenticationFilter jwtAuthFilter;
     private final UserDetailsService userDetailsService;
     private final CorsConfigurationSource corsConfigurationSource;
 
+    @Value("${management.server.port}")
+    private int managementPort;
+
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
         http
@@ -48,12 +56,19 @@ public class SecurityConfig {
                                 "/swagger-ui.html",
                                 "/v3/api-docs/**"
                         ).permitAll()
+                        // Liveness and readiness probes on the API port
+                        .requestMatchers(HttpMethod.GET, "/livez", "/readyz").permitAll()
+                        // Health and Prometheus scrape, on the unpublished management port only
+                        .requestMatchers(request -> request.getLocalPort() == managementPort
+                                && ACTUATOR_PATHS.contains(request.getRequestURI())).permitAll()
                         // M-Pesa endpoints - public for STK Push and callback
                         .requestMatchers("/mpesa/**").permitAll()
                         // Contact form - public
                         .requestMatchers("/contact/**").permitAll()
                         // Public read access to projects for public pages
                         .requestMatchers(HttpMethod.GET, "/projects", "/projects/active").permitAll()
+                        // Calendar feeds - clients authenticate with the token in the URL
+                        .requestMatchers(HttpMethod.GET, "/calendar/feeds/*/events.ics", "/calendar/feeds/*/my-events.ics").permitAll()
                         // Public donations (guest donations)
                         .requestMatchers(HttpMethod.POST, "/donations").permitAll()
                         // Change password needs authentication but no role check
@@ -0,0 +1,38 @@
+package com.generalgivers.foundation.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "app.sql-stats")
+public class SqlStatsConfig {
+
+    /**
+     * Wrap the DataSource to count statements and JDBC time per request; read at startup only
+     */
+    private boolean enabled = true;
+
+    /**
+     * Add X-Query-Count to API responses; a debugging aid, off in production
+     */
+    private boolean queryCountHeader = false;
+
+    /**
+     * Statements slower than this are logged, with literals and bind parameters redacted
+     */
+    private Duration slowQueryThreshold = Duration.ofMillis(300);
+
+    /**
+     * Requests running more statements than this are logged as a likely N+1; 0 disables
+     */
+    private int statementWarnThreshold = 50;
+
+    /**
+     * Logged SQL is cut off after this many characters
+     */
+    private int maxLoggedSqlLength = 2000;
+}
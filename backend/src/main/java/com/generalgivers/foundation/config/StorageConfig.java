@@ -0,0 +1,40 @@
+package com.generalgivers.foundation.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "app.storage")
+public class StorageConfig {
+
+    /**
+     * Active storage backend: local, sharded or s3
+     */
+    private String backend = "local";
+
+    private Sharded sharded = new Sharded();
+
+    private S3 s3 = new S3();
+
+    @Data
+    public static class Sharded {
+        private String dir = "uploads-sharded";
+        private int depth = 2;
+    }
+
+    @Data
+    public static class S3 {
+        private String endpoint;
+        private String region = "us-east-1";
+        private String bucket;
+        private String accessKey;
+        private String secretKey;
+        private boolean pathStyleAccess = true;
+        private boolean presignDownloads = true;
+        private Duration presignedUrlTtl = Duration.ofMinutes(15);
+    }
+}
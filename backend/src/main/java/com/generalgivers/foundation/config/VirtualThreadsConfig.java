@@ -0,0 +1,72 @@
+package com.generalgivers.foundation.config;
+
+import com.generalgivers.foundation.service.sql.ConnectionLimitingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Support for running on virtual threads, switched on with spring.threads.virtual.enabled. Spring
+ * Boot then serves requests and runs @Async and @Scheduled work on virtual threads; this puts
+ * {@link ConnectionLimitingDataSource} in front of each connection pool, sized like the pool, so
+ * callers queue fairly for a connection instead of all hitting Hikari at once. Its gauges are
+ * tagged with the pool name.
+ */
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadsConfig {
+
+    // Static so that registering the post-processor does not initialize this configuration early, and
+    // declared with its own type so that Spring sees it is Ordered before instantiating it
+    @Bean
+    public static ConnectionLimitingPostProcessor connectionLimitingPostProcessor() {
+        return new ConnectionLimitingPostProcessor();
+    }
+
+    @Bean
+    public MeterBinder connectionLimitMetrics(ConnectionLimitingPostProcessor connectionLimitingPostProcessor) {
+        return registry -> connectionLimitingPostProcessor.limited.forEach((pool, limited) -> {
+            Gauge.builder("app.datasource.connections.waiting", limited, ConnectionLimitingDataSource::getWaiting)
+                    .description("Threads queued for a database connection")
+                    .tag("pool", pool)
+                    .register(registry);
+            Gauge.builder("app.datasource.connections.in_use", limited, ConnectionLimitingDataSource::getInUse)
+                    .description("Database connections handed out")
+                    .tag("pool", pool)
+                    .register(registry);
+        });
+    }
+
+    /**
+     * Ordered, so it sees the Hikari pool before the SQL statistics proxy wraps it
+     */
+    static class ConnectionLimitingPostProcessor implements BeanPostProcessor, Ordered {
+
+        private final Map<String, ConnectionLimitingDataSource> limited = new ConcurrentHashMap<>();
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (bean instanceof HikariDataSource hikari) {
+                ConnectionLimitingDataSource limiting =
+                        new ConnectionLimitingDataSource(hikari, hikari.getMaximumPoolSize(), hikari.getConnectionTimeout());
+                limited.put(hikari.getPoolName() != null ? hikari.getPoolName() : beanName, limiting);
+                return limiting;
+            }
+            return bean;
+        }
+
+        @Override
+        public int getOrder() {
+            return Ordered.HIGHEST_PRECEDENCE;
+        }
+    }
+}
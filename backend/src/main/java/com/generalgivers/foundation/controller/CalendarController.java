@@ -0,0 +1,51 @@
+package com.generalgivers.foundation.controller;
+
+import com.generalgivers.foundation.dto.common.ApiResponse;
+import com.generalgivers.foundation.dto.event.CalendarFeedResponse;
+import com.generalgivers.foundation.entity.User;
+import com.generalgivers.foundation.security.CurrentUser;
+import com.generalgivers.foundation.service.CalendarFeedService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+@RestController
+@RequestMapping("/calendar")
+@RequiredArgsConstructor
+@Tag(name = "Calendar", description = "iCalendar feeds of events for calendar clients")
+public class CalendarController {
+
+    private final CalendarFeedService calendarFeedService;
+
+    @GetMapping("/feeds")
+    @SecurityRequirement(name = "bearerAuth")
+    @Operation(summary = "Get calendar feed URLs", description = "Get the current user's subscribable feed URLs, issuing a token if needed")
+    public ResponseEntity<ApiResponse<CalendarFeedResponse>> getFeedUrls(@CurrentUser User user) {
+        CalendarFeedResponse feeds = calendarFeedService.getFeedUrls(user);
+        return ResponseEntity.ok(ApiResponse.success("Calendar feeds retrieved successfully", feeds));
+    }
+
+    @PostMapping("/feeds/reset")
+    @SecurityRequirement(name = "bearerAuth")
+    @Operation(summary = "Reset calendar feed URLs", description = "Issue a new feed token, revoking the previous URLs")
+    public ResponseEntity<ApiResponse<CalendarFeedResponse>> resetFeedUrls(@CurrentUser User user) {
+        CalendarFeedResponse feeds = calendarFeedService.resetFeedUrls(user);
+        return ResponseEntity.ok(ApiResponse.success("Calendar feeds reset successfully", feeds));
+    }
+
+    @GetMapping("/feeds/{token}/events.ics")
+    @Operation(summary = "All events feed", description = "iCalendar feed of all events; supports conditional GET")
+    public ResponseEntity<byte[]> getAllEventsFeed(@PathVariable String token, WebRequest request) {
+        return calendarFeedService.getAllEventsFeed(token, request);
+    }
+
+    @GetMapping("/feeds/{token}/my-events.ics")
+    @Operation(summary = "My events feed", description = "iCalendar feed of the events the token owner created; supports conditional GET")
+    public ResponseEntity<byte[]> getMyEventsFeed(@PathVariable String token, WebRequest request) {
+        return calendarFeedService.getMyEventsFeed(token, request);
+    }
+}
@@ -4,6 +4,8 @@ import com.generalgivers.foundation.dto.childrenhome.ChildrenHomeRequest;
 import com.generalgivers.foundation.dto.childrenhome.ChildrenHomeResponse;
 import com.generalgivers.foundation.dto.common.ApiResponse;
 import com.generalgivers.foundation.service.ChildrenHomeService;
+import com.generalgivers.foundation.service.cache.AggregateVersions;
+import com.generalgivers.foundation.service.cache.ResponseCache;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -14,6 +16,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 import java.util.UUID;
@@ -26,21 +29,34 @@ import java.util.UUID;
 public class ChildrenHomeController {
 
     private final ChildrenHomeService childrenHomeService;
+    private final ResponseCache responseCache;
 
     @GetMapping
     @PreAuthorize("hasAnyRole('SUPER_USER', 'CHAIRPERSON', 'SECRETARY_GENERAL', 'VICE_CHAIRPERSON', 'TREASURER', 'VICE_SECRETARY', 'ORGANIZING_SECRETARY', 'COMMITTEE_MEMBER')")
     @Operation(summary = "Get all children homes", description = "Retrieve list of all children homes")
-    public ResponseEntity<ApiResponse<List<ChildrenHomeResponse>>> getAllChildrenHomes() {
-        List<ChildrenHomeResponse> homes = childrenHomeService.getAllChildrenHomes();
-        return ResponseEntity.ok(ApiResponse.success("Children homes retrieved successfully", homes));
+    public ResponseEntity<byte[]> getAllChildrenHomes(WebRequest request) {
+        return responseCache.getPrivate(AggregateVersions.CHILDREN_HOMES, "all", request,
+                () -> ApiResponse.success("Children homes retrieved successfully", childrenHomeService.getAllChildrenHomes()));
+    }
+
+    @GetMapping("/nearby")
+    @PreAuthorize("hasAnyRole('SUPER_USER', 'CHAIRPERSON', 'SECRETARY_GENERAL', 'VICE_CHAIRPERSON', 'TREASURER', 'VICE_SECRETARY', 'ORGANIZING_SECRETARY', 'COMMITTEE_MEMBER')")
+    @Operation(summary = "Find nearby children homes", description = "Children homes nearest a point, optionally within a radius in kilometres")
+    public ResponseEntity<ApiResponse<List<ChildrenHomeResponse>>> getNearbyChildrenHomes(
+            @RequestParam double latitude,
+            @RequestParam double longitude,
+            @RequestParam(required = false) Double radiusKm,
+            @RequestParam(defaultValue = "20") int limit) {
+        List<ChildrenHomeResponse> homes = childrenHomeService.getNearbyChildrenHomes(latitude, longitude, radiusKm, limit);
+        return ResponseEntity.ok(ApiResponse.success("Nearby children homes retrieved successfully", homes));
     }
 
     @GetMapping("/{id}")
     @PreAuthorize("hasAnyRole('SUPER_USER', 'CHAIRPERSON', 'SECRETARY_GENERAL', 'VICE_CHAIRPERSON', 'TREASURER', 'VICE_SECRETARY', 'ORGANIZING_SECRETARY', 'COMMITTEE_MEMBER')")
     @Operation(summary = "Get children home by ID", description = "Retrieve children home details by ID")
-    public ResponseEntity<ApiResponse<ChildrenHomeResponse>> getChildrenHomeById(@PathVariable UUID id) {
-        ChildrenHomeResponse home = childrenHomeService.getChildrenHomeById(id);
-        return ResponseEntity.ok(ApiResponse.success("Children home retrieved successfully", home));
+    public ResponseEntity<byte[]> getChildrenHomeById(@PathVariable UUID id, WebRequest request) {
+        return responseCache.getPrivate(AggregateVersions.CHILDREN_HOMES, "id:" + id, request,
+                () -> ApiResponse.success("Children home retrieved successfully", childrenHomeService.getChildrenHomeById(id)));
     }
 
     @PostMapping
@@ -4,6 +4,7 @@ import com.generalgivers.foundation.dto.common.ApiResponse;
 import com.generalgivers.foundation.dto.donation.DonationRequest;
 import com.generalgivers.foundation.dto.donation.DonationResponse;
 import com.generalgivers.foundation.service.DonationService;
+import com.generalgivers.foundation.service.idempotency.IdempotencyService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -27,6 +28,7 @@ import java.util.UUID;
 public class DonationController {
 
     private final DonationService donationService;
+    private final IdempotencyService idempotencyService;
 
     @GetMapping
     @PreAuthorize("hasAnyRole('SUPER_USER', 'CHAIRPERSON', 'SECRETARY_GENERAL', 'TREASURER')")
@@ -66,11 +68,15 @@ public class DonationController {
     }
 
     @PostMapping
-    @Operation(summary = "Create donation", description = "Record a new donation")
-    public ResponseEntity<ApiResponse<DonationResponse>> createDonation(
-            @Valid @RequestBody DonationRequest request) {
-        DonationResponse response = donationService.createDonation(request, null);
-        return ResponseEntity.status(HttpStatus.CREATED)
-                .body(ApiResponse.success("Thank you for your donation! Your contribution makes a difference.", response));
+    @Operation(summary = "Create donation", description = "Record a new donation. Retries sending the same " +
+            "Idempotency-Key get the original response instead of recording the donation again")
+    public ResponseEntity<byte[]> createDonation(
+            @Valid @RequestBody DonationRequest request,
+            @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey) {
+        return idempotencyService.execute("donations", idempotencyKey, request, () -> {
+            DonationResponse response = donationService.createDonation(request, null);
+            return ResponseEntity.status(HttpStatus.CREATED)
+                    .body(ApiResponse.success("Thank you for your donation! Your contribution makes a difference.", response));
+        });
     }
 }
\ No newline at end of file
@@ -1,6 +1,7 @@
 package com.generalgivers.foundation.controller;
 
 import com.generalgivers.foundation.dto.common.ApiResponse;
+import com.generalgivers.foundation.dto.event.EventOccurrenceRequest;
 import com.generalgivers.foundation.dto.event.EventRequest;
 import com.generalgivers.foundation.dto.event.EventResponse;
 import com.generalgivers.foundation.service.EventService;
@@ -36,7 +37,8 @@ public class EventController {
     }
 
     @GetMapping("/range")
-    @Operation(summary = "Get events in date range", description = "Retrieve events between start and end dates")
+    @Operation(summary = "Get events in date range",
+            description = "Retrieve events between start and end dates, with recurring events expanded into their occurrences")
     public ResponseEntity<ApiResponse<List<EventResponse>>> getEventsBetweenDates(
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate) {
@@ -82,4 +84,29 @@ public class EventController {
         eventService.deleteEvent(id, userEmail);
         return ResponseEntity.ok(ApiResponse.success("Event deleted successfully", null));
     }
-}
\ No newline at end of file
+
+    @PutMapping("/{id}/occurrences")
+    @Operation(summary = "Update event occurrence",
+            description = "Cancel or change a single occurrence of a recurring event, identified by its original start")
+    public ResponseEntity<ApiResponse<EventResponse>> updateOccurrence(
+            @PathVariable UUID id,
+            @Valid @RequestBody EventOccurrenceRequest request,
+            Authentication authentication) {
+        String userEmail = authentication.getName();
+        EventResponse occurrence = eventService.updateOccurrence(id, request, userEmail);
+        return ResponseEntity.ok(ApiResponse.success(
+                occurrence != null ? "Occurrence updated successfully" : "Occurrence cancelled successfully", occurrence));
+    }
+
+    @DeleteMapping("/{id}/occurrences")
+    @Operation(summary = "Restore event occurrence",
+            description = "Remove the changes made to a single occurrence of a recurring event")
+    public ResponseEntity<ApiResponse<EventResponse>> restoreOccurrence(
+            @PathVariable UUID id,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime occurrenceStart,
+            Authentication authentication) {
+        String userEmail = authentication.getName();
+        EventResponse occurrence = eventService.restoreOccurrence(id, occurrenceStart, userEmail);
+        return ResponseEntity.ok(ApiResponse.success("Occurrence restored successfully", occurrence));
+    }
+}
@@ -0,0 +1,31 @@
+package com.generalgivers.foundation.controller;
+
+import com.generalgivers.foundation.dto.common.ApiResponse;
+import com.generalgivers.foundation.service.geo.GeocodingBackfillService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+@RestController
+@RequestMapping("/geo")
+@RequiredArgsConstructor
+@SecurityRequirement(name = "bearerAuth")
+@Tag(name = "Geo", description = "Geocoding of children homes and visits")
+public class GeoController {
+
+    private final GeocodingBackfillService geocodingBackfillService;
+
+    @PostMapping("/backfill")
+    @PreAuthorize("hasRole('SUPER_USER')")
+    @Operation(summary = "Backfill coordinates", description = "Geocode children homes and visits without coordinates from the offline gazetteer")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> backfill() {
+        Map<String, Object> result = geocodingBackfillService.backfill();
+        return ResponseEntity.ok(ApiResponse.success("Geocoding backfill completed", result));
+    }
+}
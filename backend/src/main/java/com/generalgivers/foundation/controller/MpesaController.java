@@ -5,6 +5,7 @@ import com.generalgivers.foundation.dto.mpesa.StkCallback;
 import com.generalgivers.foundation.dto.mpesa.StkPushResponse;
 import com.generalgivers.foundation.entity.Donation;
 import com.generalgivers.foundation.service.MpesaService;
+import com.generalgivers.foundation.service.idempotency.IdempotencyService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
@@ -25,10 +26,17 @@ import java.util.Optional;
 public class MpesaController {
 
     private final MpesaService mpesaService;
+    private final IdempotencyService idempotencyService;
 
     @PostMapping("/stk-push")
     @Operation(summary = "Initiate STK Push", description = "Sends STK Push prompt to customer's phone for payment")
-    public ResponseEntity<Map<String, Object>> initiateStkPush(@Valid @RequestBody MpesaPaymentRequest request) {
+    public ResponseEntity<byte[]> initiateStkPush(
+            @Valid @RequestBody MpesaPaymentRequest request,
+            @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey) {
+        return idempotencyService.execute("stk-push", idempotencyKey, request, () -> sendStkPush(request));
+    }
+
+    private ResponseEntity<Map<String, Object>> sendStkPush(MpesaPaymentRequest request) {
         log.info("Initiating STK Push for phone: {}, amount: {}",
                 request.getPhoneNumber(), request.getAmount());
 
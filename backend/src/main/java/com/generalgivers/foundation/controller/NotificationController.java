@@ -2,6 +2,8 @@ package com.generalgivers.foundation.controller;
 
 import com.generalgivers.foundation.dto.notification.NotificationResponse;
 import com.generalgivers.foundation.dto.notification.NotificationsPageResponse;
+import com.generalgivers.foundation.entity.User;
+import com.generalgivers.foundation.security.CurrentUser;
 import com.generalgivers.foundation.service.NotificationService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
@@ -29,23 +31,20 @@ public class NotificationController {
     public ResponseEntity<NotificationsPageResponse> getNotifications(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "20") int size,
-            Authentication authentication) {
-        String userEmail = authentication.getName();
-        return ResponseEntity.ok(notificationService.getUserNotifications(userEmail, page, size));
+            @CurrentUser User user) {
+        return ResponseEntity.ok(notificationService.getUserNotifications(user, page, size));
     }
 
     @GetMapping("/unread")
     @Operation(summary = "Get unread notifications", description = "Get all unread notifications for user")
-    public ResponseEntity<List<NotificationResponse>> getUnreadNotifications(Authentication authentication) {
-        String userEmail = authentication.getName();
-        return ResponseEntity.ok(notificationService.getUnreadNotifications(userEmail));
+    public ResponseEntity<List<NotificationResponse>> getUnreadNotifications(@CurrentUser User user) {
+        return ResponseEntity.ok(notificationService.getUnreadNotifications(user));
     }
 
     @GetMapping("/unread/count")
     @Operation(summary = "Get unread count", description = "Get count of unread notifications")
-    public ResponseEntity<Map<String, Long>> getUnreadCount(Authentication authentication) {
-        String userEmail = authentication.getName();
-        long count = notificationService.getUnreadCount(userEmail);
+    public ResponseEntity<Map<String, Long>> getUnreadCount(@CurrentUser User user) {
+        long count = notificationService.getUnreadCount(user);
         return ResponseEntity.ok(Map.of("count", count));
     }
 
@@ -59,9 +58,8 @@ public class NotificationController {
 
     @PatchMapping("/read-all")
     @Operation(summary = "Mark all as read", description = "Mark all notifications as read for user")
-    public ResponseEntity<Void> markAllAsRead(Authentication authentication) {
-        String userEmail = authentication.getName();
-        notificationService.markAllAsRead(userEmail);
+    public ResponseEntity<Void> markAllAsRead(@CurrentUser User user) {
+        notificationService.markAllAsRead(user);
         return ResponseEntity.ok().build();
     }
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package com.generalgivers.foundation.controller;
 
+import com.generalgivers.foundation.dto.upload.FileDownload;
 import com.generalgivers.foundation.dto.upload.UploadResponse;
 import com.generalgivers.foundation.dto.user.UpdateProfileRequest;
 import com.generalgivers.foundation.dto.user.UserResponse;
@@ -13,12 +14,14 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.core.io.Resource;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.net.URI;
 import java.util.UUID;
 
 @RestController
@@ -71,15 +74,18 @@ public class ProfileController {
     public ResponseEntity<Resource> getProfilePicture(@PathVariable String uploadId) {
         try {
             UUID id = UUID.fromString(uploadId);
-            Resource resource = uploadService.downloadFile(id);
-            String contentType = uploadService.getContentType(id);
-            String originalFileName = uploadService.getOriginalFileName(id);
+            FileDownload download = uploadService.prepareDownload(id, false);
+            if (download.isRedirect()) {
+                return ResponseEntity.status(HttpStatus.FOUND)
+                        .location(URI.create(download.getRedirectUrl().toString()))
+                        .build();
+            }
 
             return ResponseEntity.ok()
-                    .contentType(MediaType.parseMediaType(contentType))
+                    .contentType(MediaType.parseMediaType(download.getContentType()))
                     .header(HttpHeaders.CACHE_CONTROL, "max-age=3600")
-                    .header(HttpHeaders.CONTENT_DISPOSITION, "inline; filename=\"" + originalFileName + "\"")
-                    .body(resource);
+                    .header(HttpHeaders.CONTENT_DISPOSITION, "inline; filename=\"" + download.getOriginalFileName() + "\"")
+                    .body(download.getResource());
         } catch (IllegalArgumentException e) {
             log.error("Invalid upload ID format: {}", uploadId);
             return ResponseEntity.notFound().build();
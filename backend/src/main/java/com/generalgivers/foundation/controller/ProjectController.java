@@ -5,6 +5,8 @@ import com.generalgivers.foundation.dto.project.ProjectRequest;
 import com.generalgivers.foundation.dto.project.ProjectResponse;
 import com.generalgivers.foundation.entity.ProjectStatus;
 import com.generalgivers.foundation.service.ProjectService;
+import com.generalgivers.foundation.service.cache.AggregateVersions;
+import com.generalgivers.foundation.service.cache.ResponseCache;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -15,6 +17,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 import java.util.UUID;
@@ -26,25 +29,20 @@ import java.util.UUID;
 public class ProjectController {
 
     private final ProjectService projectService;
+    private final ResponseCache responseCache;
 
     @GetMapping
     @Operation(summary = "Get all projects", description = "Retrieve list of all projects")
-    public ResponseEntity<ApiResponse<List<ProjectResponse>>> getAllProjects() {
-        List<ProjectResponse> projects = projectService.getAllProjects();
-        return ResponseEntity.ok(ApiResponse.success(
-            "Projects retrieved successfully", 
-            projects
-        ));
+    public ResponseEntity<byte[]> getAllProjects(WebRequest request) {
+        return responseCache.getPublic(AggregateVersions.PROJECTS, "all", request,
+                () -> ApiResponse.success("Projects retrieved successfully", projectService.getAllProjects()));
     }
 
     @GetMapping("/active")
     @Operation(summary = "Get active projects", description = "Retrieve list of active projects")
-    public ResponseEntity<ApiResponse<List<ProjectResponse>>> getActiveProjects() {
-        List<ProjectResponse> projects = projectService.getActiveProjects();
-        return ResponseEntity.ok(ApiResponse.success(
-            "Active projects retrieved successfully", 
-            projects
-        ));
+    public ResponseEntity<byte[]> getActiveProjects(WebRequest request) {
+        return responseCache.getPublic(AggregateVersions.PROJECTS, "active", request,
+                () -> ApiResponse.success("Active projects retrieved successfully", projectService.getActiveProjects()));
     }
 
     @GetMapping("/status/{status}")
@@ -59,12 +57,9 @@ public class ProjectController {
 
     @GetMapping("/{id}")
     @Operation(summary = "Get project by ID", description = "Retrieve project details by ID")
-    public ResponseEntity<ApiResponse<ProjectResponse>> getProjectById(@PathVariable UUID id) {
-        ProjectResponse project = projectService.getProjectById(id);
-        return ResponseEntity.ok(ApiResponse.success(
-            "Project retrieved successfully", 
-            project
-        ));
+    public ResponseEntity<byte[]> getProjectById(@PathVariable UUID id, WebRequest request) {
+        return responseCache.getPrivate(AggregateVersions.PROJECTS, "id:" + id, request,
+                () -> ApiResponse.success("Project retrieved successfully", projectService.getProjectById(id)));
     }
 
     @PostMapping
@@ -1,6 +1,7 @@
 package com.generalgivers.foundation.controller;
 
 import com.generalgivers.foundation.dto.common.ApiResponse;
+import com.generalgivers.foundation.dto.report.DonationMethodReport;
 import com.generalgivers.foundation.dto.report.MonthlyFundsReport;
 import com.generalgivers.foundation.dto.report.ProjectProgressReport;
 import com.generalgivers.foundation.dto.report.UserRoleReport;
@@ -40,6 +41,18 @@ public class ReportController {
         ));
     }
 
+    @GetMapping("/donations-by-method")
+    @PreAuthorize("hasAnyRole('SUPER_USER', 'CHAIRPERSON', 'TREASURER', 'SECRETARY_GENERAL')")
+    @Operation(summary = "Get donations by payment method", description = "Get donation counts and amounts by payment method and status")
+    public ResponseEntity<ApiResponse<List<DonationMethodReport>>> getDonationMethodReport(Authentication authentication) {
+        String userEmail = authentication.getName();
+        List<DonationMethodReport> reports = reportService.getDonationMethodReport(userEmail);
+        return ResponseEntity.ok(ApiResponse.success(
+            "Donation method report generated successfully", 
+            reports
+        ));
+    }
+
     @GetMapping("/projects-progress")
     @PreAuthorize("hasAnyRole('SUPER_USER', 'CHAIRPERSON', 'TREASURER', 'SECRETARY_GENERAL')")
     @Operation(summary = "Get project progress report", description = "Get all projects with funding progress")
@@ -0,0 +1,41 @@
+package com.generalgivers.foundation.controller;
+
+import com.generalgivers.foundation.dto.common.ApiResponse;
+import com.generalgivers.foundation.dto.search.SearchResponse;
+import com.generalgivers.foundation.dto.search.SearchResultType;
+import com.generalgivers.foundation.service.SearchService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/search")
+@RequiredArgsConstructor
+@SecurityRequirement(name = "bearerAuth")
+@Tag(name = "Search", description = "Full-text search endpoints")
+public class SearchController {
+
+    private final SearchService searchService;
+
+    @GetMapping
+    @PreAuthorize("hasAnyRole('SUPER_USER', 'CHAIRPERSON', 'SECRETARY_GENERAL', 'VICE_CHAIRPERSON', 'TREASURER', 'VICE_SECRETARY', 'ORGANIZING_SECRETARY', 'COMMITTEE_MEMBER')")
+    @Operation(summary = "Search", description = "Ranked full-text search across projects, children homes, visits and events. " +
+            "Supports quoted phrases, OR and -exclusions; matches are wrapped in <mark> in the highlight.")
+    public ResponseEntity<ApiResponse<SearchResponse>> search(
+            @RequestParam("q") String query,
+            @RequestParam(value = "types", required = false) List<SearchResultType> types,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        SearchResponse response = searchService.search(query, types, page, size);
+        return ResponseEntity.ok(ApiResponse.success("Search completed successfully", response));
+    }
+}
@@ -1,9 +1,11 @@
 package com.generalgivers.foundation.controller;
 
 import com.generalgivers.foundation.dto.common.ApiResponse;
+import com.generalgivers.foundation.dto.upload.FileDownload;
 import com.generalgivers.foundation.dto.upload.UploadResponse;
 import com.generalgivers.foundation.entity.ModuleType;
 import com.generalgivers.foundation.service.UploadService;
+import com.generalgivers.foundation.service.storage.StorageMigrationService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -18,7 +20,9 @@ import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.net.URI;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 @RestController
@@ -29,6 +33,7 @@ import java.util.UUID;
 public class UploadController {
 
     private final UploadService uploadService;
+    private final StorageMigrationService storageMigrationService;
 
     @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     @PreAuthorize("hasAnyRole('SUPER_USER', 'CHAIRPERSON', 'SECRETARY_GENERAL', 'VICE_CHAIRPERSON', 'TREASURER', 'VICE_SECRETARY', 'ORGANIZING_SECRETARY', 'COMMITTEE_MEMBER')")
@@ -86,16 +91,39 @@ public class UploadController {
     }
 
     @GetMapping("/{id}/download")
-    @Operation(summary = "Download file", description = "Download a file by upload ID")
+    @Operation(summary = "Download file", description = "Download a file by upload ID, redirecting to a presigned URL when the storage backend supports it")
     public ResponseEntity<Resource> downloadFile(@PathVariable UUID id) {
-        Resource resource = uploadService.downloadFile(id);
-        String contentType = uploadService.getContentType(id);
-        String originalFileName = uploadService.getOriginalFileName(id);
+        FileDownload download = uploadService.prepareDownload(id, true);
+        if (download.isRedirect()) {
+            return ResponseEntity.status(HttpStatus.FOUND)
+                    .location(URI.create(download.getRedirectUrl().toString()))
+                    .build();
+        }
 
         return ResponseEntity.ok()
-                .contentType(MediaType.parseMediaType(contentType))
-                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + originalFileName + "\"")
-                .body(resource);
+                .contentType(MediaType.parseMediaType(download.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + download.getOriginalFileName() + "\"")
+                .body(download.getResource());
+    }
+
+    @PostMapping("/storage/migrate")
+    @PreAuthorize("hasRole('SUPER_USER')")
+    @Operation(summary = "Migrate storage", description = "Start copying all uploaded files from one storage backend to another in the background")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> migrateStorage(
+            @RequestParam String from,
+            @RequestParam String to,
+            @RequestParam(defaultValue = "false") boolean deleteSource) {
+        Map<String, Object> result = storageMigrationService.start(from, to, deleteSource);
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(ApiResponse.success("Storage migration started", result));
+    }
+
+    @GetMapping("/storage/migrate")
+    @PreAuthorize("hasRole('SUPER_USER')")
+    @Operation(summary = "Storage migration status", description = "Progress of the running storage migration, or the outcome of the last one")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getStorageMigrationStatus() {
+        return ResponseEntity.ok(ApiResponse.success("Storage migration status retrieved successfully",
+                storageMigrationService.status()));
     }
 
     @DeleteMapping("/{id}")
@@ -37,6 +37,18 @@ public class VisitController {
         return ResponseEntity.ok(ApiResponse.success("Visits retrieved successfully", visits));
     }
 
+    @GetMapping("/nearby")
+    @PreAuthorize("hasAnyRole('SUPER_USER', 'CHAIRPERSON', 'SECRETARY_GENERAL', 'VICE_CHAIRPERSON', 'TREASURER', 'VICE_SECRETARY', 'ORGANIZING_SECRETARY', 'COMMITTEE_MEMBER')")
+    @Operation(summary = "Find nearby visits", description = "Visits nearest a point, optionally within a radius in kilometres")
+    public ResponseEntity<ApiResponse<List<VisitResponse>>> getNearbyVisits(
+            @RequestParam double latitude,
+            @RequestParam double longitude,
+            @RequestParam(required = false) Double radiusKm,
+            @RequestParam(defaultValue = "20") int limit) {
+        List<VisitResponse> visits = visitService.getNearbyVisits(latitude, longitude, radiusKm, limit);
+        return ResponseEntity.ok(ApiResponse.success("Nearby visits retrieved successfully", visits));
+    }
+
     @GetMapping("/{id}")
     @PreAuthorize("hasAnyRole('SUPER_USER', 'CHAIRPERSON', 'SECRETARY_GENERAL', 'VICE_CHAIRPERSON', 'TREASURER', 'VICE_SECRETARY', 'ORGANIZING_SECRETARY', 'COMMITTEE_MEMBER')")
     @Operation(summary = "Get visit by ID", description = "Retrieve visit details by ID")
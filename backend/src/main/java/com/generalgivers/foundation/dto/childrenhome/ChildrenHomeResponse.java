@@ -19,7 +19,11 @@ public class ChildrenHomeResponse {
     private String city;
     private String town;
     private String village;
+    private Double latitude;
+    private Double longitude;
+    private Double distanceKm;
     private String contact;
     private String notes;
     private LocalDateTime createdAt;
+    private ChildrenHomeVisitStatsResponse visitStats;
 }
@@ -0,0 +1,25 @@
+package com.generalgivers.foundation.dto.childrenhome;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChildrenHomeVisitStatsResponse {
+    private long visitCount;
+    private LocalDate firstVisitDate;
+    private LocalDate lastVisitDate;
+    private Map<Integer, Long> visitsByYear;
+    private long participantCount;
+    private long distinctParticipantCount;
+    private long photoCount;
+    private LocalDateTime updatedAt;
+}
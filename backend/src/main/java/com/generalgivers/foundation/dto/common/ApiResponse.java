@@ -1,5 +1,6 @@
 package com.generalgivers.foundation.dto.common;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -15,6 +16,10 @@ public class ApiResponse<T> {
     private boolean success;
     private String message;
     private T data;
+    /**
+     * Left out of responses served from ResponseCache
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     private LocalDateTime timestamp;
 
     public static <T> ApiResponse<T> success(String message, T data) {
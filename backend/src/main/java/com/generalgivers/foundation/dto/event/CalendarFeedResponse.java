@@ -0,0 +1,16 @@
+package com.generalgivers.foundation.dto.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CalendarFeedResponse {
+
+    private String allEventsUrl;
+    private String myEventsUrl;
+}
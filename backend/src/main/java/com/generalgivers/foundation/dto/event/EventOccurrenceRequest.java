@@ -0,0 +1,32 @@
+package com.generalgivers.foundation.dto.event;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EventOccurrenceRequest {
+
+    @NotNull(message = "Occurrence start is required")
+    private LocalDateTime occurrenceStart;
+
+    private Boolean cancelled;
+
+    @Size(max = 255, message = "Title must not exceed 255 characters")
+    private String title;
+
+    @Size(max = 2000, message = "Description must not exceed 2000 characters")
+    private String description;
+
+    private LocalDateTime startDateTime;
+
+    private LocalDateTime endDateTime;
+}
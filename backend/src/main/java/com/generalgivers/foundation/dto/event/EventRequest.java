@@ -32,4 +32,7 @@ public class EventRequest {
     private String colorCategory;
 
     private Integer reminderMinutes;
+
+    @Size(max = 500, message = "Recurrence rule must not exceed 500 characters")
+    private String recurrenceRule;
 }
\ No newline at end of file
@@ -22,6 +22,10 @@ public class EventResponse {
     private String colorCategory;
     private Integer reminderMinutes;
     private Boolean reminderSent;
+    private String recurrenceRule;
+    private LocalDateTime recurrenceEnd;
+    private LocalDateTime occurrenceStart;
+    private Boolean modified;
     private UUID createdById;
     private String createdByName;
     private LocalDateTime createdAt;
@@ -0,0 +1,20 @@
+package com.generalgivers.foundation.dto.report;
+
+import com.generalgivers.foundation.entity.DonationStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DonationMethodReport {
+    private String method;
+    private DonationStatus status;
+    private BigDecimal totalAmount;
+    private long donationCount;
+}
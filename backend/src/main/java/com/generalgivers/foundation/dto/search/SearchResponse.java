@@ -0,0 +1,22 @@
+package com.generalgivers.foundation.dto.search;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SearchResponse {
+
+    private String query;
+    private List<SearchResult> results;
+    private int currentPage;
+    private int totalPages;
+    private long totalElements;
+    private boolean hasMore;
+}
@@ -0,0 +1,25 @@
+package com.generalgivers.foundation.dto.search;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SearchResult {
+    private SearchResultType type;
+    private UUID id;
+    private String title;
+    /**
+     * HTML fragment: the matching text, escaped, with matched terms wrapped in mark elements
+     */
+    private String highlight;
+    private double rank;
+    private LocalDateTime date;
+}
@@ -0,0 +1,8 @@
+package com.generalgivers.foundation.dto.search;
+
+public enum SearchResultType {
+    PROJECT,
+    CHILDREN_HOME,
+    VISIT,
+    EVENT
+}
@@ -0,0 +1,27 @@
+package com.generalgivers.foundation.dto.upload;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.core.io.Resource;
+
+import java.net.URL;
+
+/**
+ * Either a presigned URL the client should be redirected to, or the file streamed through the API
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FileDownload {
+    private URL redirectUrl;
+    private Resource resource;
+    private String contentType;
+    private String originalFileName;
+
+    public boolean isRedirect() {
+        return redirectUrl != null;
+    }
+}
@@ -21,6 +21,9 @@ public class VisitResponse {
     private String city;
     private String town;
     private String village;
+    private Double latitude;
+    private Double longitude;
+    private Double distanceKm;
     private UUID childrenHomeId;
     private String childrenHomeName;
     private String notes;
@@ -1,10 +1,13 @@
 package com.generalgivers.foundation.entity;
 
+import com.generalgivers.foundation.config.HibernateCacheConfig;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
@@ -18,6 +21,7 @@ import java.util.UUID;
 @NoArgsConstructor
 @AllArgsConstructor
 @EntityListeners(AuditingEntityListener.class)
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = HibernateCacheConfig.CHILDREN_HOMES)
 public class ChildrenHome {
 
     @Id
@@ -35,6 +39,10 @@ public class ChildrenHome {
 
     private String village;
 
+    private Double latitude;
+
+    private Double longitude;
+
     private String contact;
 
     @Column(columnDefinition = "TEXT")
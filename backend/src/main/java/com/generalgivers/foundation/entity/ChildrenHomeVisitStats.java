@@ -0,0 +1,61 @@
+package com.generalgivers.foundation.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Visit statistics of one children home, recomputed whenever one of its visits is written
+ */
+@Entity
+@Table(name = "children_home_visit_stats")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChildrenHomeVisitStats {
+
+    @Id
+    @Column(name = "children_home_id")
+    private UUID childrenHomeId;
+
+    @Column(name = "visit_count", nullable = false)
+    private long visitCount;
+
+    @Column(name = "first_visit_date")
+    private LocalDate firstVisitDate;
+
+    @Column(name = "last_visit_date")
+    private LocalDate lastVisitDate;
+
+    /**
+     * Number of visits keyed by year
+     */
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "visits_by_year", columnDefinition = "jsonb")
+    private Map<Integer, Long> visitsByYear;
+
+    /**
+     * Participants summed over all visits; someone on three visits counts three times
+     */
+    @Column(name = "participant_count", nullable = false)
+    private long participantCount;
+
+    @Column(name = "distinct_participant_count", nullable = false)
+    private long distinctParticipantCount;
+
+    @Column(name = "photo_count", nullable = false)
+    private long photoCount;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
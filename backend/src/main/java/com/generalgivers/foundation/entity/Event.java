@@ -1,11 +1,15 @@
 package com.generalgivers.foundation.entity;
 
+import com.generalgivers.foundation.config.HibernateCacheConfig;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import java.time.LocalDateTime;
@@ -18,6 +22,7 @@ import java.util.UUID;
 @NoArgsConstructor
 @AllArgsConstructor
 @EntityListeners(AuditingEntityListener.class)
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = HibernateCacheConfig.EVENTS)
 public class Event {
 
     @Id
@@ -36,6 +41,18 @@ public class Event {
     @Column(name = "end_date_time", nullable = false)
     private LocalDateTime endDateTime;
 
+    /**
+     * RFC 5545 RRULE value, e.g. FREQ=WEEKLY;BYDAY=TU. The start and end above are the first occurrence.
+     */
+    @Column(name = "recurrence_rule", length = 500)
+    private String recurrenceRule;
+
+    /**
+     * End of the last occurrence, or null for non-recurring events and series that never end
+     */
+    @Column(name = "recurrence_end")
+    private LocalDateTime recurrenceEnd;
+
     @Column(name = "color_category")
     @Builder.Default
     private String colorCategory = "blue";
@@ -48,6 +65,24 @@ public class Event {
     @Builder.Default
     private Boolean reminderSent = false;
 
+    /**
+     * Original start of the occurrence still owed a reminder, or null when none is pending
+     */
+    @Column(name = "reminder_occurrence")
+    private LocalDateTime reminderOccurrence;
+
+    /**
+     * When the pending reminder is due, from the occurrence's actual start
+     */
+    @Column(name = "reminder_fire_at")
+    private LocalDateTime reminderFireAt;
+
+    /**
+     * Original start of the last occurrence a reminder was sent for
+     */
+    @Column(name = "last_reminded_occurrence")
+    private LocalDateTime lastRemindedOccurrence;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "created_by")
     private User createdBy;
@@ -55,4 +90,8 @@ public class Event {
     @CreatedDate
     @Column(name = "created_at", updatable = false)
     private LocalDateTime createdAt;
+
+    @LastModifiedDate
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
 }
\ No newline at end of file
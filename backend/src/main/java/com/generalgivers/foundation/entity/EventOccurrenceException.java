@@ -0,0 +1,58 @@
+package com.generalgivers.foundation.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Change to a single occurrence of a recurring event, identified by the start the recurrence rule
+ * gives it. The occurrence is either cancelled or has any of its fields overridden.
+ */
+@Entity
+@Table(name = "event_occurrence_exceptions",
+        uniqueConstraints = @UniqueConstraint(name = "uk_event_occurrence_exceptions_event_start",
+                columnNames = {"event_id", "occurrence_start"}))
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@EntityListeners(AuditingEntityListener.class)
+public class EventOccurrenceException {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "event_id", nullable = false)
+    private Event event;
+
+    @Column(name = "occurrence_start", nullable = false)
+    private LocalDateTime occurrenceStart;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Boolean cancelled = false;
+
+    private String title;
+
+    @Column(columnDefinition = "TEXT")
+    private String description;
+
+    @Column(name = "start_date_time")
+    private LocalDateTime startDateTime;
+
+    @Column(name = "end_date_time")
+    private LocalDateTime endDateTime;
+
+    @CreatedDate
+    @Column(name = "created_at", updatable = false)
+    private LocalDateTime createdAt;
+}
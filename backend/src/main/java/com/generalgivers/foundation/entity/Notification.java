@@ -51,8 +51,9 @@ public class Notification {
     @Builder.Default
     private Boolean isRead = false;
 
+    // The foreign key is declared by V27 on the partitioned table, not generated from the mapping
     @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "user_id")
+    @JoinColumn(name = "user_id", foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
     private User user;
 
     @Column(name = "is_global")
@@ -62,6 +62,12 @@ public class User {
     @Column(name = "member_number", unique = true)
     private String memberNumber;
 
+    /**
+     * Secret in this user's calendar feed URLs; calendar clients cannot send a bearer token
+     */
+    @Column(name = "calendar_token", unique = true, length = 64)
+    private String calendarToken;
+
     @CreatedDate
     @Column(name = "created_at", updatable = false)
     private LocalDateTime createdAt;
@@ -39,6 +39,13 @@ public class Visit {
 
     private String village;
 
+    /**
+     * Where the visit took place; when empty the visit is located at its children home
+     */
+    private Double latitude;
+
+    private Double longitude;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "children_home_id")
     private ChildrenHome childrenHome;
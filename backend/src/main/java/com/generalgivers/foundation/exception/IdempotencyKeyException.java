@@ -0,0 +1,19 @@
+package com.generalgivers.foundation.exception;
+
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+
+/**
+ * An Idempotency-Key that cannot be honoured: reused for a different request, or its original
+ * request is still running
+ */
+@Getter
+public class IdempotencyKeyException extends RuntimeException {
+
+    private final HttpStatus status;
+
+    public IdempotencyKeyException(HttpStatus status, String message) {
+        super(message);
+        this.status = status;
+    }
+}
@@ -1,16 +1,37 @@
 package com.generalgivers.foundation.repository;
 
 import com.generalgivers.foundation.entity.ChildrenHome;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
 public interface ChildrenHomeRepository extends JpaRepository<ChildrenHome, UUID> {
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @Override
+    List<ChildrenHome> findAll();
+
     List<ChildrenHome> findByNameContainingIgnoreCase(String name);
 
     List<ChildrenHome> findByLocation(String location);
+
+    @Query("SELECT h.id AS id, h.latitude AS latitude, h.longitude AS longitude FROM ChildrenHome h " +
+            "WHERE h.latitude IS NOT NULL AND h.longitude IS NOT NULL")
+    List<GeoPoint> findAllGeoPoints();
+
+    /**
+     * Row-lock the children home to serialize work derived from its visits. NO KEY UPDATE does not
+     * conflict with the key-share locks taken by concurrent visit inserts referencing the home.
+     */
+    @Query(value = "SELECT id FROM children_homes WHERE id = :id FOR NO KEY UPDATE", nativeQuery = true)
+    Optional<UUID> lockById(@Param("id") UUID id);
 }
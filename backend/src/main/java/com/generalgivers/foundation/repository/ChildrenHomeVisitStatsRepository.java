@@ -0,0 +1,59 @@
+package com.generalgivers.foundation.repository;
+
+import com.generalgivers.foundation.entity.ChildrenHomeVisitStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface ChildrenHomeVisitStatsRepository extends JpaRepository<ChildrenHomeVisitStats, UUID> {
+
+    @Query("SELECT h.id FROM ChildrenHome h WHERE NOT EXISTS " +
+            "(SELECT 1 FROM ChildrenHomeVisitStats s WHERE s.childrenHomeId = h.id)")
+    List<UUID> findChildrenHomeIdsWithoutStats();
+
+    @Query(value = "SELECT COUNT(*) AS visitCount, MIN(visit_date) AS firstVisitDate, MAX(visit_date) AS lastVisitDate, " +
+            "COALESCE(SUM(CASE WHEN jsonb_typeof(participants) = 'array' THEN jsonb_array_length(participants) END), 0) AS participantCount, " +
+            "COALESCE(SUM(CASE WHEN jsonb_typeof(photos) = 'array' THEN jsonb_array_length(photos) END), 0) AS photoCount " +
+            "FROM visits WHERE children_home_id = :childrenHomeId",
+            nativeQuery = true)
+    VisitTotals computeVisitTotals(@Param("childrenHomeId") UUID childrenHomeId);
+
+    /**
+     * Participants are told apart by name, ignoring case and surrounding whitespace
+     */
+    @Query(value = "SELECT COUNT(DISTINCT lower(btrim(p.name))) FROM visits v " +
+            "CROSS JOIN LATERAL jsonb_array_elements_text(" +
+            "CASE WHEN jsonb_typeof(v.participants) = 'array' THEN v.participants ELSE CAST('[]' AS jsonb) END) AS p(name) " +
+            "WHERE v.children_home_id = :childrenHomeId AND btrim(p.name) <> ''",
+            nativeQuery = true)
+    long countDistinctParticipants(@Param("childrenHomeId") UUID childrenHomeId);
+
+    @Query(value = "SELECT CAST(EXTRACT(YEAR FROM visit_date) AS INTEGER) AS year, COUNT(*) AS visits " +
+            "FROM visits WHERE children_home_id = :childrenHomeId GROUP BY 1 ORDER BY 1",
+            nativeQuery = true)
+    List<YearCount> countVisitsByYear(@Param("childrenHomeId") UUID childrenHomeId);
+
+    interface VisitTotals {
+        long getVisitCount();
+
+        LocalDate getFirstVisitDate();
+
+        LocalDate getLastVisitDate();
+
+        long getParticipantCount();
+
+        long getPhotoCount();
+    }
+
+    interface YearCount {
+        int getYear();
+
+        long getVisits();
+    }
+}
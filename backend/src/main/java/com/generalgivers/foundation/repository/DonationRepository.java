@@ -5,6 +5,7 @@ import com.generalgivers.foundation.entity.DonationStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
@@ -16,15 +17,18 @@ import java.util.UUID;
 @Repository
 public interface DonationRepository extends JpaRepository<Donation, UUID> {
 
+    @EntityGraph(attributePaths = {"project", "donorUser"})
     List<Donation> findByDonorUserId(UUID donorUserId);
 
     // M-Pesa related queries
+    @EntityGraph(attributePaths = "project")
     Optional<Donation> findByCheckoutRequestId(String checkoutRequestId);
 
     Optional<Donation> findByMerchantRequestId(String merchantRequestId);
 
     List<Donation> findByPhoneNumber(String phoneNumber);
 
+    @EntityGraph(attributePaths = {"project", "donorUser"})
     List<Donation> findByProjectId(UUID projectId);
 
     List<Donation> findByStatus(DonationStatus status);
@@ -44,12 +48,6 @@ public interface DonationRepository extends JpaRepository<Donation, UUID> {
     BigDecimal getTotalDonationsByDateRange(@Param("startDate") LocalDateTime startDate,
                                             @Param("endDate") LocalDateTime endDate);
 
-    @Query("SELECT d FROM Donation d ORDER BY d.date DESC")
+    @Query("SELECT d FROM Donation d LEFT JOIN FETCH d.project LEFT JOIN FETCH d.donorUser ORDER BY d.date DESC")
     List<Donation> findAllOrderByDateDesc();
-
-    @Query("SELECT FUNCTION('DATE_TRUNC', 'month', d.date) as month, SUM(d.amount) as total " +
-           "FROM Donation d WHERE EXTRACT(YEAR FROM d.date) = :year AND d.status = 'COMPLETED' " +
-           "GROUP BY FUNCTION('DATE_TRUNC', 'month', d.date) " +
-           "ORDER BY month")
-    List<Object[]> getMonthlyDonationsForYear(@Param("year") int year);
 }
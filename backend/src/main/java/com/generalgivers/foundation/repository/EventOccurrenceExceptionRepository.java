@@ -0,0 +1,36 @@
+package com.generalgivers.foundation.repository;
+
+import com.generalgivers.foundation.entity.EventOccurrenceException;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface EventOccurrenceExceptionRepository extends JpaRepository<EventOccurrenceException, UUID> {
+
+    Optional<EventOccurrenceException> findByEventIdAndOccurrenceStart(UUID eventId, LocalDateTime occurrenceStart);
+
+    /**
+     * Exceptions whose original occurrence starts in the (padded) window, or that were moved into it
+     */
+    @Query("SELECT x FROM EventOccurrenceException x WHERE x.event.id IN :eventIds AND " +
+            "((x.occurrenceStart >= :from AND x.occurrenceStart < :to) OR " +
+            "(x.startDateTime < :to AND x.endDateTime > :from))")
+    List<EventOccurrenceException> findForWindow(@Param("eventIds") Collection<UUID> eventIds,
+                                                 @Param("from") LocalDateTime from,
+                                                 @Param("to") LocalDateTime to);
+
+    List<EventOccurrenceException> findByEventIdIn(Collection<UUID> eventIds);
+
+    @Modifying
+    @Query("DELETE FROM EventOccurrenceException x WHERE x.event.id = :eventId")
+    int deleteByEventId(@Param("eventId") UUID eventId);
+}
@@ -4,6 +4,7 @@ import com.generalgivers.foundation.entity.Event;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
@@ -13,12 +14,36 @@ import java.util.UUID;
 @Repository
 public interface EventRepository extends JpaRepository<Event, UUID> {
 
-    @Query("SELECT e FROM Event e WHERE e.startDateTime >= :startDate AND e.startDateTime < :endDate ORDER BY e.startDateTime")
+    @EntityGraph(attributePaths = "createdBy")
+    @Override
+    List<Event> findAll();
+
+    @Query("SELECT e FROM Event e LEFT JOIN FETCH e.createdBy WHERE e.recurrenceRule IS NULL AND e.startDateTime >= :startDate AND e.startDateTime < :endDate ORDER BY e.startDateTime")
     List<Event> findEventsBetweenDates(@Param("startDate") LocalDateTime startDate, @Param("endDate") LocalDateTime endDate);
 
-    @Query("SELECT e FROM Event e WHERE e.startDateTime >= :now AND e.startDateTime <= :reminderTime AND e.reminderSent = false")
-    List<Event> findEventsNeedingReminders(@Param("now") LocalDateTime now, @Param("reminderTime") LocalDateTime reminderTime);
+    @Query("SELECT e FROM Event e LEFT JOIN FETCH e.createdBy WHERE e.recurrenceRule IS NOT NULL AND e.startDateTime < :endDate " +
+            "AND (e.recurrenceEnd IS NULL OR e.recurrenceEnd > :startDate)")
+    List<Event> findRecurringEventsOverlapping(@Param("startDate") LocalDateTime startDate, @Param("endDate") LocalDateTime endDate);
+
+    @Query("SELECT e FROM Event e WHERE e.reminderOccurrence IS NOT NULL AND e.reminderFireAt < :horizon")
+    List<Event> findWithPendingReminders(@Param("horizon") LocalDateTime horizon);
 
     @Query("SELECT e FROM Event e WHERE e.createdBy.id = :userId ORDER BY e.startDateTime")
     List<Event> findByCreatedById(@Param("userId") UUID userId);
+
+    /**
+     * Identity and last modification of every event, enough to tell which feed entries changed
+     */
+    @Query("SELECT e.id AS id, COALESCE(e.updatedAt, e.createdAt) AS lastModified FROM Event e ORDER BY e.startDateTime, e.id")
+    List<EventStamp> findAllStamps();
+
+    @Query("SELECT e.id AS id, COALESCE(e.updatedAt, e.createdAt) AS lastModified FROM Event e " +
+            "WHERE e.createdBy.id = :userId ORDER BY e.startDateTime, e.id")
+    List<EventStamp> findStampsByCreatedById(@Param("userId") UUID userId);
+
+    interface EventStamp {
+        UUID getId();
+
+        LocalDateTime getLastModified();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,15 @@
+package com.generalgivers.foundation.repository;
+
+import java.util.UUID;
+
+/**
+ * Coordinates of an entity, read without loading it
+ */
+public interface GeoPoint {
+
+    UUID getId();
+
+    Double getLatitude();
+
+    Double getLongitude();
+}
@@ -40,8 +40,4 @@ public interface NotificationRepository extends JpaRepository<Notification, UUID
     @Modifying
     @Query("UPDATE Notification n SET n.isRead = true, n.readAt = :readAt WHERE ((n.user IS NOT NULL AND n.user.id = :userId) OR n.isGlobal = true) AND n.isRead = false")
     void markAllAsReadForUser(@Param("userId") UUID userId, @Param("readAt") LocalDateTime readAt);
-
-    @Modifying
-    @Query("DELETE FROM Notification n WHERE n.createdAt < :before")
-    void deleteOlderThan(@Param("before") LocalDateTime before);
 }
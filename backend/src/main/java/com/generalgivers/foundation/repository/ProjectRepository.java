@@ -2,9 +2,13 @@ package com.generalgivers.foundation.repository;
 
 import com.generalgivers.foundation.entity.Project;
 import com.generalgivers.foundation.entity.ProjectStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
@@ -14,6 +18,7 @@ import java.util.UUID;
 @Repository
 public interface ProjectRepository extends JpaRepository<Project, UUID> {
 
+    @EntityGraph(attributePaths = "createdBy")
     List<Project> findByStatus(ProjectStatus status);
 
     List<Project> findByCreatedById(UUID createdById);
@@ -24,9 +29,11 @@ public interface ProjectRepository extends JpaRepository<Project, UUID> {
 
     List<Project> findTop3ByOrderByCreatedAtDesc();
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     @Query("SELECT p FROM Project p LEFT JOIN FETCH p.createdBy WHERE p.status = 'ACTIVE' ORDER BY p.createdAt DESC")
     List<Project> findActiveProjects();
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     @Query("SELECT p FROM Project p LEFT JOIN FETCH p.createdBy ORDER BY p.createdAt DESC")
     List<Project> findAllOrderByCreatedAtDesc();
 }
@@ -16,6 +16,8 @@ public interface UserRepository extends JpaRepository<User, UUID> {
 
     boolean existsByEmail(String email);
 
+    Optional<User> findByCalendarToken(String calendarToken);
+
     List<User> findByRole(UserRole role);
 
     List<User> findByRoleIn(List<UserRole> roles);
@@ -32,7 +34,7 @@ public interface UserRepository extends JpaRepository<User, UUID> {
 
     List<User> findTop2ByOrderByCreatedAtDesc();
 
-    // For member number generation
-    @org.springframework.data.jpa.repository.Query("SELECT MAX(u.memberNumber) FROM User u WHERE u.memberNumber IS NOT NULL")
-    String findMaxMemberNumber();
+    // For member number generation; numbers taken by a rolled back creation are not reused
+    @org.springframework.data.jpa.repository.Query(value = "SELECT nextval('member_number_seq')", nativeQuery = true)
+    long nextMemberNumber();
 }
@@ -3,6 +3,8 @@ package com.generalgivers.foundation.repository;
 import com.generalgivers.foundation.entity.Visit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
@@ -13,14 +15,35 @@ import java.util.UUID;
 @Repository
 public interface VisitRepository extends JpaRepository<Visit, UUID> {
 
+    /**
+     * Listings map the children home and creator of every row, so they are fetched with it
+     */
+    @EntityGraph(attributePaths = {"childrenHome", "createdBy"})
+    @Override
+    List<Visit> findAll();
+
+    @EntityGraph(attributePaths = {"childrenHome", "createdBy"})
     List<Visit> findByChildrenHomeId(UUID childrenHomeId);
 
     List<Visit> findByCreatedById(UUID createdById);
 
+    @EntityGraph(attributePaths = {"childrenHome", "createdBy"})
     List<Visit> findByVisitDateBetween(LocalDate startDate, LocalDate endDate);
 
     long countByCreatedAtBetween(LocalDateTime startDate, LocalDateTime endDate);
 
-    @Query("SELECT v FROM Visit v ORDER BY v.visitDate DESC")
+    @Query("SELECT v FROM Visit v LEFT JOIN FETCH v.childrenHome LEFT JOIN FETCH v.createdBy ORDER BY v.visitDate DESC")
     List<Visit> findAllOrderByVisitDateDesc();
+
+    /**
+     * Visit coordinates, falling back to the children home's for visits without their own
+     */
+    @Query("SELECT v.id AS id, COALESCE(v.latitude, h.latitude) AS latitude, COALESCE(v.longitude, h.longitude) AS longitude " +
+            "FROM Visit v LEFT JOIN v.childrenHome h " +
+            "WHERE COALESCE(v.latitude, h.latitude) IS NOT NULL AND COALESCE(v.longitude, h.longitude) IS NOT NULL")
+    List<GeoPoint> findAllGeoPoints();
+
+    @Query("SELECT v.id AS id, COALESCE(v.latitude, h.latitude) AS latitude, COALESCE(v.longitude, h.longitude) AS longitude " +
+            "FROM Visit v JOIN v.childrenHome h WHERE h.id = :childrenHomeId AND v.latitude IS NULL")
+    List<GeoPoint> findGeoPointsLocatedAtChildrenHome(@Param("childrenHomeId") UUID childrenHomeId);
 }
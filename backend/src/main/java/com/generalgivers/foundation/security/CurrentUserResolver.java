@@ -0,0 +1,85 @@
+package com.generalgivers.foundation.security;
+
+import com.generalgivers.foundation.entity.User;
+import com.generalgivers.foundation.repository.UserRepository;
+import com.generalgivers.foundation.util.TransactionCallbacks;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.Optional;
+
+/**
+ * Resolves the authenticated User once per request. The JWT filter already loads the user to
+ * authenticate it, so that instance is kept as a request attribute and handed to controllers and
+ * services instead of every layer calling findByEmail again. Outside a web request (scheduled
+ * jobs, async listeners) it falls back to the repository.
+ *
+ * The returned entity is detached and shared by the whole request, so it must be treated as
+ * read-only. To change the user, take a managed copy with findForUpdate.
+ */
+@Component
+public class CurrentUserResolver {
+
+    private static final String ATTRIBUTE = CurrentUserResolver.class.getName() + ".USER";
+
+    private final UserRepository userRepository;
+    private final Counter requestHits;
+    private final Counter databaseLoads;
+
+    public CurrentUserResolver(UserRepository userRepository, MeterRegistry meterRegistry) {
+        this.userRepository = userRepository;
+        this.requestHits = Counter.builder("app.current_user.resolutions")
+                .description("Current-user lookups by where the User came from")
+                .tag("source", "request")
+                .register(meterRegistry);
+        this.databaseLoads = Counter.builder("app.current_user.resolutions")
+                .description("Current-user lookups by where the User came from")
+                .tag("source", "database")
+                .register(meterRegistry);
+    }
+
+    public Optional<User> findByEmail(String email) {
+        if (email == null) {
+            return Optional.empty();
+        }
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes != null
+                && attributes.getAttribute(ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) instanceof User user
+                && email.equalsIgnoreCase(user.getEmail())) {
+            requestHits.increment();
+            return Optional.of(user);
+        }
+
+        databaseLoads.increment();
+        Optional<User> user = userRepository.findByEmail(email);
+        user.ifPresent(this::remember);
+        return user;
+    }
+
+    /**
+     * The current user loaded afresh in the caller's transaction, which must be active, for
+     * changes that dirty checking then writes. The request's copy is left untouched and replaced
+     * by this one once the transaction commits.
+     */
+    public Optional<User> findForUpdate(String email) {
+        return findByEmail(email)
+                .flatMap(user -> userRepository.findById(user.getId()))
+                .map(user -> {
+                    TransactionCallbacks.afterCommit(() -> remember(user));
+                    return user;
+                });
+    }
+
+    /**
+     * Make the given user the current user for the rest of this request
+     */
+    public void remember(User user) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes != null) {
+            attributes.setAttribute(ATTRIBUTE, user, RequestAttributes.SCOPE_REQUEST);
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.generalgivers.foundation.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.generalgivers.foundation.config.RateLimitingConfig;
+import com.generalgivers.foundation.exception.ErrorResponse;
+import com.generalgivers.foundation.service.ratelimit.RateLimitDecision;
+import com.generalgivers.foundation.service.ratelimit.RateLimiter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.Set;
+
+/**
+ * Answers 429 with Retry-After once a caller's bucket for the route is empty. Authenticated
+ * callers are limited per user and anonymous ones per client IP. Every limited response carries
+ * X-RateLimit-Limit and X-RateLimit-Remaining.
+ */
+@Component
+@RequiredArgsConstructor
+public class RateLimitingFilter extends OncePerRequestFilter {
+
+    private static final Set<String> PROBE_PATHS = Set.of("/livez", "/readyz");
+
+    private final RateLimitingConfig rateLimitingConfig;
+    private final RateLimiter rateLimiter;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !rateLimitingConfig.isEnabled()
+                || "OPTIONS".equals(request.getMethod())
+                || PROBE_PATHS.contains(path(request));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        RateLimiter.Route route = rateLimiter.route(request.getMethod(), path(request));
+        RateLimitDecision decision = rateLimiter.tryAcquire(route, client(request));
+
+        response.setHeader("X-RateLimit-Limit", Integer.toString(route.limit().requestsPerMinute()));
+        response.setHeader("X-RateLimit-Remaining", Long.toString(decision.remaining()));
+        if (decision.allowed()) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(Math.max(1, decision.retryAfterSeconds())));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        ErrorResponse error = ErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(HttpStatus.TOO_MANY_REQUESTS.value())
+                .error("Too Many Requests")
+                .message("Rate limit exceeded, try again later")
+                .build();
+        objectMapper.writeValue(response.getOutputStream(), error);
+    }
+
+    private static String path(HttpServletRequest request) {
+        return request.getRequestURI().substring(request.getContextPath().length());
+    }
+
+    private String client(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.isAuthenticated()
+                && !(authentication instanceof AnonymousAuthenticationToken)) {
+            return "user:" + authentication.getName();
+        }
+        return "ip:" + clientIp(request);
+    }
+
+    private String clientIp(HttpServletRequest request) {
+        int hops = rateLimitingConfig.getForwardedHops();
+        String forwardedFor = request.getHeader("X-Forwarded-For");
+        if (hops > 0 && forwardedFor != null && !forwardedFor.isBlank()) {
+            String[] addresses = forwardedFor.split(",");
+            // Entries left of the one our outermost proxy appended are whatever the client sent
+            String address = addresses[Math.max(0, addresses.length - hops)].trim();
+            if (!address.isEmpty()) {
+                return address;
+            }
+        }
+        return request.getRemoteAddr();
+    }
+}
@@ -0,0 +1,291 @@
+package com.generalgivers.foundation.service;
+
+import com.generalgivers.foundation.config.CalendarConfig;
+import com.generalgivers.foundation.dto.event.CalendarFeedResponse;
+import com.generalgivers.foundation.entity.Event;
+import com.generalgivers.foundation.entity.EventOccurrenceException;
+import com.generalgivers.foundation.entity.User;
+import com.generalgivers.foundation.exception.ResourceNotFoundException;
+import com.generalgivers.foundation.repository.EventOccurrenceExceptionRepository;
+import com.generalgivers.foundation.repository.EventRepository;
+import com.generalgivers.foundation.repository.EventRepository.EventStamp;
+import com.generalgivers.foundation.repository.UserRepository;
+import com.generalgivers.foundation.util.ICalendarWriter;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.context.request.WebRequest;
+
+import java.nio.charset.StandardCharsets;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * iCalendar feeds of events for calendar clients, which authenticate with a per-user token in the URL.
+ *
+ * A feed is versioned by its event count and latest modification, read with one lightweight query
+ * and sent as the ETag, so polling clients mostly get 304s. When a feed did change, only events
+ * modified since they were last rendered are loaded and turned into VEVENT blocks; the rest come
+ * from a cache of rendered blocks keyed by event id and modification time. Assembled feeds are
+ * cached as bytes per version.
+ */
+@Service
+@Slf4j
+public class CalendarFeedService {
+
+    private static final String PRODUCT_ID = "-//General Givers Foundation//Events//EN";
+    private static final MediaType TEXT_CALENDAR = new MediaType("text", "calendar", StandardCharsets.UTF_8);
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private final EventRepository eventRepository;
+    private final EventOccurrenceExceptionRepository exceptionRepository;
+    private final UserRepository userRepository;
+    private final CalendarConfig calendarConfig;
+    private final String baseUrl;
+    private final ZoneId zone;
+    private final Cache<Fragment, byte[]> fragments;
+    private final Cache<String, byte[]> feeds;
+
+    public CalendarFeedService(EventRepository eventRepository,
+                               EventOccurrenceExceptionRepository exceptionRepository,
+                               UserRepository userRepository,
+                               CalendarConfig calendarConfig,
+                               @Value("${app.base-url:http://localhost:8080}") String baseUrl) {
+        this.eventRepository = eventRepository;
+        this.exceptionRepository = exceptionRepository;
+        this.userRepository = userRepository;
+        this.calendarConfig = calendarConfig;
+        this.baseUrl = baseUrl;
+        this.zone = calendarConfig.getZoneId();
+        this.fragments = Caffeine.newBuilder().maximumSize(calendarConfig.getFragmentCacheSize()).build();
+        this.feeds = Caffeine.newBuilder().maximumSize(calendarConfig.getFeedCacheSize()).build();
+    }
+
+    @Transactional
+    public CalendarFeedResponse getFeedUrls(User user) {
+        if (user.getCalendarToken() == null) {
+            user = issueToken(user);
+        }
+        return toResponse(user);
+    }
+
+    /**
+     * Replace the user's token, which stops every previously shared feed URL from working
+     */
+    @Transactional
+    public CalendarFeedResponse resetFeedUrls(User user) {
+        return toResponse(issueToken(user));
+    }
+
+    @Transactional(readOnly = true)
+    public ResponseEntity<byte[]> getAllEventsFeed(String token, WebRequest request) {
+        findOwner(token);
+        return serve("all", "General Givers Events", eventRepository.findAllStamps(), request);
+    }
+
+    @Transactional(readOnly = true)
+    public ResponseEntity<byte[]> getMyEventsFeed(String token, WebRequest request) {
+        User owner = findOwner(token);
+        return serve("user:" + owner.getId(), "General Givers - My Events",
+                eventRepository.findStampsByCreatedById(owner.getId()), request);
+    }
+
+    private ResponseEntity<byte[]> serve(String feed, String name, List<EventStamp> stamps, WebRequest request) {
+        LocalDateTime lastModified = stamps.stream().map(EventStamp::getLastModified)
+                .filter(Objects::nonNull)
+                .max(Comparator.naturalOrder())
+                .orElse(null);
+        String etag = "\"cal-" + stamps.size() + "-" + (lastModified != null ? toInstant(lastModified).toEpochMilli() : 0) + "\"";
+        CacheControl cacheControl = CacheControl.maxAge(calendarConfig.getFeedMaxAge().toSeconds(), TimeUnit.SECONDS).cachePrivate();
+
+        if (request.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(etag)
+                    .cacheControl(cacheControl)
+                    .build();
+        }
+
+        // Rendered outside the cache's compute, which would hold a lock across the event queries
+        String key = feed + "|" + etag;
+        byte[] body = feeds.getIfPresent(key);
+        if (body == null) {
+            body = render(name, stamps);
+            feeds.put(key, body);
+        }
+        return ResponseEntity.ok()
+                .contentType(TEXT_CALENDAR)
+                .eTag(etag)
+                .cacheControl(cacheControl)
+                .body(body);
+    }
+
+    private byte[] render(String name, List<EventStamp> stamps) {
+        Map<UUID, byte[]> blocks = new HashMap<>();
+        List<UUID> stale = new ArrayList<>();
+        for (EventStamp stamp : stamps) {
+            byte[] block = fragments.getIfPresent(new Fragment(stamp.getId(), stamp.getLastModified()));
+            if (block != null) {
+                blocks.put(stamp.getId(), block);
+            } else {
+                stale.add(stamp.getId());
+            }
+        }
+
+        if (!stale.isEmpty()) {
+            List<Event> events = eventRepository.findAllById(stale);
+            List<UUID> recurring = events.stream().filter(e -> e.getRecurrenceRule() != null).map(Event::getId).toList();
+            Map<UUID, List<EventOccurrenceException>> exceptions = recurring.isEmpty() ? Map.of()
+                    : exceptionRepository.findByEventIdIn(recurring).stream()
+                            .collect(Collectors.groupingBy(x -> x.getEvent().getId()));
+            for (Event event : events) {
+                byte[] block = renderEvent(event, exceptions.getOrDefault(event.getId(), List.of()));
+                fragments.put(new Fragment(event.getId(), lastModified(event)), block);
+                blocks.put(event.getId(), block);
+            }
+        }
+        log.debug("Rendered calendar feed '{}': {} events, {} re-rendered", name, stamps.size(), stale.size());
+
+        ICalendarWriter writer = new ICalendarWriter()
+                .line("BEGIN", "VCALENDAR")
+                .line("VERSION", "2.0")
+                .line("PRODID", PRODUCT_ID)
+                .line("CALSCALE", "GREGORIAN")
+                .line("METHOD", "PUBLISH")
+                .text("X-WR-CALNAME", name)
+                .line("X-WR-TIMEZONE", zone.getId())
+                .line("REFRESH-INTERVAL;VALUE=DURATION", calendarConfig.getFeedMaxAge().toString())
+                .line("X-PUBLISHED-TTL", calendarConfig.getFeedMaxAge().toString())
+                .timeZone(zone);
+        for (EventStamp stamp : stamps) {
+            // Events deleted since the stamps were read have no block
+            byte[] block = blocks.get(stamp.getId());
+            if (block != null) {
+                writer.append(block);
+            }
+        }
+        return writer.line("END", "VCALENDAR").toBytes();
+    }
+
+    private byte[] renderEvent(Event event, List<EventOccurrenceException> exceptions) {
+        ICalendarWriter writer = new ICalendarWriter();
+        Instant stamp = toInstant(lastModified(event));
+
+        writeEvent(writer, event, stamp, event.getStartDateTime(), event.getEndDateTime(),
+                event.getTitle(), event.getDescription());
+        if (event.getRecurrenceRule() != null) {
+            writer.line("RRULE", event.getRecurrenceRule());
+            exceptions.stream()
+                    .filter(x -> Boolean.TRUE.equals(x.getCancelled()))
+                    .sorted(Comparator.comparing(EventOccurrenceException::getOccurrenceStart))
+                    .forEach(x -> writer.dateTime("EXDATE", x.getOccurrenceStart(), zone));
+        }
+        endEvent(writer, event, event.getTitle());
+
+        // Modified occurrences are separate components sharing the series UID
+        exceptions.stream()
+                .filter(x -> !Boolean.TRUE.equals(x.getCancelled()))
+                .sorted(Comparator.comparing(EventOccurrenceException::getOccurrenceStart))
+                .forEach(x -> {
+                    LocalDateTime start = x.getStartDateTime() != null ? x.getStartDateTime() : x.getOccurrenceStart();
+                    LocalDateTime end = x.getEndDateTime() != null ? x.getEndDateTime()
+                            : start.plus(Duration.between(event.getStartDateTime(), event.getEndDateTime()));
+                    String title = x.getTitle() != null ? x.getTitle() : event.getTitle();
+                    writeEvent(writer, event, stamp, start, end, title,
+                            x.getDescription() != null ? x.getDescription() : event.getDescription());
+                    writer.dateTime("RECURRENCE-ID", x.getOccurrenceStart(), zone);
+                    endEvent(writer, event, title);
+                });
+
+        return writer.toBytes();
+    }
+
+    private void writeEvent(ICalendarWriter writer, Event event, Instant stamp, LocalDateTime start, LocalDateTime end,
+                            String title, String description) {
+        writer.line("BEGIN", "VEVENT")
+                .line("UID", event.getId() + "@generalgivers")
+                .utc("DTSTAMP", stamp)
+                .utc("LAST-MODIFIED", stamp)
+                .dateTime("DTSTART", start, zone)
+                .dateTime("DTEND", end, zone)
+                .text("SUMMARY", title)
+                .text("DESCRIPTION", description);
+    }
+
+    /**
+     * Alarms are sub-components and must follow all of the event's own properties
+     */
+    private void endEvent(ICalendarWriter writer, Event event, String title) {
+        Integer reminderMinutes = event.getReminderMinutes();
+        if (reminderMinutes != null && reminderMinutes > 0) {
+            writer.line("BEGIN", "VALARM")
+                    .line("ACTION", "DISPLAY")
+                    .text("DESCRIPTION", title)
+                    .line("TRIGGER", "-PT" + reminderMinutes + "M")
+                    .line("END", "VALARM");
+        }
+        writer.line("END", "VEVENT");
+    }
+
+    private User findOwner(String token) {
+        return userRepository.findByCalendarToken(token)
+                .filter(user -> !Boolean.FALSE.equals(user.getIsActive()))
+                .orElseThrow(() -> new ResourceNotFoundException("Calendar feed not found"));
+    }
+
+    /**
+     * Sets the token on the user as loaded in this transaction; the given one is the request's
+     * read-only copy and may be older than the row
+     */
+    private User issueToken(User current) {
+        User user = userRepository.findById(current.getId())
+                .orElseThrow(() -> new ResourceNotFoundException("User", "id", current.getId()));
+        byte[] bytes = new byte[32];
+        RANDOM.nextBytes(bytes);
+        user.setCalendarToken(Base64.getUrlEncoder().withoutPadding().encodeToString(bytes));
+        user = userRepository.save(user);
+        log.info("Issued calendar feed token for user: {}", user.getEmail());
+        return user;
+    }
+
+    private CalendarFeedResponse toResponse(User user) {
+        String feeds = baseUrl + "/api/v1/calendar/feeds/" + user.getCalendarToken();
+        return CalendarFeedResponse.builder()
+                .allEventsUrl(feeds + "/events.ics")
+                .myEventsUrl(feeds + "/my-events.ics")
+                .build();
+    }
+
+    private static LocalDateTime lastModified(Event event) {
+        return event.getUpdatedAt() != null ? event.getUpdatedAt() : event.getCreatedAt();
+    }
+
+    /**
+     * Audit timestamps are written in the server's zone, not the calendar zone
+     */
+    private static Instant toInstant(LocalDateTime timestamp) {
+        return timestamp.atZone(ZoneId.systemDefault()).toInstant();
+    }
+
+    private record Fragment(UUID eventId, LocalDateTime lastModified) {
+    }
+}
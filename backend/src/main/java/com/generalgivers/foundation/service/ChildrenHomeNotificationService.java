@@ -1,10 +1,12 @@
 package com.generalgivers.foundation.service;
 
+import com.generalgivers.foundation.config.AsyncConfig;
 import com.generalgivers.foundation.entity.User;
 import com.generalgivers.foundation.entity.UserRole;
 import com.generalgivers.foundation.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -16,7 +18,9 @@ public class ChildrenHomeNotificationService {
 
     private final UserRepository userRepository;
     private final MailerSendService mailerSendService;
+    private final NotificationMetrics notificationMetrics;
 
+    @Async(AsyncConfig.NOTIFICATION_EXECUTOR)
     public void notifyChildrenHomeCreated(String homeName, String creatorName) {
         try {
             // Get organizing team members
@@ -41,12 +45,14 @@ public class ChildrenHomeNotificationService {
                 );
             }
 
+            notificationMetrics.fanOut("children_home", "created", NotificationMetrics.EMAIL, organizingUsers.size());
             log.info("Children's home created notifications sent to {} organizing users", organizingUsers.size());
         } catch (Exception e) {
             log.error("Failed to send children's home created notifications", e);
         }
     }
 
+    @Async(AsyncConfig.NOTIFICATION_EXECUTOR)
     public void notifyChildrenHomeUpdated(String homeName, String updaterName) {
         try {
             // Get organizing users for updates
@@ -70,12 +76,14 @@ public class ChildrenHomeNotificationService {
                 );
             }
 
+            notificationMetrics.fanOut("children_home", "updated", NotificationMetrics.EMAIL, organizingUsers.size());
             log.info("Children's home updated notifications sent to {} organizing users", organizingUsers.size());
         } catch (Exception e) {
             log.error("Failed to send children's home updated notifications", e);
         }
     }
 
+    @Async(AsyncConfig.NOTIFICATION_EXECUTOR)
     public void notifyChildrenHomeDeleted(String homeName, String deleterName) {
         try {
             // Get admin users for deletions
@@ -99,6 +107,7 @@ public class ChildrenHomeNotificationService {
                 );
             }
 
+            notificationMetrics.fanOut("children_home", "deleted", NotificationMetrics.EMAIL, adminUsers.size());
             log.info("Children's home deleted notifications sent to {} admin users", adminUsers.size());
         } catch (Exception e) {
             log.error("Failed to send children's home deleted notifications", e);
@@ -2,17 +2,25 @@ package com.generalgivers.foundation.service;
 
 import com.generalgivers.foundation.dto.childrenhome.ChildrenHomeRequest;
 import com.generalgivers.foundation.dto.childrenhome.ChildrenHomeResponse;
+import com.generalgivers.foundation.dto.childrenhome.ChildrenHomeVisitStatsResponse;
 import com.generalgivers.foundation.entity.ChildrenHome;
 import com.generalgivers.foundation.entity.User;
 import com.generalgivers.foundation.exception.ResourceNotFoundException;
 import com.generalgivers.foundation.repository.ChildrenHomeRepository;
-import com.generalgivers.foundation.repository.UserRepository;
+import com.generalgivers.foundation.security.CurrentUserResolver;
+import com.generalgivers.foundation.service.audit.Audited;
+import com.generalgivers.foundation.service.cache.AggregateVersions;
+import com.generalgivers.foundation.service.geo.GeoIndexService;
+import com.generalgivers.foundation.util.GeoGridIndex;
+import com.generalgivers.foundation.util.TransactionCallbacks;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -20,24 +28,50 @@ import java.util.stream.Collectors;
 public class ChildrenHomeService {
 
     private final ChildrenHomeRepository childrenHomeRepository;
-    private final UserRepository userRepository;
+    private final CurrentUserResolver currentUserResolver;
     private final ChildrenHomeNotificationService childrenHomeNotificationService;
+    private final AggregateVersions aggregateVersions;
+    private final GeoIndexService geoIndexService;
+    private final ChildrenHomeVisitStatsService visitStatsService;
 
     public List<ChildrenHomeResponse> getAllChildrenHomes() {
+        Map<UUID, ChildrenHomeVisitStatsResponse> stats = visitStatsService.findAll();
         return childrenHomeRepository.findAll().stream()
-                .map(this::mapToChildrenHomeResponse)
+                .map(home -> mapToChildrenHomeResponse(home, stats.get(home.getId())))
                 .collect(Collectors.toList());
     }
 
     public ChildrenHomeResponse getChildrenHomeById(UUID id) {
         ChildrenHome childrenHome = childrenHomeRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("ChildrenHome", "id", id));
-        return mapToChildrenHomeResponse(childrenHome);
+        return mapToChildrenHomeResponse(childrenHome, visitStatsService.findByChildrenHomeIds(List.of(id)).get(id));
+    }
+
+    /**
+     * Children homes within radiusKm of a point, or the nearest ones when no radius is given,
+     * nearest first
+     */
+    @Transactional(readOnly = true)
+    public List<ChildrenHomeResponse> getNearbyChildrenHomes(double latitude, double longitude, Double radiusKm, int limit) {
+        List<GeoGridIndex.Hit<UUID>> hits = geoIndexService.nearbyChildrenHomes(latitude, longitude, radiusKm, limit);
+        Map<UUID, ChildrenHome> homes = childrenHomeRepository.findAllById(hits.stream().map(GeoGridIndex.Hit::key).toList())
+                .stream()
+                .collect(Collectors.toMap(ChildrenHome::getId, Function.identity()));
+        Map<UUID, ChildrenHomeVisitStatsResponse> stats = visitStatsService.findByChildrenHomeIds(homes.keySet());
+        return hits.stream()
+                .filter(hit -> homes.containsKey(hit.key()))
+                .map(hit -> {
+                    ChildrenHomeResponse response = mapToChildrenHomeResponse(homes.get(hit.key()), stats.get(hit.key()));
+                    response.setDistanceKm(hit.distanceKm());
+                    return response;
+                })
+                .collect(Collectors.toList());
     }
 
     @Transactional
+    @Audited(action = "CREATE", entity = "ChildrenHome")
     public ChildrenHomeResponse createChildrenHome(ChildrenHomeRequest request, String userEmail) {
-        User creator = userRepository.findByEmail(userEmail)
+        User creator = currentUserResolver.findByEmail(userEmail)
                 .orElseThrow(() -> new ResourceNotFoundException("User", "email", userEmail));
 
         ChildrenHome childrenHome = ChildrenHome.builder()
@@ -46,24 +80,32 @@ public class ChildrenHomeService {
                 .city(request.getCity())
                 .town(request.getTown())
                 .village(request.getVillage())
+                .latitude(request.getLatitude())
+                .longitude(request.getLongitude())
                 .contact(request.getContact())
                 .notes(request.getNotes())
                 .build();
+        requireBothCoordinates(childrenHome.getLatitude(), childrenHome.getLongitude());
 
         childrenHome = childrenHomeRepository.save(childrenHome);
+        aggregateVersions.bump(AggregateVersions.CHILDREN_HOMES);
+        geoIndexService.childrenHomeSaved(childrenHome);
         
         // Send notifications
-        childrenHomeNotificationService.notifyChildrenHomeCreated(childrenHome.getName(), creator.getName());
+        String homeName = childrenHome.getName();
+        String creatorName = creator.getName();
+        TransactionCallbacks.afterCommit(() -> childrenHomeNotificationService.notifyChildrenHomeCreated(homeName, creatorName));
         
-        return mapToChildrenHomeResponse(childrenHome);
+        return mapToChildrenHomeResponse(childrenHome, null);
     }
 
     @Transactional
+    @Audited(action = "UPDATE", entity = "ChildrenHome")
     public ChildrenHomeResponse updateChildrenHome(UUID id, ChildrenHomeRequest request, String userEmail) {
         ChildrenHome childrenHome = childrenHomeRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("ChildrenHome", "id", id));
 
-        User updater = userRepository.findByEmail(userEmail)
+        User updater = currentUserResolver.findByEmail(userEmail)
                 .orElseThrow(() -> new ResourceNotFoundException("User", "email", userEmail));
 
         if (request.getName() != null) {
@@ -81,6 +123,11 @@ public class ChildrenHomeService {
         if (request.getVillage() != null) {
             childrenHome.setVillage(request.getVillage());
         }
+        if (request.getLatitude() != null || request.getLongitude() != null) {
+            requireBothCoordinates(request.getLatitude(), request.getLongitude());
+            childrenHome.setLatitude(request.getLatitude());
+            childrenHome.setLongitude(request.getLongitude());
+        }
         if (request.getContact() != null) {
             childrenHome.setContact(request.getContact());
         }
@@ -89,30 +136,42 @@ public class ChildrenHomeService {
         }
 
         childrenHome = childrenHomeRepository.save(childrenHome);
+        aggregateVersions.bump(AggregateVersions.CHILDREN_HOMES);
+        geoIndexService.childrenHomeSaved(childrenHome);
         
         // Send notifications
-        childrenHomeNotificationService.notifyChildrenHomeUpdated(childrenHome.getName(), updater.getName());
+        String homeName = childrenHome.getName();
+        String updaterName = updater.getName();
+        TransactionCallbacks.afterCommit(() -> childrenHomeNotificationService.notifyChildrenHomeUpdated(homeName, updaterName));
         
-        return mapToChildrenHomeResponse(childrenHome);
+        return mapToChildrenHomeResponse(childrenHome, visitStatsService.findByChildrenHomeIds(List.of(id)).get(id));
     }
 
     @Transactional
+    @Audited(action = "DELETE", entity = "ChildrenHome")
     public void deleteChildrenHome(UUID id, String userEmail) {
         ChildrenHome childrenHome = childrenHomeRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("ChildrenHome", "id", id));
         
-        User deleter = userRepository.findByEmail(userEmail)
+        User deleter = currentUserResolver.findByEmail(userEmail)
                 .orElseThrow(() -> new ResourceNotFoundException("User", "email", userEmail));
         
         String homeName = childrenHome.getName();
         
+        geoIndexService.childrenHomeDeleted(id);
+        visitStatsService.childrenHomeDeleted(id);
         childrenHomeRepository.deleteById(id);
+        aggregateVersions.bump(AggregateVersions.CHILDREN_HOMES);
         
         // Send deletion notification
-        childrenHomeNotificationService.notifyChildrenHomeDeleted(homeName, deleter.getName());
+        String deleterName = deleter.getName();
+        TransactionCallbacks.afterCommit(() -> childrenHomeNotificationService.notifyChildrenHomeDeleted(homeName, deleterName));
     }
 
-    private ChildrenHomeResponse mapToChildrenHomeResponse(ChildrenHome childrenHome) {
+    /**
+     * A home without a statistics row has no visits; rows are written at startup and on every visit write
+     */
+    private ChildrenHomeResponse mapToChildrenHomeResponse(ChildrenHome childrenHome, ChildrenHomeVisitStatsResponse visitStats) {
         return ChildrenHomeResponse.builder()
                 .id(childrenHome.getId())
                 .name(childrenHome.getName())
@@ -120,9 +179,18 @@ public class ChildrenHomeService {
                 .city(childrenHome.getCity())
                 .town(childrenHome.getTown())
                 .village(childrenHome.getVillage())
+                .latitude(childrenHome.getLatitude())
+                .longitude(childrenHome.getLongitude())
                 .contact(childrenHome.getContact())
                 .notes(childrenHome.getNotes())
                 .createdAt(childrenHome.getCreatedAt())
+                .visitStats(visitStats != null ? visitStats : ChildrenHomeVisitStatsResponse.builder().visitsByYear(Map.of()).build())
                 .build();
     }
+
+    static void requireBothCoordinates(Double latitude, Double longitude) {
+        if ((latitude == null) != (longitude == null)) {
+            throw new IllegalArgumentException("Latitude and longitude must be given together");
+        }
+    }
 }
@@ -0,0 +1,142 @@
+package com.generalgivers.foundation.service;
+
+import com.generalgivers.foundation.dto.childrenhome.ChildrenHomeVisitStatsResponse;
+import com.generalgivers.foundation.entity.ChildrenHomeVisitStats;
+import com.generalgivers.foundation.repository.ChildrenHomeRepository;
+import com.generalgivers.foundation.repository.ChildrenHomeVisitStatsRepository;
+import com.generalgivers.foundation.repository.ChildrenHomeVisitStatsRepository.VisitTotals;
+import com.generalgivers.foundation.repository.ChildrenHomeVisitStatsRepository.YearCount;
+import com.generalgivers.foundation.repository.VisitRepository;
+import com.generalgivers.foundation.service.cache.AggregateVersions;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Keeps the per-home visit statistics table current. Every visit write recomputes the rows of the
+ * homes it touched from that home's visits alone (indexed by children_home_id), so reads of the
+ * statistics never scan the visits table. The home row is locked while recomputing; a writer that
+ * waited on the lock sees the committed visits of the one before it, so concurrent writes to the
+ * same home cannot leave a stale row behind.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ChildrenHomeVisitStatsService {
+
+    private final ChildrenHomeVisitStatsRepository statsRepository;
+    private final ChildrenHomeRepository childrenHomeRepository;
+    private final VisitRepository visitRepository;
+    private final AggregateVersions aggregateVersions;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * Recompute the statistics of the given homes within the caller's transaction. Nulls and
+     * duplicates are ignored.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void refresh(UUID... childrenHomeIds) {
+        List<UUID> ids = Arrays.stream(childrenHomeIds).filter(Objects::nonNull).distinct().sorted().toList();
+        if (ids.isEmpty()) {
+            return;
+        }
+        // Pending visit changes must be visible to the aggregate queries
+        visitRepository.flush();
+        for (UUID id : ids) {
+            recompute(id);
+        }
+        aggregateVersions.bump(AggregateVersions.CHILDREN_HOMES);
+    }
+
+    @Transactional(readOnly = true)
+    public Map<UUID, ChildrenHomeVisitStatsResponse> findAll() {
+        return toResponses(statsRepository.findAll());
+    }
+
+    @Transactional(readOnly = true)
+    public Map<UUID, ChildrenHomeVisitStatsResponse> findByChildrenHomeIds(Collection<UUID> childrenHomeIds) {
+        return toResponses(statsRepository.findAllById(childrenHomeIds));
+    }
+
+    @Transactional
+    public void childrenHomeDeleted(UUID childrenHomeId) {
+        statsRepository.deleteById(childrenHomeId);
+    }
+
+    /**
+     * Fill in homes that have no statistics yet, e.g. after the table was first created
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initializeMissing() {
+        List<UUID> missing = statsRepository.findChildrenHomeIdsWithoutStats();
+        if (missing.isEmpty()) {
+            return;
+        }
+        try {
+            for (UUID id : missing) {
+                transactionTemplate.executeWithoutResult(status -> recompute(id));
+            }
+            log.info("Computed visit statistics for {} children homes", missing.size());
+        } catch (RuntimeException ex) {
+            // Not fatal: the remaining homes are retried on the next start or their next visit write
+            log.warn("Could not compute visit statistics: {}", ex.getMessage(), ex);
+        }
+        aggregateVersions.bump(AggregateVersions.CHILDREN_HOMES);
+    }
+
+    private void recompute(UUID childrenHomeId) {
+        if (childrenHomeRepository.lockById(childrenHomeId).isEmpty()) {
+            // Deleted meanwhile; its row went with it
+            return;
+        }
+        VisitTotals totals = statsRepository.computeVisitTotals(childrenHomeId);
+        Map<Integer, Long> visitsByYear = new TreeMap<>();
+        for (YearCount yearCount : statsRepository.countVisitsByYear(childrenHomeId)) {
+            visitsByYear.put(yearCount.getYear(), yearCount.getVisits());
+        }
+
+        ChildrenHomeVisitStats stats = statsRepository.findById(childrenHomeId)
+                .orElseGet(() -> ChildrenHomeVisitStats.builder().childrenHomeId(childrenHomeId).build());
+        stats.setVisitCount(totals.getVisitCount());
+        stats.setFirstVisitDate(totals.getFirstVisitDate());
+        stats.setLastVisitDate(totals.getLastVisitDate());
+        stats.setVisitsByYear(visitsByYear);
+        stats.setParticipantCount(totals.getParticipantCount());
+        stats.setDistinctParticipantCount(statsRepository.countDistinctParticipants(childrenHomeId));
+        stats.setPhotoCount(totals.getPhotoCount());
+        stats.setUpdatedAt(LocalDateTime.now());
+        statsRepository.save(stats);
+    }
+
+    private static Map<UUID, ChildrenHomeVisitStatsResponse> toResponses(List<ChildrenHomeVisitStats> stats) {
+        return stats.stream().collect(Collectors.toMap(ChildrenHomeVisitStats::getChildrenHomeId, ChildrenHomeVisitStatsService::toResponse));
+    }
+
+    private static ChildrenHomeVisitStatsResponse toResponse(ChildrenHomeVisitStats stats) {
+        return ChildrenHomeVisitStatsResponse.builder()
+                .visitCount(stats.getVisitCount())
+                .firstVisitDate(stats.getFirstVisitDate())
+                .lastVisitDate(stats.getLastVisitDate())
+                .visitsByYear(stats.getVisitsByYear() != null ? stats.getVisitsByYear() : Map.of())
+                .participantCount(stats.getParticipantCount())
+                .distinctParticipantCount(stats.getDistinctParticipantCount())
+                .photoCount(stats.getPhotoCount())
+                .updatedAt(stats.getUpdatedAt())
+                .build();
+    }
+}
@@ -1,10 +1,12 @@
 package com.generalgivers.foundation.service;
 
+import com.generalgivers.foundation.config.AsyncConfig;
 import com.generalgivers.foundation.entity.User;
 import com.generalgivers.foundation.entity.UserRole;
 import com.generalgivers.foundation.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
@@ -17,7 +19,9 @@ public class DonationNotificationService {
 
     private final UserRepository userRepository;
     private final MailerSendService mailerSendService;
+    private final NotificationMetrics notificationMetrics;
 
+    @Async(AsyncConfig.NOTIFICATION_EXECUTOR)
     public void notifyDonationReceived(String donorName, BigDecimal amount, String projectTitle) {
         try {
             List<User> adminUsers = userRepository.findByRoleInAndIsActiveTrue(
@@ -41,6 +45,7 @@ public class DonationNotificationService {
                 );
             }
 
+            notificationMetrics.fanOut("donation", "received", NotificationMetrics.EMAIL, adminUsers.size());
             log.info("Donation received notifications sent to {} admin users", adminUsers.size());
         } catch (Exception e) {
             log.error("Failed to send donation received notifications", e);
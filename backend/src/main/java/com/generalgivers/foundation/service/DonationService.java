@@ -6,7 +6,10 @@ import com.generalgivers.foundation.entity.*;
 import com.generalgivers.foundation.exception.ResourceNotFoundException;
 import com.generalgivers.foundation.repository.DonationRepository;
 import com.generalgivers.foundation.repository.ProjectRepository;
-import com.generalgivers.foundation.repository.UserRepository;
+import com.generalgivers.foundation.security.CurrentUserResolver;
+import com.generalgivers.foundation.service.analytics.DonationAnalyticsService;
+import com.generalgivers.foundation.service.audit.Audited;
+import com.generalgivers.foundation.service.cache.AggregateVersions;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -22,10 +25,12 @@ import java.util.stream.Collectors;
 public class DonationService {
 
     private final DonationRepository donationRepository;
-    private final UserRepository userRepository;
+    private final CurrentUserResolver currentUserResolver;
     private final ProjectRepository projectRepository;
     private final DonationNotificationService donationNotificationService;
     private final NotificationService notificationService;
+    private final AggregateVersions aggregateVersions;
+    private final DonationAnalyticsService donationAnalyticsService;
 
     public List<DonationResponse> getAllDonations() {
         return donationRepository.findAllOrderByDateDesc().stream()
@@ -52,10 +57,11 @@ public class DonationService {
     }
 
     @Transactional
+    @Audited(action = "CREATE", entity = "Donation")
     public DonationResponse createDonation(DonationRequest request, String userEmail) {
         User donorUser = null;
         if (userEmail != null) {
-            donorUser = userRepository.findByEmail(userEmail).orElse(null);
+            donorUser = currentUserResolver.findByEmail(userEmail).orElse(null);
         }
 
         Project project = null;
@@ -76,11 +82,13 @@ public class DonationService {
                 .build();
 
         donation = donationRepository.save(donation);
+        donationAnalyticsService.donationsChanged();
 
         // Update project funds if applicable
         if (project != null) {
             project.setFundsRaised(project.getFundsRaised().add(request.getAmount()));
             projectRepository.save(project);
+            aggregateVersions.bump(AggregateVersions.PROJECTS);
         }
 
         // Email notifications disabled for donations
@@ -1,7 +1,10 @@
 package com.generalgivers.foundation.service;
 
+import com.generalgivers.foundation.config.AsyncConfig;
 import com.generalgivers.foundation.config.EmailConfig;
 import com.generalgivers.foundation.dto.contact.ContactRequest;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.mail.MessagingException;
 import jakarta.mail.internet.MimeMessage;
 import lombok.RequiredArgsConstructor;
@@ -23,6 +26,7 @@ public class EmailService {
     private final JavaMailSender mailSender;
     private final EmailConfig emailConfig;
     private final MailerSendService mailerSendService;
+    private final MeterRegistry meterRegistry;
 
     private static final String PRIMARY_COLOR = "#2563eb";
     private static final String PRIMARY_DARK = "#1d4ed8";
@@ -38,7 +42,7 @@ public class EmailService {
         String subject = "[Contact Form] " + request.getSubject();
         String htmlContent = buildContactEmailHtml(request);
 
-        boolean emailSent = mailerSendService.sendEmail(emailConfig.getContactRecipient(), subject, htmlContent);
+        boolean emailSent = send("contact", emailConfig.getContactRecipient(), subject, htmlContent);
 
         if (!emailSent) {
             log.error("Failed to send contact email from: {}", request.getEmail());
@@ -48,18 +52,18 @@ public class EmailService {
         log.info("Contact email sent successfully from: {}", request.getEmail());
     }
 
-    @Async
+    @Async(AsyncConfig.EMAIL_EXECUTOR)
     public void sendContactEmail(ContactRequest request) {
         sendContactEmailSync(request);
     }
 
-    @Async
+    @Async(AsyncConfig.EMAIL_EXECUTOR)
     public void sendContactConfirmation(ContactRequest request) {
         try {
             String subject = "Thank you for contacting Generous Givers Family";
             String htmlContent = buildConfirmationEmailHtml(request);
             
-            boolean emailSent = mailerSendService.sendEmail(request.getEmail(), subject, htmlContent);
+            boolean emailSent = send("contact_confirmation", request.getEmail(), subject, htmlContent);
             
             if (emailSent) {
                 log.info("Confirmation email sent to: {}", request.getEmail());
@@ -81,7 +85,7 @@ public class EmailService {
         String subject = "Password Reset - Generous Givers Family";
         String htmlContent = buildPasswordResetEmailHtml(firstName, lastName, resetToken);
 
-        boolean emailSent = mailerSendService.sendEmail(recipientEmail, subject, htmlContent);
+        boolean emailSent = send("password_reset", recipientEmail, subject, htmlContent);
 
         if (!emailSent) {
             log.error("Failed to send password reset email to: {}", recipientEmail);
@@ -91,7 +95,7 @@ public class EmailService {
         log.info("Password reset email sent successfully to: {}", recipientEmail);
     }
 
-    @Async
+    @Async(AsyncConfig.EMAIL_EXECUTOR)
     public void sendPasswordResetEmail(String recipientEmail, String firstName, String lastName, String resetToken) {
         sendPasswordResetEmailSync(recipientEmail, firstName, lastName, resetToken);
     }
@@ -106,7 +110,7 @@ public class EmailService {
         String subject = "Welcome to Generous Givers Family - Your Account Details";
         String htmlContent = buildUserCredentialsEmailHtml(firstName, lastName, recipientEmail, temporaryPassword);
 
-        boolean emailSent = mailerSendService.sendEmail(recipientEmail, subject, htmlContent);
+        boolean emailSent = send("user_credentials", recipientEmail, subject, htmlContent);
 
         if (!emailSent) {
             log.error("Failed to send user credentials email to: {}", recipientEmail);
@@ -116,7 +120,7 @@ public class EmailService {
         log.info("User credentials email sent successfully to: {}", recipientEmail);
     }
 
-    @Async
+    @Async(AsyncConfig.EMAIL_EXECUTOR)
     public void sendUserCredentials(String recipientEmail, String firstName, String lastName, String temporaryPassword) {
         sendUserCredentialsSync(recipientEmail, firstName, lastName, temporaryPassword);
     }
@@ -131,7 +135,7 @@ public class EmailService {
         String subject = "Welcome to Generous Givers Family Newsletter!";
         String htmlContent = buildNewsletterWelcomeHtml(recipientEmail);
 
-        boolean emailSent = mailerSendService.sendEmail(recipientEmail, subject, htmlContent);
+        boolean emailSent = send("newsletter_welcome", recipientEmail, subject, htmlContent);
 
         if (!emailSent) {
             log.error("Failed to send newsletter welcome email to: {}", recipientEmail);
@@ -141,11 +145,25 @@ public class EmailService {
         log.info("Newsletter welcome email sent successfully to: {}", recipientEmail);
     }
 
-    @Async
+    @Async(AsyncConfig.EMAIL_EXECUTOR)
     public void sendNewsletterWelcome(String recipientEmail) {
         sendNewsletterWelcomeSync(recipientEmail);
     }
 
+    /**
+     * Send through MailerSend, counting the message as app.email.messages by type and outcome
+     */
+    private boolean send(String type, String to, String subject, String htmlContent) {
+        boolean sent = mailerSendService.sendEmail(to, subject, htmlContent);
+        Counter.builder("app.email.messages")
+                .description("Emails by message type and whether the provider accepted them")
+                .tag("type", type)
+                .tag("outcome", sent ? "sent" : "failed")
+                .register(meterRegistry)
+                .increment();
+        return sent;
+    }
+
     private String buildPasswordResetEmailHtml(String firstName, String lastName, String resetToken) {
         String resetUrl = "http://localhost:3000/auth/reset-password/confirm?token=" + resetToken;
         
@@ -548,14 +566,14 @@ public class EmailService {
             );
     }
 
-    @Async
+    @Async(AsyncConfig.EMAIL_EXECUTOR)
     public void sendDonationReceipt(String recipientEmail, String donorName, BigDecimal amount,
                                      String mpesaReceipt, String projectTitle) {
         try {
             String subject = "Thank you for your donation - Generous Givers Family";
             String htmlContent = buildDonationReceiptHtml(donorName, amount, mpesaReceipt, projectTitle);
             
-            boolean emailSent = mailerSendService.sendEmail(recipientEmail, subject, htmlContent);
+            boolean emailSent = send("donation_receipt", recipientEmail, subject, htmlContent);
             
             if (emailSent) {
                 log.info("Donation receipt sent to: {}", recipientEmail);
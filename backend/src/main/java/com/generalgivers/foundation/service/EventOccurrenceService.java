@@ -0,0 +1,243 @@
+package com.generalgivers.foundation.service;
+
+import com.generalgivers.foundation.config.CalendarConfig;
+import com.generalgivers.foundation.entity.Event;
+import com.generalgivers.foundation.entity.EventOccurrenceException;
+import com.generalgivers.foundation.repository.EventOccurrenceExceptionRepository;
+import com.generalgivers.foundation.util.RecurrenceRule;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.Period;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Expands recurring events into the occurrences that overlap a window.
+ *
+ * Occurrence starts are computed per series and calendar month and cached under a key that includes
+ * the rule, the series start and its end, so editing a series simply stops hitting the old entries
+ * and no cross-node invalidation is needed. Per-occurrence exceptions are few and are loaded for
+ * the whole window with one query, then applied on top of the cached starts.
+ */
+@Service
+@Slf4j
+public class EventOccurrenceService {
+
+    /**
+     * Longest window that may be expanded in one request
+     */
+    public static final Duration MAX_WINDOW = Duration.ofDays(400);
+
+    /**
+     * How far ahead of now the next occurrence of an open-ended series is looked for
+     */
+    private static final Period NEXT_OCCURRENCE_SEARCH = Period.ofYears(10);
+
+    private final EventOccurrenceExceptionRepository exceptionRepository;
+    private final Cache<SeriesMonth, List<LocalDateTime>> monthCache;
+    private final ZoneId zone;
+
+    public EventOccurrenceService(EventOccurrenceExceptionRepository exceptionRepository,
+                                  CalendarConfig calendarConfig,
+                                  @Value("${app.events.occurrence-cache-size:10000}") long cacheSize) {
+        this.exceptionRepository = exceptionRepository;
+        this.zone = calendarConfig.getZoneId();
+        this.monthCache = Caffeine.newBuilder()
+                .maximumSize(cacheSize)
+                .build();
+    }
+
+    public record Occurrence(Event series, LocalDateTime occurrenceStart, LocalDateTime start, LocalDateTime end,
+                             String title, String description, boolean modified) {
+    }
+
+    /**
+     * Validate the event's recurrence rule and store when the series ends, which lets range
+     * queries skip finished series. Clears both for non-recurring events.
+     */
+    public void prepare(Event event) {
+        String text = event.getRecurrenceRule();
+        if (text == null || text.isBlank()) {
+            event.setRecurrenceRule(null);
+            event.setRecurrenceEnd(null);
+            return;
+        }
+        RecurrenceRule rule = RecurrenceRule.parse(text, zone);
+        event.setRecurrenceRule(RecurrenceRule.normalize(text));
+        event.setRecurrenceEnd(rule.lastOccurrence(event.getStartDateTime())
+                .map(lastStart -> lastStart.plus(duration(event)))
+                .orElse(null));
+    }
+
+    public boolean occursAt(Event series, LocalDateTime occurrenceStart) {
+        return boundedRule(series).occursAt(series.getStartDateTime(), occurrenceStart);
+    }
+
+    /**
+     * Occurrences of the given recurring events that overlap [from, to), with exceptions applied,
+     * ordered by start
+     */
+    public List<Occurrence> expand(List<Event> series, LocalDateTime from, LocalDateTime to) {
+        if (series.isEmpty()) {
+            return List.of();
+        }
+
+        Duration longest = series.stream().map(EventOccurrenceService::duration)
+                .max(Comparator.naturalOrder()).orElse(Duration.ZERO);
+        Map<UUID, Map<LocalDateTime, EventOccurrenceException>> exceptions = exceptionRepository
+                .findForWindow(series.stream().map(Event::getId).toList(), from.minus(longest), to).stream()
+                .collect(Collectors.groupingBy(x -> x.getEvent().getId(),
+                        Collectors.toMap(EventOccurrenceException::getOccurrenceStart, Function.identity())));
+
+        List<Occurrence> occurrences = new ArrayList<>();
+        for (Event event : series) {
+            Duration duration = duration(event);
+            Map<LocalDateTime, EventOccurrenceException> overrides = exceptions.getOrDefault(event.getId(), new HashMap<>());
+
+            for (LocalDateTime start : starts(event, from.minus(duration), to)) {
+                EventOccurrenceException exception = overrides.remove(start);
+                addIfOverlapping(occurrences, toOccurrence(event, start, duration, exception), from, to);
+            }
+            // Occurrences moved into this window from outside it
+            for (EventOccurrenceException exception : overrides.values()) {
+                if (exception.getStartDateTime() != null && occursAt(event, exception.getOccurrenceStart())) {
+                    addIfOverlapping(occurrences, toOccurrence(event, exception.getOccurrenceStart(), duration, exception), from, to);
+                }
+            }
+        }
+
+        occurrences.sort(Comparator.comparing(Occurrence::start));
+        return occurrences;
+    }
+
+    /**
+     * The first occurrence of an event that starts after now and whose original start is after the
+     * given one (any, when null), with exceptions applied and cancelled occurrences skipped. A
+     * non-recurring event has one occurrence, its own start.
+     */
+    public Optional<Occurrence> nextOccurrence(Event event, LocalDateTime after, LocalDateTime now) {
+        Duration duration = duration(event);
+        if (event.getRecurrenceRule() == null) {
+            return Optional.ofNullable(after == null && event.getStartDateTime().isAfter(now)
+                    ? toOccurrence(event, event.getStartDateTime(), duration, null)
+                    : null);
+        }
+
+        Map<LocalDateTime, EventOccurrenceException> exceptions = exceptionRepository
+                .findByEventIdIn(List.of(event.getId())).stream()
+                .collect(Collectors.toMap(EventOccurrenceException::getOccurrenceStart, Function.identity()));
+
+        // Moved occurrences may now start before the rule's next one, or after now from a start before it
+        Occurrence next = exceptions.values().stream()
+                .filter(x -> x.getStartDateTime() != null)
+                .filter(x -> after == null || x.getOccurrenceStart().isAfter(after))
+                .filter(x -> occursAt(event, x.getOccurrenceStart()))
+                .map(x -> toOccurrence(event, x.getOccurrenceStart(), duration, x))
+                .filter(occurrence -> occurrence != null && occurrence.start().isAfter(now))
+                .min(Comparator.comparing(Occurrence::start))
+                .orElse(null);
+
+        RecurrenceRule rule = boundedRule(event);
+        LocalDateTime from = after != null && after.isAfter(now) ? after : now;
+        LocalDateTime limit = event.getRecurrenceEnd() != null ? event.getRecurrenceEnd() : from.plus(NEXT_OCCURRENCE_SEARCH);
+        for (LocalDateTime chunk = from; chunk.isBefore(limit); chunk = chunk.plusYears(1)) {
+            for (LocalDateTime start : rule.between(event.getStartDateTime(), chunk, chunk.plusYears(1))) {
+                Occurrence occurrence = start.isAfter(from) ? toOccurrence(event, start, duration, exceptions.get(start)) : null;
+                if (occurrence != null && occurrence.start().isAfter(now)) {
+                    return Optional.of(next == null || occurrence.start().isBefore(next.start()) ? occurrence : next);
+                }
+            }
+        }
+        return Optional.ofNullable(next);
+    }
+
+    /**
+     * Build the occurrence of a series that originally starts at occurrenceStart
+     */
+    public Occurrence toOccurrence(Event event, LocalDateTime occurrenceStart, EventOccurrenceException exception) {
+        return toOccurrence(event, occurrenceStart, duration(event), exception);
+    }
+
+    private Occurrence toOccurrence(Event event, LocalDateTime occurrenceStart, Duration duration,
+                                    EventOccurrenceException exception) {
+        if (exception == null) {
+            return new Occurrence(event, occurrenceStart, occurrenceStart, occurrenceStart.plus(duration),
+                    event.getTitle(), event.getDescription(), false);
+        }
+        if (Boolean.TRUE.equals(exception.getCancelled())) {
+            return null;
+        }
+        LocalDateTime start = exception.getStartDateTime() != null ? exception.getStartDateTime() : occurrenceStart;
+        LocalDateTime end = exception.getEndDateTime() != null ? exception.getEndDateTime() : start.plus(duration);
+        return new Occurrence(event, occurrenceStart, start, end,
+                exception.getTitle() != null ? exception.getTitle() : event.getTitle(),
+                exception.getDescription() != null ? exception.getDescription() : event.getDescription(),
+                true);
+    }
+
+    private static void addIfOverlapping(List<Occurrence> occurrences, Occurrence occurrence,
+                                         LocalDateTime from, LocalDateTime to) {
+        if (occurrence != null && occurrence.start().isBefore(to) && occurrence.end().isAfter(from)) {
+            occurrences.add(occurrence);
+        }
+    }
+
+    private List<LocalDateTime> starts(Event event, LocalDateTime from, LocalDateTime to) {
+        RecurrenceRule rule = null;
+        List<LocalDateTime> starts = new ArrayList<>();
+        for (YearMonth month = YearMonth.from(from); !month.atDay(1).atStartOfDay().isAfter(to); month = month.plusMonths(1)) {
+            SeriesMonth key = new SeriesMonth(event.getId(), event.getRecurrenceRule(), event.getStartDateTime(),
+                    event.getRecurrenceEnd(), month);
+            List<LocalDateTime> monthStarts = monthCache.getIfPresent(key);
+            if (monthStarts == null) {
+                if (rule == null) {
+                    rule = boundedRule(event);
+                }
+                monthStarts = List.copyOf(rule.between(event.getStartDateTime(),
+                        month.atDay(1).atStartOfDay(), month.plusMonths(1).atDay(1).atStartOfDay()));
+                monthCache.put(key, monthStarts);
+            }
+            for (LocalDateTime start : monthStarts) {
+                if (!start.isBefore(from) && start.isBefore(to)) {
+                    starts.add(start);
+                }
+            }
+        }
+        return starts;
+    }
+
+    /**
+     * The event's rule with COUNT replaced by the stored series end, so expansion never has to walk
+     * the series from its first occurrence
+     */
+    private RecurrenceRule boundedRule(Event event) {
+        RecurrenceRule rule = RecurrenceRule.parse(event.getRecurrenceRule(), zone);
+        if (rule.getCount().isPresent() && event.getRecurrenceEnd() != null) {
+            rule = rule.withUntil(event.getRecurrenceEnd().minus(duration(event)));
+        }
+        return rule;
+    }
+
+    private static Duration duration(Event event) {
+        Duration duration = Duration.between(event.getStartDateTime(), event.getEndDateTime());
+        return duration.isNegative() ? Duration.ZERO : duration;
+    }
+
+    private record SeriesMonth(UUID eventId, String rule, LocalDateTime start, LocalDateTime end, YearMonth month) {
+    }
+}
@@ -0,0 +1,227 @@
+package com.generalgivers.foundation.service;
+
+import com.generalgivers.foundation.entity.Event;
+import com.generalgivers.foundation.entity.Notification;
+import com.generalgivers.foundation.entity.NotificationType;
+import com.generalgivers.foundation.repository.EventRepository;
+import com.generalgivers.foundation.util.HierarchicalTimerWheel;
+import com.generalgivers.foundation.util.TransactionCallbacks;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Fires event reminders at their exact reminderMinutes offset from an in-memory timer wheel.
+ *
+ * Each event row holds the occurrence still owed a reminder and when it is due. Claiming a
+ * reminder records that occurrence as the last one reminded and moves the row on to the next
+ * occurrence of its series, so every occurrence of a recurring event is reminded in turn.
+ *
+ * Only the node holding the "event-reminders" lease keeps a wheel. It loads it from the database
+ * when it gains the lease and re-syncs it periodically, which picks up events written on other
+ * nodes; writes on this node update it directly after commit. Only reminders due within the wheel's
+ * horizon are held; later ones are picked up by a sync once they come into range. Firing claims reminders with a
+ * conditional UPDATE, so a reminder is never sent twice even if two nodes briefly overlap, and a
+ * stale wheel entry for a deleted or rescheduled event is simply skipped.
+ */
+@Service
+@Slf4j
+public class EventReminderScheduler {
+
+    static final String LEASE_NAME = "event-reminders";
+
+    private static final String CLAIM_DUE_REMINDERS =
+            "UPDATE events SET last_reminded_occurrence = reminder_occurrence, reminder_occurrence = NULL, " +
+            "reminder_sent = TRUE " +
+            "WHERE id IN (:ids) AND reminder_occurrence IS NOT NULL AND reminder_fire_at <= :now " +
+            "AND reminder_fire_at + make_interval(mins => coalesce(reminder_minutes, 15)) > :now " +
+            "RETURNING id, reminder_fire_at + make_interval(mins => coalesce(reminder_minutes, 15)) AS starts_at";
+
+    private final EventRepository eventRepository;
+    private final EventOccurrenceService eventOccurrenceService;
+    private final NotificationService notificationService;
+    private final SchedulerLeaseService schedulerLeaseService;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+    private final TransactionTemplate transactionTemplate;
+    private final HierarchicalTimerWheel<UUID> wheel;
+
+    private volatile boolean leader;
+
+    public EventReminderScheduler(EventRepository eventRepository,
+                                  EventOccurrenceService eventOccurrenceService,
+                                  NotificationService notificationService,
+                                  SchedulerLeaseService schedulerLeaseService,
+                                  NamedParameterJdbcTemplate jdbcTemplate,
+                                  EntityManagerFactory entityManagerFactory,
+                                  TransactionTemplate transactionTemplate) {
+        this.eventRepository = eventRepository;
+        this.eventOccurrenceService = eventOccurrenceService;
+        this.notificationService = notificationService;
+        this.schedulerLeaseService = schedulerLeaseService;
+        this.jdbcTemplate = jdbcTemplate;
+        this.entityManagerFactory = entityManagerFactory;
+        this.transactionTemplate = transactionTemplate;
+        this.wheel = new HierarchicalTimerWheel<>(1000, System.currentTimeMillis());
+    }
+
+    /**
+     * Point a managed event at the next occurrence owed a reminder, the first one after the last
+     * reminded occurrence that has not started yet, and (re)schedule it once the current
+     * transaction commits
+     */
+    public void schedule(Event event) {
+        UUID id = event.getId();
+        Optional<EventOccurrenceService.Occurrence> next = eventOccurrenceService.nextOccurrence(
+                event, event.getLastRemindedOccurrence(), LocalDateTime.now());
+        LocalDateTime fireAt = next.map(occurrence -> occurrence.start().minusMinutes(reminderMinutes(event))).orElse(null);
+        event.setReminderOccurrence(next.map(EventOccurrenceService.Occurrence::occurrenceStart).orElse(null));
+        event.setReminderFireAt(fireAt);
+        event.setReminderSent(next.isEmpty());
+
+        TransactionCallbacks.afterCommit(() -> {
+            if (!leader) {
+                return;
+            }
+            if (fireAt != null && withinHorizon(fireAt)) {
+                wheel.schedule(id, epochMillis(fireAt));
+            } else {
+                wheel.cancel(id);
+            }
+        });
+    }
+
+    public void cancel(UUID eventId) {
+        TransactionCallbacks.afterCommit(() -> {
+            if (leader) {
+                wheel.cancel(eventId);
+            }
+        });
+    }
+
+    public int pendingReminders() {
+        return wheel.size();
+    }
+
+    @Scheduled(fixedDelay = 1000)
+    public void tick() {
+        if (!schedulerLeaseService.holds(LEASE_NAME)) {
+            if (leader) {
+                leader = false;
+                wheel.clear();
+                log.info("Event reminder wheel released");
+            }
+            return;
+        }
+        if (!leader) {
+            leader = true;
+            reload();
+        }
+
+        List<UUID> due = wheel.advance(System.currentTimeMillis());
+        if (!due.isEmpty()) {
+            try {
+                fire(due);
+            } catch (RuntimeException e) {
+                // Unclaimed reminders are still pending in the database; the next sync re-adds them
+                log.error("Failed to send {} event reminders: {}", due.size(), e.getMessage(), e);
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.events.reminder-sync-interval:60000}",
+            initialDelayString = "${app.events.reminder-sync-interval:60000}")
+    public void sync() {
+        if (leader) {
+            reload();
+        }
+    }
+
+    private void reload() {
+        LocalDateTime now = LocalDateTime.now();
+        transactionTemplate.executeWithoutResult(status -> {
+            for (Event event : eventRepository.findWithPendingReminders(horizon())) {
+                LocalDateTime last = event.getLastRemindedOccurrence();
+                boolean missed = !event.getReminderFireAt().plusMinutes(reminderMinutes(event)).isAfter(now);
+                if (missed || (last != null && !event.getReminderOccurrence().isAfter(last))) {
+                    // Started while no node held the lease, or already reminded; move on to the next one
+                    schedule(event);
+                } else {
+                    wheel.schedule(event.getId(), epochMillis(event.getReminderFireAt()));
+                }
+            }
+        });
+        log.debug("Event reminder wheel synced: {} pending reminders", wheel.size());
+    }
+
+    private void fire(List<UUID> eventIds) {
+        LocalDateTime now = LocalDateTime.now();
+
+        Integer claimed = transactionTemplate.execute(status -> {
+            Map<UUID, LocalDateTime> startsAt = new HashMap<>();
+            jdbcTemplate.query(CLAIM_DUE_REMINDERS, new MapSqlParameterSource(Map.of("ids", eventIds, "now", now)),
+                    rs -> {
+                        startsAt.put(rs.getObject("id", UUID.class), rs.getObject("starts_at", LocalDateTime.class));
+                    });
+            if (startsAt.isEmpty()) {
+                return 0;
+            }
+
+            // The claim was written behind Hibernate's back
+            startsAt.keySet().forEach(id -> entityManagerFactory.getCache().evict(Event.class, id));
+            List<Event> events = eventRepository.findAllById(startsAt.keySet());
+            List<Notification> notifications = events.stream()
+                    .map(event -> Notification.builder()
+                            .title("Event Reminder")
+                            .message(String.format("Event '%s' starts in %d minutes", event.getTitle(),
+                                    minutesUntil(now, startsAt.get(event.getId()))))
+                            .type(NotificationType.EVENT_REMINDER)
+                            .entityType("EVENT")
+                            .entityId(event.getId())
+                            .isGlobal(true)
+                            .build())
+                    .toList();
+            notificationService.createNotifications(notifications);
+            events.forEach(this::schedule);
+            return startsAt.size();
+        });
+
+        if (claimed != null && claimed > 0) {
+            log.info("Sent {} event reminders", claimed);
+        }
+    }
+
+    private LocalDateTime horizon() {
+        return LocalDateTime.now().plus(Duration.ofMillis(wheel.horizonMillis()));
+    }
+
+    private boolean withinHorizon(LocalDateTime fireAt) {
+        return fireAt.isBefore(horizon());
+    }
+
+    private static int reminderMinutes(Event event) {
+        return event.getReminderMinutes() != null ? event.getReminderMinutes() : 15;
+    }
+
+    private static long epochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private static long minutesUntil(LocalDateTime now, LocalDateTime start) {
+        long seconds = Duration.between(now, start).getSeconds();
+        return Math.max(0, (seconds + 59) / 60);
+    }
+}
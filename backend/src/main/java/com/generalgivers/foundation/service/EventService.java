@@ -1,21 +1,28 @@
 package com.generalgivers.foundation.service;
 
+import com.generalgivers.foundation.dto.event.EventOccurrenceRequest;
 import com.generalgivers.foundation.dto.event.EventRequest;
 import com.generalgivers.foundation.dto.event.EventResponse;
 import com.generalgivers.foundation.entity.Event;
+import com.generalgivers.foundation.entity.EventOccurrenceException;
 import com.generalgivers.foundation.entity.NotificationType;
 import com.generalgivers.foundation.entity.User;
 import com.generalgivers.foundation.exception.ResourceNotFoundException;
+import com.generalgivers.foundation.repository.EventOccurrenceExceptionRepository;
 import com.generalgivers.foundation.repository.EventRepository;
-import com.generalgivers.foundation.repository.UserRepository;
+import com.generalgivers.foundation.security.CurrentUserResolver;
+import com.generalgivers.foundation.service.audit.Audited;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Objects;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -25,8 +32,11 @@ import java.util.stream.Collectors;
 public class EventService {
 
     private final EventRepository eventRepository;
-    private final UserRepository userRepository;
+    private final CurrentUserResolver currentUserResolver;
     private final NotificationService notificationService;
+    private final EventReminderScheduler eventReminderScheduler;
+    private final EventOccurrenceService eventOccurrenceService;
+    private final EventOccurrenceExceptionRepository eventOccurrenceExceptionRepository;
 
     @Transactional(readOnly = true)
     public List<EventResponse> getAllEvents() {
@@ -35,11 +45,27 @@ public class EventService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Single events starting in the range plus every occurrence of a recurring event that overlaps it
+     */
     @Transactional(readOnly = true)
     public List<EventResponse> getEventsBetweenDates(LocalDateTime startDate, LocalDateTime endDate) {
-        return eventRepository.findEventsBetweenDates(startDate, endDate).stream()
-                .map(this::mapToResponse)
-                .collect(Collectors.toList());
+        if (!endDate.isAfter(startDate)) {
+            throw new IllegalArgumentException("End date must be after start date");
+        }
+        if (Duration.between(startDate, endDate).compareTo(EventOccurrenceService.MAX_WINDOW) > 0) {
+            throw new IllegalArgumentException("Date range must not exceed " + EventOccurrenceService.MAX_WINDOW.toDays() + " days");
+        }
+
+        List<EventResponse> events = new ArrayList<>();
+        eventRepository.findEventsBetweenDates(startDate, endDate)
+                .forEach(event -> events.add(mapToResponse(event)));
+        List<Event> series = eventRepository.findRecurringEventsOverlapping(startDate, endDate);
+        eventOccurrenceService.expand(series, startDate, endDate)
+                .forEach(occurrence -> events.add(mapToResponse(occurrence)));
+
+        events.sort(Comparator.comparing(EventResponse::getStartDateTime));
+        return events;
     }
 
     @Transactional(readOnly = true)
@@ -50,8 +76,9 @@ public class EventService {
     }
 
     @Transactional
+    @Audited(action = "CREATE", entity = "Event")
     public EventResponse createEvent(EventRequest request, String userEmail) {
-        User user = userRepository.findByEmail(userEmail)
+        User user = currentUserResolver.findByEmail(userEmail)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found: " + userEmail));
 
         Event event = Event.builder()
@@ -61,10 +88,13 @@ public class EventService {
                 .endDateTime(request.getEndDateTime())
                 .colorCategory(request.getColorCategory() != null ? request.getColorCategory() : "blue")
                 .reminderMinutes(request.getReminderMinutes() != null ? request.getReminderMinutes() : 15)
+                .recurrenceRule(request.getRecurrenceRule())
                 .createdBy(user)
                 .build();
+        eventOccurrenceService.prepare(event);
 
         event = eventRepository.save(event);
+        eventReminderScheduler.schedule(event);
         log.info("Created event: {} by user: {}", event.getTitle(), userEmail);
 
         notificationService.createGlobalNotification(
@@ -78,19 +108,31 @@ public class EventService {
     }
 
     @Transactional
+    @Audited(action = "UPDATE", entity = "Event")
     public EventResponse updateEvent(UUID id, EventRequest request, String userEmail) {
         Event event = eventRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Event not found with id: " + id));
 
+        String previousRule = event.getRecurrenceRule();
+        LocalDateTime previousStart = event.getStartDateTime();
+
         event.setTitle(request.getTitle());
         event.setDescription(request.getDescription());
         event.setStartDateTime(request.getStartDateTime());
         event.setEndDateTime(request.getEndDateTime());
         event.setColorCategory(request.getColorCategory() != null ? request.getColorCategory() : event.getColorCategory());
         event.setReminderMinutes(request.getReminderMinutes() != null ? request.getReminderMinutes() : event.getReminderMinutes());
-        event.setReminderSent(false); // Reset reminder if time changed
+        event.setLastRemindedOccurrence(null); // Reset reminder if time changed
+        event.setRecurrenceRule(request.getRecurrenceRule());
+        eventOccurrenceService.prepare(event);
+
+        // Exceptions are keyed by the rule's occurrence starts, which no longer line up
+        if (!Objects.equals(previousRule, event.getRecurrenceRule()) || !previousStart.equals(event.getStartDateTime())) {
+            eventOccurrenceExceptionRepository.deleteByEventId(id);
+        }
 
         event = eventRepository.save(event);
+        eventReminderScheduler.schedule(event);
         log.info("Updated event: {} by user: {}", event.getTitle(), userEmail);
 
         notificationService.createGlobalNotification(
@@ -103,12 +145,15 @@ public class EventService {
     }
 
     @Transactional
+    @Audited(action = "DELETE", entity = "Event")
     public void deleteEvent(UUID id, String userEmail) {
         Event event = eventRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Event not found with id: " + id));
 
         String eventTitle = event.getTitle();
+        eventOccurrenceExceptionRepository.deleteByEventId(id);
         eventRepository.delete(event);
+        eventReminderScheduler.cancel(id);
         log.info("Deleted event: {} by user: {}", eventTitle, userEmail);
 
         notificationService.createGlobalNotification(
@@ -118,29 +163,100 @@ public class EventService {
         );
     }
 
-    @Scheduled(fixedRate = 300000) // Run every 5 minutes
+    /**
+     * Cancel or change a single occurrence of a recurring event. Returns the resulting occurrence,
+     * or null when it was cancelled.
+     */
     @Transactional
-    public void sendEventReminders() {
-        LocalDateTime now = LocalDateTime.now();
-        LocalDateTime reminderTime = now.plusHours(1); // Check for events in next hour
-
-        List<Event> eventsNeedingReminders = eventRepository.findEventsNeedingReminders(now, reminderTime);
-
-        for (Event event : eventsNeedingReminders) {
-            long minutesUntilEvent = java.time.Duration.between(now, event.getStartDateTime()).toMinutes();
-            
-            if (minutesUntilEvent <= event.getReminderMinutes()) {
-                notificationService.createGlobalNotification(
-                        "Event Reminder",
-                        String.format("Event '%s' starts in %d minutes", event.getTitle(), minutesUntilEvent),
-                        NotificationType.EVENT_REMINDER
-                );
-
-                event.setReminderSent(true);
-                eventRepository.save(event);
-                log.info("Sent reminder for event: {}", event.getTitle());
+    @Audited(action = "UPDATE_OCCURRENCE", entity = "Event")
+    public EventResponse updateOccurrence(UUID id, EventOccurrenceRequest request, String userEmail) {
+        Event event = findRecurringEvent(id, request.getOccurrenceStart());
+
+        EventOccurrenceException exception = eventOccurrenceExceptionRepository
+                .findByEventIdAndOccurrenceStart(id, request.getOccurrenceStart())
+                .orElseGet(() -> EventOccurrenceException.builder()
+                        .event(event)
+                        .occurrenceStart(request.getOccurrenceStart())
+                        .build());
+
+        boolean cancelled = Boolean.TRUE.equals(request.getCancelled());
+        exception.setCancelled(cancelled);
+        exception.setTitle(request.getTitle());
+        exception.setDescription(request.getDescription());
+        if (request.getStartDateTime() != null || request.getEndDateTime() != null) {
+            LocalDateTime start = request.getStartDateTime() != null ? request.getStartDateTime() : request.getOccurrenceStart();
+            // Always store both ends so moved occurrences can be found by range
+            LocalDateTime end = request.getEndDateTime() != null ? request.getEndDateTime()
+                    : start.plus(Duration.between(event.getStartDateTime(), event.getEndDateTime()));
+            if (end.isBefore(start)) {
+                throw new IllegalArgumentException("Occurrence end must not be before its start");
             }
+            exception.setStartDateTime(start);
+            exception.setEndDateTime(end);
+        } else {
+            exception.setStartDateTime(null);
+            exception.setEndDateTime(null);
         }
+
+        exception = eventOccurrenceExceptionRepository.save(exception);
+        // Calendar feeds version themselves by event modification time
+        event.setUpdatedAt(LocalDateTime.now());
+        eventReminderScheduler.schedule(event);
+        log.info("{} occurrence {} of event: {} by user: {}", cancelled ? "Cancelled" : "Updated",
+                request.getOccurrenceStart(), event.getTitle(), userEmail);
+
+        notificationService.createGlobalNotification(
+                "Event Updated",
+                String.format("Event '%s' on %s has been %s", event.getTitle(),
+                        request.getOccurrenceStart().toLocalDate(), cancelled ? "cancelled" : "updated"),
+                NotificationType.EVENT_UPDATED
+        );
+
+        EventOccurrenceService.Occurrence occurrence =
+                eventOccurrenceService.toOccurrence(event, request.getOccurrenceStart(), exception);
+        return occurrence != null ? mapToResponse(occurrence) : null;
+    }
+
+    /**
+     * Drop any change made to a single occurrence so it follows the series again
+     */
+    @Transactional
+    @Audited(action = "RESTORE_OCCURRENCE", entity = "Event")
+    public EventResponse restoreOccurrence(UUID id, LocalDateTime occurrenceStart, String userEmail) {
+        Event event = findRecurringEvent(id, occurrenceStart);
+
+        eventOccurrenceExceptionRepository.findByEventIdAndOccurrenceStart(id, occurrenceStart)
+                .ifPresent(exception -> {
+                    eventOccurrenceExceptionRepository.delete(exception);
+                    event.setUpdatedAt(LocalDateTime.now());
+                    eventReminderScheduler.schedule(event);
+                });
+        log.info("Restored occurrence {} of event: {} by user: {}", occurrenceStart, event.getTitle(), userEmail);
+
+        return mapToResponse(eventOccurrenceService.toOccurrence(event, occurrenceStart, null));
+    }
+
+    private Event findRecurringEvent(UUID id, LocalDateTime occurrenceStart) {
+        Event event = eventRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Event not found with id: " + id));
+        if (event.getRecurrenceRule() == null) {
+            throw new IllegalArgumentException("Event is not recurring");
+        }
+        if (!eventOccurrenceService.occursAt(event, occurrenceStart)) {
+            throw new ResourceNotFoundException("Event " + id + " has no occurrence starting at " + occurrenceStart);
+        }
+        return event;
+    }
+
+    private EventResponse mapToResponse(EventOccurrenceService.Occurrence occurrence) {
+        EventResponse response = mapToResponse(occurrence.series());
+        response.setTitle(occurrence.title());
+        response.setDescription(occurrence.description());
+        response.setStartDateTime(occurrence.start());
+        response.setEndDateTime(occurrence.end());
+        response.setOccurrenceStart(occurrence.occurrenceStart());
+        response.setModified(occurrence.modified());
+        return response;
     }
 
     private EventResponse mapToResponse(Event event) {
@@ -153,6 +269,8 @@ public class EventService {
                 .colorCategory(event.getColorCategory())
                 .reminderMinutes(event.getReminderMinutes())
                 .reminderSent(event.getReminderSent())
+                .recurrenceRule(event.getRecurrenceRule())
+                .recurrenceEnd(event.getRecurrenceEnd())
                 .createdById(event.getCreatedBy().getId())
                 .createdByName(event.getCreatedBy().getName())
                 .createdAt(event.getCreatedAt())
@@ -1,44 +1,32 @@
 package com.generalgivers.foundation.service;
 
+import com.generalgivers.foundation.config.AsyncConfig;
 import com.generalgivers.foundation.entity.ModuleType;
-import com.generalgivers.foundation.exception.ResourceNotFoundException;
+import com.generalgivers.foundation.service.storage.StorageBackend;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.io.Resource;
-import org.springframework.core.io.UrlResource;
+import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
 import org.springframework.web.multipart.MultipartFile;
 
-import jakarta.annotation.PostConstruct;
 import java.io.IOException;
-import java.net.MalformedURLException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
-import java.nio.file.StandardCopyOption;
+import java.io.InputStream;
+import java.net.URL;
+import java.util.Optional;
 import java.util.UUID;
 
 @Service
+@RequiredArgsConstructor
 @Slf4j
 public class FileStorageService {
 
-    @Value("${app.upload.dir:uploads}")
-    private String uploadDir;
-
-    private Path uploadPath;
-
-    @PostConstruct
-    public void init() {
-        this.uploadPath = Paths.get(uploadDir).toAbsolutePath().normalize();
-        try {
-            Files.createDirectories(this.uploadPath);
-            log.info("Upload directory initialized at: {}", this.uploadPath);
-        } catch (IOException ex) {
-            log.error("Could not create upload directory: {}", ex.getMessage());
-            throw new RuntimeException("Could not create upload directory", ex);
-        }
-    }
+    private final StorageBackend storageBackend;
+    private final MeterRegistry meterRegistry;
 
     public String storeFile(MultipartFile file, ModuleType moduleType, UUID moduleId) {
         String originalFileName = StringUtils.cleanPath(file.getOriginalFilename() != null ? file.getOriginalFilename() : "unknown");
@@ -53,22 +41,26 @@ public class FileStorageService {
                 throw new RuntimeException("Invalid file path sequence in filename: " + originalFileName);
             }
 
-            // Create module-specific subdirectory
-            Path moduleDir = this.uploadPath.resolve(moduleType.name().toLowerCase());
-            if (moduleId != null) {
-                moduleDir = moduleDir.resolve(moduleId.toString());
-            }
-            Files.createDirectories(moduleDir);
-
-            // Copy file to the target location
-            Path targetLocation = moduleDir.resolve(uniqueFileName);
-            Files.copy(file.getInputStream(), targetLocation, StandardCopyOption.REPLACE_EXISTING);
-
-            // Return relative path for storage in database
+            // Relative path doubles as the storage key and the value stored in the database
             String relativePath = moduleType.name().toLowerCase() + "/" +
                     (moduleId != null ? moduleId.toString() + "/" : "") + uniqueFileName;
 
-            log.info("File stored successfully: {}", relativePath);
+            Timer.Sample sample = Timer.start(meterRegistry);
+            String outcome = "error";
+            try (InputStream content = file.getInputStream()) {
+                storageBackend.put(relativePath, content, file.getSize(), file.getContentType());
+                outcome = "success";
+            } finally {
+                recordOperation(sample, "store", moduleType.name(), outcome);
+            }
+            DistributionSummary.builder("app.storage.upload.size")
+                    .description("Sizes of stored uploads")
+                    .baseUnit("bytes")
+                    .tag("module", moduleType.name())
+                    .register(meterRegistry)
+                    .record(file.getSize());
+
+            log.info("File stored successfully in {} storage: {}", storageBackend.name(), relativePath);
             return relativePath;
 
         } catch (IOException ex) {
@@ -78,38 +70,57 @@ public class FileStorageService {
     }
 
     public Resource loadFileAsResource(String filePath) {
-        try {
-            Path file = this.uploadPath.resolve(filePath).normalize();
-            Resource resource = new UrlResource(file.toUri());
+        return storageBackend.load(filePath);
+    }
 
-            if (resource.exists() && resource.isReadable()) {
-                return resource;
-            } else {
-                throw new ResourceNotFoundException("File not found: " + filePath);
-            }
-        } catch (MalformedURLException ex) {
-            throw new ResourceNotFoundException("File not found: " + filePath);
-        }
+    public Optional<URL> getPresignedDownloadUrl(String filePath, String downloadFileName, boolean attachment) {
+        return storageBackend.presignedDownloadUrl(filePath, downloadFileName, attachment);
     }
 
+    /**
+     * Runs on the media executor; failures are logged and counted, not thrown
+     */
+    @Async(AsyncConfig.MEDIA_EXECUTOR)
     public void deleteFile(String filePath) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "error";
         try {
-            Path file = this.uploadPath.resolve(filePath).normalize();
-            Files.deleteIfExists(file);
+            storageBackend.delete(filePath);
+            outcome = "success";
             log.info("File deleted successfully: {}", filePath);
         } catch (IOException ex) {
             log.error("Could not delete file {}: {}", filePath, ex.getMessage());
+        } finally {
+            recordOperation(sample, "delete", moduleOf(filePath), outcome);
         }
     }
 
     public String getContentType(String filePath) {
-        try {
-            Path file = this.uploadPath.resolve(filePath).normalize();
-            String contentType = Files.probeContentType(file);
-            return contentType != null ? contentType : "application/octet-stream";
-        } catch (IOException ex) {
-            return "application/octet-stream";
+        return storageBackend.contentType(filePath);
+    }
+
+    private void recordOperation(Timer.Sample sample, String operation, String module, String outcome) {
+        sample.stop(Timer.builder("app.storage.operations")
+                .description("Storage backend writes and deletes")
+                .tag("operation", operation)
+                .tag("backend", storageBackend.name())
+                .tag("module", module)
+                .tag("outcome", outcome)
+                .register(meterRegistry));
+    }
+
+    /**
+     * Module type from the first segment of a stored path, as written by storeFile
+     */
+    private static String moduleOf(String filePath) {
+        int slash = filePath.indexOf('/');
+        String module = slash > 0 ? filePath.substring(0, slash).toUpperCase() : "";
+        for (ModuleType moduleType : ModuleType.values()) {
+            if (moduleType.name().equals(module)) {
+                return module;
+            }
         }
+        return "UNKNOWN";
     }
 
     private String getFileExtension(String fileName) {
@@ -1,6 +1,8 @@
 package com.generalgivers.foundation.service;
 
 import com.generalgivers.foundation.config.MailerSendConfig;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpHeaders;
@@ -20,15 +22,17 @@ import org.springframework.web.reactive.function.client.WebClientResponseExcepti
 public class MailerSendService {
 
     private final MailerSendConfig mailerSendConfig;
+    private final MeterRegistry meterRegistry;
     private final WebClient webClient = WebClient.builder().build();
 
     public boolean sendEmail(String to, String subject, String htmlContent) {
+        Timer.Sample sample = Timer.start(meterRegistry);
         try {
             log.info("Attempting to send email via MailerSend");
             log.info("From Email: {}", mailerSendConfig.getFromEmail());
             log.info("To Email: {}", to);
 
-            String url = "https://api.mailersend.com/v1/email";
+            String url = mailerSendConfig.getBaseUrl() + "/v1/email";
 
             // Build request body using HashMap for proper JSON serialization
             Map<String, Object> fromData = new HashMap<>();
@@ -56,16 +60,27 @@ public class MailerSendService {
                     .block();
 
             log.info("Email sent successfully via MailerSend to: {}", to);
+            record(sample, "sent");
             return true;
         } catch (WebClientResponseException e) {
             log.error("MailerSend API error - Status: {}, Body: {}", e.getStatusCode(), e.getResponseBodyAsString());
+            record(sample, "rejected");
             return false;
         } catch (Exception e) {
             log.error("Failed to send email via MailerSend to {}: {}", to, e.getMessage());
+            record(sample, "error");
             return false;
         }
     }
 
+    private void record(Timer.Sample sample, String outcome) {
+        sample.stop(Timer.builder("app.email.send")
+                .description("Email deliveries by provider and outcome")
+                .tag("provider", "mailersend")
+                .tag("outcome", outcome)
+                .register(meterRegistry));
+    }
+
     public void sendNotificationEmail(String to, String name, String subject, String content) {
         String htmlContent = String.format(
             "<div style='font-family: Arial, sans-serif; max-width: 600px; margin: 0 auto;'>" +
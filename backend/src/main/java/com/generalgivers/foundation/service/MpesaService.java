@@ -7,6 +7,11 @@ import com.generalgivers.foundation.entity.DonationStatus;
 import com.generalgivers.foundation.entity.Project;
 import com.generalgivers.foundation.repository.DonationRepository;
 import com.generalgivers.foundation.repository.ProjectRepository;
+import com.generalgivers.foundation.service.analytics.DonationAnalyticsService;
+import com.generalgivers.foundation.service.cache.AggregateVersions;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.*;
@@ -31,6 +36,9 @@ public class MpesaService {
     private final ProjectRepository projectRepository;
     private final RestTemplate restTemplate;
     private final NotificationService notificationService;
+    private final AggregateVersions aggregateVersions;
+    private final DonationAnalyticsService donationAnalyticsService;
+    private final MeterRegistry meterRegistry;
 
     private static final DateTimeFormatter TIMESTAMP_FORMAT = DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
 
@@ -48,7 +56,7 @@ public class MpesaService {
         HttpEntity<String> request = new HttpEntity<>(headers);
 
         try {
-            ResponseEntity<MpesaAuthResponse> response = restTemplate.exchange(
+            ResponseEntity<MpesaAuthResponse> response = exchange("oauth",
                     mpesaConfig.getOAuthUrl(),
                     HttpMethod.GET,
                     request,
@@ -113,7 +121,7 @@ public class MpesaService {
         HttpEntity<StkPushRequest> request = new HttpEntity<>(stkRequest, headers);
 
         try {
-            ResponseEntity<StkPushResponse> response = restTemplate.exchange(
+            ResponseEntity<StkPushResponse> response = exchange("stk_push",
                     mpesaConfig.getStkPushUrl(),
                     HttpMethod.POST,
                     request,
@@ -126,6 +134,11 @@ public class MpesaService {
                 donation.setMerchantRequestId(stkResponse.getMerchantRequestId());
                 donation.setCheckoutRequestId(stkResponse.getCheckoutRequestId());
                 donationRepository.save(donation);
+                DistributionSummary.builder("app.mpesa.stk_push.amount")
+                        .description("Amounts of initiated STK push payments")
+                        .baseUnit("KES")
+                        .register(meterRegistry)
+                        .record(paymentRequest.getAmount().doubleValue());
 
                 log.info("STK Push initiated successfully. CheckoutRequestID: {}", stkResponse.getCheckoutRequestId());
                 return stkResponse;
@@ -161,6 +174,7 @@ public class MpesaService {
                     .ifPresent(donation::setProject);
         }
 
+        donationAnalyticsService.donationsChanged();
         return donationRepository.save(donation);
     }
 
@@ -169,6 +183,22 @@ public class MpesaService {
      */
     @Transactional
     public void processCallback(StkCallback callback) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "error";
+        try {
+            outcome = applyCallback(callback);
+        } finally {
+            sample.stop(Timer.builder("app.mpesa.callbacks")
+                    .description("Time to process STK push result callbacks")
+                    .tag("outcome", outcome)
+                    .register(meterRegistry));
+        }
+    }
+
+    /**
+     * @return the metric outcome: completed, failed or unmatched
+     */
+    private String applyCallback(StkCallback callback) {
         StkCallback.StkCallbackContent content = callback.getBody().getStkCallback();
 
         log.info("Processing M-Pesa callback. CheckoutRequestID: {}, ResultCode: {}",
@@ -179,7 +209,7 @@ public class MpesaService {
 
         if (donationOpt.isEmpty()) {
             log.warn("No donation found for CheckoutRequestID: {}", content.getCheckoutRequestId());
-            return;
+            return "unmatched";
         }
 
         Donation donation = donationOpt.get();
@@ -222,6 +252,7 @@ public class MpesaService {
                 BigDecimal newFundsRaised = project.getFundsRaised().add(donation.getAmount());
                 project.setFundsRaised(newFundsRaised);
                 projectRepository.save(project);
+                aggregateVersions.bump(AggregateVersions.PROJECTS);
                 log.info("Updated project {} funds to {}", project.getId(), newFundsRaised);
             }
 
@@ -249,6 +280,8 @@ public class MpesaService {
         }
 
         donationRepository.save(donation);
+        donationAnalyticsService.donationsChanged();
+        return content.isSuccessful() ? "completed" : "failed";
     }
 
     /**
@@ -271,7 +304,7 @@ public class MpesaService {
         HttpEntity<String> request = new HttpEntity<>(requestBody, headers);
 
         try {
-            ResponseEntity<String> response = restTemplate.exchange(
+            ResponseEntity<String> response = exchange("stk_query",
                     mpesaConfig.getStkQueryUrl(),
                     HttpMethod.POST,
                     request,
@@ -284,6 +317,26 @@ public class MpesaService {
         }
     }
 
+    /**
+     * Daraja API call timed as app.mpesa.requests by operation and outcome
+     */
+    private <T> ResponseEntity<T> exchange(String operation, String url, HttpMethod method,
+                                           HttpEntity<?> request, Class<T> responseType) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "error";
+        try {
+            ResponseEntity<T> response = restTemplate.exchange(url, method, request, responseType);
+            outcome = response.getBody() != null ? "success" : "empty_response";
+            return response;
+        } finally {
+            sample.stop(Timer.builder("app.mpesa.requests")
+                    .description("Daraja API calls")
+                    .tag("operation", operation)
+                    .tag("outcome", outcome)
+                    .register(meterRegistry));
+        }
+    }
+
     /**
      * Get donation by checkout request ID
      */
@@ -0,0 +1,43 @@
+package com.generalgivers.foundation.service;
+
+import com.generalgivers.foundation.entity.NotificationType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Notification meters shared by the in-app notification service and the per-module email
+ * notifiers: notifications stored by type and audience, and how many recipients each
+ * module event fans out to.
+ */
+@Component
+@RequiredArgsConstructor
+public class NotificationMetrics {
+
+    public static final String EMAIL = "email";
+    public static final String IN_APP = "in_app";
+
+    private final MeterRegistry meterRegistry;
+
+    public void created(NotificationType type, boolean global) {
+        Counter.builder("app.notifications.created")
+                .description("In-app notifications stored, by type and audience")
+                .tag("type", type != null ? type.name() : "NONE")
+                .tag("audience", global ? "global" : "user")
+                .register(meterRegistry)
+                .increment();
+    }
+
+    public void fanOut(String module, String event, String channel, int recipients) {
+        DistributionSummary.builder("app.notifications.fanout")
+                .description("Recipients notified per module event")
+                .baseUnit("recipients")
+                .tag("module", module)
+                .tag("event", event)
+                .tag("channel", channel)
+                .register(meterRegistry)
+                .record(recipients);
+    }
+}
@@ -29,9 +29,9 @@ public class NotificationService {
 
     private final NotificationRepository notificationRepository;
     private final UserRepository userRepository;
+    private final NotificationMetrics notificationMetrics;
 
-    public NotificationsPageResponse getUserNotifications(String userEmail, int page, int size) {
-        User user = userRepository.findByEmail(userEmail).orElseThrow();
+    public NotificationsPageResponse getUserNotifications(User user, int page, int size) {
         Page<Notification> notificationPage = getNotificationsForUser(user.getId(), page, size);
         
         List<NotificationResponse> notifications = notificationPage.getContent().stream()
@@ -47,15 +47,13 @@ public class NotificationService {
                 .build();
     }
 
-    public List<NotificationResponse> getUnreadNotifications(String userEmail) {
-        User user = userRepository.findByEmail(userEmail).orElseThrow();
+    public List<NotificationResponse> getUnreadNotifications(User user) {
         return getUnreadNotificationsForUser(user.getId()).stream()
                 .map(this::mapToResponse)
                 .collect(Collectors.toList());
     }
 
-    public long getUnreadCount(String userEmail) {
-        User user = userRepository.findByEmail(userEmail).orElseThrow();
+    public long getUnreadCount(User user) {
         return getUnreadCountForUser(user.getId());
     }
 
@@ -72,11 +70,10 @@ public class NotificationService {
     }
 
     @Transactional
-    public void markAllAsRead(String userEmail) {
+    public void markAllAsRead(User user) {
+        String userEmail = user.getEmail();
         log.info("Marking all notifications as read for user {}", userEmail);
         try {
-            User user = userRepository.findByEmail(userEmail)
-                    .orElseThrow(() -> new RuntimeException("User not found: " + userEmail));
             notificationRepository.markAllAsReadForUser(user.getId(), LocalDateTime.now());
             log.info("Successfully marked all notifications as read for user {}", userEmail);
         } catch (Exception e) {
@@ -144,10 +141,22 @@ public class NotificationService {
                 .build();
 
         notification = notificationRepository.save(notification);
+        notificationMetrics.created(type, isGlobal);
         log.info("Created notification: {} for type: {}", notification.getId(), type);
         return notification;
     }
 
+    /**
+     * Persist several prepared notifications in one flush so they go out as JDBC batches
+     */
+    @Transactional
+    public List<Notification> createNotifications(List<Notification> notifications) {
+        List<Notification> saved = notificationRepository.saveAll(notifications);
+        saved.forEach(notification -> notificationMetrics.created(notification.getType(), Boolean.TRUE.equals(notification.getIsGlobal())));
+        log.info("Created {} notifications", saved.size());
+        return saved;
+    }
+
     @Transactional
     public Notification createGlobalNotification(String title, String message, NotificationType type,
                                                  String entityType, String entityId) {
@@ -233,11 +242,4 @@ public class NotificationService {
         createNotification(title, message, NotificationType.VISIT_SCHEDULED,
                 "VISIT", visitId, metadata, null, true);
     }
-
-    @Transactional
-    public void deleteOldNotifications(int daysOld) {
-        LocalDateTime cutoff = LocalDateTime.now().minusDays(daysOld);
-        notificationRepository.deleteOlderThan(cutoff);
-        log.info("Deleted notifications older than {} days", daysOld);
-    }
 }
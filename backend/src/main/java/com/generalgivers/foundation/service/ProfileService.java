@@ -8,6 +8,7 @@ import com.generalgivers.foundation.entity.NotificationType;
 import com.generalgivers.foundation.entity.User;
 import com.generalgivers.foundation.exception.ResourceNotFoundException;
 import com.generalgivers.foundation.repository.UserRepository;
+import com.generalgivers.foundation.security.CurrentUserResolver;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -23,6 +24,7 @@ import java.util.UUID;
 public class ProfileService {
 
     private final UserRepository userRepository;
+    private final CurrentUserResolver currentUserResolver;
     private final NotificationService notificationService;
     private final UploadService uploadService;
 
@@ -33,7 +35,7 @@ public class ProfileService {
     public UserResponse updateProfile(String userEmail, UpdateProfileRequest request) {
         log.info("Updating profile for user: {}", userEmail);
         
-        User user = userRepository.findByEmail(userEmail)
+        User user = currentUserResolver.findForUpdate(userEmail)
                 .orElseThrow(() -> new ResourceNotFoundException("User", "email", userEmail));
 
         // Update user fields
@@ -59,7 +61,7 @@ public class ProfileService {
     public UploadResponse uploadProfilePicture(String userEmail, MultipartFile file) {
         log.info("Uploading profile picture for user: {}", userEmail);
 
-        User user = userRepository.findByEmail(userEmail)
+        User user = currentUserResolver.findForUpdate(userEmail)
                 .orElseThrow(() -> new ResourceNotFoundException("User", "email", userEmail));
 
         try {
@@ -92,7 +94,7 @@ public class ProfileService {
     }
 
     public UserResponse getCurrentProfile(String userEmail) {
-        User user = userRepository.findByEmail(userEmail)
+        User user = currentUserResolver.findByEmail(userEmail)
                 .orElseThrow(() -> new ResourceNotFoundException("User", "email", userEmail));
         return mapToUserResponse(user);
     }
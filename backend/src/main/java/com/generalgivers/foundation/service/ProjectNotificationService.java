@@ -17,6 +17,7 @@ public class ProjectNotificationService {
 
     private final NotificationService notificationService;
     private final UserRepository userRepository;
+    private final NotificationMetrics notificationMetrics;
 
     public void notifyProjectCreated(String projectTitle, String createdBy) {
         // Notify all admin users about new project
@@ -36,6 +37,7 @@ public class ProjectNotificationService {
             );
         }
         
+        notificationMetrics.fanOut("project", "created", NotificationMetrics.IN_APP, adminUsers.size());
         log.info("Project creation notifications sent to {} admin users", adminUsers.size());
     }
 
@@ -57,6 +59,7 @@ public class ProjectNotificationService {
             );
         }
         
+        notificationMetrics.fanOut("project", "updated", NotificationMetrics.IN_APP, notifyUsers.size());
         log.info("Project update notifications sent to {} users", notifyUsers.size());
     }
 
@@ -76,6 +79,7 @@ public class ProjectNotificationService {
             );
         }
         
+        notificationMetrics.fanOut("project", "completed", NotificationMetrics.IN_APP, allUsers.size());
         log.info("Project completion notifications sent to {} users", allUsers.size());
     }
 
@@ -97,6 +101,7 @@ public class ProjectNotificationService {
             );
         }
         
+        notificationMetrics.fanOut("project", "deleted", NotificationMetrics.IN_APP, adminUsers.size());
         log.info("Project deletion notifications sent to {} admin users", adminUsers.size());
     }
 }
\ No newline at end of file
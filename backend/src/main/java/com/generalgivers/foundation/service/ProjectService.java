@@ -7,7 +7,9 @@ import com.generalgivers.foundation.entity.ProjectStatus;
 import com.generalgivers.foundation.entity.User;
 import com.generalgivers.foundation.exception.ResourceNotFoundException;
 import com.generalgivers.foundation.repository.ProjectRepository;
-import com.generalgivers.foundation.repository.UserRepository;
+import com.generalgivers.foundation.security.CurrentUserResolver;
+import com.generalgivers.foundation.service.audit.Audited;
+import com.generalgivers.foundation.service.cache.AggregateVersions;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -25,8 +27,9 @@ import java.util.stream.Collectors;
 public class ProjectService {
 
     private final ProjectRepository projectRepository;
-    private final UserRepository userRepository;
+    private final CurrentUserResolver currentUserResolver;
     private final ProjectNotificationService projectNotificationService;
+    private final AggregateVersions aggregateVersions;
 
     public List<ProjectResponse> getAllProjects() {
         List<Project> projects = projectRepository.findAllOrderByCreatedAtDesc();
@@ -55,8 +58,9 @@ public class ProjectService {
     }
 
     @Transactional
+    @Audited(action = "CREATE", entity = "Project")
     public ProjectResponse createProject(ProjectRequest request, String userEmail) {
-        User creator = userRepository.findByEmail(userEmail)
+        User creator = currentUserResolver.findByEmail(userEmail)
                 .orElseThrow(() -> new ResourceNotFoundException("User", "email", userEmail));
 
         Project project = Project.builder()
@@ -72,6 +76,7 @@ public class ProjectService {
                 .build();
 
         project = projectRepository.save(project);
+        aggregateVersions.bump(AggregateVersions.PROJECTS);
         
         // Send notifications (optional - don't fail if this errors)
         try {
@@ -84,11 +89,12 @@ public class ProjectService {
     }
 
     @Transactional
+    @Audited(action = "UPDATE", entity = "Project")
     public ProjectResponse updateProject(UUID id, ProjectRequest request, String userEmail) {
         Project project = projectRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Project", "id", id));
 
-        User updater = userRepository.findByEmail(userEmail)
+        User updater = currentUserResolver.findByEmail(userEmail)
                 .orElseThrow(() -> new ResourceNotFoundException("User", "email", userEmail));
 
         ProjectStatus oldStatus = project.getStatus();
@@ -116,6 +122,7 @@ public class ProjectService {
         }
 
         project = projectRepository.save(project);
+        aggregateVersions.bump(AggregateVersions.PROJECTS);
         
         // Send notifications (optional - don't fail if this errors)
         try {
@@ -133,16 +140,18 @@ public class ProjectService {
     }
 
     @Transactional
+    @Audited(action = "DELETE", entity = "Project")
     public void deleteProject(UUID id, String userEmail) {
         Project project = projectRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Project", "id", id));
         
-        User deleter = userRepository.findByEmail(userEmail)
+        User deleter = currentUserResolver.findByEmail(userEmail)
                 .orElseThrow(() -> new ResourceNotFoundException("User", "email", userEmail));
         
         String projectTitle = project.getTitle();
         
         projectRepository.deleteById(id);
+        aggregateVersions.bump(AggregateVersions.PROJECTS);
         
         // Send deletion notification (optional - don't fail if this errors)
         try {
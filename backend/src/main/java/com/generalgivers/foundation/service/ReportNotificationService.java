@@ -1,10 +1,12 @@
 package com.generalgivers.foundation.service;
 
+import com.generalgivers.foundation.config.AsyncConfig;
 import com.generalgivers.foundation.entity.User;
 import com.generalgivers.foundation.entity.UserRole;
 import com.generalgivers.foundation.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -16,7 +18,9 @@ public class ReportNotificationService {
 
     private final UserRepository userRepository;
     private final MailerSendService mailerSendService;
+    private final NotificationMetrics notificationMetrics;
 
+    @Async(AsyncConfig.NOTIFICATION_EXECUTOR)
     public void notifyReportGenerated(String reportType, String generatorName) {
         try {
             // Get admin and leadership users for report notifications
@@ -41,12 +45,14 @@ public class ReportNotificationService {
                 );
             }
 
+            notificationMetrics.fanOut("report", "report_generated", NotificationMetrics.EMAIL, adminUsers.size());
             log.info("Report generated notifications sent to {} admin users", adminUsers.size());
         } catch (Exception e) {
             log.error("Failed to send report generated notifications", e);
         }
     }
 
+    @Async(AsyncConfig.NOTIFICATION_EXECUTOR)
     public void notifyDataExport(String exportType, String exporterName, int recordCount) {
         try {
             // Get admin users for data export notifications
@@ -70,6 +76,7 @@ public class ReportNotificationService {
                 );
             }
 
+            notificationMetrics.fanOut("report", "data_export", NotificationMetrics.EMAIL, adminUsers.size());
             log.info("Data export notifications sent to {} admin users", adminUsers.size());
         } catch (Exception e) {
             log.error("Failed to send data export notifications", e);
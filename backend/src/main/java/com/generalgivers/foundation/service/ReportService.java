@@ -1,25 +1,33 @@
 package com.generalgivers.foundation.service;
 
+import com.generalgivers.foundation.dto.report.DonationMethodReport;
 import com.generalgivers.foundation.dto.report.MonthlyFundsReport;
 import com.generalgivers.foundation.dto.report.ProjectProgressReport;
 import com.generalgivers.foundation.dto.report.UserRoleReport;
 import com.generalgivers.foundation.dto.report.UserReportDto;
+import com.generalgivers.foundation.entity.DonationStatus;
 import com.generalgivers.foundation.entity.Project;
 import com.generalgivers.foundation.entity.User;
 import com.generalgivers.foundation.entity.UserRole;
 import com.generalgivers.foundation.exception.ResourceNotFoundException;
 import com.generalgivers.foundation.exception.ReportGenerationException;
-import com.generalgivers.foundation.repository.DonationRepository;
 import com.generalgivers.foundation.repository.ProjectRepository;
 import com.generalgivers.foundation.repository.UserRepository;
+import com.generalgivers.foundation.security.CurrentUserResolver;
+import com.generalgivers.foundation.service.analytics.DonationAnalyticsService;
+import com.generalgivers.foundation.service.sql.ReplicaRead;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 @Service
@@ -27,33 +35,29 @@ import java.util.stream.Collectors;
 @Slf4j
 public class ReportService {
 
-    private final DonationRepository donationRepository;
+    private final DonationAnalyticsService donationAnalyticsService;
     private final ProjectRepository projectRepository;
     private final UserRepository userRepository;
+    private final CurrentUserResolver currentUserResolver;
     private final ReportNotificationService reportNotificationService;
 
+    @Timed(value = "app.reports.generation", extraTags = {"report", "monthly_funds"})
+    @ReplicaRead
     public List<MonthlyFundsReport> getMonthlyFundsReport(int year, String userEmail) {
         try {
-            User user = userRepository.findByEmail(userEmail)
+            User user = currentUserResolver.findByEmail(userEmail)
                     .orElseThrow(() -> new ResourceNotFoundException("User", "email", userEmail));
 
             List<MonthlyFundsReport> reports = new ArrayList<>();
-            
-            List<Object[]> results = donationRepository.getMonthlyDonationsForYear(year);
-            
-            for (Object[] result : results) {
-                java.sql.Timestamp timestamp = (java.sql.Timestamp) result[0];
-                BigDecimal total = (BigDecimal) result[1];
-
-                java.time.LocalDateTime dateTime = timestamp.toLocalDateTime();
-
-                reports.add(MonthlyFundsReport.builder()
-                        .month(dateTime.getMonthValue())
-                        .year(dateTime.getYear())
-                        .totalAmount(total)
-                        .donationCount(0L)
-                        .build());
-            }
+
+            LocalDate start = LocalDate.of(year, 1, 1);
+            donationAnalyticsService.monthlyTotals(start, start.plusYears(1), DonationStatus.COMPLETED)
+                    .forEach((month, totals) -> reports.add(MonthlyFundsReport.builder()
+                            .month(month.getMonthValue())
+                            .year(month.getYear())
+                            .totalAmount(totals.totalAmount())
+                            .donationCount(totals.donationCount())
+                            .build()));
 
             try {
                 // Email notifications disabled for reports
@@ -71,17 +75,54 @@ public class ReportService {
         }
     }
 
+    @Timed(value = "app.reports.generation", extraTags = {"report", "donation_methods"})
+    @ReplicaRead
+    public List<DonationMethodReport> getDonationMethodReport(String userEmail) {
+        try {
+            User user = currentUserResolver.findByEmail(userEmail)
+                    .orElseThrow(() -> new ResourceNotFoundException("User", "email", userEmail));
+
+            List<DonationMethodReport> reports = donationAnalyticsService.totalsByMethod().stream()
+                    .map(totals -> DonationMethodReport.builder()
+                            .method(totals.method())
+                            .status(totals.status())
+                            .totalAmount(totals.totalAmount())
+                            .donationCount(totals.donationCount())
+                            .build())
+                    .collect(Collectors.toList());
+
+            try {
+                // Email notifications disabled for reports
+                log.info("Donation Method Report generated for user: {}", user.getName());
+            } catch (Exception e) {
+                log.warn("Failed to log report generation: {}", e.getMessage());
+            }
+
+            return reports;
+        } catch (ResourceNotFoundException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("Error generating donation method report: {}", e.getMessage(), e);
+            throw new ReportGenerationException("Failed to generate donation method report: " + e.getMessage());
+        }
+    }
+
+    @Timed(value = "app.reports.generation", extraTags = {"report", "project_progress"})
+    @ReplicaRead
     public List<ProjectProgressReport> getProjectProgressReport(String userEmail) {
         try {
-            User user = userRepository.findByEmail(userEmail)
+            User user = currentUserResolver.findByEmail(userEmail)
                     .orElseThrow(() -> new ResourceNotFoundException("User", "email", userEmail));
 
             List<Project> projects = projectRepository.findAll();
+            Map<UUID, DonationAnalyticsService.Totals> donationTotals =
+                    donationAnalyticsService.totalsByProject(DonationStatus.COMPLETED);
 
             List<ProjectProgressReport> reports = projects.stream()
                     .map(project -> {
                         try {
-                            long donationCount = donationRepository.findByProjectId(project.getId()).size();
+                            long donationCount = donationTotals.getOrDefault(project.getId(), DonationAnalyticsService.Totals.NONE)
+                                    .donationCount();
                             Double percentFunded = calculatePercentFunded(project.getFundsRaised(), project.getTargetAmount());
 
                             return ProjectProgressReport.builder()
@@ -117,9 +158,11 @@ public class ReportService {
         }
     }
 
+    @Timed(value = "app.reports.generation", extraTags = {"report", "user_roles"})
+    @ReplicaRead
     public List<UserRoleReport> getUserRoleReport(String userEmail) {
         try {
-            User user = userRepository.findByEmail(userEmail)
+            User user = currentUserResolver.findByEmail(userEmail)
                     .orElseThrow(() -> new ResourceNotFoundException("User", "email", userEmail));
 
             List<UserRoleReport> reports = new ArrayList<>();
@@ -154,9 +197,11 @@ public class ReportService {
         }
     }
 
+    @Timed(value = "app.reports.generation", extraTags = {"report", "users"})
+    @ReplicaRead
     public List<UserReportDto> getUsersReport(String userEmail) {
         try {
-            User user = userRepository.findByEmail(userEmail)
+            User user = currentUserResolver.findByEmail(userEmail)
                     .orElseThrow(() -> new ResourceNotFoundException("User", "email", userEmail));
 
             List<UserReportDto> reports = userRepository.findAll().stream()
@@ -197,7 +242,7 @@ public class ReportService {
 
     public void notifyDataExport(String exportType, String userEmail, int recordCount) {
         try {
-            User user = userRepository.findByEmail(userEmail)
+            User user = currentUserResolver.findByEmail(userEmail)
                     .orElseThrow(() -> new ResourceNotFoundException("User", "email", userEmail));
 
             // Email notifications disabled for reports
@@ -1,6 +1,8 @@
 package com.generalgivers.foundation.service;
 
 import com.generalgivers.foundation.config.ResendConfig;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpHeaders;
@@ -19,11 +21,11 @@ import java.util.Map;
 public class ResendEmailService {
 
     private final ResendConfig resendConfig;
+    private final MeterRegistry meterRegistry;
     private final WebClient webClient = WebClient.builder().build();
 
-    private static final String RESEND_API_URL = "https://api.resend.com/emails";
-
     public boolean sendEmail(String to, String subject, String htmlContent) {
+        Timer.Sample sample = Timer.start(meterRegistry);
         try {
             log.info("Attempting to send email via Resend");
             log.info("From Email: {}", resendConfig.getFromEmail());
@@ -36,7 +38,7 @@ public class ResendEmailService {
             emailData.put("html", htmlContent);
 
             String response = webClient.post()
-                    .uri(RESEND_API_URL)
+                    .uri(resendConfig.getBaseUrl() + "/emails")
                     .header(HttpHeaders.AUTHORIZATION, "Bearer " + resendConfig.getApiKey())
                     .contentType(MediaType.APPLICATION_JSON)
                     .bodyValue(emailData)
@@ -46,16 +48,27 @@ public class ResendEmailService {
                     .block();
 
             log.info("Email sent successfully via Resend to: {}. Response: {}", to, response);
+            record(sample, "sent");
             return true;
         } catch (WebClientResponseException e) {
             log.error("Resend API error - Status: {}, Body: {}", e.getStatusCode(), e.getResponseBodyAsString());
+            record(sample, "rejected");
             return false;
         } catch (Exception e) {
             log.error("Failed to send email via Resend to {}: {}", to, e.getMessage());
+            record(sample, "error");
             return false;
         }
     }
 
+    private void record(Timer.Sample sample, String outcome) {
+        sample.stop(Timer.builder("app.email.send")
+                .description("Email deliveries by provider and outcome")
+                .tag("provider", "resend")
+                .tag("outcome", outcome)
+                .register(meterRegistry));
+    }
+
     public void sendNotificationEmail(String to, String name, String subject, String content) {
         String htmlContent = String.format(
             "<div style='font-family: Arial, sans-serif; max-width: 600px; margin: 0 auto;'>" +
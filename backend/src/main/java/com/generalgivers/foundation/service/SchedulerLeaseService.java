@@ -0,0 +1,117 @@
+package com.generalgivers.foundation.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.net.InetAddress;
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Database-backed leases so that cluster-wide jobs run on exactly one node. A held lease is trusted
+ * locally until a third of its TTL has elapsed and is renewed on the next check after that, so the
+ * database sees one statement per lease every few seconds rather than one per job tick. A node
+ * that failed to get a lease likewise waits a third of the TTL before trying again.
+ *
+ * Leases are written with plain JDBC: a native query through JPA would make Hibernate evict every
+ * second-level cache region on each attempt, as it cannot tell which entities the query touches.
+ */
+@Service
+@Slf4j
+public class SchedulerLeaseService {
+
+    // Take or renew the lease: succeeds when it is free, expired or already ours. Expiry is
+    // computed from the database clock so nodes with skewed clocks agree.
+    private static final String TRY_ACQUIRE =
+            "INSERT INTO scheduler_leases (name, owner, expires_at) " +
+            "VALUES (:name, :owner, LOCALTIMESTAMP + make_interval(secs => :ttlSeconds)) " +
+            "ON CONFLICT (name) DO UPDATE SET owner = EXCLUDED.owner, expires_at = EXCLUDED.expires_at " +
+            "WHERE scheduler_leases.owner = EXCLUDED.owner OR scheduler_leases.expires_at < LOCALTIMESTAMP";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final Duration ttl;
+    private final String owner;
+
+    // Lease name -> System.nanoTime() until which the lease is considered held without renewing
+    private final Map<String, Long> trustedUntil = new ConcurrentHashMap<>();
+
+    // Lease name -> System.nanoTime() before which another node is assumed to still hold it
+    private final Map<String, Long> retryAfter = new ConcurrentHashMap<>();
+
+    public SchedulerLeaseService(NamedParameterJdbcTemplate jdbcTemplate,
+                                 @Value("${app.scheduler.lease-ttl:30s}") Duration ttl) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.ttl = ttl;
+        this.owner = hostName() + ":" + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    public String getOwner() {
+        return owner;
+    }
+
+    public boolean holds(String leaseName) {
+        Long until = trustedUntil.get(leaseName);
+        long now = System.nanoTime();
+        if (until != null && now - until < 0) {
+            return true;
+        }
+        Long retry = retryAfter.get(leaseName);
+        if (retry != null && now - retry < 0) {
+            return false;
+        }
+
+        boolean acquired;
+        try {
+            acquired = jdbcTemplate.update(TRY_ACQUIRE, new MapSqlParameterSource()
+                    .addValue("name", leaseName)
+                    .addValue("owner", owner)
+                    .addValue("ttlSeconds", (double) ttl.toSeconds())) > 0;
+        } catch (RuntimeException e) {
+            log.warn("Could not renew lease {}: {}", leaseName, e.getMessage());
+            acquired = false;
+        }
+
+        if (acquired) {
+            if (until == null) {
+                log.info("Acquired scheduler lease {} as {}", leaseName, owner);
+            }
+            trustedUntil.put(leaseName, System.nanoTime() + ttl.toNanos() / 3);
+            retryAfter.remove(leaseName);
+        } else {
+            if (trustedUntil.remove(leaseName) != null) {
+                log.info("Lost scheduler lease {}", leaseName);
+            }
+            // The lease cannot fall free before the holder's TTL runs out, so retrying sooner is wasted
+            retryAfter.put(leaseName, System.nanoTime() + ttl.toNanos() / 3);
+        }
+        return acquired;
+    }
+
+    @PreDestroy
+    public void releaseAll() {
+        trustedUntil.keySet().forEach(leaseName -> {
+            try {
+                jdbcTemplate.update("DELETE FROM scheduler_leases WHERE name = :name AND owner = :owner",
+                        new MapSqlParameterSource().addValue("name", leaseName).addValue("owner", owner));
+                log.info("Released scheduler lease {}", leaseName);
+            } catch (RuntimeException e) {
+                log.warn("Could not release lease {}: {}", leaseName, e.getMessage());
+            }
+        });
+        trustedUntil.clear();
+    }
+
+    private static String hostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (Exception e) {
+            return "unknown-host";
+        }
+    }
+}
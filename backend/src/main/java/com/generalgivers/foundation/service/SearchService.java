@@ -0,0 +1,173 @@
+package com.generalgivers.foundation.service;
+
+import com.generalgivers.foundation.dto.search.SearchResponse;
+import com.generalgivers.foundation.dto.search.SearchResult;
+import com.generalgivers.foundation.dto.search.SearchResultType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.web.util.HtmlUtils;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Ranked full-text search across projects, children homes, visits and events using PostgreSQL
+ * text search. The document expressions below are indexed by V21__add_full_text_search_indexes.sql;
+ * keep the two in sync or the GIN indexes will not be used.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SearchService {
+
+    private static final int MAX_PAGE_SIZE = 50;
+    private static final int MAX_QUERY_LENGTH = 200;
+
+    private static final String PROJECT_DOCUMENT =
+            "setweight(to_tsvector('english'::regconfig, coalesce(p.title, '')), 'A') || " +
+            "setweight(to_tsvector('english'::regconfig, coalesce(p.description, '')), 'B')";
+
+    private static final String CHILDREN_HOME_DOCUMENT =
+            "setweight(to_tsvector('english'::regconfig, coalesce(h.name, '')), 'A') || " +
+            "setweight(to_tsvector('english'::regconfig, coalesce(h.location, '') || ' ' || coalesce(h.city, '') || ' ' || coalesce(h.town, '') || ' ' || coalesce(h.village, '')), 'B') || " +
+            "setweight(to_tsvector('english'::regconfig, coalesce(h.notes, '')), 'C')";
+
+    private static final String VISIT_DOCUMENT =
+            "setweight(to_tsvector('english'::regconfig, coalesce(v.location, '') || ' ' || coalesce(v.city, '') || ' ' || coalesce(v.town, '') || ' ' || coalesce(v.village, '')), 'A') || " +
+            "setweight(jsonb_to_tsvector('english'::regconfig, coalesce(v.participants, '[]'::jsonb), '[\"string\"]'::jsonb), 'A') || " +
+            "setweight(to_tsvector('english'::regconfig, coalesce(v.notes, '')), 'B')";
+
+    private static final String EVENT_DOCUMENT =
+            "setweight(to_tsvector('english'::regconfig, coalesce(e.title, '')), 'A') || " +
+            "setweight(to_tsvector('english'::regconfig, coalesce(e.description, '')), 'B')";
+
+    private static final Map<SearchResultType, String> BRANCHES = Map.of(
+            SearchResultType.PROJECT,
+            "SELECT 'PROJECT' AS type, p.id, p.title AS title, " +
+            "ts_rank_cd(" + PROJECT_DOCUMENT + ", q.query) AS rank, CAST(p.created_at AS timestamp) AS date, " +
+            "concat_ws(' ', p.title, p.description) AS body " +
+            "FROM projects p, q WHERE (" + PROJECT_DOCUMENT + ") @@ q.query",
+
+            SearchResultType.CHILDREN_HOME,
+            "SELECT 'CHILDREN_HOME' AS type, h.id, h.name AS title, " +
+            "ts_rank_cd(" + CHILDREN_HOME_DOCUMENT + ", q.query) AS rank, CAST(h.created_at AS timestamp) AS date, " +
+            "concat_ws(' ', h.name, h.location, h.city, h.town, h.village, h.notes) AS body " +
+            "FROM children_homes h, q WHERE (" + CHILDREN_HOME_DOCUMENT + ") @@ q.query",
+
+            SearchResultType.VISIT,
+            "SELECT 'VISIT' AS type, v.id, coalesce(ch.name, v.location, 'Visit') AS title, " +
+            "ts_rank_cd(" + VISIT_DOCUMENT + ", q.query) AS rank, CAST(v.visit_date AS timestamp) AS date, " +
+            "concat_ws(' ', v.location, v.city, v.town, v.village, v.notes, " +
+            "(SELECT string_agg(value, ', ') FROM jsonb_array_elements_text(" +
+            "CASE WHEN jsonb_typeof(v.participants) = 'array' THEN v.participants ELSE '[]'::jsonb END))) AS body " +
+            "FROM visits v LEFT JOIN children_homes ch ON ch.id = v.children_home_id, q " +
+            "WHERE (" + VISIT_DOCUMENT + ") @@ q.query",
+
+            SearchResultType.EVENT,
+            "SELECT 'EVENT' AS type, e.id, e.title AS title, " +
+            "ts_rank_cd(" + EVENT_DOCUMENT + ", q.query) AS rank, e.start_date_time AS date, " +
+            "concat_ws(' ', e.title, e.description) AS body " +
+            "FROM events e, q WHERE (" + EVENT_DOCUMENT + ") @@ q.query"
+    );
+
+    // ts_headline copies the text as is, markup included, so matches are delimited with control
+    // characters (removed from the text first) and the result is escaped before they become <mark>
+    private static final String MATCH_START = "\u0002";
+    private static final String MATCH_END = "\u0003";
+    private static final String HEADLINE_OPTIONS = "StartSel=" + MATCH_START + ", StopSel=" + MATCH_END +
+            ", MaxWords=30, MinWords=10, MaxFragments=2, FragmentDelimiter=\" … \"";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public SearchResponse search(String query, Collection<SearchResultType> types, int page, int size) {
+        String trimmed = query == null ? "" : query.trim();
+        if (trimmed.isEmpty()) {
+            throw new IllegalArgumentException("Search query must not be empty");
+        }
+        if (trimmed.length() > MAX_QUERY_LENGTH) {
+            throw new IllegalArgumentException("Search query must be at most " + MAX_QUERY_LENGTH + " characters");
+        }
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        int pageNumber = Math.max(page, 0);
+        Set<SearchResultType> selected = types == null || types.isEmpty()
+                ? EnumSet.allOf(SearchResultType.class)
+                : EnumSet.copyOf(types);
+
+        String union = selected.stream()
+                .map(BRANCHES::get)
+                .collect(Collectors.joining(" UNION ALL "));
+
+        // Rank and paginate first, then build highlights for the returned page only
+        String sql = "WITH q AS (SELECT websearch_to_tsquery('english', :query) AS query) " +
+                "SELECT page.type, page.id, page.title, page.rank, page.date, page.total, " +
+                "ts_headline('english', translate(page.body, :markers, ''), q.query, :headlineOptions) AS highlight " +
+                "FROM (SELECT r.*, count(*) OVER () AS total FROM (" + union + ") r " +
+                "ORDER BY r.rank DESC, r.date DESC NULLS LAST LIMIT :limit OFFSET :offset) page, q " +
+                "ORDER BY page.rank DESC, page.date DESC NULLS LAST";
+
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("query", trimmed)
+                .addValue("markers", MATCH_START + MATCH_END)
+                .addValue("headlineOptions", HEADLINE_OPTIONS)
+                .addValue("limit", pageSize)
+                .addValue("offset", (long) pageNumber * pageSize);
+
+        AtomicLong total = new AtomicLong();
+        List<SearchResult> results = new ArrayList<>(jdbcTemplate.query(sql, params, (rs, rowNum) -> {
+            total.set(rs.getLong("total"));
+            Timestamp date = rs.getTimestamp("date");
+            return SearchResult.builder()
+                    .type(SearchResultType.valueOf(rs.getString("type")))
+                    .id(rs.getObject("id", UUID.class))
+                    .title(rs.getString("title"))
+                    .highlight(toHtml(rs.getString("highlight")))
+                    .rank(rs.getDouble("rank"))
+                    .date(date != null ? date.toLocalDateTime() : null)
+                    .build();
+        }));
+
+        // A page past the end has no rows to carry the window total
+        long totalElements = results.isEmpty() && pageNumber > 0
+                ? countMatches(union, trimmed)
+                : total.get();
+        int totalPages = (int) ((totalElements + pageSize - 1) / pageSize);
+
+        log.debug("Search '{}' in {} returned {} of {} results", trimmed, selected, results.size(), totalElements);
+
+        return SearchResponse.builder()
+                .query(trimmed)
+                .results(results)
+                .currentPage(pageNumber)
+                .totalPages(totalPages)
+                .totalElements(totalElements)
+                .hasMore(pageNumber + 1 < totalPages)
+                .build();
+    }
+
+    private long countMatches(String union, String query) {
+        String sql = "WITH q AS (SELECT websearch_to_tsquery('english', :query) AS query) " +
+                "SELECT count(*) FROM (" + union + ") r";
+        Long count = jdbcTemplate.queryForObject(sql, Map.of("query", query), Long.class);
+        return count != null ? count : 0;
+    }
+
+    private static String toHtml(String headline) {
+        if (headline == null) {
+            return null;
+        }
+        return HtmlUtils.htmlEscape(headline, "UTF-8")
+                .replace(MATCH_START, "<mark>")
+                .replace(MATCH_END, "</mark>");
+    }
+}
@@ -1,12 +1,15 @@
 package com.generalgivers.foundation.service;
 
+import com.generalgivers.foundation.dto.upload.FileDownload;
 import com.generalgivers.foundation.dto.upload.UploadResponse;
 import com.generalgivers.foundation.entity.ModuleType;
 import com.generalgivers.foundation.entity.Upload;
 import com.generalgivers.foundation.entity.User;
 import com.generalgivers.foundation.exception.ResourceNotFoundException;
 import com.generalgivers.foundation.repository.UploadRepository;
-import com.generalgivers.foundation.repository.UserRepository;
+import com.generalgivers.foundation.security.CurrentUserResolver;
+import com.generalgivers.foundation.service.audit.Audited;
+import com.generalgivers.foundation.util.TransactionCallbacks;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -25,15 +28,16 @@ import java.util.stream.Collectors;
 public class UploadService {
 
     private final UploadRepository uploadRepository;
-    private final UserRepository userRepository;
+    private final CurrentUserResolver currentUserResolver;
     private final FileStorageService fileStorageService;
 
     @Value("${app.base-url:http://localhost:8080}")
     private String baseUrl;
 
     @Transactional
+    @Audited(action = "CREATE", entity = "Upload")
     public UploadResponse uploadFile(MultipartFile file, ModuleType moduleType, UUID moduleId, String userEmail) {
-        User user = userRepository.findByEmail(userEmail)
+        User user = currentUserResolver.findByEmail(userEmail)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found"));
 
         String filePath = fileStorageService.storeFile(file, moduleType, moduleId);
@@ -56,6 +60,7 @@ public class UploadService {
     }
 
     @Transactional
+    @Audited(action = "CREATE", entity = "Upload")
     public List<UploadResponse> uploadMultipleFiles(List<MultipartFile> files, ModuleType moduleType, UUID moduleId, String userEmail) {
         return files.stream()
                 .map(file -> uploadFile(file, moduleType, moduleId, userEmail))
@@ -84,6 +89,27 @@ public class UploadService {
         return fileStorageService.loadFileAsResource(upload.getFilePath());
     }
 
+    /**
+     * Resolve a download in one lookup, preferring a presigned URL so the bytes bypass the API.
+     * With attachment the file is saved by the browser rather than displayed.
+     */
+    public FileDownload prepareDownload(UUID id, boolean attachment) {
+        Upload upload = uploadRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Upload not found with id: " + id));
+
+        return fileStorageService.getPresignedDownloadUrl(upload.getFilePath(), upload.getOriginalFileName(), attachment)
+                .map(url -> FileDownload.builder()
+                        .redirectUrl(url)
+                        .originalFileName(upload.getOriginalFileName())
+                        .build())
+                .orElseGet(() -> FileDownload.builder()
+                        .resource(fileStorageService.loadFileAsResource(upload.getFilePath()))
+                        .contentType(upload.getFileType() != null ? upload.getFileType()
+                                : fileStorageService.getContentType(upload.getFilePath()))
+                        .originalFileName(upload.getOriginalFileName())
+                        .build());
+    }
+
     public String getContentType(UUID id) {
         Upload upload = uploadRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Upload not found with id: " + id));
@@ -97,22 +123,24 @@ public class UploadService {
     }
 
     @Transactional
+    @Audited(action = "DELETE", entity = "Upload")
     public void deleteUpload(UUID id, String userEmail) {
         Upload upload = uploadRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Upload not found with id: " + id));
 
-        fileStorageService.deleteFile(upload.getFilePath());
         uploadRepository.delete(upload);
+        // Only once the row is gone for good
+        TransactionCallbacks.afterCommit(() -> fileStorageService.deleteFile(upload.getFilePath()));
         log.info("File deleted: {} by user: {}", upload.getOriginalFileName(), userEmail);
     }
 
     @Transactional
+    @Audited(action = "DELETE", entity = "Upload")
     public void deleteUploadsByModule(ModuleType moduleType, UUID moduleId) {
         List<Upload> uploads = uploadRepository.findByModuleTypeAndModuleIdOrderByCreatedAtDesc(moduleType, moduleId);
-        for (Upload upload : uploads) {
-            fileStorageService.deleteFile(upload.getFilePath());
-        }
         uploadRepository.deleteByModuleTypeAndModuleId(moduleType, moduleId);
+        List<String> filePaths = uploads.stream().map(Upload::getFilePath).toList();
+        TransactionCallbacks.afterCommit(() -> filePaths.forEach(fileStorageService::deleteFile));
         log.info("All uploads deleted for module: {} with id: {}", moduleType, moduleId);
     }
 
@@ -9,6 +9,7 @@ import com.generalgivers.foundation.entity.UserRole;
 import com.generalgivers.foundation.exception.DuplicateResourceException;
 import com.generalgivers.foundation.exception.ResourceNotFoundException;
 import com.generalgivers.foundation.repository.UserRepository;
+import com.generalgivers.foundation.service.audit.Audited;
 import com.generalgivers.foundation.util.PasswordGenerator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -54,6 +55,7 @@ public class UserService {
     }
 
     @Transactional
+    @Audited(action = "CREATE", entity = "User")
     public UserResponse createUser(CreateUserRequest request) {
         if (userRepository.existsByEmail(request.getEmail())) {
             throw new DuplicateResourceException("User", "email", request.getEmail());
@@ -126,6 +128,7 @@ public class UserService {
     }
 
     @Transactional
+    @Audited(action = "UPDATE", entity = "User")
     public UserResponse updateUser(UUID id, UpdateUserRequest request) {
         User user = userRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("User", "id", id));
@@ -168,6 +171,7 @@ public class UserService {
     }
 
     @Transactional
+    @Audited(action = "UPDATE_ROLE", entity = "User")
     public UserResponse updateUserRole(UUID id, UserRole role) {
         User user = userRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("User", "id", id));
@@ -177,6 +181,7 @@ public class UserService {
     }
 
     @Transactional
+    @Audited(action = "DEACTIVATE", entity = "User")
     public void deactivateUser(UUID id) {
         User user = userRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("User", "id", id));
@@ -191,21 +196,11 @@ public class UserService {
     }
 
     /**
-     * Generates the next member number in the format GGF001, GGF002, etc.
+     * Generates the next member number in the format GGF001, GGF002, etc. from member_number_seq,
+     * so concurrent creations never get the same number
      */
     private String generateNextMemberNumber() {
-        String maxMemberNumber = userRepository.findMaxMemberNumber();
-
-        int nextNumber = 1;
-        if (maxMemberNumber != null && maxMemberNumber.startsWith(MEMBER_NUMBER_PREFIX)) {
-            try {
-                String numberPart = maxMemberNumber.substring(MEMBER_NUMBER_PREFIX.length());
-                nextNumber = Integer.parseInt(numberPart) + 1;
-            } catch (NumberFormatException e) {
-                log.warn("Could not parse member number: {}, starting from 1", maxMemberNumber);
-            }
-        }
-
+        long nextNumber = userRepository.nextMemberNumber();
         return String.format("%s%03d", MEMBER_NUMBER_PREFIX, nextNumber);
     }
 
@@ -1,10 +1,12 @@
 package com.generalgivers.foundation.service;
 
+import com.generalgivers.foundation.config.AsyncConfig;
 import com.generalgivers.foundation.entity.User;
 import com.generalgivers.foundation.entity.UserRole;
 import com.generalgivers.foundation.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -16,7 +18,9 @@ public class VisitNotificationService {
 
     private final UserRepository userRepository;
     private final MailerSendService mailerSendService;
+    private final NotificationMetrics notificationMetrics;
 
+    @Async(AsyncConfig.NOTIFICATION_EXECUTOR)
     public void notifyVisitRecorded(String location, String creatorName) {
         try {
             // Get all active users with organizing roles
@@ -41,12 +45,14 @@ public class VisitNotificationService {
                 );
             }
 
+            notificationMetrics.fanOut("visit", "created", NotificationMetrics.EMAIL, organizingUsers.size());
             log.info("Visit recorded notifications sent to {} organizing users", organizingUsers.size());
         } catch (Exception e) {
             log.error("Failed to send visit recorded notifications", e);
         }
     }
 
+    @Async(AsyncConfig.NOTIFICATION_EXECUTOR)
     public void notifyVisitUpdated(String location, String updaterName) {
         try {
             // Get organizing users for visit updates
@@ -70,12 +76,14 @@ public class VisitNotificationService {
                 );
             }
 
+            notificationMetrics.fanOut("visit", "updated", NotificationMetrics.EMAIL, organizingUsers.size());
             log.info("Visit updated notifications sent to {} organizing users", organizingUsers.size());
         } catch (Exception e) {
             log.error("Failed to send visit updated notifications", e);
         }
     }
 
+    @Async(AsyncConfig.NOTIFICATION_EXECUTOR)
     public void notifyVisitDeleted(String location, String deleterName) {
         try {
             // Get admin users for visit deletions
@@ -99,6 +107,7 @@ public class VisitNotificationService {
                 );
             }
 
+            notificationMetrics.fanOut("visit", "deleted", NotificationMetrics.EMAIL, adminUsers.size());
             log.info("Visit deleted notifications sent to {} admin users", adminUsers.size());
         } catch (Exception e) {
             log.error("Failed to send visit deleted notifications", e);
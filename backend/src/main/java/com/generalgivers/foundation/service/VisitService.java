@@ -8,8 +8,11 @@ import com.generalgivers.foundation.entity.User;
 import com.generalgivers.foundation.entity.Visit;
 import com.generalgivers.foundation.exception.ResourceNotFoundException;
 import com.generalgivers.foundation.repository.ChildrenHomeRepository;
-import com.generalgivers.foundation.repository.UserRepository;
 import com.generalgivers.foundation.repository.VisitRepository;
+import com.generalgivers.foundation.security.CurrentUserResolver;
+import com.generalgivers.foundation.service.audit.Audited;
+import com.generalgivers.foundation.service.geo.GeoIndexService;
+import com.generalgivers.foundation.util.GeoGridIndex;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -17,7 +20,9 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -26,9 +31,11 @@ import java.util.stream.Collectors;
 public class VisitService {
 
     private final VisitRepository visitRepository;
-    private final UserRepository userRepository;
+    private final CurrentUserResolver currentUserResolver;
     private final ChildrenHomeRepository childrenHomeRepository;
     private final NotificationService notificationService;
+    private final GeoIndexService geoIndexService;
+    private final ChildrenHomeVisitStatsService visitStatsService;
 
     @Transactional(readOnly = true)
     public List<VisitResponse> getAllVisits() {
@@ -69,9 +76,30 @@ public class VisitService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Visits within radiusKm of a point, or the nearest ones when no radius is given, nearest first.
+     * Visits without their own coordinates are located at their children home.
+     */
+    @Transactional(readOnly = true)
+    public List<VisitResponse> getNearbyVisits(double latitude, double longitude, Double radiusKm, int limit) {
+        List<GeoGridIndex.Hit<UUID>> hits = geoIndexService.nearbyVisits(latitude, longitude, radiusKm, limit);
+        Map<UUID, Visit> visits = visitRepository.findAllById(hits.stream().map(GeoGridIndex.Hit::key).toList())
+                .stream()
+                .collect(Collectors.toMap(Visit::getId, Function.identity()));
+        return hits.stream()
+                .filter(hit -> visits.containsKey(hit.key()))
+                .map(hit -> {
+                    VisitResponse response = mapToVisitResponse(visits.get(hit.key()));
+                    response.setDistanceKm(hit.distanceKm());
+                    return response;
+                })
+                .collect(Collectors.toList());
+    }
+
     @Transactional
+    @Audited(action = "CREATE", entity = "Visit")
     public VisitResponse createVisit(VisitRequest request, String userEmail) {
-        User creator = userRepository.findByEmail(userEmail)
+        User creator = currentUserResolver.findByEmail(userEmail)
                 .orElseThrow(() -> new ResourceNotFoundException("User", "email", userEmail));
 
         ChildrenHome childrenHome = null;
@@ -86,6 +114,8 @@ public class VisitService {
                 .city(request.getCity())
                 .town(request.getTown())
                 .village(request.getVillage())
+                .latitude(request.getLatitude())
+                .longitude(request.getLongitude())
                 .childrenHome(childrenHome)
                 .notes(request.getNotes())
                 .participants(request.getParticipants())
@@ -93,7 +123,11 @@ public class VisitService {
                 .photos(request.getPhotos())
                 .build();
 
+        ChildrenHomeService.requireBothCoordinates(visit.getLatitude(), visit.getLongitude());
+
         visit = visitRepository.save(visit);
+        geoIndexService.visitSaved(visit);
+        visitStatsService.refresh(childrenHomeId(visit));
         
         // Email notifications disabled for visits
         // visitNotificationService.notifyVisitRecorded(location, creator.getName());
@@ -116,12 +150,14 @@ public class VisitService {
     }
 
     @Transactional
+    @Audited(action = "UPDATE", entity = "Visit")
     public VisitResponse updateVisit(UUID id, VisitRequest request, String userEmail) {
         Visit visit = visitRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Visit", "id", id));
 
-        User updater = userRepository.findByEmail(userEmail)
+        User updater = currentUserResolver.findByEmail(userEmail)
                 .orElseThrow(() -> new ResourceNotFoundException("User", "email", userEmail));
+        UUID previousChildrenHomeId = childrenHomeId(visit);
 
         if (request.getVisitDate() != null) {
             visit.setVisitDate(request.getVisitDate());
@@ -138,6 +174,11 @@ public class VisitService {
         if (request.getVillage() != null) {
             visit.setVillage(request.getVillage());
         }
+        if (request.getLatitude() != null || request.getLongitude() != null) {
+            ChildrenHomeService.requireBothCoordinates(request.getLatitude(), request.getLongitude());
+            visit.setLatitude(request.getLatitude());
+            visit.setLongitude(request.getLongitude());
+        }
         if (request.getChildrenHomeId() != null) {
             ChildrenHome childrenHome = childrenHomeRepository.findById(request.getChildrenHomeId())
                     .orElseThrow(() -> new ResourceNotFoundException("ChildrenHome", "id", request.getChildrenHomeId()));
@@ -154,6 +195,8 @@ public class VisitService {
         }
 
         visit = visitRepository.save(visit);
+        geoIndexService.visitSaved(visit);
+        visitStatsService.refresh(previousChildrenHomeId, childrenHomeId(visit));
         
         // Email notifications disabled for visits
         // visitNotificationService.notifyVisitUpdated(location, updater.getName());
@@ -176,22 +219,30 @@ public class VisitService {
     }
 
     @Transactional
+    @Audited(action = "DELETE", entity = "Visit")
     public void deleteVisit(UUID id, String userEmail) {
         Visit visit = visitRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Visit", "id", id));
         
-        User deleter = userRepository.findByEmail(userEmail)
+        User deleter = currentUserResolver.findByEmail(userEmail)
                 .orElseThrow(() -> new ResourceNotFoundException("User", "email", userEmail));
         
         String location = visit.getChildrenHome() != null ? visit.getChildrenHome().getName() : 
                          (visit.getLocation() != null ? visit.getLocation() : "Unknown Location");
         
+        UUID childrenHomeId = childrenHomeId(visit);
         visitRepository.deleteById(id);
+        geoIndexService.visitDeleted(id);
+        visitStatsService.refresh(childrenHomeId);
         
         // Email notifications disabled for visits
         // visitNotificationService.notifyVisitDeleted(location, deleter.getName());
     }
 
+    private static UUID childrenHomeId(Visit visit) {
+        return visit.getChildrenHome() != null ? visit.getChildrenHome().getId() : null;
+    }
+
     private VisitResponse mapToVisitResponse(Visit visit) {
         return VisitResponse.builder()
                 .id(visit.getId())
@@ -200,6 +251,8 @@ public class VisitService {
                 .city(visit.getCity())
                 .town(visit.getTown())
                 .village(visit.getVillage())
+                .latitude(visit.getLatitude())
+                .longitude(visit.getLongitude())
                 .childrenHomeId(visit.getChildrenHome() != null ? visit.getChildrenHome().getId() : null)
                 .childrenHomeName(visit.getChildrenHome() != null ? visit.getChildrenHome().getName() : null)
                 .notes(visit.getNotes())
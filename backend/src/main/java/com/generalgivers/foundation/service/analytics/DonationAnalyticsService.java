@@ -0,0 +1,161 @@
+package com.generalgivers.foundation.service.analytics;
+
+import com.generalgivers.foundation.config.AnalyticsConfig;
+import com.generalgivers.foundation.entity.DonationStatus;
+import com.generalgivers.foundation.service.SchedulerLeaseService;
+import com.generalgivers.foundation.util.TransactionCallbacks;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Donation totals from the donation_stats_* materialized views (V31), and their refresh.
+ *
+ * Donation writes mark the views stale once they commit, and the next check refreshes them, so
+ * the figures trail writes on this node by up to app.analytics.refresh-interval. The node holding
+ * the lease also refreshes them at startup and whenever they are older than
+ * app.analytics.max-staleness, which picks up writes made elsewhere. Refreshes are CONCURRENTLY,
+ * so readers keep seeing the previous figures meanwhile instead of waiting.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class DonationAnalyticsService {
+
+    static final String LEASE_NAME = "donation-analytics";
+
+    private static final List<String> VIEWS = List.of(
+            "donation_stats_daily",
+            "donation_stats_monthly",
+            "donation_stats_by_status",
+            "donation_stats_by_project",
+            "donation_stats_by_method");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SchedulerLeaseService schedulerLeaseService;
+    private final AnalyticsConfig analyticsConfig;
+    private final MeterRegistry meterRegistry;
+
+    private final AtomicBoolean changed = new AtomicBoolean();
+
+    // System.nanoTime() of the last successful refresh on this node, null before the first
+    private volatile Long lastRefreshed;
+
+    public record Totals(long donationCount, BigDecimal totalAmount) {
+        public static final Totals NONE = new Totals(0, BigDecimal.ZERO);
+    }
+
+    public record MethodTotals(String method, DonationStatus status, long donationCount, BigDecimal totalAmount) {
+    }
+
+    /**
+     * Call from any transaction that creates donations or changes their amount, status, method,
+     * project or date
+     */
+    public void donationsChanged() {
+        TransactionCallbacks.afterCommit(() -> changed.set(true));
+    }
+
+    @Scheduled(fixedDelayString = "${app.analytics.refresh-interval:10000}")
+    public void refreshIfStale() {
+        boolean stale = changed.getAndSet(false);
+        if (!stale) {
+            Long last = lastRefreshed;
+            stale = (last == null || System.nanoTime() - last > analyticsConfig.getMaxStaleness().toNanos())
+                    && schedulerLeaseService.holds(LEASE_NAME);
+        }
+        if (stale) {
+            refresh();
+        }
+    }
+
+    public void refresh() {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "failure";
+        try {
+            for (String view : VIEWS) {
+                jdbcTemplate.execute("REFRESH MATERIALIZED VIEW CONCURRENTLY " + view);
+            }
+            lastRefreshed = System.nanoTime();
+            outcome = "success";
+        } catch (RuntimeException ex) {
+            // Retried on the next check
+            changed.set(true);
+            log.warn("Could not refresh the donation analytics views: {}", ex.getMessage());
+        } finally {
+            sample.stop(Timer.builder("app.analytics.refresh")
+                    .description("Time to refresh the donation analytics views")
+                    .tag("outcome", outcome)
+                    .register(meterRegistry));
+        }
+    }
+
+    public Totals totals(DonationStatus status) {
+        return jdbcTemplate.query("SELECT donation_count, total_amount FROM donation_stats_by_status WHERE status = ?",
+                        (rs, row) -> new Totals(rs.getLong(1), rs.getBigDecimal(2)), status.name())
+                .stream().findFirst().orElse(Totals.NONE);
+    }
+
+    /**
+     * Totals of the days from (inclusive) to (exclusive)
+     */
+    public Totals totalsBetween(LocalDate from, LocalDate to, DonationStatus status) {
+        return jdbcTemplate.queryForObject("""
+                        SELECT COALESCE(SUM(donation_count), 0), COALESCE(SUM(total_amount), 0)
+                        FROM donation_stats_daily WHERE status = ? AND day >= ? AND day < ?
+                        """,
+                (rs, row) -> new Totals(rs.getLong(1), rs.getBigDecimal(2)), status.name(), from, to);
+    }
+
+    /**
+     * Totals by first day of the month, for the months from (inclusive) to (exclusive) that had
+     * donations, in order
+     */
+    public Map<LocalDate, Totals> monthlyTotals(LocalDate from, LocalDate to, DonationStatus status) {
+        Map<LocalDate, Totals> totals = new LinkedHashMap<>();
+        jdbcTemplate.query("""
+                        SELECT month, donation_count, total_amount FROM donation_stats_monthly
+                        WHERE status = ? AND month >= ? AND month < ? ORDER BY month
+                        """,
+                rs -> {
+                    totals.put(rs.getObject(1, LocalDate.class), new Totals(rs.getLong(2), rs.getBigDecimal(3)));
+                }, status.name(), from, to);
+        return totals;
+    }
+
+    /**
+     * Totals of the projects that had donations; donations without a project are not included
+     */
+    public Map<UUID, Totals> totalsByProject(DonationStatus status) {
+        Map<UUID, Totals> totals = new LinkedHashMap<>();
+        jdbcTemplate.query("SELECT project_id, donation_count, total_amount FROM donation_stats_by_project WHERE status = ?",
+                rs -> {
+                    totals.put(rs.getObject(1, UUID.class), new Totals(rs.getLong(2), rs.getBigDecimal(3)));
+                }, status.name());
+        return totals;
+    }
+
+    /**
+     * Totals per payment method and status; donations without a method are reported as UNSPECIFIED
+     */
+    public List<MethodTotals> totalsByMethod() {
+        return jdbcTemplate.query("""
+                        SELECT method, status, donation_count, total_amount FROM donation_stats_by_method
+                        ORDER BY method, status
+                        """,
+                (rs, row) -> new MethodTotals(rs.getString(1), DonationStatus.valueOf(rs.getString(2)),
+                        rs.getLong(3), rs.getBigDecimal(4)));
+    }
+}
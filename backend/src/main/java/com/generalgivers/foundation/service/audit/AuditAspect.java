@@ -0,0 +1,118 @@
+package com.generalgivers.foundation.service.audit;
+
+import com.generalgivers.foundation.entity.User;
+import com.generalgivers.foundation.security.CurrentUserResolver;
+import com.generalgivers.foundation.util.TransactionCallbacks;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.JoinPoint;
+import org.aspectj.lang.annotation.AfterReturning;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.time.Instant;
+import java.time.temporal.Temporal;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Captures {@link Audited} service calls. Only identifiers and scalar arguments are recorded
+ * (never request bodies, which may carry passwords or personal data), and the entry is handed to
+ * the {@link AuditLogWriter} once the surrounding transaction commits.
+ */
+@Aspect
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AuditAspect {
+
+    private static final ClassValue<Method> ID_GETTERS = new ClassValue<>() {
+        @Override
+        protected Method computeValue(Class<?> type) {
+            try {
+                Method getter = type.getMethod("getId");
+                return UUID.class.equals(getter.getReturnType()) ? getter : null;
+            } catch (NoSuchMethodException ex) {
+                return null;
+            }
+        }
+    };
+
+    private final AuditLogWriter auditLogWriter;
+    private final CurrentUserResolver currentUserResolver;
+
+    @AfterReturning(pointcut = "@annotation(audited)", returning = "result")
+    public void record(JoinPoint joinPoint, Audited audited, Object result) {
+        try {
+            MethodSignature signature = (MethodSignature) joinPoint.getSignature();
+            Map<String, Object> details = new LinkedHashMap<>();
+            details.put("method", signature.getDeclaringType().getSimpleName() + "." + signature.getName());
+
+            UUID entityId = idOf(result);
+            String[] names = signature.getParameterNames();
+            Object[] args = joinPoint.getArgs();
+            for (int i = 0; i < args.length; i++) {
+                Object arg = args[i];
+                String name = names != null ? names[i] : "arg" + i;
+                if ("id".equals(name) && arg instanceof UUID id) {
+                    if (entityId == null) {
+                        entityId = id;
+                    }
+                } else if (isScalar(arg)) {
+                    details.put(name, arg.toString());
+                }
+            }
+            if (result instanceof Collection<?> results) {
+                List<UUID> ids = results.stream().map(AuditAspect::idOf).filter(Objects::nonNull).toList();
+                if (!ids.isEmpty()) {
+                    details.put("ids", ids);
+                }
+            }
+
+            AuditLogWriter.AuditEntry entry = new AuditLogWriter.AuditEntry(currentUserId(), audited.action(),
+                    audited.entity(), entityId, details, Instant.now());
+            TransactionCallbacks.afterCommit(() -> auditLogWriter.submit(entry));
+        } catch (RuntimeException ex) {
+            // Auditing must never fail the audited operation
+            log.warn("Could not capture audit entry for {}: {}", joinPoint.getSignature().toShortString(), ex.getMessage());
+        }
+    }
+
+    private UUID currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        // Served from the request-scoped cache filled by the JWT filter
+        return currentUserResolver.findByEmail(authentication.getName()).map(User::getId).orElse(null);
+    }
+
+    private static UUID idOf(Object value) {
+        if (value == null) {
+            return null;
+        }
+        Method getter = ID_GETTERS.get(value.getClass());
+        if (getter == null) {
+            return null;
+        }
+        try {
+            return (UUID) getter.invoke(value);
+        } catch (ReflectiveOperationException ex) {
+            return null;
+        }
+    }
+
+    private static boolean isScalar(Object arg) {
+        return arg instanceof UUID || arg instanceof Enum<?> || arg instanceof Number
+                || arg instanceof Boolean || arg instanceof Temporal;
+    }
+}
@@ -0,0 +1,171 @@
+package com.generalgivers.foundation.service.audit;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.generalgivers.foundation.config.AuditConfig;
+import com.generalgivers.foundation.util.MpscRingBuffer;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Writes audit entries to audit_logs off the request path. Request threads only append to a
+ * bounded lock-free ring buffer; a single background thread drains it and inserts in JDBC batches,
+ * waking when a batch has filled or the flush interval has passed. When the buffer is full new
+ * entries are dropped and counted rather than slowing callers down.
+ */
+@Component
+@Slf4j
+public class AuditLogWriter {
+
+    private static final String INSERT =
+            "INSERT INTO audit_logs (user_id, action_type, entity, entity_id, details, timestamp) " +
+            "VALUES (?, ?, ?, ?, CAST(? AS jsonb), ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final AuditConfig auditConfig;
+    private final MpscRingBuffer<AuditEntry> buffer;
+    private final Counter queued;
+    private final Counter dropped;
+    private final Counter written;
+    private final Counter failed;
+
+    private volatile Thread writerThread;
+    private volatile boolean running;
+
+    public record AuditEntry(UUID userId, String actionType, String entity, UUID entityId,
+                             Map<String, Object> details, Instant timestamp) {
+    }
+
+    public AuditLogWriter(JdbcTemplate jdbcTemplate, ObjectMapper objectMapper, AuditConfig auditConfig,
+                          MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.auditConfig = auditConfig;
+        this.buffer = new MpscRingBuffer<>(auditConfig.getBufferSize());
+        this.queued = entries(meterRegistry, "queued");
+        this.dropped = entries(meterRegistry, "dropped");
+        this.written = entries(meterRegistry, "written");
+        this.failed = entries(meterRegistry, "failed");
+        Gauge.builder("app.audit.buffer.size", buffer, MpscRingBuffer::size)
+                .description("Audit entries waiting to be written")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!auditConfig.isEnabled()) {
+            log.info("Audit logging disabled");
+            return;
+        }
+        running = true;
+        Thread thread = new Thread(this::run, "audit-log-writer");
+        thread.setDaemon(true);
+        writerThread = thread;
+        thread.start();
+    }
+
+    /**
+     * Queue an entry; never blocks
+     */
+    public void submit(AuditEntry entry) {
+        if (!running) {
+            return;
+        }
+        if (!buffer.offer(entry)) {
+            dropped.increment();
+            return;
+        }
+        queued.increment();
+        if (buffer.size() >= auditConfig.getBatchSize()) {
+            LockSupport.unpark(writerThread);
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        Thread thread = writerThread;
+        if (thread == null) {
+            return;
+        }
+        running = false;
+        LockSupport.unpark(thread);
+        try {
+            thread.join(TimeUnit.SECONDS.toMillis(10));
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void run() {
+        long flushNanos = auditConfig.getFlushInterval().toNanos();
+        List<AuditEntry> batch = new ArrayList<>(auditConfig.getBatchSize());
+        while (running) {
+            if (buffer.size() < auditConfig.getBatchSize()) {
+                LockSupport.parkNanos(this, flushNanos);
+            }
+            flush(batch);
+        }
+        // Whatever was accepted before shutdown still gets written
+        flush(batch);
+        log.info("Audit log writer stopped");
+    }
+
+    private void flush(List<AuditEntry> batch) {
+        while (buffer.drain(batch::add, auditConfig.getBatchSize()) > 0) {
+            try {
+                write(batch);
+                written.increment(batch.size());
+            } catch (RuntimeException ex) {
+                failed.increment(batch.size());
+                log.warn("Failed to write {} audit entries: {}", batch.size(), ex.getMessage());
+            }
+            batch.clear();
+        }
+    }
+
+    private void write(List<AuditEntry> batch) {
+        jdbcTemplate.batchUpdate(INSERT, batch, batch.size(), (statement, entry) -> {
+            statement.setObject(1, entry.userId(), Types.OTHER);
+            statement.setString(2, entry.actionType());
+            statement.setString(3, entry.entity());
+            statement.setObject(4, entry.entityId(), Types.OTHER);
+            statement.setString(5, toJson(entry.details()));
+            statement.setTimestamp(6, Timestamp.from(entry.timestamp()));
+        });
+    }
+
+    private String toJson(Map<String, Object> details) {
+        if (details == null || details.isEmpty()) {
+            return null;
+        }
+        try {
+            return objectMapper.writeValueAsString(details);
+        } catch (JsonProcessingException ex) {
+            return null;
+        }
+    }
+
+    private static Counter entries(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("app.audit.entries")
+                .description("Audit log entries by outcome")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,28 @@
+package com.generalgivers.foundation.service.audit;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Record an audit log entry when the annotated service method returns normally and its
+ * transaction commits. The entity id is taken from the returned DTO's id, or else from a UUID
+ * parameter named id.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface Audited {
+
+    /**
+     * Action type, e.g. CREATE, UPDATE or DELETE
+     */
+    String action();
+
+    /**
+     * Audited entity, e.g. Project
+     */
+    String entity();
+}
@@ -0,0 +1,47 @@
+package com.generalgivers.foundation.service.cache;
+
+import com.generalgivers.foundation.util.TransactionCallbacks;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * Monotonic version counter per aggregate (projects, children homes, ...), kept in the
+ * aggregate_versions table so that every instance sees a write and derives the same ETag from it.
+ * Writers bump the version in their own transaction; readers derive ETags and cache validity from it.
+ */
+@Component
+@RequiredArgsConstructor
+public class AggregateVersions {
+
+    public static final String PROJECTS = "projects";
+    public static final String CHILDREN_HOMES = "children-homes";
+
+    private static final String BUMP =
+            "INSERT INTO aggregate_versions (aggregate, version) VALUES (?, 1) " +
+            "ON CONFLICT (aggregate) DO UPDATE SET version = aggregate_versions.version + 1";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Read-only so that, with a read replica, the version comes from the same place as the rows
+     * it is about to describe; read first, those rows are never older than the version.
+     */
+    @Transactional(readOnly = true)
+    public long current(String aggregate) {
+        List<Long> version = jdbcTemplate.queryForList(
+                "SELECT version FROM aggregate_versions WHERE aggregate = ?", Long.class, aggregate);
+        return version.isEmpty() ? 0 : version.get(0);
+    }
+
+    /**
+     * Bump in the writer's transaction, just before it commits: the new version becomes visible
+     * together with the rows, and concurrent writers queue on the counter row only for the commit.
+     */
+    public void bump(String aggregate) {
+        TransactionCallbacks.beforeCommit(() -> jdbcTemplate.update(BUMP, aggregate));
+    }
+}
@@ -0,0 +1,126 @@
+package com.generalgivers.foundation.service.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.generalgivers.foundation.config.HttpCacheConfig;
+import com.generalgivers.foundation.dto.common.ApiResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Conditional-GET support plus a cache of serialized JSON bodies for read-mostly endpoints.
+ * Entries are keyed by request identity and remember the aggregate version they were built from,
+ * so a write invalidates them by bumping the version rather than by explicit eviction. Versions
+ * are shared by all instances, so a write on any node invalidates the entries of every node.
+ * Cached bodies carry no timestamp, so every node serves the same bytes for the same version.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ResponseCache {
+
+    private final AggregateVersions aggregateVersions;
+    private final HttpCacheConfig httpCacheConfig;
+    private final ObjectMapper objectMapper;
+
+    private final ConcurrentMap<String, Entry> entries = new ConcurrentHashMap<>();
+
+    public ResponseEntity<byte[]> getPublic(String aggregate, String key, WebRequest request, Supplier<?> loader) {
+        return get(aggregate, key, true, request, loader);
+    }
+
+    public ResponseEntity<byte[]> getPrivate(String aggregate, String key, WebRequest request, Supplier<?> loader) {
+        return get(aggregate, key, false, request, loader);
+    }
+
+    private ResponseEntity<byte[]> get(String aggregate, String key, boolean shared, WebRequest request, Supplier<?> loader) {
+        if (!httpCacheConfig.isEnabled()) {
+            return ResponseEntity.ok()
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .cacheControl(CacheControl.noStore())
+                    .body(serialize(loader.get()));
+        }
+
+        long version = aggregateVersions.current(aggregate);
+        String etag = "\"" + aggregate + "-" + version + "\"";
+        CacheControl cacheControl = cacheControl(shared);
+
+        if (request.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(etag)
+                    .cacheControl(cacheControl)
+                    .build();
+        }
+
+        String cacheKey = aggregate + ":" + key;
+        Entry entry = entries.get(cacheKey);
+        if (entry == null || entry.version() != version) {
+            // Built outside any map lock; concurrent misses may both serialize, which is harmless
+            entry = new Entry(version, serialize(withoutTimestamp(loader.get())));
+            store(aggregate, cacheKey, entry);
+        }
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(etag)
+                .cacheControl(cacheControl)
+                .body(entry.body());
+    }
+
+    private void store(String aggregate, String cacheKey, Entry entry) {
+        if (entries.size() >= httpCacheConfig.getMaxEntries() && !entries.containsKey(cacheKey)) {
+            // Entries of this aggregate built from an older version are dead; the others are left alone
+            entries.entrySet().removeIf(e -> aggregateOf(e.getKey()).equals(aggregate)
+                    && e.getValue().version() < entry.version());
+            if (entries.size() >= httpCacheConfig.getMaxEntries()) {
+                log.debug("Response cache full, not caching {}", cacheKey);
+                return;
+            }
+        }
+        entries.put(cacheKey, entry);
+    }
+
+    private CacheControl cacheControl(boolean shared) {
+        CacheControl cacheControl = shared
+                ? CacheControl.maxAge(httpCacheConfig.getPublicMaxAge().toSeconds(), TimeUnit.SECONDS).cachePublic()
+                : CacheControl.maxAge(httpCacheConfig.getPrivateMaxAge().toSeconds(), TimeUnit.SECONDS).cachePrivate();
+        return cacheControl.staleWhileRevalidate(httpCacheConfig.getStaleWhileRevalidate().toSeconds(), TimeUnit.SECONDS);
+    }
+
+    /**
+     * The ETag is strong, so the bytes must follow from the version alone: the time the body
+     * happened to be built on this node is left out
+     */
+    private static Object withoutTimestamp(Object body) {
+        if (body instanceof ApiResponse<?> response) {
+            response.setTimestamp(null);
+        }
+        return body;
+    }
+
+    private byte[] serialize(Object body) {
+        try {
+            return objectMapper.writeValueAsBytes(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize cached response", e);
+        }
+    }
+
+    private static String aggregateOf(String cacheKey) {
+        return cacheKey.substring(0, cacheKey.indexOf(':'));
+    }
+
+    private record Entry(long version, byte[] body) {
+    }
+}
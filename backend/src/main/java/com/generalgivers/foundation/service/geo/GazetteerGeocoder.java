@@ -0,0 +1,148 @@
+package com.generalgivers.foundation.service.geo;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.Normalizer;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+/**
+ * Offline place-name geocoder backed by a gazetteer file. Accepts a GeoNames dump (tab separated,
+ * populated places only, optionally limited to one country) or a CSV with a
+ * name,latitude,longitude[,population] header. Names are matched after lower-casing and stripping
+ * accents and punctuation; when several places share a name the most populous one wins.
+ */
+@Slf4j
+public class GazetteerGeocoder {
+
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern NON_ALPHANUMERIC = Pattern.compile("[^a-z0-9]+");
+
+    private final Map<String, Place> places = new HashMap<>();
+
+    public record Place(String name, double latitude, double longitude, long population) {
+    }
+
+    private GazetteerGeocoder() {
+    }
+
+    public static GazetteerGeocoder load(Path path, String countryCode) throws IOException {
+        GazetteerGeocoder geocoder = new GazetteerGeocoder();
+        boolean csv = path.getFileName().toString().toLowerCase(Locale.ROOT).endsWith(".csv");
+        int lines = 0;
+        try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            String line;
+            boolean header = csv;
+            while ((line = reader.readLine()) != null) {
+                if (header) {
+                    header = false;
+                    continue;
+                }
+                lines++;
+                if (csv) {
+                    geocoder.addCsv(line);
+                } else {
+                    geocoder.addGeoNames(line, countryCode);
+                }
+            }
+        }
+        log.info("Loaded gazetteer {}: {} names from {} entries", path, geocoder.places.size(), lines);
+        return geocoder;
+    }
+
+    public int size() {
+        return places.size();
+    }
+
+    public Optional<Place> find(String name) {
+        if (name == null || name.isBlank()) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(places.get(normalize(name)));
+    }
+
+    /**
+     * Geocode the most specific place name that matches, trying each comma-separated part of a
+     * free-text location as well
+     */
+    public Optional<Place> findFirst(String... names) {
+        for (String name : names) {
+            if (name == null || name.isBlank()) {
+                continue;
+            }
+            Optional<Place> place = find(name);
+            if (place.isPresent()) {
+                return place;
+            }
+            if (name.contains(",")) {
+                for (String part : name.split(",")) {
+                    place = find(part);
+                    if (place.isPresent()) {
+                        return place;
+                    }
+                }
+            }
+        }
+        return Optional.empty();
+    }
+
+    static String normalize(String name) {
+        String decomposed = MARKS.matcher(Normalizer.normalize(name, Normalizer.Form.NFD)).replaceAll("");
+        return NON_ALPHANUMERIC.matcher(decomposed.toLowerCase(Locale.ROOT)).replaceAll(" ").trim();
+    }
+
+    private void addGeoNames(String line, String countryCode) {
+        // geonameid, name, asciiname, alternatenames, latitude, longitude, feature class, feature code,
+        // country code, cc2, admin1..4, population, ...
+        String[] fields = line.split("\t", -1);
+        if (fields.length < 15 || !"P".equals(fields[6])) {
+            return;
+        }
+        if (countryCode != null && !countryCode.isBlank() && !countryCode.equalsIgnoreCase(fields[8])) {
+            return;
+        }
+        try {
+            double latitude = Double.parseDouble(fields[4]);
+            double longitude = Double.parseDouble(fields[5]);
+            long population = fields[14].isEmpty() ? 0 : Long.parseLong(fields[14]);
+            Place place = new Place(fields[1], latitude, longitude, population);
+            add(fields[1], place);
+            add(fields[2], place);
+            for (String alternate : fields[3].split(",")) {
+                add(alternate, place);
+            }
+        } catch (NumberFormatException ex) {
+            log.debug("Skipping malformed gazetteer line: {}", line);
+        }
+    }
+
+    private void addCsv(String line) {
+        String[] fields = line.split(",", -1);
+        if (fields.length < 3) {
+            return;
+        }
+        try {
+            long population = fields.length > 3 && !fields[3].isBlank() ? Long.parseLong(fields[3].trim()) : 0;
+            add(fields[0], new Place(fields[0].trim(), Double.parseDouble(fields[1].trim()),
+                    Double.parseDouble(fields[2].trim()), population));
+        } catch (NumberFormatException ex) {
+            log.debug("Skipping malformed gazetteer line: {}", line);
+        }
+    }
+
+    private void add(String name, Place place) {
+        String key = normalize(name);
+        if (key.isEmpty()) {
+            return;
+        }
+        places.merge(key, place, (existing, candidate) -> candidate.population() > existing.population() ? candidate : existing);
+    }
+}
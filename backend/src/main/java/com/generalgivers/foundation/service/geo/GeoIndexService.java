@@ -0,0 +1,128 @@
+package com.generalgivers.foundation.service.geo;
+
+import com.generalgivers.foundation.config.GeoConfig;
+import com.generalgivers.foundation.entity.ChildrenHome;
+import com.generalgivers.foundation.entity.Visit;
+import com.generalgivers.foundation.repository.ChildrenHomeRepository;
+import com.generalgivers.foundation.repository.GeoPoint;
+import com.generalgivers.foundation.repository.VisitRepository;
+import com.generalgivers.foundation.util.GeoGridIndex;
+import com.generalgivers.foundation.util.TransactionCallbacks;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * In-memory proximity indexes of children homes and visits. Visits without their own coordinates
+ * are placed at their children home.
+ *
+ * Writes on this node update the indexes after commit. Writes on other nodes are picked up by a
+ * periodic rebuild, which loads only ids and coordinates and swaps the new index in atomically.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class GeoIndexService {
+
+    private final ChildrenHomeRepository childrenHomeRepository;
+    private final VisitRepository visitRepository;
+    private final GeoConfig geoConfig;
+
+    private volatile GeoGridIndex<UUID> childrenHomes;
+    private volatile GeoGridIndex<UUID> visits;
+
+    @PostConstruct
+    public void load() {
+        rebuild();
+    }
+
+    @Scheduled(fixedDelayString = "${app.geo.resync-interval:300000}",
+            initialDelayString = "${app.geo.resync-interval:300000}")
+    public void rebuild() {
+        GeoGridIndex<UUID> homeIndex = build(childrenHomeRepository.findAllGeoPoints());
+        GeoGridIndex<UUID> visitIndex = build(visitRepository.findAllGeoPoints());
+        childrenHomes = homeIndex;
+        visits = visitIndex;
+        log.debug("Proximity indexes rebuilt: {} children homes, {} visits", homeIndex.size(), visitIndex.size());
+    }
+
+    public List<GeoGridIndex.Hit<UUID>> nearbyChildrenHomes(double latitude, double longitude, Double radiusKm, int limit) {
+        return query(childrenHomes, latitude, longitude, radiusKm, limit);
+    }
+
+    public List<GeoGridIndex.Hit<UUID>> nearbyVisits(double latitude, double longitude, Double radiusKm, int limit) {
+        return query(visits, latitude, longitude, radiusKm, limit);
+    }
+
+    /**
+     * Re-index a saved children home, and the visits placed at it, once the transaction commits
+     */
+    public void childrenHomeSaved(ChildrenHome childrenHome) {
+        UUID id = childrenHome.getId();
+        Double latitude = childrenHome.getLatitude();
+        Double longitude = childrenHome.getLongitude();
+        List<GeoPoint> visitsAtHome = visitRepository.findGeoPointsLocatedAtChildrenHome(id);
+        TransactionCallbacks.afterCommit(() -> {
+            update(childrenHomes, id, latitude, longitude);
+            visitsAtHome.forEach(visit -> update(visits, visit.getId(), latitude, longitude));
+        });
+    }
+
+    public void childrenHomeDeleted(UUID id) {
+        List<GeoPoint> visitsAtHome = visitRepository.findGeoPointsLocatedAtChildrenHome(id);
+        TransactionCallbacks.afterCommit(() -> {
+            childrenHomes.remove(id);
+            visitsAtHome.forEach(visit -> visits.remove(visit.getId()));
+        });
+    }
+
+    public void visitSaved(Visit visit) {
+        UUID id = visit.getId();
+        ChildrenHome home = visit.getChildrenHome();
+        Double latitude = visit.getLatitude() != null ? visit.getLatitude() : home != null ? home.getLatitude() : null;
+        Double longitude = visit.getLatitude() != null ? visit.getLongitude() : home != null ? home.getLongitude() : null;
+        TransactionCallbacks.afterCommit(() -> update(visits, id, latitude, longitude));
+    }
+
+    public void visitDeleted(UUID id) {
+        TransactionCallbacks.afterCommit(() -> visits.remove(id));
+    }
+
+    private List<GeoGridIndex.Hit<UUID>> query(GeoGridIndex<UUID> index, double latitude, double longitude,
+                                                Double radiusKm, int limit) {
+        if (limit < 1 || limit > geoConfig.getMaxResults()) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + geoConfig.getMaxResults());
+        }
+        if (radiusKm != null && (radiusKm <= 0 || radiusKm > geoConfig.getMaxRadiusKm())) {
+            throw new IllegalArgumentException("Radius must be greater than 0 and at most " + geoConfig.getMaxRadiusKm() + " km");
+        }
+        return radiusKm != null
+                ? index.withinRadius(latitude, longitude, radiusKm, limit)
+                : index.nearest(latitude, longitude, limit, geoConfig.getMaxRadiusKm());
+    }
+
+    private static void update(GeoGridIndex<UUID> index, UUID id, Double latitude, Double longitude) {
+        if (latitude != null && longitude != null) {
+            index.put(id, latitude, longitude);
+        } else {
+            index.remove(id);
+        }
+    }
+
+    private GeoGridIndex<UUID> build(List<GeoPoint> points) {
+        GeoGridIndex<UUID> index = new GeoGridIndex<>(geoConfig.getCellDegrees());
+        for (GeoPoint point : points) {
+            try {
+                index.put(point.getId(), point.getLatitude(), point.getLongitude());
+            } catch (IllegalArgumentException ex) {
+                log.warn("Skipping {} in proximity index: {}", point.getId(), ex.getMessage());
+            }
+        }
+        return index;
+    }
+}
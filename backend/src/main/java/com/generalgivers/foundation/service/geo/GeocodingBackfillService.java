@@ -0,0 +1,156 @@
+package com.generalgivers.foundation.service.geo;
+
+import com.generalgivers.foundation.config.GeoConfig;
+import com.generalgivers.foundation.entity.ChildrenHome;
+import com.generalgivers.foundation.entity.Visit;
+import com.generalgivers.foundation.repository.ChildrenHomeRepository;
+import com.generalgivers.foundation.repository.VisitRepository;
+import com.generalgivers.foundation.service.cache.AggregateVersions;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Fills in missing coordinates of children homes and visits from the configured offline gazetteer,
+ * matching the village, town, city and then free-text location. Records that already have
+ * coordinates are left alone, so the job can be re-run after improving the gazetteer. Visits without
+ * a place of their own are skipped; they are located at their children home.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class GeocodingBackfillService {
+
+    private static final int PAGE_SIZE = 200;
+    private static final int MAX_REPORTED_UNMATCHED = 50;
+
+    private final ChildrenHomeRepository childrenHomeRepository;
+    private final VisitRepository visitRepository;
+    private final GeoIndexService geoIndexService;
+    private final AggregateVersions aggregateVersions;
+    private final TransactionTemplate transactionTemplate;
+    private final GeoConfig geoConfig;
+
+    public Map<String, Object> backfill() {
+        GazetteerGeocoder geocoder = loadGazetteer();
+
+        int homesGeocoded = 0;
+        int visitsGeocoded = 0;
+        List<String> unmatched = new ArrayList<>();
+        int[] unmatchedCounts = new int[2];
+
+        int pageNumber = 0;
+        Page<ChildrenHome> homes;
+        do {
+            int page = pageNumber++;
+            homes = childrenHomeRepository.findAll(PageRequest.of(page, PAGE_SIZE, Sort.by("id")));
+            List<ChildrenHome> located = new ArrayList<>();
+            for (ChildrenHome home : homes.getContent()) {
+                if (home.getLatitude() != null && home.getLongitude() != null) {
+                    continue;
+                }
+                Optional<GazetteerGeocoder.Place> place = geocoder.findFirst(
+                        home.getVillage(), home.getTown(), home.getCity(), home.getLocation());
+                if (place.isPresent()) {
+                    home.setLatitude(place.get().latitude());
+                    home.setLongitude(place.get().longitude());
+                    located.add(home);
+                } else {
+                    unmatchedCounts[0]++;
+                    report(unmatched, "Children home " + home.getName());
+                }
+            }
+            if (!located.isEmpty()) {
+                transactionTemplate.executeWithoutResult(status -> childrenHomeRepository.saveAll(located));
+                homesGeocoded += located.size();
+            }
+        } while (homes.hasNext());
+
+        pageNumber = 0;
+        Page<Visit> visits;
+        do {
+            int page = pageNumber++;
+            visits = visitRepository.findAll(PageRequest.of(page, PAGE_SIZE, Sort.by("id")));
+            List<Visit> located = new ArrayList<>();
+            for (Visit visit : visits.getContent()) {
+                if (visit.getLatitude() != null && visit.getLongitude() != null) {
+                    continue;
+                }
+                if (isBlank(visit.getVillage()) && isBlank(visit.getTown()) && isBlank(visit.getCity()) && isBlank(visit.getLocation())) {
+                    continue;
+                }
+                Optional<GazetteerGeocoder.Place> place = geocoder.findFirst(
+                        visit.getVillage(), visit.getTown(), visit.getCity(), visit.getLocation());
+                if (place.isPresent()) {
+                    visit.setLatitude(place.get().latitude());
+                    visit.setLongitude(place.get().longitude());
+                    located.add(visit);
+                } else if (visit.getChildrenHome() == null) {
+                    // Otherwise it is still located at its children home
+                    unmatchedCounts[1]++;
+                    report(unmatched, "Visit " + visit.getId() + " on " + visit.getVisitDate());
+                }
+            }
+            if (!located.isEmpty()) {
+                transactionTemplate.executeWithoutResult(status -> visitRepository.saveAll(located));
+                visitsGeocoded += located.size();
+            }
+        } while (visits.hasNext());
+
+        if (homesGeocoded > 0) {
+            aggregateVersions.bump(AggregateVersions.CHILDREN_HOMES);
+        }
+        geoIndexService.rebuild();
+
+        log.info("Geocoding backfill finished: {} children homes and {} visits geocoded, {} and {} unmatched",
+                homesGeocoded, visitsGeocoded, unmatchedCounts[0], unmatchedCounts[1]);
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("gazetteerNames", geocoder.size());
+        result.put("childrenHomesGeocoded", homesGeocoded);
+        result.put("childrenHomesUnmatched", unmatchedCounts[0]);
+        result.put("visitsGeocoded", visitsGeocoded);
+        result.put("visitsUnmatched", unmatchedCounts[1]);
+        result.put("unmatched", unmatched);
+        return result;
+    }
+
+    private GazetteerGeocoder loadGazetteer() {
+        String configured = geoConfig.getGazetteerPath();
+        if (configured == null || configured.isBlank()) {
+            throw new IllegalArgumentException("No gazetteer configured; set app.geo.gazetteer-path");
+        }
+        Path path = Path.of(configured);
+        if (!Files.isReadable(path)) {
+            throw new IllegalArgumentException("Gazetteer file is not readable: " + path);
+        }
+        try {
+            return GazetteerGeocoder.load(path, geoConfig.getCountryCode());
+        } catch (IOException ex) {
+            throw new IllegalStateException("Could not read gazetteer " + path + ": " + ex.getMessage(), ex);
+        }
+    }
+
+    private static void report(List<String> unmatched, String description) {
+        if (unmatched.size() < MAX_REPORTED_UNMATCHED) {
+            unmatched.add(description);
+        }
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+}
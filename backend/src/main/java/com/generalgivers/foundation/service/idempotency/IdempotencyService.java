@@ -0,0 +1,245 @@
+package com.generalgivers.foundation.service.idempotency;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.generalgivers.foundation.config.IdempotencyConfig;
+import com.generalgivers.foundation.exception.IdempotencyKeyException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Runs a request at most once per Idempotency-Key and replays its response to retries with the
+ * same key and body. A retry arriving while the original is still running waits for its result
+ * instead of starting a second one. Responses are serialized to JSON when first produced and
+ * replayed with an Idempotent-Replayed header.
+ *
+ * Server errors, thrown or returned, are not kept: requests waiting at the time get the same
+ * outcome, later retries run again. A key reused with a different body gets 422, and a retry
+ * still waiting after app.idempotency.wait-timeout gets 409. Requests without a key are run as
+ * usual.
+ *
+ * Publishes app.idempotency.requests by endpoint and outcome: executed, replayed, mismatch or
+ * conflict.
+ */
+@Service
+@Slf4j
+public class IdempotencyService {
+
+    public static final String HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private final IdempotencyConfig idempotencyConfig;
+    private final SharedIdempotencyStore sharedStore;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final Cache<String, Entry> entries;
+
+    private record Entry(String requestHash, CompletableFuture<StoredResponse> response) {
+    }
+
+    public IdempotencyService(IdempotencyConfig idempotencyConfig,
+                              SharedIdempotencyStore sharedStore,
+                              ObjectMapper objectMapper,
+                              MeterRegistry meterRegistry) {
+        this.idempotencyConfig = idempotencyConfig;
+        this.sharedStore = sharedStore;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.entries = Caffeine.newBuilder()
+                .expireAfterWrite(idempotencyConfig.getTtl())
+                .maximumSize(idempotencyConfig.getMaxEntries())
+                .build();
+    }
+
+    /**
+     * @param endpoint names the endpoint; keys are only matched against requests to the same one
+     * @param key      the Idempotency-Key header, or null
+     * @param request  the request body, whose JSON form must match that of the original request
+     * @param action   handles the request when it is not a repeat
+     */
+    public ResponseEntity<byte[]> execute(String endpoint, String key, Object request,
+                                          Supplier<ResponseEntity<?>> action) {
+        if (!idempotencyConfig.isEnabled() || key == null) {
+            return toResponse(run(action), false);
+        }
+        if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            throw new IllegalArgumentException(HEADER + " must be 1 to " + MAX_KEY_LENGTH + " characters");
+        }
+
+        String storeKey = endpoint + ":" + key;
+        Entry entry = new Entry(hash(request), new CompletableFuture<>());
+        Entry existing = entries.asMap().putIfAbsent(storeKey, entry);
+        if (existing != null) {
+            return replay(endpoint, existing, entry.requestHash());
+        }
+
+        StoredResponse response;
+        boolean replayed;
+        try {
+            Optional<StoredResponse> earlier = findShared(endpoint, storeKey, entry.requestHash());
+            replayed = earlier.isPresent();
+            response = replayed ? earlier.get() : runOnce(endpoint, storeKey, action);
+        } catch (RuntimeException ex) {
+            entries.asMap().remove(storeKey, entry);
+            entry.response().completeExceptionally(ex);
+            throw ex;
+        }
+        if (response.status() >= 500) {
+            entries.asMap().remove(storeKey, entry);
+        }
+        entry.response().complete(response);
+        return toResponse(response, replayed);
+    }
+
+    /**
+     * With the shared store, claim the key; empty if this request now holds it, otherwise the
+     * response of the request on another node that does
+     */
+    private Optional<StoredResponse> findShared(String endpoint, String storeKey, String requestHash) {
+        if (idempotencyConfig.getStore() != IdempotencyConfig.Store.SHARED) {
+            return Optional.empty();
+        }
+        SharedIdempotencyStore.Claim claim = sharedStore.claim(storeKey, requestHash);
+        if (claim.owned()) {
+            return Optional.empty();
+        }
+        requireSameRequest(endpoint, claim.requestHash(), requestHash);
+        StoredResponse response = claim.response() != null ? claim.response() : awaitShared(endpoint, storeKey);
+        count(endpoint, "replayed");
+        return Optional.of(response);
+    }
+
+    private StoredResponse runOnce(String endpoint, String storeKey, Supplier<ResponseEntity<?>> action) {
+        StoredResponse response;
+        try {
+            response = run(action);
+        } catch (RuntimeException ex) {
+            abandonShared(storeKey);
+            throw ex;
+        }
+        if (response.status() >= 500) {
+            abandonShared(storeKey);
+        } else if (idempotencyConfig.getStore() == IdempotencyConfig.Store.SHARED) {
+            sharedStore.complete(storeKey, response);
+        }
+        count(endpoint, "executed");
+        return response;
+    }
+
+    private ResponseEntity<byte[]> replay(String endpoint, Entry existing, String requestHash) {
+        requireSameRequest(endpoint, existing.requestHash(), requestHash);
+        try {
+            StoredResponse response = existing.response()
+                    .get(idempotencyConfig.getWaitTimeout().toMillis(), TimeUnit.MILLISECONDS);
+            count(endpoint, "replayed");
+            return toResponse(response, true);
+        } catch (TimeoutException ex) {
+            throw conflict(endpoint);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw conflict(endpoint);
+        } catch (ExecutionException ex) {
+            // The original request failed; so does its duplicate
+            count(endpoint, "replayed");
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(ex.getCause());
+        }
+    }
+
+    private StoredResponse awaitShared(String endpoint, String storeKey) {
+        try {
+            Optional<StoredResponse> response = sharedStore.await(storeKey, idempotencyConfig.getWaitTimeout());
+            if (response.isPresent()) {
+                return response.get();
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        throw conflict(endpoint);
+    }
+
+    private void abandonShared(String storeKey) {
+        if (idempotencyConfig.getStore() == IdempotencyConfig.Store.SHARED) {
+            try {
+                sharedStore.abandon(storeKey);
+            } catch (RuntimeException ex) {
+                // The key is claimable again once app.idempotency.abandon-after has passed
+                log.warn("Could not release idempotency key {}: {}", storeKey, ex.getMessage());
+            }
+        }
+    }
+
+    private void requireSameRequest(String endpoint, String originalHash, String requestHash) {
+        if (!originalHash.equals(requestHash)) {
+            count(endpoint, "mismatch");
+            throw new IdempotencyKeyException(HttpStatus.UNPROCESSABLE_ENTITY,
+                    HEADER + " was already used for a different request");
+        }
+    }
+
+    private IdempotencyKeyException conflict(String endpoint) {
+        count(endpoint, "conflict");
+        return new IdempotencyKeyException(HttpStatus.CONFLICT,
+                "A request with this " + HEADER + " is still being processed; retry later");
+    }
+
+    private StoredResponse run(Supplier<ResponseEntity<?>> action) {
+        ResponseEntity<?> response = action.get();
+        return new StoredResponse(response.getStatusCode().value(), serialize(response.getBody()));
+    }
+
+    private static ResponseEntity<byte[]> toResponse(StoredResponse response, boolean replayed) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.status(response.status())
+                .contentType(MediaType.APPLICATION_JSON);
+        if (replayed) {
+            builder.header(REPLAYED_HEADER, "true");
+        }
+        return builder.body(response.body());
+    }
+
+    private String hash(Object request) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(serialize(request)));
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private byte[] serialize(Object body) {
+        try {
+            return objectMapper.writeValueAsBytes(body);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Could not serialize response", ex);
+        }
+    }
+
+    private void count(String endpoint, String outcome) {
+        Counter.builder("app.idempotency.requests")
+                .description("Requests carrying an Idempotency-Key, by what was done with them")
+                .tag("endpoint", endpoint)
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .increment();
+    }
+}
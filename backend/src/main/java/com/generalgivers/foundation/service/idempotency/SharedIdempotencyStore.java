@@ -0,0 +1,134 @@
+package com.generalgivers.foundation.service.idempotency;
+
+import com.generalgivers.foundation.config.IdempotencyConfig;
+import com.generalgivers.foundation.service.SchedulerLeaseService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Idempotency keys kept in the idempotency_keys table so that a retry reaching another node still
+ * finds the original request. The first request claims its key with an insert, which the primary
+ * key makes atomic across nodes; retries read the stored response, or poll for it while the
+ * original is still running. Used only with app.idempotency.store=shared.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SharedIdempotencyStore {
+
+    static final String CLEANUP_LEASE_NAME = "idempotency-cleanup";
+
+    private static final long POLL_INTERVAL_MILLIS = 100;
+
+    // Expired keys, and keys whose request was abandoned by a node that died, may be claimed again
+    private static final String CLAIM =
+            "INSERT INTO idempotency_keys AS k (idempotency_key, request_hash, created_at, expires_at) " +
+            "VALUES (:key, :hash, LOCALTIMESTAMP, LOCALTIMESTAMP + make_interval(secs => :ttlSeconds)) " +
+            "ON CONFLICT (idempotency_key) DO UPDATE SET request_hash = EXCLUDED.request_hash, " +
+            "response_status = NULL, response_body = NULL, " +
+            "created_at = EXCLUDED.created_at, expires_at = EXCLUDED.expires_at " +
+            "WHERE k.expires_at < LOCALTIMESTAMP OR (k.response_status IS NULL " +
+            "AND k.created_at < LOCALTIMESTAMP - make_interval(secs => :abandonSeconds)) " +
+            "RETURNING idempotency_key";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final SchedulerLeaseService schedulerLeaseService;
+    private final IdempotencyConfig idempotencyConfig;
+
+    /**
+     * The outcome of claiming a key: owned by this request, or held by an earlier request with the
+     * given hash and, once it has finished, its response
+     */
+    public record Claim(boolean owned, String requestHash, StoredResponse response) {
+    }
+
+    public Claim claim(String key, String requestHash) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("key", key)
+                .addValue("hash", requestHash)
+                .addValue("ttlSeconds", (double) idempotencyConfig.getTtl().toSeconds())
+                .addValue("abandonSeconds", (double) idempotencyConfig.getAbandonAfter().toSeconds());
+        // A second attempt covers the key being abandoned between the insert and the read
+        for (int attempt = 0; attempt < 2; attempt++) {
+            if (!jdbcTemplate.queryForList(CLAIM, params, String.class).isEmpty()) {
+                return new Claim(true, requestHash, null);
+            }
+            Optional<Claim> existing = find(key);
+            if (existing.isPresent()) {
+                return existing.get();
+            }
+        }
+        throw new IllegalStateException("Could not claim idempotency key " + key);
+    }
+
+    /**
+     * Wait for the request holding the key to finish; empty if it is still running after timeout
+     * or gave up without a response
+     */
+    public Optional<StoredResponse> await(String key, Duration timeout) throws InterruptedException {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (true) {
+            Optional<Claim> claim = find(key);
+            if (claim.isEmpty()) {
+                return Optional.empty();
+            }
+            if (claim.get().response() != null) {
+                return Optional.of(claim.get().response());
+            }
+            if (System.nanoTime() - deadline >= 0) {
+                return Optional.empty();
+            }
+            Thread.sleep(POLL_INTERVAL_MILLIS);
+        }
+    }
+
+    public void complete(String key, StoredResponse response) {
+        jdbcTemplate.update("UPDATE idempotency_keys SET response_status = :status, response_body = :body " +
+                        "WHERE idempotency_key = :key AND response_status IS NULL",
+                new MapSqlParameterSource()
+                        .addValue("key", key)
+                        .addValue("status", response.status())
+                        .addValue("body", response.body()));
+    }
+
+    /**
+     * Release a key whose request failed, so that a retry runs it again
+     */
+    public void abandon(String key) {
+        jdbcTemplate.update("DELETE FROM idempotency_keys WHERE idempotency_key = :key AND response_status IS NULL",
+                new MapSqlParameterSource("key", key));
+    }
+
+    private Optional<Claim> find(String key) {
+        List<Claim> rows = jdbcTemplate.query(
+                "SELECT request_hash, response_status, response_body FROM idempotency_keys WHERE idempotency_key = :key",
+                new MapSqlParameterSource("key", key),
+                (rs, rowNum) -> {
+                    int status = rs.getInt("response_status");
+                    StoredResponse response = rs.wasNull() ? null : new StoredResponse(status, rs.getBytes("response_body"));
+                    return new Claim(false, rs.getString("request_hash"), response);
+                });
+        return rows.stream().findFirst();
+    }
+
+    @Scheduled(fixedDelay = 600_000, initialDelay = 600_000)
+    public void deleteExpired() {
+        if (!idempotencyConfig.isEnabled() || idempotencyConfig.getStore() != IdempotencyConfig.Store.SHARED
+                || !schedulerLeaseService.holds(CLEANUP_LEASE_NAME)) {
+            return;
+        }
+        int deleted = jdbcTemplate.update("DELETE FROM idempotency_keys WHERE expires_at < LOCALTIMESTAMP",
+                new MapSqlParameterSource());
+        if (deleted > 0) {
+            log.debug("Deleted {} expired idempotency keys", deleted);
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.generalgivers.foundation.service.idempotency;
+
+/**
+ * The status and serialized JSON body of a response to replay for a repeated Idempotency-Key
+ */
+public record StoredResponse(int status, byte[] body) {
+}
@@ -0,0 +1,160 @@
+package com.generalgivers.foundation.service.partition;
+
+import com.generalgivers.foundation.config.PartitionConfig;
+import com.generalgivers.foundation.service.SchedulerLeaseService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Keeps the monthly range partitions of notifications and audit_logs in shape: partitions for the
+ * coming months are created ahead of time and partitions entirely older than the retention period
+ * are dropped, so expiring a month of rows is a single DROP TABLE instead of a row-by-row DELETE.
+ *
+ * Partitions are named {@code <table>_pYYYY_MM}. Should rows have landed in the default partition
+ * because a month was missing, they are moved into the new month's partition when it is created.
+ * A table that is not partitioned (a schema created by Hibernate rather than the migrations) has
+ * its expired rows deleted instead. Runs at startup and daily on the node holding the lease.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PartitionMaintenanceService {
+
+    static final String LEASE_NAME = "partition-maintenance";
+
+    private static final DateTimeFormatter SUFFIX = DateTimeFormatter.ofPattern("yyyy_MM");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final SchedulerLeaseService schedulerLeaseService;
+    private final PartitionConfig partitionConfig;
+
+    record PartitionedTable(String name, String column, int retentionMonths) {
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        maintain();
+    }
+
+    @Scheduled(cron = "${app.partitions.maintenance-cron:0 30 2 * * *}")
+    public void maintain() {
+        if (!schedulerLeaseService.holds(LEASE_NAME)) {
+            return;
+        }
+        for (PartitionedTable table : tables()) {
+            try {
+                maintain(table, YearMonth.now());
+            } catch (RuntimeException e) {
+                // Retried on the next run; the default partition keeps inserts working meanwhile
+                log.error("Partition maintenance of {} failed: {}", table.name(), e.getMessage(), e);
+            }
+        }
+    }
+
+    private List<PartitionedTable> tables() {
+        return List.of(
+                new PartitionedTable("notifications", "created_at", partitionConfig.getNotificationsRetentionMonths()),
+                new PartitionedTable("audit_logs", "timestamp", partitionConfig.getAuditLogsRetentionMonths()));
+    }
+
+    void maintain(PartitionedTable table, YearMonth current) {
+        YearMonth oldestKept = table.retentionMonths() > 0 ? current.minusMonths(table.retentionMonths() - 1L) : null;
+
+        if (!isPartitioned(table.name())) {
+            if (oldestKept != null) {
+                int deleted = jdbcTemplate.update("DELETE FROM " + quote(table.name())
+                        + " WHERE " + quote(table.column()) + " < ?", oldestKept.atDay(1).atStartOfDay());
+                if (deleted > 0) {
+                    log.info("Deleted {} rows from unpartitioned {} older than {}", deleted, table.name(), oldestKept);
+                }
+            }
+            return;
+        }
+
+        List<String> partitions = partitionsOf(table.name());
+        for (int i = 0; i <= partitionConfig.getMonthsAhead(); i++) {
+            YearMonth month = current.plusMonths(i);
+            if (!partitions.contains(partitionName(table.name(), month))) {
+                createPartition(table, month);
+            }
+        }
+
+        if (oldestKept == null) {
+            return;
+        }
+        Pattern monthly = Pattern.compile(Pattern.quote(table.name()) + "_p(\\d{4})_(\\d{2})");
+        for (String partition : partitions) {
+            Matcher matcher = monthly.matcher(partition);
+            if (matcher.matches()
+                    && YearMonth.of(Integer.parseInt(matcher.group(1)), Integer.parseInt(matcher.group(2))).isBefore(oldestKept)) {
+                jdbcTemplate.execute("DROP TABLE " + quote(partition));
+                log.info("Dropped expired partition {}", partition);
+            }
+        }
+    }
+
+    private void createPartition(PartitionedTable table, YearMonth month) {
+        String partition = partitionName(table.name(), month);
+        String bounds = "FOR VALUES FROM ('" + month.atDay(1) + "') TO ('" + month.plusMonths(1).atDay(1) + "')";
+        String defaultPartition = quote(table.name() + "_default");
+        String inMonth = quote(table.column()) + " >= ? AND " + quote(table.column()) + " < ?";
+        LocalDate from = month.atDay(1);
+        LocalDate to = month.plusMonths(1).atDay(1);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            Boolean stranded = jdbcTemplate.queryForObject(
+                    "SELECT EXISTS (SELECT 1 FROM " + defaultPartition + " WHERE " + inMonth + ")",
+                    Boolean.class, from.atStartOfDay(), to.atStartOfDay());
+            if (!Boolean.TRUE.equals(stranded)) {
+                jdbcTemplate.execute("CREATE TABLE " + quote(partition) + " PARTITION OF " + quote(table.name()) + " " + bounds);
+                log.info("Created partition {}", partition);
+                return;
+            }
+            // The new range would overlap rows in the default partition, so they move first
+            jdbcTemplate.execute("CREATE TABLE " + quote(partition) + " (LIKE " + quote(table.name())
+                    + " INCLUDING DEFAULTS INCLUDING CONSTRAINTS)");
+            int moved = jdbcTemplate.update("WITH moved AS (DELETE FROM " + defaultPartition + " WHERE " + inMonth
+                            + " RETURNING *) INSERT INTO " + quote(partition) + " SELECT * FROM moved",
+                    from.atStartOfDay(), to.atStartOfDay());
+            jdbcTemplate.execute("ALTER TABLE " + quote(table.name()) + " ATTACH PARTITION " + quote(partition) + " " + bounds);
+            log.info("Created partition {} with {} rows moved out of the default partition", partition, moved);
+        });
+    }
+
+    private boolean isPartitioned(String table) {
+        Boolean partitioned = jdbcTemplate.queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM pg_partitioned_table p JOIN pg_class c ON c.oid = p.partrelid "
+                        + "WHERE c.relname = ? AND pg_table_is_visible(c.oid))",
+                Boolean.class, table);
+        return Boolean.TRUE.equals(partitioned);
+    }
+
+    private List<String> partitionsOf(String table) {
+        return jdbcTemplate.queryForList(
+                "SELECT c.relname FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid "
+                        + "JOIN pg_class p ON p.oid = i.inhparent WHERE p.relname = ? AND pg_table_is_visible(p.oid)",
+                String.class, table);
+    }
+
+    static String partitionName(String table, YearMonth month) {
+        return table + "_p" + month.format(SUFFIX);
+    }
+
+    private static String quote(String identifier) {
+        return "\"" + identifier.replace("\"", "\"\"") + "\"";
+    }
+}
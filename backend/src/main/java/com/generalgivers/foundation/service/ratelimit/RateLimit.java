@@ -0,0 +1,24 @@
+package com.generalgivers.foundation.service.ratelimit;
+
+/**
+ * A bucket of capacity tokens refilled at requestsPerMinute
+ */
+public record RateLimit(int capacity, int requestsPerMinute) {
+
+    public RateLimit {
+        if (capacity < 1 || requestsPerMinute < 1) {
+            throw new IllegalArgumentException("Rate limits must allow at least one request");
+        }
+    }
+
+    public double tokensPerSecond() {
+        return requestsPerMinute / 60d;
+    }
+
+    /**
+     * Time for an empty bucket to fill up again, after which it is the same as a new one
+     */
+    public long refillSeconds() {
+        return (long) Math.ceil(capacity / tokensPerSecond());
+    }
+}
@@ -0,0 +1,8 @@
+package com.generalgivers.foundation.service.ratelimit;
+
+/**
+ * @param remaining         whole requests left in the bucket
+ * @param retryAfterSeconds when denied, seconds until the next request would be allowed
+ */
+public record RateLimitDecision(boolean allowed, long remaining, long retryAfterSeconds) {
+}
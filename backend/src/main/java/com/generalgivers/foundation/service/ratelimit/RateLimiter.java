@@ -0,0 +1,136 @@
+package com.generalgivers.foundation.service.ratelimit;
+
+import com.generalgivers.foundation.config.RateLimitingConfig;
+import com.generalgivers.foundation.util.TokenBucket;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.server.PathContainer;
+import org.springframework.stereotype.Service;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Picks the limit for a request and takes a token from the caller's bucket for it.
+ *
+ * Local buckets live in a size-bounded cache and expire once idle long enough to have refilled,
+ * since a full bucket is the same as none; under memory pressure the least recently used go
+ * first. In shared mode buckets are kept in the database, falling back to the local ones if it
+ * cannot be reached so that an outage does not take the API down with it.
+ */
+@Service
+@Slf4j
+public class RateLimiter {
+
+    public static final String DEFAULT_ROUTE = "default";
+
+    private static final long FALLBACK_WARN_INTERVAL_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+    private final RateLimitingConfig rateLimitingConfig;
+    private final SharedRateLimitStore sharedStore;
+    private final MeterRegistry meterRegistry;
+    private final Cache<String, TokenBucket> buckets;
+    private final List<Route> routes;
+    private final Route defaultRoute;
+
+    private volatile long lastFallbackWarning = System.nanoTime() - FALLBACK_WARN_INTERVAL_NANOS;
+
+    /**
+     * @param id the route's pattern, used as the metric tag and to keep its buckets apart
+     */
+    public record Route(String id, String method, PathPattern pattern, RateLimit limit) {
+
+        boolean matches(String requestMethod, PathContainer path) {
+            return (method == null || method.isBlank() || method.equalsIgnoreCase(requestMethod))
+                    && pattern.matches(path);
+        }
+    }
+
+    public RateLimiter(RateLimitingConfig rateLimitingConfig, SharedRateLimitStore sharedStore, MeterRegistry meterRegistry) {
+        this.rateLimitingConfig = rateLimitingConfig;
+        this.sharedStore = sharedStore;
+        this.meterRegistry = meterRegistry;
+        this.defaultRoute = new Route(DEFAULT_ROUTE, null, null,
+                limit(rateLimitingConfig.getRequestsPerMinute(), rateLimitingConfig.getBurst()));
+        PathPatternParser parser = new PathPatternParser();
+        this.routes = rateLimitingConfig.getRoutes().stream()
+                .map(route -> new Route(route.getPattern(), route.getMethod(), parser.parse(route.getPattern()),
+                        limit(route.getRequestsPerMinute(), route.getBurst())))
+                .toList();
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(rateLimitingConfig.getMaxTrackedClients())
+                .expireAfterAccess(Duration.ofSeconds(longestRefillSeconds(rateLimitingConfig)))
+                .build();
+        Gauge.builder("app.rate_limit.buckets", buckets, Cache::estimatedSize)
+                .description("Client buckets held in memory")
+                .register(meterRegistry);
+    }
+
+    /**
+     * The first configured route matching the request, else the default
+     */
+    public Route route(String method, String path) {
+        PathContainer container = PathContainer.parsePath(path);
+        for (Route route : routes) {
+            if (route.matches(method, container)) {
+                return route;
+            }
+        }
+        return defaultRoute;
+    }
+
+    public RateLimitDecision tryAcquire(Route route, String client) {
+        String key = route.id() + "|" + client;
+        RateLimitDecision decision = null;
+        if (rateLimitingConfig.getStore() == RateLimitingConfig.Store.SHARED) {
+            try {
+                decision = sharedStore.tryConsume(key, route.limit());
+            } catch (DataAccessException e) {
+                long now = System.nanoTime();
+                if (now - lastFallbackWarning >= FALLBACK_WARN_INTERVAL_NANOS) {
+                    lastFallbackWarning = now;
+                    log.warn("Shared rate limit store unavailable, limiting per node: {}", e.getMessage());
+                }
+            }
+        }
+        if (decision == null) {
+            decision = tryAcquireLocally(key, route.limit());
+        }
+
+        Counter.builder("app.rate_limit.requests")
+                .description("Rate-limited requests by route and whether they were let through")
+                .tag("route", route.id())
+                .tag("outcome", decision.allowed() ? "allowed" : "limited")
+                .register(meterRegistry)
+                .increment();
+        return decision;
+    }
+
+    private RateLimitDecision tryAcquireLocally(String key, RateLimit limit) {
+        long now = System.nanoTime();
+        TokenBucket bucket = buckets.get(key, k -> new TokenBucket(limit.capacity(), limit.tokensPerSecond(), now));
+        TokenBucket.Result result = bucket.tryConsume(now);
+        return new RateLimitDecision(result.allowed(), (long) Math.floor(result.remaining()),
+                (long) Math.ceil(result.retryAfterNanos() / 1_000_000_000d));
+    }
+
+    static long longestRefillSeconds(RateLimitingConfig config) {
+        long longest = limit(config.getRequestsPerMinute(), config.getBurst()).refillSeconds();
+        for (RateLimitingConfig.Route route : config.getRoutes()) {
+            longest = Math.max(longest, limit(route.getRequestsPerMinute(), route.getBurst()).refillSeconds());
+        }
+        return Math.max(longest, 1);
+    }
+
+    private static RateLimit limit(int requestsPerMinute, int burst) {
+        return new RateLimit(burst > 0 ? burst : requestsPerMinute, requestsPerMinute);
+    }
+}
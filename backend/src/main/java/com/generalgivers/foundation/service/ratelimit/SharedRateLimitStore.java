@@ -0,0 +1,70 @@
+package com.generalgivers.foundation.service.ratelimit;
+
+import com.generalgivers.foundation.config.RateLimitingConfig;
+import com.generalgivers.foundation.service.SchedulerLeaseService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * Token buckets kept in the rate_limit_buckets table so that every node draws from the same
+ * bucket. Refill and consumption happen in one upsert evaluated against the database clock, so
+ * concurrent requests on different nodes serialize on the row and nodes with skewed clocks agree.
+ * Costs one statement per limited request; used only with app.security.rate-limiting.store=shared.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SharedRateLimitStore {
+
+    static final String CLEANUP_LEASE_NAME = "rate-limit-cleanup";
+
+    private static final String REFILLED =
+            "LEAST(:capacity, b.tokens + EXTRACT(EPOCH FROM LOCALTIMESTAMP - b.updated_at) * :perSecond)";
+
+    private static final String TRY_CONSUME =
+            "INSERT INTO rate_limit_buckets AS b (bucket_key, tokens, allowed, updated_at) " +
+            "VALUES (:key, :capacity - 1, TRUE, LOCALTIMESTAMP) " +
+            "ON CONFLICT (bucket_key) DO UPDATE SET " +
+            "allowed = " + REFILLED + " >= 1, " +
+            "tokens = " + REFILLED + " - CASE WHEN " + REFILLED + " >= 1 THEN 1 ELSE 0 END, " +
+            "updated_at = LOCALTIMESTAMP " +
+            "RETURNING tokens, allowed";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final SchedulerLeaseService schedulerLeaseService;
+    private final RateLimitingConfig rateLimitingConfig;
+
+    public RateLimitDecision tryConsume(String key, RateLimit limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("key", key)
+                .addValue("capacity", (double) limit.capacity())
+                .addValue("perSecond", limit.tokensPerSecond());
+        return jdbcTemplate.queryForObject(TRY_CONSUME, params, (rs, rowNum) -> {
+            double tokens = rs.getDouble("tokens");
+            boolean allowed = rs.getBoolean("allowed");
+            long retryAfter = allowed ? 0 : (long) Math.ceil((1 - tokens) / limit.tokensPerSecond());
+            return new RateLimitDecision(allowed, (long) Math.floor(tokens), retryAfter);
+        });
+    }
+
+    /**
+     * Remove buckets idle long enough to have refilled completely, which behave like absent ones
+     */
+    @Scheduled(fixedDelay = 600_000, initialDelay = 600_000)
+    public void deleteIdleBuckets() {
+        if (!rateLimitingConfig.isEnabled() || rateLimitingConfig.getStore() != RateLimitingConfig.Store.SHARED
+                || !schedulerLeaseService.holds(CLEANUP_LEASE_NAME)) {
+            return;
+        }
+        int deleted = jdbcTemplate.update(
+                "DELETE FROM rate_limit_buckets WHERE updated_at < LOCALTIMESTAMP - make_interval(secs => :idleSeconds)",
+                new MapSqlParameterSource("idleSeconds", (double) RateLimiter.longestRefillSeconds(rateLimitingConfig)));
+        if (deleted > 0) {
+            log.debug("Deleted {} idle rate limit buckets", deleted);
+        }
+    }
+}
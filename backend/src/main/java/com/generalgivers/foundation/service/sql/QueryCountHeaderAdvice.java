@@ -0,0 +1,41 @@
+package com.generalgivers.foundation.service.sql;
+
+import com.generalgivers.foundation.config.SqlStatsConfig;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Adds X-Query-Count, the number of SQL statements run so far, to response bodies when
+ * app.sql-stats.query-count-header is on. Headers must be set before the body is written, which
+ * is after the handler has finished its database work.
+ */
+@ControllerAdvice
+@RequiredArgsConstructor
+public class QueryCountHeaderAdvice implements ResponseBodyAdvice<Object> {
+
+    public static final String HEADER = "X-Query-Count";
+
+    private final SqlStatsConfig sqlStatsConfig;
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return sqlStatsConfig.isEnabled() && sqlStatsConfig.isQueryCountHeader();
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        RequestSqlStats stats = RequestSqlStats.current();
+        if (stats != null) {
+            response.getHeaders().set(HEADER, Integer.toString(stats.getStatements()));
+        }
+        return body;
+    }
+}
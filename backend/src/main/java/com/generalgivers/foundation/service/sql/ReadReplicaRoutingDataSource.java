@@ -0,0 +1,168 @@
+package com.generalgivers.foundation.service.sql;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+
+/**
+ * Sends read-only transactions started by a {@link ReplicaRead} method to a replica pool and
+ * everything else to the primary. Other read-only transactions stay on the primary: they include
+ * Spring Data's own around findAll and findById, whose results may go into the Hibernate caches,
+ * and reads that must see the latest write, such as aggregate versions. The physical connection is
+ * only fetched at the first statement, by which time Spring has marked the transaction read-only.
+ * Reads go to the primary instead while the replica is unreachable or, as last measured by
+ * {@link #checkReplica()}, further behind than maxLag.
+ *
+ * Publishes app.datasource.replica.lag, app.datasource.replica.available and
+ * app.datasource.reads by target and reason.
+ */
+@Slf4j
+public class ReadReplicaRoutingDataSource extends LazyConnectionDataSourceProxy implements MeterBinder {
+
+    // Zero when the replica has replayed everything it received, so an idle primary does not look like lag
+    private static final String LAG_SQL = """
+            SELECT CASE WHEN NOT pg_is_in_recovery() OR pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                        ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0) END
+            """;
+
+    private static final ThreadLocal<Boolean> REPLICA_ALLOWED = ThreadLocal.withInitial(() -> false);
+
+    private final DataSource primary;
+    private final DataSource replica;
+    private final double maxLagSeconds;
+
+    private volatile boolean replicaAvailable = true;
+    private volatile double lagSeconds = 0;
+    private volatile MeterRegistry meterRegistry;
+
+    public ReadReplicaRoutingDataSource(DataSource primary, DataSource replica, Duration maxLag) {
+        this.primary = primary;
+        this.replica = replica;
+        this.maxLagSeconds = maxLag.toMillis() / 1000.0;
+        setTargetDataSource(new Router());
+    }
+
+    /**
+     * Allow or disallow the current thread's next read-only transaction onto the replica
+     *
+     * @return whether it was allowed before
+     */
+    static boolean allowReplica(boolean allowed) {
+        boolean previous = REPLICA_ALLOWED.get();
+        REPLICA_ALLOWED.set(allowed);
+        return previous;
+    }
+
+    /**
+     * Measure the replica's lag; reads return to it once it is reachable and close enough again
+     */
+    public void checkReplica() {
+        try (Connection connection = replica.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet result = statement.executeQuery(LAG_SQL)) {
+            result.next();
+            double lag = result.getDouble(1);
+            if (!replicaAvailable) {
+                log.info("Read replica reachable again, {}s behind", lag);
+            } else if (lag > maxLagSeconds && lagSeconds <= maxLagSeconds) {
+                log.warn("Read replica is {}s behind, more than the allowed {}s; reading from the primary", lag, maxLagSeconds);
+            }
+            lagSeconds = lag;
+            replicaAvailable = true;
+        } catch (SQLException ex) {
+            replicaUnavailable(ex);
+        }
+    }
+
+    public boolean isReplicaAvailable() {
+        return replicaAvailable;
+    }
+
+    public double getLagSeconds() {
+        return lagSeconds;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("app.datasource.replica.lag", this, ReadReplicaRoutingDataSource::getLagSeconds)
+                .description("Replication lag of the read replica at the last check")
+                .baseUnit("seconds")
+                .register(registry);
+        Gauge.builder("app.datasource.replica.available", this, routing -> routing.isReplicaAvailable() ? 1 : 0)
+                .description("Whether the read replica answered the last check or connection attempt")
+                .register(registry);
+        meterRegistry = registry;
+    }
+
+    private Connection readConnection() throws SQLException {
+        if (!replicaAvailable) {
+            return fromPrimary("unavailable");
+        }
+        if (lagSeconds > maxLagSeconds) {
+            return fromPrimary("lagging");
+        }
+        Connection connection;
+        try {
+            connection = replica.getConnection();
+        } catch (SQLException ex) {
+            replicaUnavailable(ex);
+            return fromPrimary("unavailable");
+        }
+        countRead("replica", "read_only");
+        return connection;
+    }
+
+    private Connection fromPrimary(String reason) throws SQLException {
+        countRead("primary", reason);
+        return primary.getConnection();
+    }
+
+    private void replicaUnavailable(SQLException ex) {
+        if (replicaAvailable) {
+            log.warn("Read replica unavailable, reading from the primary until it answers again: {}", ex.getMessage());
+        }
+        replicaAvailable = false;
+    }
+
+    private void countRead(String target, String reason) {
+        MeterRegistry registry = meterRegistry;
+        if (registry != null) {
+            Counter.builder("app.datasource.reads")
+                    .description("Connections for replica reads, by the pool that served them and why")
+                    .tag("target", target)
+                    .tag("reason", reason)
+                    .register(registry)
+                    .increment();
+        }
+    }
+
+    /**
+     * Picks the pool when the lazy proxy finally needs a physical connection
+     */
+    private class Router extends AbstractDataSource {
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return REPLICA_ALLOWED.get() && TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                    ? readConnection()
+                    : primary.getConnection();
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            throw new UnsupportedOperationException("Routed connections use the pools' own credentials");
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.generalgivers.foundation.service.sql;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Run the annotated service method in a read-only transaction that may read from the read replica.
+ * Only for reads that tolerate replica lag, such as reports and dashboard figures; every other
+ * transaction, read-only or not, uses the primary. Nothing such a transaction loads is put into
+ * the second-level or query caches, so a lagging row cannot outlive the call.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface ReplicaRead {
+}
@@ -0,0 +1,71 @@
+package com.generalgivers.foundation.service.sql;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.reflect.UndeclaredThrowableException;
+
+/**
+ * Runs {@link ReplicaRead} methods in a read-only transaction. With the replica enabled, a
+ * transaction started here is allowed onto it and its session only reads from the Hibernate
+ * caches. A method called inside an existing transaction joins it and reads wherever it does.
+ */
+@Aspect
+@Component
+public class ReplicaReadAspect {
+
+    private final TransactionTemplate readOnly;
+    private final boolean replicaEnabled;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public ReplicaReadAspect(PlatformTransactionManager transactionManager,
+                             @Value("${app.datasource.replica.enabled:false}") boolean replicaEnabled) {
+        this.readOnly = new TransactionTemplate(transactionManager);
+        this.readOnly.setReadOnly(true);
+        this.replicaEnabled = replicaEnabled;
+    }
+
+    @Around("@annotation(com.generalgivers.foundation.service.sql.ReplicaRead)")
+    public Object read(ProceedingJoinPoint joinPoint) throws Throwable {
+        try {
+            return readOnly.execute(status -> {
+                if (!replicaEnabled || !status.isNewTransaction()) {
+                    return proceed(joinPoint);
+                }
+                Session session = entityManager.unwrap(Session.class);
+                CacheMode cacheMode = session.getCacheMode();
+                session.setCacheMode(CacheMode.GET);
+                boolean allowed = ReadReplicaRoutingDataSource.allowReplica(true);
+                try {
+                    return proceed(joinPoint);
+                } finally {
+                    ReadReplicaRoutingDataSource.allowReplica(allowed);
+                    session.setCacheMode(cacheMode);
+                }
+            });
+        } catch (UndeclaredThrowableException ex) {
+            throw ex.getUndeclaredThrowable();
+        }
+    }
+
+    private static Object proceed(ProceedingJoinPoint joinPoint) {
+        try {
+            return joinPoint.proceed();
+        } catch (RuntimeException | Error ex) {
+            throw ex;
+        } catch (Throwable ex) {
+            throw new UndeclaredThrowableException(ex);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.generalgivers.foundation.service.sql;
+
+/**
+ * SQL statistics of the request running on the current thread. Statements run on other threads,
+ * such as @Async work and the audit log writer, are not attributed to any request.
+ */
+public final class RequestSqlStats {
+
+    private static final ThreadLocal<RequestSqlStats> CURRENT = new ThreadLocal<>();
+
+    private int statements;
+    private long totalMillis;
+    private long slowestMillis = -1;
+    private String slowestSql;
+
+    private RequestSqlStats() {
+    }
+
+    static RequestSqlStats begin() {
+        RequestSqlStats stats = new RequestSqlStats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    static void end() {
+        CURRENT.remove();
+    }
+
+    /**
+     * Statistics of the current request, or null outside one
+     */
+    public static RequestSqlStats current() {
+        return CURRENT.get();
+    }
+
+    void record(String sql, long elapsedMillis) {
+        statements++;
+        totalMillis += elapsedMillis;
+        if (elapsedMillis > slowestMillis) {
+            slowestMillis = elapsedMillis;
+            slowestSql = sql;
+        }
+    }
+
+    public int getStatements() {
+        return statements;
+    }
+
+    public long getTotalMillis() {
+        return totalMillis;
+    }
+
+    public long getSlowestMillis() {
+        return Math.max(slowestMillis, 0);
+    }
+
+    public String getSlowestSql() {
+        return slowestSql;
+    }
+}
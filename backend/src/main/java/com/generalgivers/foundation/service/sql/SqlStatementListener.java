@@ -0,0 +1,68 @@
+package com.generalgivers.foundation.service.sql;
+
+import com.generalgivers.foundation.config.SqlStatsConfig;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Attributes each JDBC execution to the current request and logs slow ones. A batch counts as one
+ * statement. Logged SQL never contains data: bind parameters are only counted, and string and
+ * numeric literals in the SQL text are replaced with ?.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SqlStatementListener implements QueryExecutionListener {
+
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMERIC_LITERAL = Pattern.compile("\\b\\d+(?:\\.\\d+)?\\b");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final SqlStatsConfig sqlStatsConfig;
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        long elapsedMillis = execInfo.getElapsedTime();
+        RequestSqlStats stats = RequestSqlStats.current();
+        boolean slow = elapsedMillis >= sqlStatsConfig.getSlowQueryThreshold().toMillis();
+        if (stats == null && !slow) {
+            return;
+        }
+
+        String sql = queryInfoList.stream().map(QueryInfo::getQuery).collect(Collectors.joining("; "));
+        if (stats != null) {
+            stats.record(sql, elapsedMillis);
+        }
+        if (slow) {
+            int parameters = queryInfoList.stream()
+                    .flatMap(query -> query.getParametersList().stream())
+                    .mapToInt(List::size)
+                    .sum();
+            log.warn("Slow SQL ({} ms{}, {} bind parameters redacted): {}", elapsedMillis,
+                    execInfo.isBatch() ? ", batch of " + execInfo.getBatchSize() : "", parameters, redact(sql));
+        }
+    }
+
+    public String redact(String sql) {
+        if (sql == null) {
+            return null;
+        }
+        String redacted = STRING_LITERAL.matcher(sql).replaceAll("?");
+        redacted = NUMERIC_LITERAL.matcher(redacted).replaceAll("?");
+        redacted = WHITESPACE.matcher(redacted).replaceAll(" ").trim();
+        int max = sqlStatsConfig.getMaxLoggedSqlLength();
+        return redacted.length() > max ? redacted.substring(0, max) + "..." : redacted;
+    }
+}
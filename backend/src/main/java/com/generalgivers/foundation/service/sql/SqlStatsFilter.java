@@ -0,0 +1,89 @@
+package com.generalgivers.foundation.service.sql;
+
+import com.generalgivers.foundation.config.SqlStatsConfig;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Collects the SQL statements each request runs, including those of authentication, and records
+ * them per endpoint: app.sql.statements (statements per request), app.sql.time (total JDBC time per
+ * request) and app.sql.slowest (slowest statement per request). Requests over the statement
+ * threshold are logged with their slowest statement, which usually points at the N+1.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+@ConditionalOnProperty(prefix = "app.sql-stats", name = "enabled", matchIfMissing = true)
+@RequiredArgsConstructor
+@Slf4j
+public class SqlStatsFilter extends OncePerRequestFilter {
+
+    private final MeterRegistry meterRegistry;
+    private final SqlStatsConfig sqlStatsConfig;
+    private final SqlStatementListener sqlStatementListener;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        RequestSqlStats stats = RequestSqlStats.begin();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            RequestSqlStats.end();
+            record(request, stats);
+        }
+    }
+
+    private void record(HttpServletRequest request, RequestSqlStats stats) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        // Raw paths would give every id its own series
+        String uri = pattern != null ? pattern.toString() : "UNMAPPED";
+        Tags tags = Tags.of("method", request.getMethod(), "uri", uri);
+
+        DistributionSummary.builder("app.sql.statements")
+                .description("SQL statements per request")
+                .baseUnit("statements")
+                .tags(tags)
+                .register(meterRegistry)
+                .record(stats.getStatements());
+        Timer.builder("app.sql.time")
+                .description("Total JDBC execution time per request")
+                .tags(tags)
+                .register(meterRegistry)
+                .record(stats.getTotalMillis(), TimeUnit.MILLISECONDS);
+        if (stats.getStatements() > 0) {
+            Timer.builder("app.sql.slowest")
+                    .description("Slowest SQL statement per request")
+                    .tags(tags)
+                    .register(meterRegistry)
+                    .record(stats.getSlowestMillis(), TimeUnit.MILLISECONDS);
+        }
+
+        int threshold = sqlStatsConfig.getStatementWarnThreshold();
+        if (threshold > 0 && stats.getStatements() > threshold) {
+            log.warn("{} {} ran {} SQL statements in {} ms; slowest ({} ms): {}", request.getMethod(), uri,
+                    stats.getStatements(), stats.getTotalMillis(), stats.getSlowestMillis(),
+                    sqlStatementListener.redact(stats.getSlowestSql()));
+        } else if (log.isDebugEnabled() && stats.getStatements() > 0) {
+            log.debug("{} {} ran {} SQL statements in {} ms; slowest ({} ms): {}", request.getMethod(), uri,
+                    stats.getStatements(), stats.getTotalMillis(), stats.getSlowestMillis(),
+                    sqlStatementListener.redact(stats.getSlowestSql()));
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.generalgivers.foundation.service.storage;
+
+import com.generalgivers.foundation.exception.ResourceNotFoundException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+@Slf4j
+public abstract class AbstractFileSystemStorageBackend implements StorageBackend {
+
+    protected final Path root;
+
+    protected AbstractFileSystemStorageBackend(Path root) {
+        this.root = root.toAbsolutePath().normalize();
+        try {
+            Files.createDirectories(this.root);
+            log.info("{} storage initialized at: {}", name(), this.root);
+        } catch (IOException ex) {
+            log.error("Could not create storage directory {}: {}", this.root, ex.getMessage());
+            throw new RuntimeException("Could not create upload directory", ex);
+        }
+    }
+
+    /**
+     * Map a storage key to its location on disk, relative to the root
+     */
+    protected abstract Path locate(String key);
+
+    protected Path resolve(String key) {
+        Path path = root.resolve(locate(key)).normalize();
+        if (!path.startsWith(root)) {
+            throw new IllegalArgumentException("Invalid file path sequence: " + key);
+        }
+        return path;
+    }
+
+    /**
+     * Written to a temporary file beside the target and moved into place once complete, so an
+     * interrupted write never leaves a truncated file under the key
+     */
+    @Override
+    public void put(String key, InputStream content, long contentLength, String contentType) throws IOException {
+        Path target = resolve(key);
+        Files.createDirectories(target.getParent());
+        Path temp = Files.createTempFile(target.getParent(), "." + target.getFileName(), ".part");
+        try {
+            long written = Files.copy(content, temp, StandardCopyOption.REPLACE_EXISTING);
+            if (contentLength >= 0 && written != contentLength) {
+                throw new IOException("Expected " + contentLength + " bytes for " + key + " but got " + written);
+            }
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    @Override
+    public InputStream get(String key) throws IOException {
+        try {
+            return Files.newInputStream(resolve(key));
+        } catch (NoSuchFileException ex) {
+            throw new ResourceNotFoundException("File not found: " + key);
+        }
+    }
+
+    @Override
+    public Resource load(String key) {
+        Resource resource = new FileSystemResource(resolve(key));
+        if (resource.exists() && resource.isReadable()) {
+            return resource;
+        }
+        throw new ResourceNotFoundException("File not found: " + key);
+    }
+
+    @Override
+    public boolean exists(String key) {
+        return Files.exists(resolve(key));
+    }
+
+    @Override
+    public long size(String key) throws IOException {
+        try {
+            return Files.size(resolve(key));
+        } catch (NoSuchFileException ex) {
+            throw new ResourceNotFoundException("File not found: " + key);
+        }
+    }
+
+    @Override
+    public void delete(String key) throws IOException {
+        Files.deleteIfExists(resolve(key));
+    }
+
+    @Override
+    public String contentType(String key) {
+        try {
+            String contentType = Files.probeContentType(resolve(key));
+            return contentType != null ? contentType : "application/octet-stream";
+        } catch (IOException ex) {
+            return "application/octet-stream";
+        }
+    }
+}
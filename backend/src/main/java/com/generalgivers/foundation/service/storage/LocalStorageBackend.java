@@ -0,0 +1,24 @@
+package com.generalgivers.foundation.service.storage;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Stores files under a single directory using the key as the relative path (the original layout)
+ */
+public class LocalStorageBackend extends AbstractFileSystemStorageBackend {
+
+    public LocalStorageBackend(Path root) {
+        super(root);
+    }
+
+    @Override
+    public String name() {
+        return "local";
+    }
+
+    @Override
+    protected Path locate(String key) {
+        return Paths.get(key);
+    }
+}
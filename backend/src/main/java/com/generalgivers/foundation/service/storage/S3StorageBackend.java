@@ -0,0 +1,194 @@
+package com.generalgivers.foundation.service.storage;
+
+import com.generalgivers.foundation.config.StorageConfig;
+import com.generalgivers.foundation.exception.ResourceNotFoundException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.Resource;
+import org.springframework.util.StringUtils;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
+import software.amazon.awssdk.auth.credentials.DefaultCredentialsProvider;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3Configuration;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.URL;
+import java.util.Optional;
+
+/**
+ * S3-compatible object storage. Setting an endpoint with path-style access targets MinIO or
+ * any other S3 stand-in, which is how the backend is exercised locally.
+ */
+@Slf4j
+public class S3StorageBackend implements StorageBackend {
+
+    private final S3Client client;
+    private final S3Presigner presigner;
+    private final StorageConfig.S3 properties;
+
+    public S3StorageBackend(StorageConfig.S3 properties) {
+        if (!StringUtils.hasText(properties.getBucket())) {
+            throw new IllegalStateException("app.storage.s3.bucket must be set for the s3 storage backend");
+        }
+        this.properties = properties;
+
+        Region region = Region.of(properties.getRegion());
+        AwsCredentialsProvider credentials = StringUtils.hasText(properties.getAccessKey())
+                ? StaticCredentialsProvider.create(AwsBasicCredentials.create(properties.getAccessKey(), properties.getSecretKey()))
+                : DefaultCredentialsProvider.create();
+        S3Configuration s3Configuration = S3Configuration.builder()
+                .pathStyleAccessEnabled(properties.isPathStyleAccess())
+                .build();
+
+        var clientBuilder = S3Client.builder()
+                .region(region)
+                .credentialsProvider(credentials)
+                .serviceConfiguration(s3Configuration);
+        var presignerBuilder = S3Presigner.builder()
+                .region(region)
+                .credentialsProvider(credentials)
+                .serviceConfiguration(s3Configuration);
+        if (StringUtils.hasText(properties.getEndpoint())) {
+            URI endpoint = URI.create(properties.getEndpoint());
+            clientBuilder.endpointOverride(endpoint);
+            presignerBuilder.endpointOverride(endpoint);
+        }
+        this.client = clientBuilder.build();
+        this.presigner = presignerBuilder.build();
+
+        log.info("S3 storage initialized for bucket {} at {}", properties.getBucket(),
+                StringUtils.hasText(properties.getEndpoint()) ? properties.getEndpoint() : region);
+    }
+
+    @Override
+    public String name() {
+        return "s3";
+    }
+
+    @Override
+    public void put(String key, InputStream content, long contentLength, String contentType) throws IOException {
+        try {
+            client.putObject(builder -> builder
+                            .bucket(properties.getBucket())
+                            .key(key)
+                            .contentType(contentType != null ? contentType : "application/octet-stream")
+                            .contentLength(contentLength),
+                    RequestBody.fromInputStream(content, contentLength));
+        } catch (S3Exception ex) {
+            throw new IOException("Could not store object " + key, ex);
+        }
+    }
+
+    @Override
+    public InputStream get(String key) throws IOException {
+        try {
+            return client.getObject(GetObjectRequest.builder()
+                    .bucket(properties.getBucket())
+                    .key(key)
+                    .build());
+        } catch (NoSuchKeyException ex) {
+            throw new ResourceNotFoundException("File not found: " + key);
+        } catch (S3Exception ex) {
+            throw new IOException("Could not read object " + key, ex);
+        }
+    }
+
+    @Override
+    public Resource load(String key) {
+        HeadObjectResponse head = head(key)
+                .orElseThrow(() -> new ResourceNotFoundException("File not found: " + key));
+        try {
+            InputStream stream = get(key);
+            return new InputStreamResource(stream) {
+                @Override
+                public long contentLength() {
+                    return head.contentLength();
+                }
+
+                @Override
+                public String getFilename() {
+                    return key.substring(key.lastIndexOf('/') + 1);
+                }
+            };
+        } catch (IOException ex) {
+            throw new RuntimeException("Could not read object " + key, ex);
+        }
+    }
+
+    @Override
+    public boolean exists(String key) {
+        return head(key).isPresent();
+    }
+
+    @Override
+    public long size(String key) {
+        return head(key)
+                .map(HeadObjectResponse::contentLength)
+                .orElseThrow(() -> new ResourceNotFoundException("File not found: " + key));
+    }
+
+    @Override
+    public void delete(String key) throws IOException {
+        try {
+            client.deleteObject(builder -> builder.bucket(properties.getBucket()).key(key));
+        } catch (S3Exception ex) {
+            throw new IOException("Could not delete object " + key, ex);
+        }
+    }
+
+    @Override
+    public String contentType(String key) {
+        return head(key)
+                .map(HeadObjectResponse::contentType)
+                .orElse("application/octet-stream");
+    }
+
+    @Override
+    public Optional<URL> presignedDownloadUrl(String key, String downloadFileName, boolean attachment) {
+        if (!properties.isPresignDownloads()) {
+            return Optional.empty();
+        }
+        GetObjectRequest.Builder request = GetObjectRequest.builder()
+                .bucket(properties.getBucket())
+                .key(key);
+        if (StringUtils.hasText(downloadFileName)) {
+            request.responseContentDisposition((attachment ? "attachment" : "inline")
+                    + "; filename=\"" + downloadFileName.replace("\"", "") + "\"");
+        }
+        URL url = presigner.presignGetObject(builder -> builder
+                        .signatureDuration(properties.getPresignedUrlTtl())
+                        .getObjectRequest(request.build()))
+                .url();
+        return Optional.of(url);
+    }
+
+    @Override
+    public void close() {
+        presigner.close();
+        client.close();
+    }
+
+    private Optional<HeadObjectResponse> head(String key) {
+        try {
+            return Optional.of(client.headObject(builder -> builder.bucket(properties.getBucket()).key(key)));
+        } catch (NoSuchKeyException ex) {
+            return Optional.empty();
+        } catch (S3Exception ex) {
+            if (ex.statusCode() == 404) {
+                return Optional.empty();
+            }
+            throw ex;
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.generalgivers.foundation.service.storage;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * Spreads files across hash-derived subdirectories (root/ab/cd/key) so no single directory
+ * grows without bound. The root is typically a shared volume mounted on every instance.
+ */
+public class ShardedLocalStorageBackend extends AbstractFileSystemStorageBackend {
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private final int depth;
+
+    public ShardedLocalStorageBackend(Path root, int depth) {
+        super(root);
+        if (depth < 1 || depth > 4) {
+            throw new IllegalArgumentException("Shard depth must be between 1 and 4");
+        }
+        this.depth = depth;
+    }
+
+    @Override
+    public String name() {
+        return "sharded";
+    }
+
+    @Override
+    protected Path locate(String key) {
+        byte[] hash = sha256(key);
+        Path path = Paths.get("");
+        for (int i = 0; i < depth; i++) {
+            path = path.resolve(new String(new char[]{HEX[(hash[i] >> 4) & 0xF], HEX[hash[i] & 0xF]}));
+        }
+        return path.resolve(key);
+    }
+
+    private static byte[] sha256(String key) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(key.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
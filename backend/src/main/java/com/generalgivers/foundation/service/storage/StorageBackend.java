@@ -0,0 +1,53 @@
+package com.generalgivers.foundation.service.storage;
+
+import org.springframework.core.io.Resource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.util.Optional;
+
+/**
+ * Storage SPI used by FileStorageService. Keys are the relative paths stored in uploads.file_path
+ * (e.g. project/{moduleId}/{uuid}.jpg), so every backend can serve rows written by any other.
+ */
+public interface StorageBackend extends AutoCloseable {
+
+    String name();
+
+    /**
+     * Stream content into the backend without buffering it in memory
+     */
+    void put(String key, InputStream content, long contentLength, String contentType) throws IOException;
+
+    /**
+     * Open a stream over the stored object; throws ResourceNotFoundException if it does not exist
+     */
+    InputStream get(String key) throws IOException;
+
+    Resource load(String key);
+
+    boolean exists(String key);
+
+    /**
+     * Size of the stored object in bytes; throws ResourceNotFoundException if it does not exist
+     */
+    long size(String key) throws IOException;
+
+    void delete(String key) throws IOException;
+
+    String contentType(String key);
+
+    /**
+     * Time-limited URL the client can download from directly, bypassing the JVM. With attachment
+     * the browser saves the file under downloadFileName instead of displaying it.
+     * Backends that cannot sign URLs return empty and the file is streamed through the API.
+     */
+    default Optional<URL> presignedDownloadUrl(String key, String downloadFileName, boolean attachment) {
+        return Optional.empty();
+    }
+
+    @Override
+    default void close() {
+    }
+}
@@ -0,0 +1,28 @@
+package com.generalgivers.foundation.service.storage;
+
+import com.generalgivers.foundation.config.StorageConfig;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Paths;
+
+@Component
+@RequiredArgsConstructor
+public class StorageBackendFactory {
+
+    private final StorageConfig storageConfig;
+
+    @Value("${app.upload.dir:uploads}")
+    private String uploadDir;
+
+    public StorageBackend create(String type) {
+        return switch (type.toLowerCase()) {
+            case "local" -> new LocalStorageBackend(Paths.get(uploadDir));
+            case "sharded" -> new ShardedLocalStorageBackend(
+                    Paths.get(storageConfig.getSharded().getDir()), storageConfig.getSharded().getDepth());
+            case "s3" -> new S3StorageBackend(storageConfig.getS3());
+            default -> throw new IllegalArgumentException("Unknown storage backend: " + type);
+        };
+    }
+}
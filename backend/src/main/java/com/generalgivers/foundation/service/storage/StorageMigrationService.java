@@ -0,0 +1,195 @@
+package com.generalgivers.foundation.service.storage;
+
+import com.generalgivers.foundation.entity.Upload;
+import com.generalgivers.foundation.exception.DuplicateResourceException;
+import com.generalgivers.foundation.repository.UploadRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Copies every stored upload from one backend to another. Keys are backend-independent so the
+ * uploads table needs no changes; once the copy completes, switch app.storage.backend and restart.
+ * Objects already present in the target with the same size are skipped, so a failed run can simply
+ * be repeated.
+ *
+ * A migration runs in the background on its own thread, one at a time per instance; its progress
+ * is available from status() while it runs and after it finishes.
+ */
+@Service
+@Slf4j
+public class StorageMigrationService {
+
+    private static final int PAGE_SIZE = 100;
+    private static final int MAX_REPORTED_FAILURES = 50;
+
+    private final UploadRepository uploadRepository;
+    private final StorageBackendFactory storageBackendFactory;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(
+            Thread.ofPlatform().name("storage-migration").daemon(true).factory());
+
+    private volatile Migration current;
+
+    public StorageMigrationService(UploadRepository uploadRepository, StorageBackendFactory storageBackendFactory) {
+        this.uploadRepository = uploadRepository;
+        this.storageBackendFactory = storageBackendFactory;
+    }
+
+    public enum State {
+        RUNNING, COMPLETED, FAILED
+    }
+
+    /**
+     * Start copying uploads in the background and return the new migration's status
+     */
+    public synchronized Map<String, Object> start(String from, String to, boolean deleteSource) {
+        if (from.equalsIgnoreCase(to)) {
+            throw new IllegalArgumentException("Source and target storage backends must differ");
+        }
+        if (current != null && current.state == State.RUNNING) {
+            throw new DuplicateResourceException("A storage migration from " + current.from + " to "
+                    + current.to + " is already running");
+        }
+
+        // Created here so that unknown or misconfigured backends are reported to the caller
+        StorageBackend source = storageBackendFactory.create(from);
+        StorageBackend target;
+        try {
+            target = storageBackendFactory.create(to);
+        } catch (RuntimeException ex) {
+            source.close();
+            throw ex;
+        }
+
+        Migration migration = new Migration(from, to, deleteSource, uploadRepository.count());
+        current = migration;
+        executor.execute(() -> {
+            try (source; target) {
+                migration.run(source, target);
+            }
+        });
+        return migration.toMap();
+    }
+
+    /**
+     * Progress of the running migration, or the outcome of the last one; empty if none has run
+     */
+    public Map<String, Object> status() {
+        Migration migration = current;
+        return migration != null ? migration.toMap() : Map.of();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        // An interrupted migration leaves copied objects in place; running it again skips them
+        executor.shutdownNow();
+    }
+
+    private class Migration {
+        private final String from;
+        private final String to;
+        private final boolean deleteSource;
+        private final long total;
+        private final LocalDateTime startedAt = LocalDateTime.now();
+        private final AtomicInteger copied = new AtomicInteger();
+        private final AtomicInteger skipped = new AtomicInteger();
+        private final AtomicInteger failed = new AtomicInteger();
+        private final List<String> failures = new ArrayList<>();
+        private volatile State state = State.RUNNING;
+        private volatile LocalDateTime finishedAt;
+        private volatile String error;
+
+        Migration(String from, String to, boolean deleteSource, long total) {
+            this.from = from;
+            this.to = to;
+            this.deleteSource = deleteSource;
+            this.total = total;
+        }
+
+        void run(StorageBackend source, StorageBackend target) {
+            try {
+                Page<Upload> page;
+                int pageNumber = 0;
+                do {
+                    page = uploadRepository.findAll(PageRequest.of(pageNumber++, PAGE_SIZE, Sort.by("createdAt")));
+                    for (Upload upload : page.getContent()) {
+                        if (Thread.currentThread().isInterrupted()) {
+                            throw new IllegalStateException("Interrupted by shutdown");
+                        }
+                        copy(source, target, upload.getFilePath(), upload.getFileType());
+                    }
+                } while (page.hasNext());
+                state = State.COMPLETED;
+            } catch (RuntimeException ex) {
+                error = ex.getMessage();
+                state = State.FAILED;
+                log.error("Storage migration {} -> {} stopped: {}", from, to, ex.getMessage());
+            } finally {
+                finishedAt = LocalDateTime.now();
+            }
+            log.info("Storage migration {} -> {} finished: {} copied, {} skipped, {} failed",
+                    from, to, copied.get(), skipped.get(), failed.get());
+        }
+
+        private void copy(StorageBackend source, StorageBackend target, String key, String contentType) {
+            try {
+                // Taken from the stored object: uploads.file_size is missing or stale on older rows
+                long contentLength = source.size(key);
+                // A copy of a different size is left over from an earlier failure and is replaced
+                if (target.exists(key) && target.size(key) == contentLength) {
+                    skipped.incrementAndGet();
+                    return;
+                }
+                try (InputStream content = source.get(key)) {
+                    target.put(key, content, contentLength, contentType);
+                }
+                if (deleteSource) {
+                    source.delete(key);
+                }
+                copied.incrementAndGet();
+            } catch (IOException | RuntimeException ex) {
+                failed.incrementAndGet();
+                synchronized (failures) {
+                    if (failures.size() < MAX_REPORTED_FAILURES) {
+                        failures.add(key + ": " + ex.getMessage());
+                    }
+                }
+                log.warn("Failed to migrate {} from {} to {}: {}", key, from, to, ex.getMessage());
+            }
+        }
+
+        Map<String, Object> toMap() {
+            Map<String, Object> result = new LinkedHashMap<>();
+            result.put("from", from);
+            result.put("to", to);
+            result.put("state", state);
+            result.put("startedAt", startedAt);
+            result.put("finishedAt", finishedAt);
+            result.put("total", total);
+            result.put("copied", copied.get());
+            result.put("skipped", skipped.get());
+            result.put("failed", failed.get());
+            synchronized (failures) {
+                result.put("failures", List.copyOf(failures));
+            }
+            if (error != null) {
+                result.put("error", error);
+            }
+            return result;
+        }
+    }
+}
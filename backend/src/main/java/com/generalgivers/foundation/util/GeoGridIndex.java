@@ -0,0 +1,203 @@
+package com.generalgivers.foundation.util;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * In-memory spatial index of points keyed by K, bucketed into a fixed latitude/longitude grid.
+ * A radius query only visits the grid cells overlapping the circle's bounding box (wrapping at the
+ * antimeridian) and falls back to a full scan when that would be more cells than points. Nearest-N
+ * queries run radius queries with a doubling radius until enough points are found. Distances are
+ * great-circle distances in kilometres.
+ *
+ * Reads and writes may run concurrently; reads share a lock.
+ */
+public class GeoGridIndex<K> {
+
+    public static final double EARTH_RADIUS_KM = 6371.0088;
+    private static final double KM_PER_DEGREE = Math.PI * EARTH_RADIUS_KM / 180;
+    private static final double MAX_DISTANCE_KM = Math.PI * EARTH_RADIUS_KM;
+
+    private final double cellDegrees;
+    private final int rows;
+    private final int columns;
+    private final Map<Long, Set<K>> cells = new HashMap<>();
+    private final Map<K, Point> points = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public record Point(double latitude, double longitude) {
+    }
+
+    public record Hit<K>(K key, double distanceKm) {
+    }
+
+    public GeoGridIndex(double cellDegrees) {
+        if (cellDegrees <= 0 || cellDegrees > 90) {
+            throw new IllegalArgumentException("Cell size must be in (0, 90] degrees");
+        }
+        this.cellDegrees = cellDegrees;
+        this.rows = (int) Math.ceil(180 / cellDegrees);
+        this.columns = (int) Math.ceil(360 / cellDegrees);
+    }
+
+    public void put(K key, double latitude, double longitude) {
+        validate(latitude, longitude);
+        lock.writeLock().lock();
+        try {
+            removeLocked(key);
+            Point point = new Point(latitude, longitude);
+            points.put(key, point);
+            cells.computeIfAbsent(cellOf(latitude, longitude), cell -> new HashSet<>()).add(key);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean remove(K key) {
+        lock.writeLock().lock();
+        try {
+            return removeLocked(key);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return points.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Points within radiusKm of the origin, nearest first, at most limit of them
+     */
+    public List<Hit<K>> withinRadius(double latitude, double longitude, double radiusKm, int limit) {
+        validate(latitude, longitude);
+        if (radiusKm < 0) {
+            throw new IllegalArgumentException("Radius must not be negative");
+        }
+        lock.readLock().lock();
+        try {
+            List<Hit<K>> hits = new ArrayList<>();
+            forEachCandidate(latitude, longitude, radiusKm, key -> {
+                Point point = points.get(key);
+                double distance = distanceKm(latitude, longitude, point.latitude(), point.longitude());
+                if (distance <= radiusKm) {
+                    hits.add(new Hit<>(key, distance));
+                }
+            });
+            hits.sort(Comparator.comparingDouble(Hit::distanceKm));
+            return hits.size() > limit ? new ArrayList<>(hits.subList(0, limit)) : hits;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * The n points nearest the origin, optionally no further than maxRadiusKm, nearest first
+     */
+    public List<Hit<K>> nearest(double latitude, double longitude, int n, Double maxRadiusKm) {
+        double limit = maxRadiusKm != null ? Math.min(maxRadiusKm, MAX_DISTANCE_KM) : MAX_DISTANCE_KM;
+        double radius = Math.min(cellDegrees * KM_PER_DEGREE, limit);
+        while (true) {
+            List<Hit<K>> hits = withinRadius(latitude, longitude, radius, n);
+            // Anything outside the radius is further than every hit inside it
+            if (hits.size() >= n || radius >= limit) {
+                return hits;
+            }
+            radius = Math.min(radius * 2, limit);
+        }
+    }
+
+    public static double distanceKm(double lat1, double lng1, double lat2, double lng2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLng = Math.toRadians(lng2 - lng1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) * Math.sin(dLng / 2) * Math.sin(dLng / 2);
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+
+    private void forEachCandidate(double latitude, double longitude, double radiusKm, Consumer<K> consumer) {
+        double latitudeDelta = radiusKm / KM_PER_DEGREE;
+        double south = latitude - latitudeDelta;
+        double north = latitude + latitudeDelta;
+        int firstRow = row(Math.max(south, -90));
+        int lastRow = row(Math.min(north, 90));
+
+        // Widest longitude span of the circle is at the band edge nearest a pole
+        double widestLatitude = Math.min(90, Math.max(Math.abs(south), Math.abs(north)));
+        double cos = Math.cos(Math.toRadians(widestLatitude));
+        double longitudeDelta = cos < 1e-9 ? 180 : latitudeDelta / cos;
+        // Near-full circles are treated as full, as the column difference below is ambiguous once wrapped
+        boolean allColumns = south <= -90 || north >= 90 || 2 * longitudeDelta >= 360 - 2 * cellDegrees;
+        int spanColumns = allColumns ? columns : column(longitude + longitudeDelta) - column(longitude - longitudeDelta);
+        if (spanColumns < 0) {
+            spanColumns += columns;
+        }
+        spanColumns = Math.min(spanColumns + 1, columns);
+
+        long candidateCells = (long) (lastRow - firstRow + 1) * spanColumns;
+        if (candidateCells > points.size()) {
+            points.keySet().forEach(consumer);
+            return;
+        }
+
+        int firstColumn = allColumns ? 0 : column(longitude - longitudeDelta);
+        for (int row = firstRow; row <= lastRow; row++) {
+            for (int i = 0; i < spanColumns; i++) {
+                Set<K> keys = cells.get(cellKey(row, (firstColumn + i) % columns));
+                if (keys != null) {
+                    keys.forEach(consumer);
+                }
+            }
+        }
+    }
+
+    private boolean removeLocked(K key) {
+        Point point = points.remove(key);
+        if (point == null) {
+            return false;
+        }
+        long cell = cellOf(point.latitude(), point.longitude());
+        Set<K> keys = cells.get(cell);
+        keys.remove(key);
+        if (keys.isEmpty()) {
+            cells.remove(cell);
+        }
+        return true;
+    }
+
+    private long cellOf(double latitude, double longitude) {
+        return cellKey(row(latitude), column(longitude));
+    }
+
+    private long cellKey(int row, int column) {
+        return (long) row * columns + column;
+    }
+
+    private int row(double latitude) {
+        return Math.min(rows - 1, (int) Math.floor((latitude + 90) / cellDegrees));
+    }
+
+    private int column(double longitude) {
+        double normalized = ((longitude + 180) % 360 + 360) % 360;
+        return Math.min(columns - 1, (int) Math.floor(normalized / cellDegrees));
+    }
+
+    private static void validate(double latitude, double longitude) {
+        if (!(latitude >= -90 && latitude <= 90) || !(longitude >= -180 && longitude <= 180)) {
+            throw new IllegalArgumentException("Coordinates out of range: " + latitude + ", " + longitude);
+        }
+    }
+}
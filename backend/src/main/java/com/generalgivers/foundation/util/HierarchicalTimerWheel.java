@@ -0,0 +1,169 @@
+package com.generalgivers.foundation.util;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Hierarchical timing wheel keyed by K. Each level has 64 slots and each slot of level n spans
+ * 64^n ticks, so four levels cover 64^4 ticks (about 194 days at one-second ticks). Scheduling and
+ * cancelling are O(1); advancing is O(expired) plus an occasional cascade of one higher-level slot.
+ * Deadlines past the horizon are parked in the farthest slot and re-placed as the wheel turns.
+ *
+ * Re-scheduling a key replaces its previous deadline. All methods are synchronized; callers are
+ * expected to hold the lock only briefly and do the real work outside it.
+ */
+public class HierarchicalTimerWheel<K> {
+
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int SLOT_MASK = SLOTS - 1;
+    private static final int LEVELS = 4;
+
+    private final long tickMillis;
+    private final List<List<Set<Entry<K>>>> wheels = new ArrayList<>(LEVELS);
+    private final Map<K, Entry<K>> entries = new HashMap<>();
+    private final List<Entry<K>> overdue = new ArrayList<>();
+    private long currentTick;
+
+    public HierarchicalTimerWheel(long tickMillis, long startMillis) {
+        if (tickMillis <= 0) {
+            throw new IllegalArgumentException("Tick must be positive");
+        }
+        this.tickMillis = tickMillis;
+        this.currentTick = startMillis / tickMillis;
+        for (int level = 0; level < LEVELS; level++) {
+            List<Set<Entry<K>>> slots = new ArrayList<>(SLOTS);
+            for (int slot = 0; slot < SLOTS; slot++) {
+                slots.add(new HashSet<>());
+            }
+            wheels.add(slots);
+        }
+    }
+
+    /**
+     * How far ahead deadlines are placed exactly; later ones are parked until they come into range
+     */
+    public long horizonMillis() {
+        return tickMillis << (SLOT_BITS * LEVELS);
+    }
+
+    public synchronized void schedule(K key, long deadlineMillis) {
+        cancel(key);
+        // Round up so a timer never fires before its deadline
+        Entry<K> entry = new Entry<>(key, Math.floorDiv(deadlineMillis + tickMillis - 1, tickMillis));
+        entries.put(key, entry);
+        place(entry, false);
+    }
+
+    public synchronized boolean cancel(K key) {
+        Entry<K> entry = entries.remove(key);
+        if (entry == null) {
+            return false;
+        }
+        if (entry.slot != null) {
+            entry.slot.remove(entry);
+        } else {
+            overdue.remove(entry);
+        }
+        return true;
+    }
+
+    public synchronized boolean contains(K key) {
+        return entries.containsKey(key);
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized void clear() {
+        for (List<Set<Entry<K>>> level : wheels) {
+            level.forEach(Set::clear);
+        }
+        overdue.clear();
+        entries.clear();
+    }
+
+    /**
+     * Turn the wheel up to the given time and return every key whose deadline has passed.
+     * Expired keys are removed from the wheel.
+     */
+    public synchronized List<K> advance(long nowMillis) {
+        List<K> expired = new ArrayList<>();
+        drain(overdue, expired);
+
+        long targetTick = nowMillis / tickMillis;
+        while (currentTick < targetTick) {
+            currentTick++;
+            // Cascade from the top so entries can fall through several levels in one tick
+            for (int level = LEVELS - 1; level > 0; level--) {
+                if ((currentTick & ((1L << (SLOT_BITS * level)) - 1)) == 0) {
+                    cascade(level, (int) ((currentTick >>> (SLOT_BITS * level)) & SLOT_MASK));
+                }
+            }
+            drain(wheels.get(0).get((int) (currentTick & SLOT_MASK)), expired);
+        }
+        return expired;
+    }
+
+    private void place(Entry<K> entry, boolean cascading) {
+        long delta = entry.deadlineTick - currentTick;
+        // The current level-0 slot is only drained again after a cascade in this same tick
+        if (delta < 0 || (delta == 0 && !cascading)) {
+            entry.slot = null;
+            overdue.add(entry);
+            return;
+        }
+        for (int level = 0; level < LEVELS; level++) {
+            if (delta < 1L << (SLOT_BITS * (level + 1))) {
+                addToSlot(entry, level, entry.deadlineTick);
+                return;
+            }
+        }
+        // Beyond the horizon: park in the farthest top-level slot until it cascades
+        addToSlot(entry, LEVELS - 1, currentTick + (1L << (SLOT_BITS * LEVELS)) - 1);
+    }
+
+    private void addToSlot(Entry<K> entry, int level, long tick) {
+        Set<Entry<K>> slot = wheels.get(level).get((int) ((tick >>> (SLOT_BITS * level)) & SLOT_MASK));
+        entry.slot = slot;
+        slot.add(entry);
+    }
+
+    private void cascade(int level, int slotIndex) {
+        Set<Entry<K>> slot = wheels.get(level).get(slotIndex);
+        if (slot.isEmpty()) {
+            return;
+        }
+        List<Entry<K>> moving = new ArrayList<>(slot);
+        slot.clear();
+        moving.forEach(entry -> place(entry, true));
+    }
+
+    private void drain(Collection<Entry<K>> source, List<K> expired) {
+        if (source.isEmpty()) {
+            return;
+        }
+        for (Entry<K> entry : source) {
+            entries.remove(entry.key);
+            expired.add(entry.key);
+        }
+        source.clear();
+    }
+
+    private static final class Entry<K> {
+        private final K key;
+        private final long deadlineTick;
+        private Set<Entry<K>> slot;
+
+        private Entry(K key, long deadlineTick) {
+            this.key = key;
+            this.deadlineTick = deadlineTick;
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package com.generalgivers.foundation.util;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.zone.ZoneOffsetTransitionRule;
+import java.time.zone.ZoneRules;
+import java.util.List;
+
+/**
+ * Writes RFC 5545 content lines: escapes TEXT values, folds lines at 75 octets and ends them with
+ * CRLF. Output accumulates in memory and is taken with {@link #toBytes()}.
+ */
+public class ICalendarWriter {
+
+    private static final int MAX_LINE_OCTETS = 75;
+    private static final DateTimeFormatter LOCAL = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss");
+    private static final DateTimeFormatter UTC = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'").withZone(ZoneOffset.UTC);
+    private static final List<String> DAY_CODES = List.of("MO", "TU", "WE", "TH", "FR", "SA", "SU");
+
+    private final StringBuilder out = new StringBuilder(1024);
+
+    /**
+     * Property whose value is written as-is
+     */
+    public ICalendarWriter line(String name, String value) {
+        fold(name + ":" + value);
+        return this;
+    }
+
+    /**
+     * TEXT property; skipped when the value is null or blank
+     */
+    public ICalendarWriter text(String name, String value) {
+        if (value != null && !value.isBlank()) {
+            line(name, escape(value));
+        }
+        return this;
+    }
+
+    /**
+     * Local date-time in the given zone, written with a TZID parameter
+     */
+    public ICalendarWriter dateTime(String name, LocalDateTime value, ZoneId zone) {
+        return line(name + ";TZID=" + zone.getId(), LOCAL.format(value));
+    }
+
+    public ICalendarWriter utc(String name, Instant value) {
+        return line(name, UTC.format(value));
+    }
+
+    /**
+     * VTIMEZONE for a zone: its current fixed offset, or the standard and daylight rules it follows
+     */
+    public ICalendarWriter timeZone(ZoneId zone) {
+        ZoneRules rules = zone.getRules();
+        line("BEGIN", "VTIMEZONE");
+        line("TZID", zone.getId());
+
+        List<ZoneOffsetTransitionRule> transitions = rules.getTransitionRules();
+        if (transitions.isEmpty()) {
+            ZoneOffset offset = rules.getOffset(Instant.now());
+            line("BEGIN", "STANDARD");
+            line("DTSTART", "19700101T000000");
+            line("TZOFFSETFROM", offset(offset));
+            line("TZOFFSETTO", offset(offset));
+            line("END", "STANDARD");
+        } else {
+            for (ZoneOffsetTransitionRule transition : transitions) {
+                String type = transition.getOffsetAfter().equals(transition.getStandardOffset()) ? "STANDARD" : "DAYLIGHT";
+                line("BEGIN", type);
+                line("DTSTART", LOCAL.format(transition.createTransition(1970).getDateTimeBefore()));
+                line("TZOFFSETFROM", offset(transition.getOffsetBefore()));
+                line("TZOFFSETTO", offset(transition.getOffsetAfter()));
+                line("RRULE", yearlyRule(transition));
+                line("END", type);
+            }
+        }
+
+        line("END", "VTIMEZONE");
+        return this;
+    }
+
+    /**
+     * Append content lines rendered by another writer
+     */
+    public ICalendarWriter append(byte[] contentLines) {
+        out.append(new String(contentLines, StandardCharsets.UTF_8));
+        return this;
+    }
+
+    public byte[] toBytes() {
+        return out.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    public static String escape(String value) {
+        StringBuilder escaped = new StringBuilder(value.length() + 16);
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '\\' -> escaped.append("\\\\");
+                case ';' -> escaped.append("\\;");
+                case ',' -> escaped.append("\\,");
+                case '\n' -> escaped.append("\\n");
+                case '\r' -> {
+                    if (i + 1 >= value.length() || value.charAt(i + 1) != '\n') {
+                        escaped.append("\\n");
+                    }
+                }
+                default -> escaped.append(c);
+            }
+        }
+        return escaped.toString();
+    }
+
+    private void fold(String line) {
+        int octets = 0;
+        for (int i = 0; i < line.length(); ) {
+            int codePoint = line.codePointAt(i);
+            int size = utf8Length(codePoint);
+            if (octets + size > MAX_LINE_OCTETS) {
+                out.append("\r\n ");
+                // The leading space of a continuation line counts towards its length
+                octets = 1;
+            }
+            out.appendCodePoint(codePoint);
+            octets += size;
+            i += Character.charCount(codePoint);
+        }
+        out.append("\r\n");
+    }
+
+    private static int utf8Length(int codePoint) {
+        if (codePoint < 0x80) {
+            return 1;
+        }
+        if (codePoint < 0x800) {
+            return 2;
+        }
+        return codePoint < 0x10000 ? 3 : 4;
+    }
+
+    private static String offset(ZoneOffset offset) {
+        int seconds = offset.getTotalSeconds();
+        int minutes = Math.abs(seconds) / 60;
+        return String.format("%s%02d%02d", seconds < 0 ? "-" : "+", minutes / 60, minutes % 60);
+    }
+
+    private static String yearlyRule(ZoneOffsetTransitionRule transition) {
+        String rule = "FREQ=YEARLY;BYMONTH=" + transition.getMonth().getValue();
+        DayOfWeek dayOfWeek = transition.getDayOfWeek();
+        int dayOfMonth = transition.getDayOfMonthIndicator();
+        if (dayOfWeek == null) {
+            return rule + ";BYMONTHDAY=" + dayOfMonth;
+        }
+        String day = DAY_CODES.get(dayOfWeek.getValue() - 1);
+        if (dayOfMonth < 0) {
+            // "Last <day> on or before the n-th last day"; in practice always the last one
+            return rule + ";BYDAY=-1" + day;
+        }
+        if ((dayOfMonth - 1) % 7 == 0) {
+            return rule + ";BYDAY=" + ((dayOfMonth - 1) / 7 + 1) + day;
+        }
+        StringBuilder days = new StringBuilder();
+        for (int d = dayOfMonth; d < Math.min(dayOfMonth + 7, 32); d++) {
+            days.append(d == dayOfMonth ? "" : ",").append(d);
+        }
+        return rule + ";BYMONTHDAY=" + days + ";BYDAY=" + day;
+    }
+}
@@ -0,0 +1,87 @@
+package com.generalgivers.foundation.util;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+
+/**
+ * Bounded lock-free queue for many producers and a single consumer. Producers claim a slot by
+ * advancing the tail with a CAS and then publish into it; the consumer takes slots in order and
+ * stops at the first one that was claimed but not yet published. A full buffer rejects the offer
+ * instead of blocking the producer.
+ */
+public class MpscRingBuffer<E> {
+
+    private final AtomicReferenceArray<E> slots;
+    private final int mask;
+    private final AtomicLong tail = new AtomicLong();
+    private final AtomicLong head = new AtomicLong();
+
+    /**
+     * @param capacity rounded up to a power of two
+     */
+    public MpscRingBuffer(int capacity) {
+        if (capacity < 1 || capacity > 1 << 30) {
+            throw new IllegalArgumentException("Capacity must be between 1 and 2^30");
+        }
+        int size = Integer.highestOneBit(capacity);
+        if (size < capacity) {
+            size <<= 1;
+        }
+        this.slots = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+    }
+
+    /**
+     * Add an element; false when the buffer is full
+     */
+    public boolean offer(E element) {
+        if (element == null) {
+            throw new NullPointerException();
+        }
+        long claimed;
+        do {
+            claimed = tail.get();
+            if (claimed - head.get() >= slots.length()) {
+                return false;
+            }
+        } while (!tail.compareAndSet(claimed, claimed + 1));
+        slots.set((int) claimed & mask, element);
+        return true;
+    }
+
+    /**
+     * Hand up to max elements to the consumer in insertion order. Only one thread may drain.
+     *
+     * @return the number of elements drained
+     */
+    public int drain(Consumer<E> consumer, int max) {
+        long position = head.get();
+        int drained = 0;
+        while (drained < max) {
+            int index = (int) position & mask;
+            E element = slots.get(index);
+            if (element == null) {
+                // Empty, or the next slot is claimed but its producer has not published yet
+                break;
+            }
+            slots.lazySet(index, null);
+            position++;
+            head.lazySet(position);
+            consumer.accept(element);
+            drained++;
+        }
+        return drained;
+    }
+
+    /**
+     * Claimed slots not yet drained; approximate while producers are active
+     */
+    public int size() {
+        return (int) Math.max(0, tail.get() - head.get());
+    }
+
+    public int capacity() {
+        return slots.length();
+    }
+}
@@ -0,0 +1,418 @@
+package com.generalgivers.foundation.util;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeSet;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * RFC 5545 RRULE covering the subset the events calendar needs: FREQ=DAILY|WEEKLY|MONTHLY|YEARLY with
+ * INTERVAL, COUNT, UNTIL, BYDAY (ordinals such as 2TU or -1FR for MONTHLY and YEARLY), BYMONTHDAY,
+ * BYMONTH and WKST. Any other part is rejected rather than silently ignored. As in the RFC, DTSTART is
+ * always the first occurrence.
+ *
+ * Expansion jumps straight to the period containing the window start, so its cost depends on the
+ * window length and not on how long the series has been running. COUNT has to be walked from DTSTART;
+ * resolve it once with {@link #lastOccurrence} and expand with {@link #withUntil} instead.
+ * Instances are immutable.
+ */
+public final class RecurrenceRule {
+
+    public enum Frequency { DAILY, WEEKLY, MONTHLY, YEARLY }
+
+    public static final int MAX_COUNT = 5000;
+
+    // Bounds the COUNT walk for rules that match (almost) nothing, e.g. BYMONTH=2;BYMONTHDAY=30
+    private static final int MAX_PERIODS = 100_000;
+
+    private static final Pattern BY_DAY = Pattern.compile("([+-]?\\d{1,2})?(MO|TU|WE|TH|FR|SA|SU)");
+    private static final DateTimeFormatter DATE = DateTimeFormatter.ofPattern("yyyyMMdd");
+    private static final DateTimeFormatter DATE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss");
+    private static final List<String> DAY_CODES = List.of("MO", "TU", "WE", "TH", "FR", "SA", "SU");
+
+    private final Frequency frequency;
+    private final int interval;
+    private final Integer count;
+    private final LocalDateTime until;
+    private final List<WeekdayNum> byDay;
+    private final List<Integer> byMonthDay;
+    private final List<Integer> byMonth;
+    private final DayOfWeek weekStart;
+
+    private RecurrenceRule(Frequency frequency, int interval, Integer count, LocalDateTime until,
+                           List<WeekdayNum> byDay, List<Integer> byMonthDay, List<Integer> byMonth,
+                           DayOfWeek weekStart) {
+        this.frequency = frequency;
+        this.interval = interval;
+        this.count = count;
+        this.until = until;
+        this.byDay = byDay;
+        this.byMonthDay = byMonthDay;
+        this.byMonth = byMonth;
+        this.weekStart = weekStart;
+    }
+
+    /**
+     * Parse an RRULE value, with or without the "RRULE:" prefix. UNTIL values in UTC are converted
+     * to the given zone because event times are stored as local date-times.
+     *
+     * @throws IllegalArgumentException if the rule is malformed or uses unsupported parts
+     */
+    public static RecurrenceRule parse(String rule, ZoneId zone) {
+        if (rule == null || rule.isBlank()) {
+            throw new IllegalArgumentException("Recurrence rule must not be empty");
+        }
+        String value = normalize(rule);
+
+        Map<String, String> parts = new LinkedHashMap<>();
+        for (String part : value.split(";")) {
+            if (part.isEmpty()) {
+                continue;
+            }
+            int eq = part.indexOf('=');
+            if (eq <= 0 || eq == part.length() - 1) {
+                throw new IllegalArgumentException("Malformed recurrence rule part: " + part);
+            }
+            if (parts.put(part.substring(0, eq), part.substring(eq + 1)) != null) {
+                throw new IllegalArgumentException("Duplicate recurrence rule part: " + part.substring(0, eq));
+            }
+        }
+
+        String freq = parts.remove("FREQ");
+        if (freq == null) {
+            throw new IllegalArgumentException("Recurrence rule must specify FREQ");
+        }
+        Frequency frequency;
+        try {
+            frequency = Frequency.valueOf(freq);
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalArgumentException("Unsupported recurrence frequency: " + freq);
+        }
+
+        int interval = parts.containsKey("INTERVAL") ? parseInt("INTERVAL", parts.remove("INTERVAL"), 1, 1000) : 1;
+        Integer count = parts.containsKey("COUNT") ? parseInt("COUNT", parts.remove("COUNT"), 1, MAX_COUNT) : null;
+        LocalDateTime until = parts.containsKey("UNTIL") ? parseUntil(parts.remove("UNTIL"), zone) : null;
+        if (count != null && until != null) {
+            throw new IllegalArgumentException("Recurrence rule must not specify both COUNT and UNTIL");
+        }
+
+        List<WeekdayNum> byDay = new ArrayList<>();
+        if (parts.containsKey("BYDAY")) {
+            for (String day : parts.remove("BYDAY").split(",")) {
+                Matcher matcher = BY_DAY.matcher(day);
+                if (!matcher.matches()) {
+                    throw new IllegalArgumentException("Invalid BYDAY value: " + day);
+                }
+                int ordinal = matcher.group(1) != null ? Integer.parseInt(matcher.group(1)) : 0;
+                if (ordinal != 0 && (frequency == Frequency.DAILY || frequency == Frequency.WEEKLY)) {
+                    throw new IllegalArgumentException("BYDAY ordinals are only supported with MONTHLY or YEARLY");
+                }
+                if (Math.abs(ordinal) > 5) {
+                    throw new IllegalArgumentException("Invalid BYDAY ordinal: " + day);
+                }
+                byDay.add(new WeekdayNum(ordinal, DayOfWeek.of(DAY_CODES.indexOf(matcher.group(2)) + 1)));
+            }
+        }
+
+        List<Integer> byMonthDay = new ArrayList<>();
+        if (parts.containsKey("BYMONTHDAY")) {
+            if (frequency != Frequency.MONTHLY && frequency != Frequency.YEARLY) {
+                throw new IllegalArgumentException("BYMONTHDAY is only supported with MONTHLY or YEARLY");
+            }
+            for (String day : parts.remove("BYMONTHDAY").split(",")) {
+                int monthDay = parseInt("BYMONTHDAY", day, -31, 31);
+                if (monthDay == 0) {
+                    throw new IllegalArgumentException("Invalid BYMONTHDAY value: 0");
+                }
+                byMonthDay.add(monthDay);
+            }
+            if (byDay.stream().anyMatch(day -> day.ordinal() != 0)) {
+                throw new IllegalArgumentException("BYDAY ordinals cannot be combined with BYMONTHDAY");
+            }
+        }
+
+        List<Integer> byMonth = new ArrayList<>();
+        if (parts.containsKey("BYMONTH")) {
+            for (String month : parts.remove("BYMONTH").split(",")) {
+                byMonth.add(parseInt("BYMONTH", month, 1, 12));
+            }
+        }
+        if (frequency == Frequency.YEARLY && !byDay.isEmpty() && byMonth.isEmpty()) {
+            throw new IllegalArgumentException("YEARLY rules with BYDAY must also specify BYMONTH");
+        }
+
+        DayOfWeek weekStart = DayOfWeek.MONDAY;
+        if (parts.containsKey("WKST")) {
+            int index = DAY_CODES.indexOf(parts.remove("WKST"));
+            if (index < 0) {
+                throw new IllegalArgumentException("Invalid WKST value");
+            }
+            weekStart = DayOfWeek.of(index + 1);
+        }
+
+        if (!parts.isEmpty()) {
+            throw new IllegalArgumentException("Unsupported recurrence rule parts: " + String.join(", ", parts.keySet()));
+        }
+
+        return new RecurrenceRule(frequency, interval, count, until,
+                List.copyOf(byDay), sortedCopy(byMonthDay), sortedCopy(byMonth), weekStart);
+    }
+
+    /**
+     * The RRULE value as stored and written to iCalendar feeds: upper case, without the "RRULE:" prefix
+     */
+    public static String normalize(String rule) {
+        String value = rule.trim().toUpperCase(Locale.ROOT);
+        return value.startsWith("RRULE:") ? value.substring("RRULE:".length()) : value;
+    }
+
+    public Frequency getFrequency() {
+        return frequency;
+    }
+
+    public Optional<Integer> getCount() {
+        return Optional.ofNullable(count);
+    }
+
+    public Optional<LocalDateTime> getUntil() {
+        return Optional.ofNullable(until);
+    }
+
+    /**
+     * A copy of this rule bounded by an inclusive last start instead of COUNT or UNTIL
+     */
+    public RecurrenceRule withUntil(LocalDateTime lastStart) {
+        return new RecurrenceRule(frequency, interval, null, lastStart, byDay, byMonthDay, byMonth, weekStart);
+    }
+
+    /**
+     * Start of the final occurrence, or empty if the series never ends
+     */
+    public Optional<LocalDateTime> lastOccurrence(LocalDateTime dtStart) {
+        if (count == null) {
+            return until == null ? Optional.empty() : Optional.of(until.isBefore(dtStart) ? dtStart : until);
+        }
+        LocalDateTime last = dtStart;
+        int seen = 0;
+        for (long period = 0; period < MAX_PERIODS; period++) {
+            for (LocalDateTime occurrence : occurrencesInPeriod(dtStart, period)) {
+                last = occurrence;
+                if (++seen == count) {
+                    return Optional.of(last);
+                }
+            }
+        }
+        return Optional.of(last);
+    }
+
+    /**
+     * Occurrence starts in [from, to), in ascending order
+     */
+    public List<LocalDateTime> between(LocalDateTime dtStart, LocalDateTime from, LocalDateTime to) {
+        List<LocalDateTime> result = new ArrayList<>();
+        if (!from.isBefore(to) || !to.isAfter(dtStart) || (until != null && until.isBefore(from))) {
+            return result;
+        }
+
+        LocalDate lastDate = to.toLocalDate();
+        int seen = 0;
+        // COUNT needs every earlier occurrence; otherwise skip straight to the window
+        long period = count != null ? 0 : firstPeriod(dtStart, from);
+        for (; periodStart(dtStart.toLocalDate(), period).compareTo(lastDate) <= 0; period++) {
+            for (LocalDateTime occurrence : occurrencesInPeriod(dtStart, period)) {
+                if (until != null && occurrence.isAfter(until)) {
+                    return result;
+                }
+                if (!occurrence.isBefore(to)) {
+                    return result;
+                }
+                if (!occurrence.isBefore(from)) {
+                    result.add(occurrence);
+                }
+                if (count != null && ++seen == count) {
+                    return result;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Whether the given start is one of this rule's occurrences
+     */
+    public boolean occursAt(LocalDateTime dtStart, LocalDateTime start) {
+        return between(dtStart, start, start.plusNanos(1)).contains(start);
+    }
+
+    private long firstPeriod(LocalDateTime dtStart, LocalDateTime from) {
+        if (!from.isAfter(dtStart)) {
+            return 0;
+        }
+        LocalDate anchor = dtStart.toLocalDate();
+        LocalDate target = from.toLocalDate();
+        long units = switch (frequency) {
+            case DAILY -> ChronoUnit.DAYS.between(anchor, target);
+            case WEEKLY -> ChronoUnit.WEEKS.between(startOfWeek(anchor), startOfWeek(target));
+            case MONTHLY -> ChronoUnit.MONTHS.between(YearMonth.from(anchor), YearMonth.from(target));
+            case YEARLY -> target.getYear() - anchor.getYear();
+        };
+        return units / interval;
+    }
+
+    private LocalDate periodStart(LocalDate anchor, long period) {
+        long step = period * interval;
+        return switch (frequency) {
+            case DAILY -> anchor.plusDays(step);
+            case WEEKLY -> startOfWeek(anchor).plusWeeks(step);
+            case MONTHLY -> YearMonth.from(anchor).plusMonths(step).atDay(1);
+            case YEARLY -> LocalDate.of(anchor.getYear(), 1, 1).plusYears(step);
+        };
+    }
+
+    private List<LocalDateTime> occurrencesInPeriod(LocalDateTime dtStart, long period) {
+        LocalDate anchor = dtStart.toLocalDate();
+        LocalDate start = periodStart(anchor, period);
+        TreeSet<LocalDate> dates = new TreeSet<>();
+
+        switch (frequency) {
+            case DAILY -> {
+                if (matchesMonth(start) && (byDay.isEmpty() || hasWeekday(start.getDayOfWeek()))) {
+                    dates.add(start);
+                }
+            }
+            case WEEKLY -> {
+                if (byDay.isEmpty()) {
+                    dates.add(start.with(TemporalAdjusters.nextOrSame(anchor.getDayOfWeek())));
+                } else {
+                    byDay.forEach(day -> dates.add(start.with(TemporalAdjusters.nextOrSame(day.weekday()))));
+                }
+                dates.removeIf(date -> !matchesMonth(date));
+            }
+            case MONTHLY -> {
+                if (matchesMonth(start)) {
+                    addDaysInMonth(YearMonth.from(start), anchor, dates);
+                }
+            }
+            case YEARLY -> {
+                List<Integer> months = byMonth.isEmpty() ? List.of(anchor.getMonthValue()) : byMonth;
+                months.forEach(month -> addDaysInMonth(YearMonth.of(start.getYear(), month), anchor, dates));
+            }
+        }
+
+        LocalTime time = dtStart.toLocalTime();
+        List<LocalDateTime> occurrences = new ArrayList<>(dates.size() + 1);
+        if (period == 0 && !dates.contains(anchor)) {
+            occurrences.add(dtStart);
+        }
+        for (LocalDate date : dates) {
+            LocalDateTime occurrence = date.atTime(time);
+            if (!occurrence.isBefore(dtStart)) {
+                occurrences.add(occurrence);
+            }
+        }
+        return occurrences;
+    }
+
+    private void addDaysInMonth(YearMonth month, LocalDate anchor, TreeSet<LocalDate> dates) {
+        int length = month.lengthOfMonth();
+        if (!byMonthDay.isEmpty()) {
+            for (int monthDay : byMonthDay) {
+                int day = monthDay > 0 ? monthDay : length + monthDay + 1;
+                if (day >= 1 && day <= length) {
+                    LocalDate date = month.atDay(day);
+                    // BYDAY narrows BYMONTHDAY rather than adding to it
+                    if (byDay.isEmpty() || hasWeekday(date.getDayOfWeek())) {
+                        dates.add(date);
+                    }
+                }
+            }
+        } else if (!byDay.isEmpty()) {
+            for (WeekdayNum day : byDay) {
+                LocalDate first = month.atDay(1).with(TemporalAdjusters.nextOrSame(day.weekday()));
+                if (day.ordinal() == 0) {
+                    for (LocalDate date = first; date.getMonthValue() == month.getMonthValue(); date = date.plusWeeks(1)) {
+                        dates.add(date);
+                    }
+                } else {
+                    LocalDate date = day.ordinal() > 0
+                            ? first.plusWeeks(day.ordinal() - 1)
+                            : month.atEndOfMonth().with(TemporalAdjusters.previousOrSame(day.weekday()))
+                                    .plusWeeks(day.ordinal() + 1);
+                    if (YearMonth.from(date).equals(month)) {
+                        dates.add(date);
+                    }
+                }
+            }
+        } else if (anchor.getDayOfMonth() <= length) {
+            // Months without the anchor day (e.g. the 31st) are skipped, per RFC 5545
+            dates.add(month.atDay(anchor.getDayOfMonth()));
+        }
+    }
+
+    private LocalDate startOfWeek(LocalDate date) {
+        return date.with(TemporalAdjusters.previousOrSame(weekStart));
+    }
+
+    private boolean matchesMonth(LocalDate date) {
+        return byMonth.isEmpty() || byMonth.contains(date.getMonthValue());
+    }
+
+    private boolean hasWeekday(DayOfWeek weekday) {
+        return byDay.stream().anyMatch(day -> day.weekday() == weekday);
+    }
+
+    private static int parseInt(String name, String value, int min, int max) {
+        try {
+            int parsed = Integer.parseInt(value);
+            if (parsed < min || parsed > max) {
+                throw new IllegalArgumentException(name + " must be between " + min + " and " + max);
+            }
+            return parsed;
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException("Invalid " + name + " value: " + value);
+        }
+    }
+
+    private static LocalDateTime parseUntil(String value, ZoneId zone) {
+        try {
+            if (value.length() == 8) {
+                // A date-only UNTIL includes that whole day
+                return LocalDate.parse(value, DATE).atTime(LocalTime.MAX);
+            }
+            if (value.endsWith("Z")) {
+                return LocalDateTime.parse(value.substring(0, value.length() - 1), DATE_TIME)
+                        .atOffset(ZoneOffset.UTC)
+                        .atZoneSameInstant(zone)
+                        .toLocalDateTime();
+            }
+            return LocalDateTime.parse(value, DATE_TIME);
+        } catch (DateTimeParseException ex) {
+            throw new IllegalArgumentException("Invalid UNTIL value: " + value);
+        }
+    }
+
+    private static List<Integer> sortedCopy(List<Integer> values) {
+        List<Integer> copy = new ArrayList<>(new TreeSet<>(values));
+        return Collections.unmodifiableList(copy);
+    }
+
+    private record WeekdayNum(int ordinal, DayOfWeek weekday) {
+    }
+}
@@ -0,0 +1,59 @@
+package com.generalgivers.foundation.util;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Lock-free token bucket. The bucket holds up to capacity tokens and refills continuously at a
+ * fixed rate; each permitted call takes one token. The token count and the time it was computed
+ * at are swapped together with a CAS, so concurrent callers never lose a refill or take the same
+ * token twice. Times are System.nanoTime() values supplied by the caller.
+ */
+public class TokenBucket {
+
+    private final double capacity;
+    private final double tokensPerNano;
+    private final AtomicReference<State> state;
+
+    private record State(double tokens, long atNanos) {
+    }
+
+    /**
+     * @param remaining   tokens left after this call
+     * @param retryAfterNanos when denied, how long until a token is available
+     */
+    public record Result(boolean allowed, double remaining, long retryAfterNanos) {
+    }
+
+    public TokenBucket(double capacity, double tokensPerSecond, long nowNanos) {
+        if (capacity < 1 || tokensPerSecond <= 0) {
+            throw new IllegalArgumentException("Capacity must be at least 1 and the refill rate positive");
+        }
+        this.capacity = capacity;
+        this.tokensPerNano = tokensPerSecond / 1_000_000_000d;
+        this.state = new AtomicReference<>(new State(capacity, nowNanos));
+    }
+
+    public Result tryConsume(long nowNanos) {
+        while (true) {
+            State current = state.get();
+            double tokens = available(current, nowNanos);
+            if (tokens < 1) {
+                return new Result(false, tokens, (long) Math.ceil((1 - tokens) / tokensPerNano));
+            }
+            // Time never moves backwards for the bucket, even if callers' clock reads interleave
+            State next = new State(tokens - 1, Math.max(current.atNanos(), nowNanos));
+            if (state.compareAndSet(current, next)) {
+                return new Result(true, next.tokens(), 0);
+            }
+        }
+    }
+
+    public double capacity() {
+        return capacity;
+    }
+
+    private double available(State current, long nowNanos) {
+        long elapsed = Math.max(0, nowNanos - current.atNanos());
+        return Math.min(capacity, current.tokens() + elapsed * tokensPerNano);
+    }
+}
@@ -0,0 +1,16 @@
+-- The notifications table was first created by Hibernate, so no migration created it and V20
+-- failed on an empty database. Existing databases already have it.
+CREATE TABLE IF NOT EXISTS notifications (
+    id UUID PRIMARY KEY,
+    title VARCHAR(255) NOT NULL,
+    message TEXT NOT NULL,
+    type VARCHAR(255) NOT NULL,
+    entity_type VARCHAR(255),
+    entity_id UUID,
+    metadata JSONB,
+    is_read BOOLEAN,
+    user_id UUID REFERENCES users(id),
+    is_global BOOLEAN,
+    created_at TIMESTAMP,
+    read_at TIMESTAMP
+);
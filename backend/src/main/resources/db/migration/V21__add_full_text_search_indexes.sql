@@ -0,0 +1,24 @@
+-- Full-text search indexes. These are expression indexes rather than stored tsvector columns so
+-- the entities stay unchanged; the expressions must match SearchService exactly to be used.
+
+CREATE INDEX IF NOT EXISTS idx_projects_search ON projects USING GIN ((
+    setweight(to_tsvector('english'::regconfig, coalesce(title, '')), 'A') ||
+    setweight(to_tsvector('english'::regconfig, coalesce(description, '')), 'B')
+));
+
+CREATE INDEX IF NOT EXISTS idx_children_homes_search ON children_homes USING GIN ((
+    setweight(to_tsvector('english'::regconfig, coalesce(name, '')), 'A') ||
+    setweight(to_tsvector('english'::regconfig, coalesce(location, '') || ' ' || coalesce(city, '') || ' ' || coalesce(town, '') || ' ' || coalesce(village, '')), 'B') ||
+    setweight(to_tsvector('english'::regconfig, coalesce(notes, '')), 'C')
+));
+
+CREATE INDEX IF NOT EXISTS idx_visits_search ON visits USING GIN ((
+    setweight(to_tsvector('english'::regconfig, coalesce(location, '') || ' ' || coalesce(city, '') || ' ' || coalesce(town, '') || ' ' || coalesce(village, '')), 'A') ||
+    setweight(jsonb_to_tsvector('english'::regconfig, coalesce(participants, '[]'::jsonb), '["string"]'::jsonb), 'A') ||
+    setweight(to_tsvector('english'::regconfig, coalesce(notes, '')), 'B')
+));
+
+CREATE INDEX IF NOT EXISTS idx_events_search ON events USING GIN ((
+    setweight(to_tsvector('english'::regconfig, coalesce(title, '')), 'A') ||
+    setweight(to_tsvector('english'::regconfig, coalesce(description, '')), 'B')
+));
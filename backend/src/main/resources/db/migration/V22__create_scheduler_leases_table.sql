@@ -0,0 +1,6 @@
+-- Leases used to elect a single node for cluster-wide scheduled jobs (e.g. event reminders)
+CREATE TABLE IF NOT EXISTS scheduler_leases (
+    name VARCHAR(100) PRIMARY KEY,
+    owner VARCHAR(255) NOT NULL,
+    expires_at TIMESTAMP NOT NULL
+);
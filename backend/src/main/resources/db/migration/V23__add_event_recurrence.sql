@@ -0,0 +1,23 @@
+-- Recurring events: an RFC 5545 RRULE on the event, expanded into occurrences on read
+ALTER TABLE events ADD COLUMN IF NOT EXISTS recurrence_rule VARCHAR(500);
+ALTER TABLE events ADD COLUMN IF NOT EXISTS recurrence_end TIMESTAMP;
+
+CREATE INDEX IF NOT EXISTS idx_events_recurring ON events(start_date_time, recurrence_end)
+    WHERE recurrence_rule IS NOT NULL;
+
+-- Cancelled or modified single occurrences, keyed by the start the rule gives them
+CREATE TABLE IF NOT EXISTS event_occurrence_exceptions (
+    id UUID PRIMARY KEY DEFAULT gen_random_uuid(),
+    event_id UUID NOT NULL REFERENCES events(id) ON DELETE CASCADE,
+    occurrence_start TIMESTAMP NOT NULL,
+    cancelled BOOLEAN NOT NULL DEFAULT FALSE,
+    title VARCHAR(255),
+    description TEXT,
+    start_date_time TIMESTAMP,
+    end_date_time TIMESTAMP,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT uk_event_occurrence_exceptions_event_start UNIQUE (event_id, occurrence_start)
+);
+
+CREATE INDEX IF NOT EXISTS idx_event_occurrence_exceptions_moved
+    ON event_occurrence_exceptions(event_id, start_date_time) WHERE start_date_time IS NOT NULL;
@@ -0,0 +1,7 @@
+-- Event modification time, used to version calendar feeds
+ALTER TABLE events ADD COLUMN IF NOT EXISTS updated_at TIMESTAMP;
+UPDATE events SET updated_at = created_at WHERE updated_at IS NULL;
+
+-- Per-user secret for calendar feed URLs
+ALTER TABLE users ADD COLUMN IF NOT EXISTS calendar_token VARCHAR(64);
+CREATE UNIQUE INDEX IF NOT EXISTS uk_users_calendar_token ON users(calendar_token);
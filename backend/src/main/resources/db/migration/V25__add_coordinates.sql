@@ -0,0 +1,5 @@
+-- Coordinates for proximity lookups; visits without their own fall back to their children home
+ALTER TABLE children_homes ADD COLUMN IF NOT EXISTS latitude DOUBLE PRECISION;
+ALTER TABLE children_homes ADD COLUMN IF NOT EXISTS longitude DOUBLE PRECISION;
+ALTER TABLE visits ADD COLUMN IF NOT EXISTS latitude DOUBLE PRECISION;
+ALTER TABLE visits ADD COLUMN IF NOT EXISTS longitude DOUBLE PRECISION;
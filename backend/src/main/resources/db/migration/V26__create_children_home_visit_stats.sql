@@ -0,0 +1,15 @@
+-- Per-home visit statistics maintained by the application on visit writes. Homes without a row
+-- are computed at startup, so existing data is filled in on first boot after this migration.
+CREATE TABLE IF NOT EXISTS children_home_visit_stats (
+    children_home_id UUID PRIMARY KEY REFERENCES children_homes(id) ON DELETE CASCADE,
+    visit_count BIGINT NOT NULL DEFAULT 0,
+    first_visit_date DATE,
+    last_visit_date DATE,
+    visits_by_year JSONB,
+    participant_count BIGINT NOT NULL DEFAULT 0,
+    distinct_participant_count BIGINT NOT NULL DEFAULT 0,
+    photo_count BIGINT NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP NOT NULL DEFAULT now()
+);
+
+CREATE INDEX IF NOT EXISTS idx_children_home_visit_stats_last_visit ON children_home_visit_stats(last_visit_date);
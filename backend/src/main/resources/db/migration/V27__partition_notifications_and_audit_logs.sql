@@ -0,0 +1,86 @@
+-- Monthly range partitioning of notifications (by created_at) and audit_logs (by timestamp), so
+-- retention drops whole partitions instead of deleting rows. Partitions are named
+-- <table>_pYYYY_MM; PartitionMaintenanceService creates upcoming months and drops expired ones.
+-- A default partition catches rows outside every monthly range. The primary keys must include
+-- the partition key.
+--
+-- Each table is converted only if it is not partitioned yet, so the migration can be run against
+-- a database baselined below it whether or not the tables were converted by hand.
+
+-- notifications
+DO $$
+DECLARE
+    month DATE;
+BEGIN
+    IF (SELECT relkind FROM pg_class WHERE oid = 'notifications'::regclass) = 'p' THEN
+        RETURN;
+    END IF;
+
+    ALTER TABLE notifications RENAME TO notifications_legacy;
+    ALTER TABLE notifications_legacy RENAME CONSTRAINT notifications_pkey TO notifications_legacy_pkey;
+    UPDATE notifications_legacy SET created_at = now() WHERE created_at IS NULL;
+
+    CREATE TABLE notifications (LIKE notifications_legacy INCLUDING DEFAULTS INCLUDING CONSTRAINTS)
+        PARTITION BY RANGE (created_at);
+    ALTER TABLE notifications ALTER COLUMN created_at SET NOT NULL;
+    ALTER TABLE notifications ADD CONSTRAINT notifications_pkey PRIMARY KEY (id, created_at);
+    ALTER TABLE notifications ADD CONSTRAINT fk_notifications_user FOREIGN KEY (user_id) REFERENCES users(id);
+    CREATE TABLE notifications_default PARTITION OF notifications DEFAULT;
+
+    -- Monthly partitions from the oldest existing row through three months ahead
+    month := date_trunc('month', coalesce((SELECT min(created_at) FROM notifications_legacy), now()))::date;
+    WHILE month <= (date_trunc('month', now()) + interval '3 months')::date LOOP
+        EXECUTE format('CREATE TABLE IF NOT EXISTS %I PARTITION OF notifications FOR VALUES FROM (%L) TO (%L)',
+                       'notifications_p' || to_char(month, 'YYYY_MM'), month, (month + interval '1 month')::date);
+        month := (month + interval '1 month')::date;
+    END LOOP;
+
+    INSERT INTO notifications SELECT * FROM notifications_legacy;
+    DROP TABLE notifications_legacy;
+END $$;
+
+-- audit_logs; the id sequence is recreated because the old one goes with the old table
+DO $$
+DECLARE
+    month DATE;
+BEGIN
+    IF (SELECT relkind FROM pg_class WHERE oid = 'audit_logs'::regclass) = 'p' THEN
+        RETURN;
+    END IF;
+
+    ALTER TABLE audit_logs RENAME TO audit_logs_legacy;
+    ALTER TABLE audit_logs_legacy RENAME CONSTRAINT audit_logs_pkey TO audit_logs_legacy_pkey;
+    DROP INDEX IF EXISTS idx_audit_logs_user_id;
+    DROP INDEX IF EXISTS idx_audit_logs_entity;
+    DROP INDEX IF EXISTS idx_audit_logs_timestamp;
+    UPDATE audit_logs_legacy SET "timestamp" = now() WHERE "timestamp" IS NULL;
+
+    CREATE TABLE audit_logs (LIKE audit_logs_legacy) PARTITION BY RANGE ("timestamp");
+    ALTER TABLE audit_logs ALTER COLUMN "timestamp" SET NOT NULL;
+    ALTER TABLE audit_logs ALTER COLUMN "timestamp" SET DEFAULT now();
+    ALTER TABLE audit_logs ADD CONSTRAINT audit_logs_pkey PRIMARY KEY (id, "timestamp");
+    CREATE TABLE audit_logs_default PARTITION OF audit_logs DEFAULT;
+
+    month := date_trunc('month', coalesce((SELECT min("timestamp") FROM audit_logs_legacy), now()))::date;
+    WHILE month <= (date_trunc('month', now()) + interval '3 months')::date LOOP
+        EXECUTE format('CREATE TABLE IF NOT EXISTS %I PARTITION OF audit_logs FOR VALUES FROM (%L) TO (%L)',
+                       'audit_logs_p' || to_char(month, 'YYYY_MM'), month, (month + interval '1 month')::date);
+        month := (month + interval '1 month')::date;
+    END LOOP;
+
+    INSERT INTO audit_logs SELECT * FROM audit_logs_legacy;
+    DROP TABLE audit_logs_legacy;
+
+    CREATE SEQUENCE IF NOT EXISTS audit_logs_id_seq OWNED BY audit_logs.id;
+    PERFORM setval('audit_logs_id_seq', coalesce((SELECT max(id) FROM audit_logs), 0) + 1, false);
+    ALTER TABLE audit_logs ALTER COLUMN id SET DEFAULT nextval('audit_logs_id_seq');
+END $$;
+
+-- Indexes on the parent cascade to every partition, including future ones
+CREATE INDEX IF NOT EXISTS idx_notifications_user_created ON notifications(user_id, created_at DESC);
+CREATE INDEX IF NOT EXISTS idx_notifications_global_created ON notifications(created_at DESC) WHERE is_global;
+CREATE INDEX IF NOT EXISTS idx_notifications_entity ON notifications(entity_type, entity_id);
+
+CREATE INDEX IF NOT EXISTS idx_audit_logs_user_id ON audit_logs(user_id);
+CREATE INDEX IF NOT EXISTS idx_audit_logs_entity ON audit_logs(entity, entity_id);
+CREATE INDEX IF NOT EXISTS idx_audit_logs_timestamp ON audit_logs("timestamp");
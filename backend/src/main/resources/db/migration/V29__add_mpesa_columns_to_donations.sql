@@ -0,0 +1,8 @@
+-- M-Pesa STK push fields on donations. Databases that ran with ddl-auto: update already have them.
+ALTER TABLE donations ADD COLUMN IF NOT EXISTS phone_number VARCHAR(255);
+ALTER TABLE donations ADD COLUMN IF NOT EXISTS merchant_request_id VARCHAR(255);
+ALTER TABLE donations ADD COLUMN IF NOT EXISTS checkout_request_id VARCHAR(255);
+ALTER TABLE donations ADD COLUMN IF NOT EXISTS mpesa_receipt_number VARCHAR(255);
+ALTER TABLE donations ADD COLUMN IF NOT EXISTS transaction_date TIMESTAMP(6);
+ALTER TABLE donations ADD COLUMN IF NOT EXISTS result_code INTEGER;
+ALTER TABLE donations ADD COLUMN IF NOT EXISTS result_desc VARCHAR(255);
@@ -0,0 +1,29 @@
+-- Indexes for the most frequent lookups. The paged notification list is already served by
+-- idx_notifications_user_created and idx_notifications_global_created (V27).
+
+-- M-Pesa callbacks and status polls find the donation by its CheckoutRequestID
+CREATE INDEX IF NOT EXISTS idx_donations_checkout_request_id
+    ON donations(checkout_request_id)
+    WHERE checkout_request_id IS NOT NULL;
+
+-- Unread notifications of a user and unread global ones, listed and counted on every poll;
+-- read notifications, the bulk of the table, are left out
+CREATE INDEX IF NOT EXISTS idx_notifications_user_unread
+    ON notifications(user_id, created_at DESC)
+    WHERE is_read = false;
+
+CREATE INDEX IF NOT EXISTS idx_notifications_global_unread
+    ON notifications(created_at DESC)
+    WHERE is_global AND is_read = false;
+
+-- Upcoming events still waiting for their reminder, checked by the reminder job every second.
+-- Replaces idx_events_reminder, whose leading column only ever held false.
+DROP INDEX IF EXISTS idx_events_reminder;
+CREATE INDEX IF NOT EXISTS idx_events_pending_reminder
+    ON events(start_date_time)
+    WHERE reminder_sent = false;
+
+-- Uploads of one record, newest first; replaces idx_uploads_module, which could not supply the order
+DROP INDEX IF EXISTS idx_uploads_module;
+CREATE INDEX IF NOT EXISTS idx_uploads_module_created
+    ON uploads(module_type, module_id, created_at DESC);
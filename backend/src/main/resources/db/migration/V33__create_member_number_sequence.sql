@@ -0,0 +1,11 @@
+-- Member numbers (GGF001, GGF002, ...) are issued from a sequence rather than by reading the
+-- current maximum, which let concurrent user creations take the same number
+CREATE SEQUENCE IF NOT EXISTS member_number_seq;
+
+-- Continue after the highest number already issued. Compared as numbers, since as strings
+-- GGF1000 sorts before GGF999
+SELECT setval('member_number_seq',
+              COALESCE((SELECT MAX(SUBSTRING(member_number FROM 4)::BIGINT)
+                        FROM users
+                        WHERE member_number ~ '^GGF[0-9]+$'), 0) + 1,
+              false);
@@ -0,0 +1,7 @@
+-- Version counters behind the ETags and cached responses of read-mostly listings. Kept here
+-- rather than in each instance's memory so that a write on one node invalidates all of them,
+-- and every node hands out the same ETag for the same data
+CREATE TABLE IF NOT EXISTS aggregate_versions (
+    aggregate VARCHAR(50) PRIMARY KEY,
+    version BIGINT NOT NULL DEFAULT 0
+);
@@ -0,0 +1,28 @@
+-- Reminder state per occurrence rather than per series row, so every occurrence of a recurring
+-- event is reminded and not only the first. reminder_occurrence is the original start of the
+-- occurrence still owed a reminder and reminder_fire_at when it is due (moved occurrences fire
+-- relative to their moved start); last_reminded_occurrence is where the next one is searched from.
+-- reminder_sent stays true while nothing is pending.
+ALTER TABLE events
+    ADD COLUMN IF NOT EXISTS reminder_occurrence TIMESTAMP,
+    ADD COLUMN IF NOT EXISTS reminder_fire_at TIMESTAMP,
+    ADD COLUMN IF NOT EXISTS last_reminded_occurrence TIMESTAMP;
+
+UPDATE events
+SET last_reminded_occurrence = start_date_time
+WHERE reminder_sent = true;
+
+-- Pending single events keep their reminder. Every running series is marked pending at its first
+-- occurrence; the scheduler moves the ones already reminded or started on to their next occurrence.
+UPDATE events
+SET reminder_occurrence = start_date_time,
+    reminder_fire_at = start_date_time - make_interval(mins => coalesce(reminder_minutes, 15)),
+    reminder_sent = false
+WHERE (recurrence_rule IS NULL AND reminder_sent = false AND start_date_time > now())
+   OR (recurrence_rule IS NOT NULL AND (recurrence_end IS NULL OR recurrence_end > now()));
+
+-- Replaces idx_events_pending_reminder (V30); the reminder job now looks rows up by fire time
+DROP INDEX IF EXISTS idx_events_pending_reminder;
+CREATE INDEX IF NOT EXISTS idx_events_reminder_fire_at
+    ON events(reminder_fire_at)
+    WHERE reminder_occurrence IS NOT NULL;
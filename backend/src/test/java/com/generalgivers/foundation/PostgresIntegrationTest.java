@@ -0,0 +1,51 @@
+package com.generalgivers.foundation;
+
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.BeforeAll;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.DockerClientFactory;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+/**
+ * Boots the application against PostgreSQL, migrated by Flyway as on startup: the database given
+ * with -Dtest.jdbc-url (plus test.jdbc-username and test.jdbc-password), or otherwise a
+ * Testcontainers one. Tests are skipped when neither is available.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+public abstract class PostgresIntegrationTest {
+
+    private static PostgreSQLContainer<?> container;
+    private static String url;
+    private static String username;
+    private static String password;
+
+    @BeforeAll
+    static void startDatabase() {
+        if (url != null) {
+            return;
+        }
+        if (System.getProperty("test.jdbc-url") != null) {
+            url = System.getProperty("test.jdbc-url");
+            username = System.getProperty("test.jdbc-username", "postgres");
+            password = System.getProperty("test.jdbc-password", "postgres");
+            return;
+        }
+        Assumptions.assumeTrue(DockerClientFactory.instance().isDockerAvailable(),
+                "Needs Docker for a Testcontainers database, or -Dtest.jdbc-url");
+        // Shared by every test class and stopped with the JVM
+        container = new PostgreSQLContainer<>("postgres:15-alpine");
+        container.start();
+        url = container.getJdbcUrl();
+        username = container.getUsername();
+        password = container.getPassword();
+    }
+
+    @DynamicPropertySource
+    static void database(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> url);
+        registry.add("spring.datasource.username", () -> username);
+        registry.add("spring.datasource.password", () -> password);
+    }
+}
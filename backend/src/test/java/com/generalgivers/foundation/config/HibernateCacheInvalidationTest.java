@@ -0,0 +1,138 @@
+package com.generalgivers.foundation.config;
+
+import com.generalgivers.foundation.PostgresIntegrationTest;
+import com.generalgivers.foundation.entity.ChildrenHome;
+import com.generalgivers.foundation.entity.Event;
+import com.generalgivers.foundation.entity.Project;
+import com.generalgivers.foundation.entity.ProjectStatus;
+import com.generalgivers.foundation.entity.User;
+import com.generalgivers.foundation.entity.UserRole;
+import com.generalgivers.foundation.repository.ChildrenHomeRepository;
+import com.generalgivers.foundation.repository.EventRepository;
+import com.generalgivers.foundation.repository.ProjectRepository;
+import com.generalgivers.foundation.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Writes through Hibernate must never leave a cached entity or query result behind, and users
+ * must not be cached at all, so that a change made by another node is seen at once.
+ */
+class HibernateCacheInvalidationTest extends PostgresIntegrationTest {
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private ChildrenHomeRepository childrenHomeRepository;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private final List<Runnable> cleanup = new ArrayList<>();
+
+    @AfterEach
+    void deleteCreatedRows() {
+        cleanup.forEach(Runnable::run);
+    }
+
+    @Test
+    void updatedProjectIsNotServedFromCache() {
+        Project project = projectRepository.save(Project.builder().title("Cached project").build());
+        cleanup.add(() -> jdbcTemplate.update("DELETE FROM projects WHERE id = ?", project.getId()));
+        projectRepository.findById(project.getId());
+        assertThat(entityManagerFactory.getCache().contains(Project.class, project.getId())).isTrue();
+
+        transactionTemplate.executeWithoutResult(status ->
+                projectRepository.findById(project.getId()).orElseThrow().setTitle("Renamed project"));
+
+        assertThat(projectRepository.findById(project.getId())).get()
+                .extracting(Project::getTitle).isEqualTo("Renamed project");
+    }
+
+    @Test
+    void cachedProjectQueriesSeeNewAndChangedProjects() {
+        Project project = projectRepository.save(Project.builder().title("Draft project").build());
+        cleanup.add(() -> jdbcTemplate.update("DELETE FROM projects WHERE id = ?", project.getId()));
+        assertThat(projectRepository.findActiveProjects()).extracting(Project::getId).doesNotContain(project.getId());
+
+        transactionTemplate.executeWithoutResult(status ->
+                projectRepository.findById(project.getId()).orElseThrow().setStatus(ProjectStatus.ACTIVE));
+        assertThat(projectRepository.findActiveProjects()).extracting(Project::getId).contains(project.getId());
+
+        projectRepository.deleteById(project.getId());
+        assertThat(projectRepository.findAllOrderByCreatedAtDesc()).extracting(Project::getId).doesNotContain(project.getId());
+        assertThat(projectRepository.findById(project.getId())).isEmpty();
+    }
+
+    @Test
+    void cachedChildrenHomeListSeesInsertsAndUpdates() {
+        int before = childrenHomeRepository.findAll().size();
+        ChildrenHome home = childrenHomeRepository.save(ChildrenHome.builder().name("Cached home").build());
+        cleanup.add(() -> jdbcTemplate.update("DELETE FROM children_homes WHERE id = ?", home.getId()));
+        assertThat(childrenHomeRepository.findAll()).hasSize(before + 1);
+
+        transactionTemplate.executeWithoutResult(status ->
+                childrenHomeRepository.findById(home.getId()).orElseThrow().setName("Renamed home"));
+
+        assertThat(childrenHomeRepository.findAll())
+                .filteredOn(h -> h.getId().equals(home.getId()))
+                .extracting(ChildrenHome::getName).containsExactly("Renamed home");
+    }
+
+    @Test
+    void updatedEventIsNotServedFromCache() {
+        LocalDateTime start = LocalDateTime.now().plusDays(1);
+        Event event = eventRepository.save(Event.builder()
+                .title("Cached event").startDateTime(start).endDateTime(start.plusHours(1)).build());
+        cleanup.add(() -> jdbcTemplate.update("DELETE FROM events WHERE id = ?", event.getId()));
+        eventRepository.findById(event.getId());
+
+        transactionTemplate.executeWithoutResult(status ->
+                eventRepository.findById(event.getId()).orElseThrow().setStartDateTime(start.plusDays(1)));
+
+        assertThat(eventRepository.findById(event.getId())).get()
+                .extracting(Event::getStartDateTime).isEqualTo(start.plusDays(1));
+    }
+
+    @Test
+    void userChangesMadeElsewhereAreSeenAtOnce() {
+        String email = "cache-test-" + UUID.randomUUID() + "@example.com";
+        User user = userRepository.save(User.builder()
+                .firstName("Cache").lastName("Test").email(email).passwordHash("x")
+                .role(UserRole.COMMITTEE_MEMBER).isActive(true).mustChangePassword(false).build());
+        cleanup.add(() -> jdbcTemplate.update("DELETE FROM users WHERE id = ?", user.getId()));
+        assertThat(userRepository.findByEmail(email)).get().extracting(User::getIsActive).isEqualTo(true);
+
+        // As another instance would: straight to the database, unseen by this one's Hibernate
+        jdbcTemplate.update("UPDATE users SET is_active = false, role = 'TREASURER' WHERE id = ?", user.getId());
+
+        assertThat(entityManagerFactory.getCache().contains(User.class, user.getId())).isFalse();
+        User reloaded = userRepository.findByEmail(email).orElseThrow();
+        assertThat(reloaded.getIsActive()).isFalse();
+        assertThat(reloaded.getRole()).isEqualTo(UserRole.TREASURER);
+    }
+}
@@ -0,0 +1,121 @@
+package com.generalgivers.foundation.repository;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.generalgivers.foundation.PostgresIntegrationTest;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * The hot queries must be planned on the indexes added for them. Each query is the SQL Hibernate
+ * generates for the repository method, run through EXPLAIN with sequential scans discouraged, so
+ * that the plan shows which index the planner can use whatever the table sizes. Indexes of
+ * partitions are reported under the partitioned table's index.
+ *
+ * Which notification index wins depends on how many rows are unread, so the test first adds
+ * notifications shaped like production ones, mostly read and a few global, in a transaction that
+ * is rolled back afterwards.
+ */
+class HotQueryPlanTest extends PostgresIntegrationTest {
+
+    private record HotQuery(String name, String sql, List<Object> parameters, Set<String> expectedIndexes) {
+    }
+
+    private static final List<HotQuery> QUERIES = List.of(
+            new HotQuery("NotificationRepository.findByUserIdOrGlobal", """
+                    SELECT * FROM notifications
+                    WHERE (user_id IS NOT NULL AND user_id = ?) OR is_global = true
+                    ORDER BY created_at DESC OFFSET 0 ROWS FETCH FIRST 20 ROWS ONLY
+                    """, List.of(UUID.randomUUID()),
+                    Set.of("idx_notifications_user_created", "idx_notifications_global_created")),
+            new HotQuery("NotificationRepository.findUnreadByUserIdOrGlobal", """
+                    SELECT * FROM notifications
+                    WHERE ((user_id IS NOT NULL AND user_id = ?) OR is_global = true) AND is_read = false
+                    ORDER BY created_at DESC
+                    """, List.of(UUID.randomUUID()),
+                    Set.of("idx_notifications_user_unread", "idx_notifications_global_unread")),
+            new HotQuery("NotificationRepository.countUnreadByUserIdOrGlobal", """
+                    SELECT count(id) FROM notifications
+                    WHERE ((user_id IS NOT NULL AND user_id = ?) OR is_global = true) AND is_read = false
+                    """, List.of(UUID.randomUUID()),
+                    Set.of("idx_notifications_user_unread", "idx_notifications_global_unread")),
+            new HotQuery("DonationRepository.findByCheckoutRequestId", """
+                    SELECT * FROM donations d LEFT JOIN projects p ON p.id = d.project_id
+                    WHERE d.checkout_request_id = ?
+                    """, List.of("ws_CO_" + UUID.randomUUID()),
+                    Set.of("idx_donations_checkout_request_id")),
+            new HotQuery("EventRepository.findWithPendingReminders", """
+                    SELECT * FROM events WHERE reminder_occurrence IS NOT NULL AND reminder_fire_at < ?
+                    """, List.of(Timestamp.valueOf(LocalDateTime.now().plusDays(194))),
+                    Set.of("idx_events_reminder_fire_at")),
+            new HotQuery("UploadRepository.findByModuleTypeAndModuleIdOrderByCreatedAtDesc", """
+                    SELECT * FROM uploads WHERE module_type = ? AND module_id = ? ORDER BY created_at DESC
+                    """, List.of("PROJECT", UUID.randomUUID()),
+                    Set.of("idx_uploads_module_created")));
+
+    private static final String NOTIFICATIONS_FIXTURE = """
+            WITH members AS (SELECT id, row_number() OVER () - 1 AS n, count(*) OVER () AS total FROM users)
+            INSERT INTO notifications (id, user_id, is_global, is_read, created_at, title, message, type)
+            SELECT gen_random_uuid(),
+                   CASE WHEN i % 50 = 0 THEN NULL ELSE m.id END,
+                   i % 50 = 0,
+                   i % 20 <> 0,
+                   localtimestamp - i * interval '1 minute',
+                   'Query plan check', 'Query plan check', 'SYSTEM_ALERT'
+            FROM generate_series(1, 20000) i
+            JOIN members m ON m.n = i % m.total
+            """;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void hotQueriesUseTheirIndexes() {
+        SoftAssertions softly = new SoftAssertions();
+        transactionTemplate.executeWithoutResult(status -> {
+            status.setRollbackOnly();
+            jdbcTemplate.execute(NOTIFICATIONS_FIXTURE);
+            jdbcTemplate.execute("ANALYZE notifications");
+            jdbcTemplate.execute("SET LOCAL enable_seqscan = off");
+
+            for (HotQuery query : QUERIES) {
+                softly.assertThat(indexesUsed(query)).as(query.name()).containsAll(query.expectedIndexes());
+            }
+        });
+        softly.assertAll();
+    }
+
+    private Set<String> indexesUsed(HotQuery query) {
+        String plan = jdbcTemplate.queryForObject("EXPLAIN (FORMAT JSON) " + query.sql(), String.class,
+                query.parameters().toArray());
+        List<String> indexes;
+        try {
+            indexes = objectMapper.readTree(plan).findValuesAsText("Index Name");
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Unreadable plan for " + query.name(), ex);
+        }
+
+        Set<String> used = new LinkedHashSet<>();
+        for (String index : indexes) {
+            used.add(jdbcTemplate.queryForObject("SELECT COALESCE(pg_partition_root(?::regclass)::text, ?)",
+                    String.class, index, index));
+        }
+        return used;
+    }
+}
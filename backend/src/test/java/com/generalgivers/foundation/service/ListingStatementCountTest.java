@@ -0,0 +1,167 @@
+package com.generalgivers.foundation.service;
+
+import com.generalgivers.foundation.PostgresIntegrationTest;
+import com.generalgivers.foundation.entity.ChildrenHome;
+import com.generalgivers.foundation.entity.Donation;
+import com.generalgivers.foundation.entity.Project;
+import com.generalgivers.foundation.entity.ProjectStatus;
+import com.generalgivers.foundation.entity.User;
+import com.generalgivers.foundation.entity.UserRole;
+import com.generalgivers.foundation.entity.Visit;
+import com.generalgivers.foundation.repository.ChildrenHomeRepository;
+import com.generalgivers.foundation.repository.DonationRepository;
+import com.generalgivers.foundation.repository.ProjectRepository;
+import com.generalgivers.foundation.repository.UserRepository;
+import com.generalgivers.foundation.repository.VisitRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Listings must fetch the associations their responses read with the rows, so the number of
+ * statements they run does not grow with the number of rows. Every seeded row gets its own
+ * creator, children home and project, as a per-row lazy load would otherwise be hidden by the
+ * persistence context.
+ */
+class ListingStatementCountTest extends PostgresIntegrationTest {
+
+    // More than hibernate.default_batch_fetch_size, so that batched lazy loads would show as well
+    private static final int ROWS = 60;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ChildrenHomeRepository childrenHomeRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private VisitRepository visitRepository;
+
+    @Autowired
+    private DonationRepository donationRepository;
+
+    @Autowired
+    private VisitService visitService;
+
+    @Autowired
+    private DonationService donationService;
+
+    @Autowired
+    private ProjectService projectService;
+
+    private final List<UUID> users = new ArrayList<>();
+    private final List<UUID> homes = new ArrayList<>();
+    private final List<UUID> projects = new ArrayList<>();
+    private final List<UUID> visits = new ArrayList<>();
+    private final List<UUID> donations = new ArrayList<>();
+
+    @AfterEach
+    void deleteCreatedRows() {
+        donations.forEach(id -> jdbcTemplate.update("DELETE FROM donations WHERE id = ?", id));
+        visits.forEach(id -> jdbcTemplate.update("DELETE FROM visits WHERE id = ?", id));
+        projects.forEach(id -> jdbcTemplate.update("DELETE FROM projects WHERE id = ?", id));
+        homes.forEach(id -> jdbcTemplate.update("DELETE FROM children_homes WHERE id = ?", id));
+        users.forEach(id -> jdbcTemplate.update("DELETE FROM users WHERE id = ?", id));
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @Test
+    void visitListingRunsTheSameStatementsForTwiceTheRows() {
+        seed(ROWS);
+        long before = statementsFor(visitService::getAllVisits);
+        seed(ROWS);
+        long after = statementsFor(visitService::getAllVisits);
+
+        assertThat(after).isEqualTo(before);
+    }
+
+    @Test
+    void donationListingRunsTheSameStatementsForTwiceTheRows() {
+        seed(ROWS);
+        long before = statementsFor(donationService::getAllDonations);
+        seed(ROWS);
+        long after = statementsFor(donationService::getAllDonations);
+
+        assertThat(after).isEqualTo(before);
+    }
+
+    @Test
+    void projectListingRunsTheSameStatementsForTwiceTheRows() {
+        seed(ROWS);
+        long before = statementsFor(projectService::getAllProjects);
+        seed(ROWS);
+        long after = statementsFor(projectService::getAllProjects);
+
+        assertThat(after).isEqualTo(before);
+    }
+
+    /**
+     * Statements run by one listing, read in a single transaction from an empty second-level
+     * cache. Statistics are global, so a scheduled job running at the same moment can add to the
+     * count; the smallest of a few runs is the listing's own.
+     */
+    private long statementsFor(Supplier<List<?>> listing) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        long fewest = Long.MAX_VALUE;
+        for (int run = 0; run < 3; run++) {
+            entityManagerFactory.unwrap(SessionFactory.class).getCache().evictAllRegions();
+            statistics.clear();
+            List<?> rows = transactionTemplate.execute(status -> listing.get());
+            assertThat(rows).isNotEmpty();
+            fewest = Math.min(fewest, statistics.getPrepareStatementCount());
+        }
+        return fewest;
+    }
+
+    private void seed(int count) {
+        for (int i = 0; i < count; i++) {
+            User user = userRepository.save(User.builder()
+                    .firstName("Listing").lastName("Test " + i).email("listing-test-" + UUID.randomUUID() + "@example.com")
+                    .passwordHash("x").role(UserRole.COMMITTEE_MEMBER).isActive(true).mustChangePassword(false).build());
+            users.add(user.getId());
+
+            ChildrenHome home = childrenHomeRepository.save(ChildrenHome.builder().name("Listing home " + i).build());
+            homes.add(home.getId());
+
+            Project project = projectRepository.save(Project.builder()
+                    .title("Listing project " + i).status(ProjectStatus.ACTIVE).createdBy(user).build());
+            projects.add(project.getId());
+
+            Visit visit = visitRepository.save(Visit.builder()
+                    .visitDate(LocalDate.now()).childrenHome(home).createdBy(user).build());
+            visits.add(visit.getId());
+
+            Donation donation = donationRepository.save(Donation.builder()
+                    .donorUser(user).donorName("Listing donor " + i).amount(BigDecimal.TEN)
+                    .date(LocalDateTime.now()).project(project).build());
+            donations.add(donation.getId());
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.generalgivers.foundation.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HierarchicalTimerWheelTest {
+
+    private static final long TICK = 1000;
+    private static final long START = 1_700_000_000_000L;
+
+    @Test
+    void deadlinesOnEveryLevelExpireOnTheirTick() {
+        HierarchicalTimerWheel<String> wheel = new HierarchicalTimerWheel<>(TICK, START);
+        // 64 ticks per level-0 rotation, 64^2 per level 1, 64^3 per level 2
+        Map<String, Long> deadlines = Map.of(
+                "level0", START + 10 * TICK,
+                "level1", START + 100 * TICK,
+                "level2", START + 5_000 * TICK,
+                "level3", START + 300_000 * TICK,
+                "slotBoundary", START + 4_096 * TICK,
+                "lastSecond", START + 262_143 * TICK);
+        deadlines.forEach(wheel::schedule);
+
+        Map<String, Long> fired = new HashMap<>();
+        for (long now = START; now <= START + 300_000 * TICK; now += TICK) {
+            for (String key : wheel.advance(now)) {
+                fired.put(key, now);
+            }
+        }
+
+        assertThat(fired).isEqualTo(deadlines);
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    void deadlinesAreRoundedUpToTheNextTick() {
+        HierarchicalTimerWheel<String> wheel = new HierarchicalTimerWheel<>(TICK, START);
+        wheel.schedule("a", START + 1_500);
+
+        assertThat(wheel.advance(START + 1_999)).isEmpty();
+        assertThat(wheel.advance(START + 2_000)).containsExactly("a");
+    }
+
+    @Test
+    void pastAndCurrentDeadlinesFireOnTheNextAdvance() {
+        HierarchicalTimerWheel<String> wheel = new HierarchicalTimerWheel<>(TICK, START);
+        wheel.schedule("past", START - 60_000);
+        wheel.schedule("now", START);
+
+        assertThat(wheel.advance(START)).containsExactlyInAnyOrder("past", "now");
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    void reschedulingReplacesTheEarlierDeadline() {
+        HierarchicalTimerWheel<String> wheel = new HierarchicalTimerWheel<>(TICK, START);
+        wheel.schedule("a", START + 10 * TICK);
+        wheel.schedule("a", START + 5_000 * TICK);
+
+        assertThat(wheel.size()).isEqualTo(1);
+        assertThat(wheel.advance(START + 4_999 * TICK)).isEmpty();
+        assertThat(wheel.advance(START + 5_000 * TICK)).containsExactly("a");
+
+        wheel.schedule("b", START + 10_000 * TICK);
+        wheel.schedule("b", START + 5_010 * TICK);
+        assertThat(wheel.advance(START + 5_010 * TICK)).containsExactly("b");
+        assertThat(wheel.advance(START + 10_000 * TICK)).isEmpty();
+    }
+
+    @Test
+    void cancelledKeysNeverFire() {
+        HierarchicalTimerWheel<String> wheel = new HierarchicalTimerWheel<>(TICK, START);
+        wheel.schedule("near", START + 10 * TICK);
+        wheel.schedule("far", START + 300_000 * TICK);
+        wheel.schedule("overdue", START - TICK);
+        wheel.schedule("kept", START + 20 * TICK);
+
+        assertThat(wheel.cancel("near")).isTrue();
+        assertThat(wheel.cancel("far")).isTrue();
+        assertThat(wheel.cancel("overdue")).isTrue();
+        assertThat(wheel.cancel("missing")).isFalse();
+        assertThat(wheel.contains("near")).isFalse();
+
+        assertThat(wheel.advance(START + 400_000 * TICK)).containsExactly("kept");
+    }
+
+    @Test
+    void oneLargeAdvanceReturnsEverythingDueInTheGap() {
+        HierarchicalTimerWheel<String> wheel = new HierarchicalTimerWheel<>(TICK, START);
+        wheel.schedule("a", START + 10 * TICK);
+        wheel.schedule("b", START + 5_000 * TICK);
+        wheel.schedule("c", START + 300_000 * TICK);
+        wheel.schedule("later", START + 300_001 * TICK);
+
+        assertThat(wheel.advance(START + 300_000 * TICK)).containsExactlyInAnyOrder("a", "b", "c");
+        assertThat(wheel.advance(START + 300_001 * TICK)).containsExactly("later");
+    }
+
+    @Test
+    void deadlinesBeyondTheHorizonAreParkedUntilTheyComeIntoRange() {
+        // One-millisecond ticks keep the walk past the horizon short
+        HierarchicalTimerWheel<String> wheel = new HierarchicalTimerWheel<>(1, 0);
+        long horizon = wheel.horizonMillis();
+        assertThat(horizon).isEqualTo(16_777_216L);
+
+        wheel.schedule("beyond", horizon * 3 + 12_345);
+        wheel.schedule("edge", horizon);
+
+        assertThat(wheel.advance(horizon - 1)).isEmpty();
+        assertThat(wheel.advance(horizon)).containsExactly("edge");
+        assertThat(wheel.advance(horizon * 3 + 12_344)).isEmpty();
+        assertThat(wheel.contains("beyond")).isTrue();
+        assertThat(wheel.advance(horizon * 3 + 12_345)).containsExactly("beyond");
+    }
+
+    @Test
+    void clearDropsEveryKey() {
+        HierarchicalTimerWheel<String> wheel = new HierarchicalTimerWheel<>(TICK, START);
+        wheel.schedule("a", START + 10 * TICK);
+        wheel.schedule("b", START - TICK);
+        wheel.clear();
+
+        assertThat(wheel.size()).isZero();
+        assertThat(wheel.advance(START + 100 * TICK)).isEqualTo(List.of());
+    }
+}
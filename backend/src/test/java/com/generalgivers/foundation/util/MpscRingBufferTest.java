@@ -0,0 +1,164 @@
+package com.generalgivers.foundation.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MpscRingBufferTest {
+
+    private static final int PRODUCERS = 4;
+
+    @Test
+    void capacityIsRoundedUpToAPowerOfTwo() {
+        assertThat(new MpscRingBuffer<>(1).capacity()).isEqualTo(1);
+        assertThat(new MpscRingBuffer<>(5).capacity()).isEqualTo(8);
+        assertThat(new MpscRingBuffer<>(64).capacity()).isEqualTo(64);
+        assertThatThrownBy(() -> new MpscRingBuffer<>(0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new MpscRingBuffer<>(Integer.MAX_VALUE)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new MpscRingBuffer<>(4).offer(null)).isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void offersAreRejectedOnlyOnceFull() {
+        MpscRingBuffer<Integer> buffer = new MpscRingBuffer<>(4);
+        for (int i = 0; i < 4; i++) {
+            assertThat(buffer.offer(i)).isTrue();
+        }
+        assertThat(buffer.offer(4)).isFalse();
+        assertThat(buffer.size()).isEqualTo(4);
+
+        List<Integer> drained = new ArrayList<>();
+        assertThat(buffer.drain(drained::add, 1)).isEqualTo(1);
+        assertThat(buffer.offer(4)).isTrue();
+        assertThat(buffer.offer(5)).isFalse();
+
+        assertThat(buffer.drain(drained::add, Integer.MAX_VALUE)).isEqualTo(4);
+        assertThat(drained).containsExactly(0, 1, 2, 3, 4);
+        assertThat(buffer.drain(drained::add, Integer.MAX_VALUE)).isZero();
+    }
+
+    @Test
+    void keepsInsertionOrderAcrossManyWrapArounds() {
+        MpscRingBuffer<Integer> buffer = new MpscRingBuffer<>(8);
+        List<Integer> drained = new ArrayList<>();
+        int next = 0;
+        // Uneven batches so the head and tail wrap at every slot position
+        for (int lap = 0; lap < 1_000; lap++) {
+            int batch = Math.min(1 + lap % 8, buffer.capacity() - buffer.size());
+            for (int i = 0; i < batch; i++) {
+                assertThat(buffer.offer(next++)).isTrue();
+            }
+            buffer.drain(drained::add, 1 + lap % 5);
+        }
+        buffer.drain(drained::add, Integer.MAX_VALUE);
+
+        assertThat(drained).hasSize(next);
+        for (int i = 0; i < next; i++) {
+            assertThat(drained.get(i)).isEqualTo(i);
+        }
+    }
+
+    @Test
+    void concurrentProducersFillExactlyToCapacity() throws Exception {
+        MpscRingBuffer<Long> buffer = new MpscRingBuffer<>(1024);
+        ExecutorService producers = Executors.newFixedThreadPool(PRODUCERS);
+        try {
+            // Several rounds with a partial drain in between, so the full buffer sits at a different offset each time
+            for (int round = 0; round < 20; round++) {
+                int free = buffer.capacity() - buffer.size();
+                AtomicInteger accepted = new AtomicInteger();
+                AtomicInteger rejectedBeforeFull = new AtomicInteger();
+                CountDownLatch start = new CountDownLatch(1);
+                List<Future<?>> futures = new ArrayList<>();
+                for (int p = 0; p < PRODUCERS; p++) {
+                    futures.add(producers.submit(() -> {
+                        start.await();
+                        // The consumer is idle, so once an offer is rejected the buffer stays full
+                        while (buffer.offer(1L)) {
+                            accepted.incrementAndGet();
+                        }
+                        if (buffer.size() != buffer.capacity()) {
+                            rejectedBeforeFull.incrementAndGet();
+                        }
+                        return null;
+                    }));
+                }
+                start.countDown();
+                for (Future<?> future : futures) {
+                    future.get(10, TimeUnit.SECONDS);
+                }
+
+                assertThat(accepted.get()).isEqualTo(free);
+                assertThat(rejectedBeforeFull.get()).isZero();
+                buffer.drain(element -> { }, 100 + round * 37);
+            }
+        } finally {
+            producers.shutdownNow();
+        }
+    }
+
+    @Test
+    void concurrentProducersLoseAndDuplicateNothing() throws Exception {
+        int perProducer = 50_000;
+        MpscRingBuffer<Long> buffer = new MpscRingBuffer<>(64);
+        ExecutorService producers = Executors.newFixedThreadPool(PRODUCERS);
+        AtomicInteger rejections = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        try {
+            for (int p = 0; p < PRODUCERS; p++) {
+                long producer = p;
+                futures.add(producers.submit(() -> {
+                    start.await();
+                    for (long sequence = 0; sequence < perProducer; sequence++) {
+                        while (!buffer.offer(producer * perProducer + sequence)) {
+                            rejections.incrementAndGet();
+                            Thread.yield();
+                        }
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+
+            // Each producer's elements must arrive once each and in the order it offered them
+            long[] expected = new long[PRODUCERS];
+            long[] received = {0};
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+            while (received[0] < (long) PRODUCERS * perProducer && System.nanoTime() < deadline) {
+                int drained = buffer.drain(element -> {
+                    int producer = (int) (element / perProducer);
+                    assertThat(element % perProducer).as("next element of producer %d", producer)
+                            .isEqualTo(expected[producer]);
+                    expected[producer]++;
+                    received[0]++;
+                }, 256);
+                if (drained == 0) {
+                    Thread.yield();
+                }
+            }
+            for (Future<?> future : futures) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+
+            assertThat(expected).containsOnly(perProducer);
+            assertThat(buffer.size()).isZero();
+            assertThat(buffer.drain(element -> { }, Integer.MAX_VALUE)).isZero();
+            // Far more elements than slots went through, and the buffer did fill up along the way
+            assertThat(received[0]).isGreaterThan(1_000L * buffer.capacity());
+            assertThat(rejections.get()).isPositive();
+        } finally {
+            producers.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package com.generalgivers.foundation.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RecurrenceRuleTest {
+
+    private static final ZoneId ZONE = ZoneId.of("Africa/Nairobi");
+
+    @Test
+    void byDayOrdinalsPickTheNthWeekdayOfTheMonth() {
+        assertThat(expand("FREQ=MONTHLY;BYDAY=2TU", at(2026, 1, 13), 3))
+                .containsExactly(at(2026, 1, 13), at(2026, 2, 10), at(2026, 3, 10));
+        assertThat(expand("FREQ=MONTHLY;BYDAY=-1FR", at(2026, 1, 30), 4))
+                .containsExactly(at(2026, 1, 30), at(2026, 2, 27), at(2026, 3, 27), at(2026, 4, 24));
+        assertThat(expand("FREQ=YEARLY;BYMONTH=11;BYDAY=4TH", at(2026, 11, 26), 3))
+                .containsExactly(at(2026, 11, 26), at(2027, 11, 25), at(2028, 11, 23));
+    }
+
+    @Test
+    void fifthWeekdaySkipsMonthsWithoutOne() {
+        assertThat(expand("FREQ=MONTHLY;BYDAY=5FR", at(2026, 1, 30), 3))
+                .containsExactly(at(2026, 1, 30), at(2026, 5, 29), at(2026, 7, 31));
+    }
+
+    @Test
+    void byDayOrdinalsAreRejectedWhereTheyHaveNoMeaning() {
+        assertThatThrownBy(() -> RecurrenceRule.parse("FREQ=WEEKLY;BYDAY=2TU", ZONE))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> RecurrenceRule.parse("FREQ=MONTHLY;BYDAY=6TU", ZONE))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> RecurrenceRule.parse("FREQ=YEARLY;BYDAY=1MO", ZONE))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void countLimitsTheSeries() {
+        RecurrenceRule rule = RecurrenceRule.parse("FREQ=DAILY;COUNT=3", ZONE);
+
+        assertThat(rule.between(at(2026, 3, 1), at(2026, 1, 1), at(2027, 1, 1)))
+                .containsExactly(at(2026, 3, 1), at(2026, 3, 2), at(2026, 3, 3));
+        assertThat(rule.lastOccurrence(at(2026, 3, 1))).contains(at(2026, 3, 3));
+    }
+
+    @Test
+    void countResolvedToUntilExpandsTheSameOccurrences() {
+        LocalDateTime dtStart = at(2026, 1, 13);
+        RecurrenceRule counted = RecurrenceRule.parse("FREQ=WEEKLY;INTERVAL=2;BYDAY=TU,TH;COUNT=9", ZONE);
+        RecurrenceRule bounded = counted.withUntil(counted.lastOccurrence(dtStart).orElseThrow());
+
+        assertThat(bounded.getCount()).isEmpty();
+        assertThat(bounded.between(dtStart, at(2026, 2, 1), at(2027, 1, 1)))
+                .hasSize(5)
+                .isEqualTo(counted.between(dtStart, at(2026, 2, 1), at(2027, 1, 1)));
+    }
+
+    @Test
+    void dateOnlyUntilIncludesTheWholeDay() {
+        RecurrenceRule rule = RecurrenceRule.parse("FREQ=WEEKLY;UNTIL=20260317", ZONE);
+
+        assertThat(rule.between(at(2026, 3, 3), at(2026, 1, 1), at(2027, 1, 1)))
+                .containsExactly(at(2026, 3, 3), at(2026, 3, 10), at(2026, 3, 17));
+    }
+
+    @Test
+    void utcUntilIsConvertedToTheCalendarZone() {
+        // 06:00Z is 09:00 in Nairobi, so the occurrence at 09:00 on the 5th is the last one
+        RecurrenceRule rule = RecurrenceRule.parse("FREQ=DAILY;UNTIL=20260305T060000Z", ZONE);
+
+        assertThat(rule.getUntil()).contains(at(2026, 3, 5));
+        assertThat(rule.between(at(2026, 3, 1), at(2026, 1, 1), at(2027, 1, 1))).hasSize(5);
+    }
+
+    @Test
+    void countAndUntilTogetherAreRejected() {
+        assertThatThrownBy(() -> RecurrenceRule.parse("FREQ=DAILY;COUNT=3;UNTIL=20260317", ZONE))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void monthDayThirtyOneSkipsShortMonths() {
+        assertThat(expand("FREQ=MONTHLY;BYMONTHDAY=31", at(2026, 1, 31), 4))
+                .containsExactly(at(2026, 1, 31), at(2026, 3, 31), at(2026, 5, 31), at(2026, 7, 31));
+    }
+
+    @Test
+    void negativeMonthDayCountsFromTheEndOfEachMonth() {
+        assertThat(expand("FREQ=MONTHLY;BYMONTHDAY=-1", at(2026, 1, 31), 4))
+                .containsExactly(at(2026, 1, 31), at(2026, 2, 28), at(2026, 3, 31), at(2026, 4, 30));
+        assertThat(RecurrenceRule.parse("FREQ=MONTHLY;BYMONTHDAY=-1", ZONE)
+                .between(at(2026, 1, 31), at(2028, 2, 1), at(2028, 3, 1)))
+                .containsExactly(at(2028, 2, 29));
+    }
+
+    @Test
+    void weekStartDecidesWhichWeeksAnIntervalSkips() {
+        // RFC 5545 section 3.3.10: the same rule with WKST=MO and WKST=SU
+        LocalDateTime dtStart = LocalDateTime.of(1997, 8, 5, 9, 0);
+
+        assertThat(expand("FREQ=WEEKLY;INTERVAL=2;COUNT=4;BYDAY=TU,SU;WKST=MO", dtStart, 4))
+                .containsExactly(dtStart, dtStart.withDayOfMonth(10), dtStart.withDayOfMonth(19), dtStart.withDayOfMonth(24));
+        assertThat(expand("FREQ=WEEKLY;INTERVAL=2;COUNT=4;BYDAY=TU,SU;WKST=SU", dtStart, 4))
+                .containsExactly(dtStart, dtStart.withDayOfMonth(17), dtStart.withDayOfMonth(19), dtStart.withDayOfMonth(31));
+    }
+
+    @Test
+    void weekStartIsHonouredWhenJumpingToALaterWindow() {
+        LocalDateTime dtStart = LocalDateTime.of(1997, 8, 5, 9, 0);
+        RecurrenceRule sunday = RecurrenceRule.parse("FREQ=WEEKLY;INTERVAL=2;BYDAY=TU,SU;WKST=SU;UNTIL=19971231", ZONE);
+        RecurrenceRule monday = RecurrenceRule.parse("FREQ=WEEKLY;INTERVAL=2;BYDAY=TU,SU;WKST=MO;UNTIL=19971231", ZONE);
+
+        assertThat(sunday.between(dtStart, LocalDateTime.of(1997, 8, 18, 0, 0), LocalDateTime.of(1997, 9, 1, 0, 0)))
+                .containsExactly(dtStart.withDayOfMonth(19), dtStart.withDayOfMonth(31));
+        assertThat(monday.between(dtStart, LocalDateTime.of(1997, 8, 18, 0, 0), LocalDateTime.of(1997, 9, 1, 0, 0)))
+                .containsExactly(dtStart.withDayOfMonth(19), dtStart.withDayOfMonth(24));
+    }
+
+    @Test
+    void dtStartIsAlwaysTheFirstOccurrence() {
+        // 2026-03-04 is a Wednesday
+        assertThat(expand("FREQ=WEEKLY;BYDAY=MO", at(2026, 3, 4), 3))
+                .containsExactly(at(2026, 3, 4), at(2026, 3, 9), at(2026, 3, 16));
+    }
+
+    @Test
+    void occursAtMatchesOnlyRuleStarts() {
+        RecurrenceRule rule = RecurrenceRule.parse("FREQ=MONTHLY;BYDAY=2TU", ZONE);
+
+        assertThat(rule.occursAt(at(2026, 1, 13), at(2026, 6, 9))).isTrue();
+        assertThat(rule.occursAt(at(2026, 1, 13), at(2026, 6, 16))).isFalse();
+        assertThat(rule.occursAt(at(2026, 1, 13), at(2026, 6, 9).plusHours(1))).isFalse();
+    }
+
+    private static List<LocalDateTime> expand(String rule, LocalDateTime dtStart, int limit) {
+        return RecurrenceRule.parse(rule, ZONE)
+                .between(dtStart, dtStart, dtStart.plusYears(3)).stream()
+                .limit(limit)
+                .toList();
+    }
+
+    private static LocalDateTime at(int year, int month, int day) {
+        return LocalDateTime.of(year, month, day, 9, 0);
+    }
+}